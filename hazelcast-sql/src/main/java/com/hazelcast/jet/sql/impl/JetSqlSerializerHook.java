@@ -21,6 +21,7 @@ import com.hazelcast.internal.serialization.impl.ArrayDataSerializableFactory;
 import com.hazelcast.internal.serialization.impl.FactoryIdHelper;
 import com.hazelcast.internal.util.ConstructorFunction;
 import com.hazelcast.jet.sql.impl.connector.keyvalue.KvRowProjector;
+import com.hazelcast.jet.sql.impl.connector.map.LazyDefiningPartitionsPms;
 import com.hazelcast.jet.sql.impl.connector.map.LazyDefiningSpecificMemberPms;
 import com.hazelcast.jet.sql.impl.connector.map.RowProjectorProcessorSupplier;
 import com.hazelcast.jet.sql.impl.expression.UdtObjectToJsonFunction;
@@ -220,7 +221,9 @@ public class JetSqlSerializerHook implements DataSerializerHook {
 
     public static final int LAZY_SPECIFIC_MEMBER_PROCESSOR_META_SUPPLIER = 91;
 
-    public static final int LEN = LAZY_SPECIFIC_MEMBER_PROCESSOR_META_SUPPLIER + 1;
+    public static final int LAZY_PARTITIONS_PROCESSOR_META_SUPPLIER = 92;
+
+    public static final int LEN = LAZY_PARTITIONS_PROCESSOR_META_SUPPLIER + 1;
 
     @Override
     public int getFactoryId() {
@@ -339,6 +342,7 @@ public class JetSqlSerializerHook implements DataSerializerHook {
         constructors[EXPRESSION_GET_DDL] = arg -> new GetDdlFunction();
 
         constructors[LAZY_SPECIFIC_MEMBER_PROCESSOR_META_SUPPLIER] = arg -> new LazyDefiningSpecificMemberPms();
+        constructors[LAZY_PARTITIONS_PROCESSOR_META_SUPPLIER] = arg -> new LazyDefiningPartitionsPms();
 
         return new ArrayDataSerializableFactory(constructors);
     }
@@ -67,6 +67,7 @@ import static com.hazelcast.jet.core.processor.Processors.mapP;
 import static com.hazelcast.jet.core.processor.SinkProcessors.updateMapP;
 import static com.hazelcast.jet.core.processor.SinkProcessors.writeMapP;
 import static com.hazelcast.jet.impl.JobRepository.INTERNAL_JET_OBJECTS_PREFIX;
+import static com.hazelcast.jet.sql.impl.connector.map.LazyDefiningPartitionsPms.readMapPartitionsSupplier;
 import static com.hazelcast.jet.sql.impl.connector.map.MapIndexScanP.readMapIndexSupplier;
 import static com.hazelcast.jet.sql.impl.connector.map.RowProjectorProcessorSupplier.rowProjector;
 import static com.hazelcast.sql.impl.QueryUtils.quoteCompoundIdentifier;
@@ -183,6 +184,24 @@ public class IMapSqlConnector implements SqlConnector {
             @Nullable HazelcastRexNode filter,
             @Nonnull List<HazelcastRexNode> projection,
             @Nullable FunctionEx<ExpressionEvalContext, EventTimePolicy<JetSqlRow>> eventTimePolicyProvider
+    ) {
+        return fullScanReader(context, filter, projection, eventTimePolicyProvider, null);
+    }
+
+    /**
+     * Like {@link #fullScanReader(DagBuildContext, HazelcastRexNode, List,
+     * FunctionEx)}, but if {@code partitionKeys} are given, only the
+     * partitions owning those keys are scanned, and only on the members that
+     * own them. The keys are evaluated when the job starts, so they can refer
+     * to query parameters.
+     */
+    @Nonnull
+    public Vertex fullScanReader(
+            @Nonnull DagBuildContext context,
+            @Nullable HazelcastRexNode filter,
+            @Nonnull List<HazelcastRexNode> projection,
+            @Nullable FunctionEx<ExpressionEvalContext, EventTimePolicy<JetSqlRow>> eventTimePolicyProvider,
+            @Nullable List<HazelcastRexNode> partitionKeys
     ) {
         if (eventTimePolicyProvider != null) {
             throw QueryException.error("Ordering functions are not supported on top of " + TYPE_NAME + " mappings");
@@ -192,7 +211,9 @@ public class IMapSqlConnector implements SqlConnector {
 
         Vertex vStart = context.getDag().newUniqueVertex(
                 toString(table),
-                SourceProcessors.readMapP(table.getMapName())
+                partitionKeys != null
+                        ? readMapPartitionsSupplier(table.getMapName(), context.convertProjection(partitionKeys))
+                        : SourceProcessors.readMapP(table.getMapName())
         );
 
         Vertex vEnd = context.getDag().newUniqueVertex(
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.sql.impl.connector.map;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.jet.core.ProcessorMetaSupplier;
+import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.impl.connector.HazelcastReaders;
+import com.hazelcast.jet.impl.util.Util;
+import com.hazelcast.jet.sql.impl.JetSqlSerializerHook;
+import com.hazelcast.map.impl.MapService;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.partition.PartitioningStrategy;
+import com.hazelcast.security.permission.MapPermission;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.row.EmptyRow;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.security.Permission;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+import static com.hazelcast.security.permission.ActionConstants.ACTION_CREATE;
+import static com.hazelcast.security.permission.ActionConstants.ACTION_READ;
+
+/**
+ * A meta-supplier that reads only the partitions of a map that own the keys
+ * given as expressions, and only on the members owning those partitions.
+ * The key expressions are evaluated in {@link #init}, so they can refer to
+ * query arguments.
+ */
+public class LazyDefiningPartitionsPms implements ProcessorMetaSupplier, IdentifiedDataSerializable {
+
+    private String mapName;
+    private List<Expression<?>> keyExpressions;
+
+    private transient int[] partitionIds;
+    private transient Map<Address, int[]> partitionAssignment;
+    private transient ProcessorMetaSupplier delegate;
+
+    public LazyDefiningPartitionsPms() {
+    }
+
+    private LazyDefiningPartitionsPms(String mapName, List<Expression<?>> keyExpressions) {
+        this.mapName = mapName;
+        this.keyExpressions = keyExpressions;
+    }
+
+    @Override
+    public void init(@Nonnull Context context) throws Exception {
+        ExpressionEvalContext eec = ExpressionEvalContext.from(context);
+        NodeEngineImpl nodeEngine = Util.getNodeEngine(context.hazelcastInstance());
+        InternalSerializationService serializationService = Util.getSerializationService(context.hazelcastInstance());
+        MapService mapService = nodeEngine.getService(MapService.SERVICE_NAME);
+        PartitioningStrategy<?> partitioningStrategy =
+                mapService.getMapServiceContext().getMapContainer(mapName).getPartitioningStrategy();
+
+        partitionIds = keyExpressions.stream()
+                .map(keyExpression -> keyExpression.eval(EmptyRow.INSTANCE, eec))
+                // a null key can't match any entry
+                .filter(Objects::nonNull)
+                .mapToInt(key -> {
+                    Data keyData = serializationService.toData(key, partitioningStrategy);
+                    return nodeEngine.getPartitionService().getPartitionId(keyData);
+                })
+                .distinct()
+                .sorted()
+                .toArray();
+        partitionAssignment = context.partitionAssignment();
+
+        delegate = HazelcastReaders.readLocalMapSupplier(mapName, partitionIds);
+        delegate.init(context);
+    }
+
+    @Nonnull
+    @Override
+    public Function<? super Address, ? extends ProcessorSupplier> get(@Nonnull List<Address> addresses) {
+        Function<? super Address, ? extends ProcessorSupplier> delegateFn = delegate.get(addresses);
+        return address -> ownsAnyPartition(partitionAssignment.get(address))
+                ? delegateFn.apply(address)
+                : new ExpectNothingProcessorSupplier();
+    }
+
+    private boolean ownsAnyPartition(int[] memberPartitions) {
+        if (memberPartitions == null) {
+            return false;
+        }
+        // partitionAssignment is sorted, so we can use binary search
+        for (int partitionId : partitionIds) {
+            if (Arrays.binarySearch(memberPartitions, partitionId) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // for testing
+    int[] partitionIds() {
+        return partitionIds;
+    }
+
+    @Override
+    public int preferredLocalParallelism() {
+        return 1;
+    }
+
+    @Override
+    public Permission getRequiredPermission() {
+        return new MapPermission(mapName, ACTION_CREATE, ACTION_READ);
+    }
+
+    @Override
+    public boolean isReusable() {
+        return false;
+    }
+
+    @Override
+    public boolean initIsCooperative() {
+        // the init might need to create the map container
+        return false;
+    }
+
+    @Override
+    public boolean closeIsCooperative() {
+        return true;
+    }
+
+    @Override
+    public void writeData(ObjectDataOutput out) throws IOException {
+        out.writeString(mapName);
+        out.writeObject(keyExpressions);
+    }
+
+    @Override
+    public void readData(ObjectDataInput in) throws IOException {
+        mapName = in.readString();
+        keyExpressions = in.readObject();
+    }
+
+    @Override
+    public int getFactoryId() {
+        return JetSqlSerializerHook.F_ID;
+    }
+
+    @Override
+    public int getClassId() {
+        return JetSqlSerializerHook.LAZY_PARTITIONS_PROCESSOR_META_SUPPLIER;
+    }
+
+    /**
+     * Returns a meta-supplier reading the entries of the given map from the
+     * partitions owning the keys the given expressions evaluate to.
+     */
+    public static ProcessorMetaSupplier readMapPartitionsSupplier(
+            @Nonnull String mapName,
+            @Nonnull List<Expression<?>> keyExpressions
+    ) {
+        return new LazyDefiningPartitionsPms(mapName, keyExpressions);
+    }
+}
@@ -428,7 +428,6 @@ public final class OptUtils {
         return table;
     }
 
-    @SuppressWarnings("checkstyle:AvoidNestedBlocks")
     public static RexNode extractKeyConstantExpression(RelOptTable relTable, RexBuilder rexBuilder) {
         HazelcastTable table = relTable.unwrap(HazelcastTable.class);
 
@@ -438,6 +437,67 @@ public final class OptUtils {
         }
 
         int keyIndex = findPrimaryKeyIndex(table.getTarget());
+        return extractKeyConstantExpression(filter, keyIndex, rexBuilder);
+    }
+
+    /**
+     * Returns the constant expressions the primary key of the given table is
+     * restricted to by the table's filter, e.g. {@code [1, 2]} for {@code
+     * __key IN (1, 2) AND this > 0}. Returns {@code null}, if the filter
+     * doesn't restrict the key to a finite set of constant values.
+     */
+    @Nullable
+    public static List<RexNode> extractKeyConstantExpressions(RelOptTable relTable, RexBuilder rexBuilder) {
+        HazelcastTable table = relTable.unwrap(HazelcastTable.class);
+
+        RexNode filter = table.getFilter();
+        if (filter == null) {
+            return null;
+        }
+
+        int keyIndex = findPrimaryKeyIndex(table.getTarget());
+        if (keyIndex < 0) {
+            return null;
+        }
+
+        // IN-lists are simplified to a SEARCH over a Sarg, expand them back to a disjunction of equalities
+        return extractKeyConstantExpressions(RexUtil.expandSearch(rexBuilder, null, filter), keyIndex, rexBuilder);
+    }
+
+    @Nullable
+    @SuppressWarnings("checkstyle:AvoidNestedBlocks")
+    private static List<RexNode> extractKeyConstantExpressions(RexNode filter, int keyIndex, RexBuilder rexBuilder) {
+        switch (filter.getKind()) {
+            case AND:
+                // it's enough if any of the conjuncts restricts the key
+                for (RexNode conjunct : ((RexCall) filter).getOperands()) {
+                    List<RexNode> conjunctKeys = extractKeyConstantExpressions(conjunct, keyIndex, rexBuilder);
+                    if (conjunctKeys != null) {
+                        return conjunctKeys;
+                    }
+                }
+                return null;
+
+            case OR: {
+                // all the disjuncts must restrict the key
+                List<RexNode> keys = new ArrayList<>();
+                for (RexNode disjunct : ((RexCall) filter).getOperands()) {
+                    List<RexNode> disjunctKeys = extractKeyConstantExpressions(disjunct, keyIndex, rexBuilder);
+                    if (disjunctKeys == null) {
+                        return null;
+                    }
+                    keys.addAll(disjunctKeys);
+                }
+                return keys;
+            }
+            default:
+                RexNode key = extractKeyConstantExpression(filter, keyIndex, rexBuilder);
+                return key != null ? Collections.singletonList(key) : null;
+        }
+    }
+
+    @SuppressWarnings("checkstyle:AvoidNestedBlocks")
+    private static RexNode extractKeyConstantExpression(RexNode filter, int keyIndex, RexBuilder rexBuilder) {
         switch (filter.getKind()) {
             // WHERE __key = true, calcite simplifies to just `WHERE __key`
             case INPUT_REF: {
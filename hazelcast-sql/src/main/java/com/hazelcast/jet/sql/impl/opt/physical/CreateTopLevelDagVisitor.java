@@ -47,8 +47,10 @@ import com.hazelcast.jet.sql.impl.connector.SqlConnector.VertexWithInputConfig;
 import com.hazelcast.jet.sql.impl.connector.SqlConnectorUtil;
 import com.hazelcast.jet.sql.impl.connector.map.IMapSqlConnector;
 import com.hazelcast.jet.sql.impl.opt.ExpressionValues;
+import com.hazelcast.jet.sql.impl.opt.OptUtils;
 import com.hazelcast.jet.sql.impl.opt.WatermarkKeysAssigner;
 import com.hazelcast.jet.sql.impl.opt.WatermarkThrottlingFrameSizeCalculator;
+import com.hazelcast.jet.sql.impl.processors.CalcP;
 import com.hazelcast.jet.sql.impl.processors.LateItemsDropP;
 import com.hazelcast.jet.sql.impl.processors.SqlHashJoinP;
 import com.hazelcast.jet.sql.impl.processors.StreamToStreamJoinP.StreamToStreamJoinProcessorSupplier;
@@ -63,9 +65,11 @@ import com.hazelcast.sql.impl.expression.MockExpressionEvalContext;
 import com.hazelcast.sql.impl.optimizer.PlanObjectKey;
 import com.hazelcast.sql.impl.row.JetSqlRow;
 import com.hazelcast.sql.impl.schema.Table;
+import com.hazelcast.sql.impl.schema.map.PartitionedMapTable;
 import com.hazelcast.sql.impl.type.QueryDataType;
 import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.SingleRel;
+import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.rex.RexProgram;
 
 import javax.annotation.Nullable;
@@ -79,12 +83,12 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 
 import static com.hazelcast.function.Functions.entryKey;
+import static com.hazelcast.internal.cluster.Versions.V5_4;
 import static com.hazelcast.jet.core.Edge.between;
 import static com.hazelcast.jet.core.Edge.from;
 import static com.hazelcast.jet.core.Vertex.LOCAL_PARALLELISM_USE_DEFAULT;
 import static com.hazelcast.jet.core.processor.Processors.flatMapUsingServiceP;
 import static com.hazelcast.jet.core.processor.Processors.mapP;
-import static com.hazelcast.jet.core.processor.Processors.mapUsingServiceP;
 import static com.hazelcast.jet.core.processor.Processors.sortP;
 import static com.hazelcast.jet.core.processor.SourceProcessors.convenientSourceP;
 import static com.hazelcast.jet.sql.impl.connector.HazelcastRexNode.wrap;
@@ -230,15 +234,32 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
             wmKey = null;
         }
 
+        FunctionEx<ExpressionEvalContext, EventTimePolicy<JetSqlRow>> eventTimePolicyProvider = policyProvider != null
+                ? context -> policyProvider.apply(context, wmKey)
+                : null;
+
         dagBuildContext.setTable(table);
         dagBuildContext.setRel(rel);
+        // older members can't read the pruned scan's suppliers, use it only after the cluster is upgraded
+        if (table instanceof PartitionedMapTable
+                && nodeEngine.getClusterService().getClusterVersion().isGreaterOrEqual(V5_4)) {
+            // scan only the partitions owning the keys the filter restricts the scan to, if any
+            List<RexNode> keys = OptUtils.extractKeyConstantExpressions(rel.getTable(), rel.getCluster().getRexBuilder());
+            if (keys != null) {
+                return SqlConnectorUtil.<IMapSqlConnector>getJetSqlConnector(table).fullScanReader(
+                        dagBuildContext,
+                        wrap(rel.filter()),
+                        wrap(rel.projection()),
+                        eventTimePolicyProvider,
+                        wrap(keys)
+                );
+            }
+        }
         return getJetSqlConnector(table).fullScanReader(
                 dagBuildContext,
                 wrap(rel.filter()),
                 wrap(rel.projection()),
-                policyProvider != null
-                        ? context -> policyProvider.apply(context, wmKey)
-                        : null
+                eventTimePolicyProvider
         );
     }
 
@@ -270,22 +291,14 @@ public class CreateTopLevelDagVisitor extends CreateDagVisitorBase<Vertex> {
         List<Expression<?>> projection = dagBuildContext.convertProjection(wrap(rel.projection()));
 
         Vertex vertex;
-        boolean projectionsCooperative = projection.stream().allMatch(Expression::isCooperative);
         if (program.getCondition() != null) {
             Expression<Boolean> filterExpr = dagBuildContext.convertFilter(wrap(rel.filter()));
             assert filterExpr != null;
-            vertex = dag.newUniqueVertex("Calc", mapUsingServiceP(
-                    ServiceFactories.nonSharedService(ctx ->
-                                    ExpressionUtil.calcFn(projection, filterExpr, ExpressionEvalContext.from(ctx)))
-                            .setCooperative(projectionsCooperative && filterExpr.isCooperative()),
-                    (Function<JetSqlRow, JetSqlRow> calcFn, JetSqlRow row) -> calcFn.apply(row)));
+            SupplierEx<Processor> calcPSupplier = () -> new CalcP(projection, filterExpr);
+            vertex = dag.newUniqueVertex("Calc", calcPSupplier);
         } else {
-            vertex = dag.newUniqueVertex("Project", mapUsingServiceP(
-                    ServiceFactories.nonSharedService(ctx ->
-                                    ExpressionUtil.projectionFn(projection, ExpressionEvalContext.from(ctx)))
-                            .setCooperative(projectionsCooperative),
-                    (Function<JetSqlRow, JetSqlRow> projectionFn, JetSqlRow row) -> projectionFn.apply(row)
-            ));
+            SupplierEx<Processor> calcPSupplier = () -> new CalcP(projection, null);
+            vertex = dag.newUniqueVertex("Project", calcPSupplier);
         }
         connectInputPreserveCollation(rel, vertex);
         return vertex;
@@ -0,0 +1,191 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.processors;
+
+import com.hazelcast.jet.Traverser;
+import com.hazelcast.jet.core.AbstractProcessor;
+import com.hazelcast.jet.core.Inbox;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.expression.compiler.ExpressionCompiler;
+import com.hazelcast.sql.impl.expression.compiler.ExpressionEvaluator;
+import com.hazelcast.sql.impl.row.JetSqlRow;
+import com.hazelcast.sql.impl.row.Row;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hazelcast.jet.Traversers.traverseArray;
+import static com.hazelcast.spi.properties.ClusterProperty.SQL_EXPRESSION_COMPILATION_ENABLED;
+
+/**
+ * Processor evaluating the projection and the optional filter of a
+ * {@code CalcPhysicalRel} for a whole inbox batch at a time.
+ * <p>
+ * The filter is first evaluated for all rows in the batch, producing
+ * a selection vector with the indices of the passing rows. Then each
+ * projection is evaluated column-wise over the selected rows, so that
+ * one expression tree is evaluated for the whole batch before moving to
+ * the next one. A single reusable {@link Row} view is used for all the
+ * rows instead of creating one for each row.
+ * <p>
+ * The expressions are compiled by the {@link ExpressionCompiler} unless
+ * {@link com.hazelcast.spi.properties.ClusterProperty#SQL_EXPRESSION_COMPILATION_ENABLED}
+ * is disabled, and the predicate is evaluated by {@link
+ * ExpressionEvaluator#test}, which doesn't box the result if it's
+ * compiled.
+ * SQL engine-specific private API.
+ */
+public class CalcP extends AbstractProcessor {
+
+    private final List<Expression<?>> projection;
+    private final Expression<Boolean> predicate;
+
+    private final List<JetSqlRow> batch = new ArrayList<>();
+    private final BatchRow batchRow = new BatchRow();
+    private int[] selection = new int[0];
+
+    private ExpressionEvalContext evalContext;
+    private ExpressionEvaluator[] projectionEvaluators;
+    private ExpressionEvaluator predicateEvaluator;
+    private Traverser<JetSqlRow> outputTraverser;
+
+    public CalcP(@Nonnull List<Expression<?>> projection, @Nullable Expression<Boolean> predicate) {
+        this.projection = projection;
+        this.predicate = predicate;
+    }
+
+    @Override
+    protected void init(@Nonnull Context context) throws Exception {
+        this.evalContext = ExpressionEvalContext.from(context);
+        boolean compile = evalContext.getNodeEngine().getProperties().getBoolean(SQL_EXPRESSION_COMPILATION_ENABLED);
+        projectionEvaluators = new ExpressionEvaluator[projection.size()];
+        for (int i = 0; i < projection.size(); i++) {
+            projectionEvaluators[i] = evaluator(projection.get(i), compile);
+        }
+        if (predicate != null) {
+            predicateEvaluator = evaluator(predicate, compile);
+        }
+        super.init(context);
+    }
+
+    private static ExpressionEvaluator evaluator(Expression<?> expression, boolean compile) {
+        return compile ? ExpressionCompiler.compile(expression) : ExpressionEvaluator.interpreted(expression);
+    }
+
+    @Override
+    public void process(int ordinal, @Nonnull Inbox inbox) {
+        if (outputTraverser == null) {
+            outputTraverser = evaluateBatch(inbox);
+        }
+        // We keep the items in the inbox until the output is emitted so
+        // that a watermark or a barrier isn't processed before it.
+        if (emitFromTraverser(outputTraverser)) {
+            inbox.clear();
+            outputTraverser = null;
+        }
+    }
+
+    private Traverser<JetSqlRow> evaluateBatch(Inbox inbox) {
+        for (Object item : inbox) {
+            batch.add((JetSqlRow) item);
+        }
+        try {
+            int selectedCount = select();
+            JetSqlRow[] output = new JetSqlRow[selectedCount];
+            for (int i = 0; i < selectedCount; i++) {
+                output[i] = new JetSqlRow(evalContext.getSerializationService(), new Object[projection.size()]);
+            }
+            for (int column = 0; column < projectionEvaluators.length; column++) {
+                ExpressionEvaluator evaluator = projectionEvaluators[column];
+                for (int i = 0; i < selectedCount; i++) {
+                    batchRow.current = batch.get(selection[i]);
+                    output[i].getValues()[column] = evaluator.eval(batchRow, evalContext);
+                }
+            }
+            return traverseArray(output);
+        } finally {
+            batchRow.current = null;
+            batch.clear();
+        }
+    }
+
+    /**
+     * Evaluates the predicate for all rows in the batch and stores the
+     * indices of the rows that passed into {@link #selection}.
+     *
+     * @return the number of selected rows
+     */
+    private int select() {
+        if (selection.length < batch.size()) {
+            selection = new int[batch.size()];
+        }
+        int selectedCount = 0;
+        for (int i = 0; i < batch.size(); i++) {
+            if (predicateEvaluator != null) {
+                batchRow.current = batch.get(i);
+                if (!predicateEvaluator.test(batchRow, evalContext)) {
+                    continue;
+                }
+            }
+            selection[selectedCount++] = i;
+        }
+        return selectedCount;
+    }
+
+    // for tests
+    ExpressionEvaluator[] projectionEvaluators() {
+        return projectionEvaluators;
+    }
+
+    // for tests
+    ExpressionEvaluator predicateEvaluator() {
+        return predicateEvaluator;
+    }
+
+    @Override
+    public boolean isCooperative() {
+        return (predicate == null || predicate.isCooperative())
+                && projection.stream().allMatch(Expression::isCooperative);
+    }
+
+    @Override
+    public boolean closeIsCooperative() {
+        return true;
+    }
+
+    /**
+     * A {@link Row} view over the current row of the batch.
+     */
+    private static final class BatchRow implements Row {
+
+        private JetSqlRow current;
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public <T> T get(int index) {
+            return (T) current.get(index);
+        }
+
+        @Override
+        public int getColumnCount() {
+            return current.getFieldCount();
+        }
+    }
+}
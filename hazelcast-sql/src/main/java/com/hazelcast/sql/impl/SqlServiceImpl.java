@@ -16,6 +16,9 @@
 
 package com.hazelcast.sql.impl;
 
+import com.hazelcast.internal.metrics.DynamicMetricsProvider;
+import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.internal.metrics.MetricsCollectionContext;
 import com.hazelcast.internal.util.Preconditions;
 import com.hazelcast.internal.util.counters.Counter;
 import com.hazelcast.internal.util.counters.MwCounter;
@@ -43,6 +46,17 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_METRIC_PLANNING_TIME;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_METRIC_PLANS_CREATED;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_METRIC_PLAN_CACHE_HITS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_METRIC_PLAN_CACHE_MISSES;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_METRIC_PLAN_CACHE_SIZE;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_METRIC_QUERIES_SUBMITTED;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_METRIC_STREAMING_QUERIES_EXECUTED;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_PREFIX;
+import static com.hazelcast.internal.metrics.ProbeLevel.INFO;
+import static com.hazelcast.internal.metrics.ProbeUnit.COUNT;
+import static com.hazelcast.internal.metrics.ProbeUnit.NS;
 import static com.hazelcast.sql.SqlExpectedResultType.ANY;
 import static com.hazelcast.sql.SqlExpectedResultType.ROWS;
 import static com.hazelcast.sql.SqlExpectedResultType.UPDATE_COUNT;
@@ -52,7 +66,7 @@ import static java.util.Arrays.asList;
 /**
  * Base SQL service implementation that bridges optimizer implementation, public and private APIs.
  */
-public class SqlServiceImpl implements InternalSqlService {
+public class SqlServiceImpl implements InternalSqlService, DynamicMetricsProvider {
 
     /**
      * Default state check frequency.
@@ -76,6 +90,8 @@ public class SqlServiceImpl implements InternalSqlService {
 
     private final Counter sqlQueriesSubmitted = MwCounter.newMwCounter();
     private final Counter sqlStreamingQueriesExecuted = MwCounter.newMwCounter();
+    private final Counter sqlPlansCreated = MwCounter.newMwCounter();
+    private final Counter sqlPlanningTimeNanos = MwCounter.newMwCounter();
 
     public SqlServiceImpl(NodeEngineImpl nodeEngine) {
         this.logger = nodeEngine.getLogger(getClass());
@@ -113,6 +129,7 @@ public class SqlServiceImpl implements InternalSqlService {
                 dataConnectionConsistencyChecker
         );
         internalService.start();
+        nodeEngine.getMetricsRegistry().registerDynamicMetricsProvider(this);
     }
 
     public void reset() {
@@ -126,6 +143,7 @@ public class SqlServiceImpl implements InternalSqlService {
         if (!Util.isJetEnabled(nodeEngine)) {
             return;
         }
+        nodeEngine.getMetricsRegistry().deregisterDynamicMetricsProvider(this);
         planCache.clear();
         if (internalService != null) {
             internalService.shutdown();
@@ -144,6 +162,33 @@ public class SqlServiceImpl implements InternalSqlService {
         return sqlStreamingQueriesExecuted.get();
     }
 
+    /**
+     * Returns the number of plans created by the optimizer, i.e. the
+     * number of plan cache misses that resulted in planning.
+     */
+    public long getSqlPlansCreatedCount() {
+        return sqlPlansCreated.get();
+    }
+
+    /**
+     * Returns the total time spent in the optimizer, in nanoseconds.
+     */
+    public long getSqlPlanningTimeNanos() {
+        return sqlPlanningTimeNanos.get();
+    }
+
+    @Override
+    public void provideDynamicMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
+        MetricDescriptor sqlDescriptor = descriptor.withPrefix(SQL_PREFIX);
+        context.collect(sqlDescriptor, SQL_METRIC_QUERIES_SUBMITTED, INFO, COUNT, sqlQueriesSubmitted.get());
+        context.collect(sqlDescriptor, SQL_METRIC_STREAMING_QUERIES_EXECUTED, INFO, COUNT, sqlStreamingQueriesExecuted.get());
+        context.collect(sqlDescriptor, SQL_METRIC_PLAN_CACHE_SIZE, INFO, COUNT, planCache.size());
+        context.collect(sqlDescriptor, SQL_METRIC_PLAN_CACHE_HITS, INFO, COUNT, planCache.getHitCount());
+        context.collect(sqlDescriptor, SQL_METRIC_PLAN_CACHE_MISSES, INFO, COUNT, planCache.getMissCount());
+        context.collect(sqlDescriptor, SQL_METRIC_PLANS_CREATED, INFO, COUNT, sqlPlansCreated.get());
+        context.collect(sqlDescriptor, SQL_METRIC_PLANNING_TIME, INFO, NS, sqlPlanningTimeNanos.get());
+    }
+
     /**
      * For testing only.
      */
@@ -271,8 +316,11 @@ public class SqlServiceImpl implements InternalSqlService {
         PlanKey planKey = new PlanKey(searchPaths, sql);
         SqlPlan plan = planCache.get(planKey);
         if (plan == null) {
+            long planningStart = System.nanoTime();
             SqlCatalog catalog = new SqlCatalog(optimizer.tableResolvers());
             plan = optimizer.prepare(new OptimizationTask(sql, arguments, searchPaths, catalog));
+            sqlPlansCreated.inc();
+            sqlPlanningTimeNanos.inc(System.nanoTime() - planningStart);
             if (plan.isCacheable()) {
                 planCache.put(planKey, plan);
             }
@@ -0,0 +1,617 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.expression.compiler;
+
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.logging.Logger;
+import com.hazelcast.sql.impl.QueryException;
+import com.hazelcast.sql.impl.SqlErrorCode;
+import com.hazelcast.sql.impl.expression.BiExpression;
+import com.hazelcast.sql.impl.expression.CaseExpression;
+import com.hazelcast.sql.impl.expression.ColumnExpression;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.math.MinusFunction;
+import com.hazelcast.sql.impl.expression.math.MultiplyFunction;
+import com.hazelcast.sql.impl.expression.math.PlusFunction;
+import com.hazelcast.sql.impl.expression.predicate.AndPredicate;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsFalsePredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNotFalsePredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNotNullPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNotTruePredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNullPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsTruePredicate;
+import com.hazelcast.sql.impl.expression.predicate.NotPredicate;
+import com.hazelcast.sql.impl.expression.predicate.OrPredicate;
+import com.hazelcast.sql.impl.type.QueryDataTypeFamily;
+import org.codehaus.janino.SimpleCompiler;
+
+import javax.annotation.Nonnull;
+import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Compiles {@link Expression} trees to Java classes using the Janino
+ * compiler, which is a dependency of Calcite.
+ * <p>
+ * The generated code evaluates the supported nodes in unboxed local
+ * variables, with a separate local variable tracking SQL {@code NULL}.
+ * Only the result of the whole expression is boxed. The supported nodes
+ * are columns, constants, {@code +}, {@code -}, {@code *}, comparisons,
+ * {@code AND}, {@code OR}, {@code NOT}, {@code IS [NOT] NULL|TRUE|FALSE}
+ * and {@code CASE}, as long as they operate on {@code BOOLEAN} or non-
+ * decimal numeric types. Any other subtree is evaluated by interpreting
+ * it from the generated code. For {@code BOOLEAN} expressions the
+ * generated class also implements {@link ExpressionEvaluator#test}
+ * without boxing the result.
+ * <p>
+ * The generated classes don't depend on the expression instances, so
+ * they are cached by their source code and shared by all queries on the
+ * member. The cache keeps only the most recently used classes, so that
+ * the classes of queries which aren't executed any more can be unloaded.
+ */
+public final class ExpressionCompiler {
+
+    private static final int CLASS_CACHE_SIZE = 1024;
+    private static final int HASH_MAP_INITIAL_CAPACITY = 16;
+    private static final float HASH_MAP_LOAD_FACTOR = 0.75f;
+    // package-visible for tests
+    static final String CLASS_NAME = "GeneratedExpressionEvaluator";
+
+    private static final ILogger LOGGER = Logger.getLogger(ExpressionCompiler.class);
+
+    private static final Map<String, Constructor<?>> CLASS_CACHE =
+            new LinkedHashMap<>(HASH_MAP_INITIAL_CAPACITY, HASH_MAP_LOAD_FACTOR, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Constructor<?>> eldest) {
+                    return size() > CLASS_CACHE_SIZE;
+                }
+            };
+
+    /**
+     * Nodes which are supported if their result type is supported.
+     */
+    private static final Set<Class<?>> SIMPLE_NODES = Set.of(
+            ColumnExpression.class,
+            ConstantExpression.class,
+            AndPredicate.class,
+            OrPredicate.class,
+            NotPredicate.class,
+            IsNullPredicate.class,
+            IsNotNullPredicate.class,
+            IsTruePredicate.class,
+            IsNotTruePredicate.class,
+            IsFalsePredicate.class,
+            IsNotFalsePredicate.class
+    );
+
+    /**
+     * Nodes which are supported if their result type and operand types
+     * are numeric.
+     */
+    private static final Set<Class<?>> ARITHMETIC_NODES = Set.of(
+            PlusFunction.class,
+            MinusFunction.class,
+            MultiplyFunction.class
+    );
+
+    private ExpressionCompiler() {
+    }
+
+    /**
+     * Returns an evaluator for the given expression. If the top-level node
+     * of the expression isn't supported by the compiler, or if the
+     * compilation fails, an interpreting evaluator is returned.
+     */
+    @Nonnull
+    public static ExpressionEvaluator compile(@Nonnull Expression<?> expression) {
+        if (!isCompilable(expression)) {
+            return ExpressionEvaluator.interpreted(expression);
+        }
+        Generator generator = new Generator();
+        String source = generator.generateClass(expression);
+        try {
+            Constructor<?> constructor = cachedConstructor(source);
+            return (ExpressionEvaluator) constructor.newInstance(
+                    (Object) generator.operands.toArray(new Expression[0]));
+        } catch (Exception e) {
+            LOGGER.warning("Failed to compile expression, it will be interpreted: " + expression, e);
+            return ExpressionEvaluator.interpreted(expression);
+        }
+    }
+
+    /**
+     * Returns {@code true}, if the given evaluator runs generated code,
+     * {@code false} if it interprets the expression.
+     */
+    public static boolean isCompiled(@Nonnull ExpressionEvaluator evaluator) {
+        return CLASS_NAME.equals(evaluator.getClass().getName());
+    }
+
+    private static Constructor<?> cachedConstructor(String source) {
+        Constructor<?> constructor;
+        synchronized (CLASS_CACHE) {
+            constructor = CLASS_CACHE.get(source);
+        }
+        if (constructor == null) {
+            // compile outside the lock, a concurrent compilation of the same
+            // source only wastes some work
+            constructor = cook(source);
+            synchronized (CLASS_CACHE) {
+                Constructor<?> existing = CLASS_CACHE.putIfAbsent(source, constructor);
+                if (existing != null) {
+                    constructor = existing;
+                }
+            }
+        }
+        return constructor;
+    }
+
+    private static Constructor<?> cook(String source) {
+        SimpleCompiler compiler = new SimpleCompiler();
+        compiler.setParentClassLoader(ExpressionCompiler.class.getClassLoader());
+        try {
+            compiler.cook(source);
+            return compiler.getClassLoader().loadClass(CLASS_NAME).getConstructor(Expression[].class);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to compile generated code:\n" + source, e);
+        }
+    }
+
+    // Helpers used by the generated code
+
+    public static long plusExact(long left, long right) {
+        try {
+            return Math.addExact(left, right);
+        } catch (ArithmeticException e) {
+            throw QueryException.error(SqlErrorCode.DATA_EXCEPTION,
+                    "BIGINT overflow in '+' operator (consider adding explicit CAST to DECIMAL)");
+        }
+    }
+
+    public static long minusExact(long left, long right) {
+        try {
+            return Math.subtractExact(left, right);
+        } catch (ArithmeticException e) {
+            throw QueryException.error(SqlErrorCode.DATA_EXCEPTION,
+                    "BIGINT overflow in '-' operator (consider adding explicit CAST to DECIMAL)");
+        }
+    }
+
+    public static long multiplyExact(long left, long right) {
+        try {
+            return Math.multiplyExact(left, right);
+        } catch (ArithmeticException e) {
+            throw QueryException.error(SqlErrorCode.DATA_EXCEPTION,
+                    "BIGINT overflow in '*' operator (consider adding explicit CAST to DECIMAL)");
+        }
+    }
+
+    /**
+     * Returns {@code true}, if the generated code can evaluate the node
+     * itself, {@code false} if it has to interpret it.
+     */
+    static boolean isCompilable(Expression<?> expression) {
+        if (!isPrimitive(expression.getType().getTypeFamily())) {
+            return false;
+        }
+        if (SIMPLE_NODES.contains(expression.getClass())) {
+            return true;
+        }
+        if (ARITHMETIC_NODES.contains(expression.getClass())) {
+            BiExpression<?> bi = (BiExpression<?>) expression;
+            QueryDataTypeFamily family = expression.getType().getTypeFamily();
+            return family != QueryDataTypeFamily.BOOLEAN
+                    && isNumeric(bi.getOperand1().getType().getTypeFamily())
+                    && isNumeric(bi.getOperand2().getType().getTypeFamily());
+        }
+        if (expression instanceof ComparisonPredicate) {
+            BiExpression<?> bi = (BiExpression<?>) expression;
+            QueryDataTypeFamily family = bi.getOperand1().getType().getTypeFamily();
+            return isPrimitive(family) && family == bi.getOperand2().getType().getTypeFamily();
+        }
+        if (expression instanceof CaseExpression) {
+            CaseExpression<?> caseExpression = (CaseExpression<?>) expression;
+            QueryDataTypeFamily family = expression.getType().getTypeFamily();
+            for (Expression<?> then : caseExpression.getThenExpressions()) {
+                if (!isCaseBranch(then, family)) {
+                    return false;
+                }
+            }
+            return isCaseBranch(caseExpression.getElseExpression(), family);
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code true}, if the branch has the type of the CASE, or if
+     * it's always {@code NULL}.
+     */
+    private static boolean isCaseBranch(Expression<?> branch, QueryDataTypeFamily family) {
+        QueryDataTypeFamily branchFamily = branch.getType().getTypeFamily();
+        return branchFamily == family || branchFamily == QueryDataTypeFamily.NULL;
+    }
+
+    private static boolean isPrimitive(QueryDataTypeFamily family) {
+        return family == QueryDataTypeFamily.BOOLEAN || isNumeric(family);
+    }
+
+    private static boolean isNumeric(QueryDataTypeFamily family) {
+        switch (family) {
+            case TINYINT:
+            case SMALLINT:
+            case INTEGER:
+            case BIGINT:
+            case REAL:
+            case DOUBLE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Generates the source of the evaluator class. For every node it
+     * emits code declaring two local variables: {@code n<i>} which is
+     * {@code true} if the node evaluated to {@code NULL} and {@code v<i>}
+     * holding the unboxed value otherwise.
+     */
+    private static final class Generator {
+
+        private final StringBuilder code = new StringBuilder();
+        private final List<Expression<?>> operands = new ArrayList<>();
+        private int variableCounter;
+
+        String generateClass(Expression<?> expression) {
+            int result = generate(expression);
+            QueryDataTypeFamily family = expression.getType().getTypeFamily();
+            return "import com.hazelcast.sql.impl.expression.Expression;\n"
+                    + "import com.hazelcast.sql.impl.expression.ExpressionEvalContext;\n"
+                    + "import com.hazelcast.sql.impl.expression.compiler.ExpressionCompiler;\n"
+                    + "import com.hazelcast.sql.impl.expression.compiler.ExpressionEvaluator;\n"
+                    + "import com.hazelcast.sql.impl.row.Row;\n"
+                    + "\n"
+                    + "public final class " + CLASS_NAME + " implements ExpressionEvaluator {\n"
+                    + "    private final Expression[] operands;\n"
+                    + "\n"
+                    + "    public " + CLASS_NAME + "(Expression[] operands) {\n"
+                    + "        this.operands = operands;\n"
+                    + "    }\n"
+                    + "\n"
+                    + "    public Object eval(Row row, ExpressionEvalContext context) {\n"
+                    + code
+                    + "        return n" + result + " ? null : "
+                    + boxedClass(family) + ".valueOf(v" + result + ");\n"
+                    + "    }\n"
+                    + (family == QueryDataTypeFamily.BOOLEAN ? generateTest(result) : "")
+                    + "}\n";
+        }
+
+        /**
+         * Generates the {@link ExpressionEvaluator#test} method, which
+         * returns the unboxed result instead of boxing it.
+         */
+        private String generateTest(int result) {
+            return "\n"
+                    + "    public boolean test(Row row, ExpressionEvalContext context) {\n"
+                    + code
+                    + "        return !n" + result + " && v" + result + ";\n"
+                    + "    }\n";
+        }
+
+        @SuppressWarnings("checkstyle:CyclomaticComplexity")
+        private int generate(Expression<?> expression) {
+            int i = variableCounter++;
+            QueryDataTypeFamily family = expression.getType().getTypeFamily();
+            if (!isPrimitive(family)) {
+                // only the NULL flag is used for non-primitive values, e.g. by IS NULL
+                line("boolean n" + i + " = operands[" + addOperand(expression) + "].eval(row, context) == null;");
+                return i;
+            }
+            declare(i, family);
+
+            if (!isCompilable(expression)) {
+                generateInterpreted(i, expression);
+            } else if (expression instanceof ColumnExpression) {
+                generateUnboxing(i, "row.get(" + ((ColumnExpression<?>) expression).getIndex() + ")", family);
+            } else if (expression instanceof ConstantExpression) {
+                Object value = ((ConstantExpression<?>) expression).getValue();
+                if (value != null) {
+                    line("n" + i + " = false;");
+                    line("v" + i + " = " + literal(value, family) + ";");
+                }
+            } else if (expression instanceof PlusFunction) {
+                generateArithmetic(i, (BiExpression<?>) expression, family, "+", "plusExact");
+            } else if (expression instanceof MinusFunction) {
+                generateArithmetic(i, (BiExpression<?>) expression, family, "-", "minusExact");
+            } else if (expression instanceof MultiplyFunction) {
+                generateArithmetic(i, (BiExpression<?>) expression, family, "*", "multiplyExact");
+            } else if (expression instanceof ComparisonPredicate) {
+                generateComparison(i, (ComparisonPredicate) expression);
+            } else if (expression instanceof AndPredicate) {
+                generateAndOr(i, ((AndPredicate) expression).operands(), false);
+            } else if (expression instanceof OrPredicate) {
+                generateAndOr(i, ((OrPredicate) expression).operands(), true);
+            } else if (expression instanceof CaseExpression) {
+                generateCase(i, (CaseExpression<?>) expression);
+            } else {
+                generateBooleanTest(i, expression);
+            }
+            return i;
+        }
+
+        private void declare(int i, QueryDataTypeFamily family) {
+            line("boolean n" + i + " = true;");
+            line(javaType(family) + " v" + i + " = " + zero(family) + ";");
+        }
+
+        private void generateInterpreted(int i, Expression<?> expression) {
+            generateUnboxing(i, "operands[" + addOperand(expression) + "].eval(row, context)",
+                    expression.getType().getTypeFamily());
+        }
+
+        private int addOperand(Expression<?> expression) {
+            operands.add(expression);
+            return operands.size() - 1;
+        }
+
+        private void generateUnboxing(int i, String valueCode, QueryDataTypeFamily family) {
+            line("Object o" + i + " = " + valueCode + ";");
+            line("if (o" + i + " != null) {");
+            line("    n" + i + " = false;");
+            line("    v" + i + " = " + unbox("o" + i, family) + ";");
+            line("}");
+        }
+
+        private void generateArithmetic(
+                int i,
+                BiExpression<?> expression,
+                QueryDataTypeFamily family,
+                String operator,
+                String exactMethod
+        ) {
+            String type = javaType(family);
+            int left = generate(expression.getOperand1());
+            line("if (!n" + left + ") {");
+            int right = generate(expression.getOperand2());
+            line("if (!n" + right + ") {");
+            line("    n" + i + " = false;");
+            if (family == QueryDataTypeFamily.BIGINT) {
+                line("    v" + i + " = ExpressionCompiler." + exactMethod
+                        + "((long) v" + left + ", (long) v" + right + ");");
+            } else {
+                line("    v" + i + " = (" + type + ") ((" + type + ") v" + left + " " + operator
+                        + " (" + type + ") v" + right + ");");
+            }
+            line("}");
+            line("}");
+        }
+
+        private void generateComparison(int i, ComparisonPredicate expression) {
+            String comparator = boxedClass(expression.getOperand1().getType().getTypeFamily()) + ".compare";
+            int left = generate(expression.getOperand1());
+            line("if (!n" + left + ") {");
+            int right = generate(expression.getOperand2());
+            line("if (!n" + right + ") {");
+            line("    n" + i + " = false;");
+            line("    v" + i + " = " + comparator + "(v" + left + ", v" + right + ") "
+                    + comparisonOperator(expression) + " 0;");
+            line("}");
+            line("}");
+        }
+
+        /**
+         * Generates AND or OR following {@link
+         * com.hazelcast.sql.impl.expression.predicate.TernaryLogic}: the
+         * evaluation stops at the first operand equal to the {@code
+         * stopValue}, otherwise the result is {@code NULL} if any operand
+         * was {@code NULL}.
+         */
+        private void generateAndOr(int i, Expression<?>[] operands, boolean stopValue) {
+            line("boolean d" + i + " = false;");
+            line("n" + i + " = false;");
+            line("v" + i + " = " + !stopValue + ";");
+            for (Expression<?> operand : operands) {
+                line("if (!d" + i + ") {");
+                int o = generate(operand);
+                line("if (n" + o + ") {");
+                line("    n" + i + " = true;");
+                line("} else if (v" + o + " == " + stopValue + ") {");
+                line("    n" + i + " = false;");
+                line("    v" + i + " = " + stopValue + ";");
+                line("    d" + i + " = true;");
+                line("}");
+                line("}");
+            }
+        }
+
+        private void generateCase(int i, CaseExpression<?> expression) {
+            QueryDataTypeFamily family = expression.getType().getTypeFamily();
+            line("boolean d" + i + " = false;");
+            for (int j = 0; j < expression.getWhenExpressions().length; j++) {
+                line("if (!d" + i + ") {");
+                int when = generate(expression.getWhenExpressions()[j]);
+                line("if (!n" + when + " && v" + when + ") {");
+                int then = generateCaseBranch(expression.getThenExpressions()[j], family);
+                line("n" + i + " = n" + then + ";");
+                line("v" + i + " = v" + then + ";");
+                line("d" + i + " = true;");
+                line("}");
+                line("}");
+            }
+            line("if (!d" + i + ") {");
+            int otherwise = generateCaseBranch(expression.getElseExpression(), family);
+            line("n" + i + " = n" + otherwise + ";");
+            line("v" + i + " = v" + otherwise + ";");
+            line("}");
+        }
+
+        /**
+         * Generates a branch of a CASE. A {@code NULL}-typed branch is
+         * interpreted and gets the variables of the type of the CASE,
+         * which are left {@code NULL}, because {@link #generate} doesn't
+         * declare the value variable for non-primitive types.
+         */
+        private int generateCaseBranch(Expression<?> branch, QueryDataTypeFamily family) {
+            if (branch.getType().getTypeFamily() == family) {
+                return generate(branch);
+            }
+            int i = variableCounter++;
+            declare(i, family);
+            line("operands[" + addOperand(branch) + "].eval(row, context);");
+            return i;
+        }
+
+        @SuppressWarnings("checkstyle:CyclomaticComplexity")
+        private void generateBooleanTest(int i, Expression<?> expression) {
+            int o;
+            String test;
+            if (expression instanceof NotPredicate) {
+                o = generate(((NotPredicate) expression).getOperand());
+                line("n" + i + " = n" + o + ";");
+                line("v" + i + " = !v" + o + ";");
+                return;
+            } else if (expression instanceof IsNullPredicate) {
+                o = generate(((IsNullPredicate) expression).getOperand());
+                test = "n" + o;
+            } else if (expression instanceof IsNotNullPredicate) {
+                o = generate(((IsNotNullPredicate) expression).getOperand());
+                test = "!n" + o;
+            } else if (expression instanceof IsTruePredicate) {
+                o = generate(((IsTruePredicate) expression).getOperand());
+                test = "!n" + o + " && v" + o;
+            } else if (expression instanceof IsNotTruePredicate) {
+                o = generate(((IsNotTruePredicate) expression).getOperand());
+                test = "n" + o + " || !v" + o;
+            } else if (expression instanceof IsFalsePredicate) {
+                o = generate(((IsFalsePredicate) expression).getOperand());
+                test = "!n" + o + " && !v" + o;
+            } else if (expression instanceof IsNotFalsePredicate) {
+                o = generate(((IsNotFalsePredicate) expression).getOperand());
+                test = "n" + o + " || v" + o;
+            } else {
+                throw new IllegalArgumentException("Unexpected expression: " + expression);
+            }
+            line("n" + i + " = false;");
+            line("v" + i + " = " + test + ";");
+        }
+
+        private void line(String line) {
+            code.append("        ").append(line).append('\n');
+        }
+    }
+
+    private static String comparisonOperator(ComparisonPredicate expression) {
+        switch (expression.getMode()) {
+            case EQUALS:
+                return "==";
+            case NOT_EQUALS:
+                return "!=";
+            case GREATER_THAN:
+                return ">";
+            case GREATER_THAN_OR_EQUAL:
+                return ">=";
+            case LESS_THAN:
+                return "<";
+            case LESS_THAN_OR_EQUAL:
+                return "<=";
+            default:
+                throw new IllegalArgumentException("Unexpected comparison mode: " + expression.getMode());
+        }
+    }
+
+    private static String javaType(QueryDataTypeFamily family) {
+        switch (family) {
+            case BOOLEAN:
+                return "boolean";
+            case TINYINT:
+                return "byte";
+            case SMALLINT:
+                return "short";
+            case INTEGER:
+                return "int";
+            case BIGINT:
+                return "long";
+            case REAL:
+                return "float";
+            case DOUBLE:
+                return "double";
+            default:
+                throw new IllegalArgumentException("Unexpected type family: " + family);
+        }
+    }
+
+    private static String boxedClass(QueryDataTypeFamily family) {
+        switch (family) {
+            case BOOLEAN:
+                return "Boolean";
+            case TINYINT:
+                return "Byte";
+            case SMALLINT:
+                return "Short";
+            case INTEGER:
+                return "Integer";
+            case BIGINT:
+                return "Long";
+            case REAL:
+                return "Float";
+            case DOUBLE:
+                return "Double";
+            default:
+                throw new IllegalArgumentException("Unexpected type family: " + family);
+        }
+    }
+
+    private static String zero(QueryDataTypeFamily family) {
+        return family == QueryDataTypeFamily.BOOLEAN ? "false" : "(" + javaType(family) + ") 0";
+    }
+
+    private static String unbox(String variable, QueryDataTypeFamily family) {
+        if (family == QueryDataTypeFamily.BOOLEAN) {
+            return "((Boolean) " + variable + ").booleanValue()";
+        }
+        return "((Number) " + variable + ")." + javaType(family) + "Value()";
+    }
+
+    /**
+     * Returns a Java literal for the given constant. Floating-point values
+     * are written as their bits so that the value is reproduced exactly.
+     */
+    private static String literal(Object value, QueryDataTypeFamily family) {
+        switch (family) {
+            case BOOLEAN:
+                return value.toString();
+            case REAL:
+                return "Float.intBitsToFloat((int) " + longLiteral(Float.floatToRawIntBits(((Number) value).floatValue()))
+                        + ")";
+            case DOUBLE:
+                return "Double.longBitsToDouble(" + longLiteral(Double.doubleToRawLongBits(((Number) value).doubleValue()))
+                        + ")";
+            default:
+                return "(" + javaType(family) + ") " + longLiteral(((Number) value).longValue());
+        }
+    }
+
+    private static String longLiteral(long value) {
+        return value == Long.MIN_VALUE ? "Long.MIN_VALUE" : "(" + value + "L)";
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.expression.compiler;
+
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.row.Row;
+
+import javax.annotation.Nonnull;
+
+/**
+ * Evaluates an expression on a row, either by interpreting the {@link
+ * Expression} tree or by running code generated for it by the {@link
+ * ExpressionCompiler}.
+ */
+@FunctionalInterface
+public interface ExpressionEvaluator {
+
+    /**
+     * Evaluates the expression as a top-level expression, see {@link
+     * Expression#evalTop}.
+     *
+     * @param row     the row to evaluate the expression on
+     * @param context the expression evaluation context
+     * @return the result produced by the evaluation
+     */
+    Object eval(Row row, ExpressionEvalContext context);
+
+    /**
+     * Evaluates a {@code BOOLEAN} expression as a filter.
+     *
+     * @param row     the row to evaluate the expression on
+     * @param context the expression evaluation context
+     * @return {@code true} if the expression evaluated to {@code TRUE},
+     * {@code false} if it evaluated to {@code FALSE} or {@code NULL}
+     */
+    default boolean test(Row row, ExpressionEvalContext context) {
+        return Boolean.TRUE.equals(eval(row, context));
+    }
+
+    /**
+     * Returns an evaluator that interprets the given expression.
+     */
+    @Nonnull
+    static ExpressionEvaluator interpreted(@Nonnull Expression<?> expression) {
+        return expression::evalTop;
+    }
+}
@@ -125,6 +125,10 @@ public final class ComparisonPredicate extends BiExpression<Boolean> {
         return QueryDataType.BOOLEAN;
     }
 
+    public ComparisonMode getMode() {
+        return mode;
+    }
+
     @Override
     public void writeData(ObjectDataOutput out) throws IOException {
         super.writeData(out);
@@ -16,25 +16,41 @@
 
 package com.hazelcast.sql.impl.plan.cache;
 
+import com.hazelcast.internal.util.SampleableConcurrentHashMap;
+import com.hazelcast.internal.util.SampleableConcurrentHashMap.SamplingEntry;
+import com.hazelcast.internal.util.counters.Counter;
+import com.hazelcast.internal.util.counters.MwCounter;
 import com.hazelcast.sql.impl.optimizer.PlanCheckContext;
 import com.hazelcast.sql.impl.optimizer.PlanKey;
 import com.hazelcast.sql.impl.optimizer.SqlPlan;
 
-import java.util.TreeMap;
-import java.util.concurrent.ConcurrentHashMap;
-
 /**
  * Cache for plans.
+ * <p>
+ * When the cache overflows, the least recently used plan out of a random
+ * sample is evicted, the same way as IMap eviction works. This keeps the
+ * cost of a put constant instead of sorting all cached plans.
  */
 public class PlanCache implements CachedPlanInvalidationCallback {
 
+    /**
+     * Number of plans sampled to pick an eviction candidate.
+     */
+    static final int EVICTION_SAMPLE_COUNT = 15;
+
+    private static final int INITIAL_CAPACITY = 16;
+
     private final int maxSize;
-    private final ConcurrentHashMap<PlanKey, SqlPlan> plans = new ConcurrentHashMap<>();
+    private final SampleableConcurrentHashMap<PlanKey, SqlPlan> plans;
+
+    private final Counter hits = MwCounter.newMwCounter();
+    private final Counter misses = MwCounter.newMwCounter();
 
     public PlanCache(int maxSize) {
         assert maxSize > 0;
 
         this.maxSize = maxSize;
+        this.plans = new SampleableConcurrentHashMap<>(Math.min(maxSize, INITIAL_CAPACITY));
     }
 
     public SqlPlan get(PlanKey key) {
@@ -42,9 +58,12 @@ public class PlanCache implements CachedPlanInvalidationCallback {
 
         if (plan != null) {
             plan.onPlanUsed();
+            hits.inc();
 
             return plan;
         } else {
+            misses.inc();
+
             return null;
         }
     }
@@ -80,23 +99,37 @@ public class PlanCache implements CachedPlanInvalidationCallback {
             return;
         }
 
-        // Sort plans according to their last used timestamps
-        TreeMap<Long, SqlPlan> sorted = new TreeMap<>();
+        while (oversize > 0) {
+            SqlPlan candidate = sampleEvictionCandidate();
+
+            if (candidate == null) {
+                // Concurrently cleared
+                return;
+            }
 
-        for (SqlPlan plan : plans.values()) {
-            sorted.put(plan.getPlanLastUsed(), plan);
+            if (remove(candidate)) {
+                oversize--;
+            }
         }
+    }
+
+    /**
+     * Returns the least recently used plan out of a random sample of cached plans.
+     */
+    private SqlPlan sampleEvictionCandidate() {
+        SqlPlan candidate = null;
+
+        Iterable<SamplingEntry<PlanKey, SqlPlan>> samples = plans.getRandomSamples(EVICTION_SAMPLE_COUNT);
 
-        // Remove oldest plans
-        for (SqlPlan plan : sorted.values()) {
-            boolean removed = remove(plan);
+        for (SamplingEntry<PlanKey, SqlPlan> sample : samples) {
+            SqlPlan plan = sample.getEntryValue();
 
-            if (removed) {
-                if (--oversize == 0) {
-                    break;
-                }
+            if (candidate == null || plan.getPlanLastUsed() < candidate.getPlanLastUsed()) {
+                candidate = plan;
             }
         }
+
+        return candidate;
     }
 
     /**
@@ -108,10 +141,24 @@ public class PlanCache implements CachedPlanInvalidationCallback {
         return plans.remove(plan.getPlanKey(), plan);
     }
 
+    /**
+     * Returns the number of lookups that found a cached plan.
+     */
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    /**
+     * Returns the number of lookups that did not find a cached plan.
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
     /**
      * For testing only.
      */
-    public ConcurrentHashMap<PlanKey, SqlPlan> getPlans() {
+    public SampleableConcurrentHashMap<PlanKey, SqlPlan> getPlans() {
         return plans;
     }
 }
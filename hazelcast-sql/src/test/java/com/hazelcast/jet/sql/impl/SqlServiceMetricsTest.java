@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl;
+
+import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.internal.metrics.impl.CapturingCollector;
+import com.hazelcast.jet.sql.SqlTestSupport;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Map.Entry;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_METRIC_PLANNING_TIME;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_METRIC_PLANS_CREATED;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_METRIC_PLAN_CACHE_HITS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_METRIC_PLAN_CACHE_MISSES;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_METRIC_PLAN_CACHE_SIZE;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_METRIC_QUERIES_SUBMITTED;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SQL_PREFIX;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SqlServiceMetricsTest extends SqlTestSupport {
+
+    @BeforeClass
+    public static void setUpClass() {
+        initialize(1, null);
+    }
+
+    @Test
+    public void when_queriesExecuted_then_sqlMetricsCollected() {
+        createMapping("map", int.class, int.class);
+        instance().getMap("map").put(1, 1);
+        String sql = "SELECT __key FROM map";
+        long queriesBefore = collect(SQL_METRIC_QUERIES_SUBMITTED);
+        long hitsBefore = collect(SQL_METRIC_PLAN_CACHE_HITS);
+        long missesBefore = collect(SQL_METRIC_PLAN_CACHE_MISSES);
+        long plansCreatedBefore = collect(SQL_METRIC_PLANS_CREATED);
+
+        assertRowsAnyOrder(sql, rows(1, 1));
+        assertRowsAnyOrder(sql, rows(1, 1));
+
+        assertEquals(queriesBefore + 2, collect(SQL_METRIC_QUERIES_SUBMITTED));
+        assertEquals(hitsBefore + 1, collect(SQL_METRIC_PLAN_CACHE_HITS));
+        assertEquals(missesBefore + 1, collect(SQL_METRIC_PLAN_CACHE_MISSES));
+        assertEquals(plansCreatedBefore + 1, collect(SQL_METRIC_PLANS_CREATED));
+        assertTrue(collect(SQL_METRIC_PLAN_CACHE_SIZE) > 0);
+        assertTrue(collect(SQL_METRIC_PLANNING_TIME) > 0);
+    }
+
+    private static long collect(String metric) {
+        CapturingCollector collector = new CapturingCollector();
+        getNodeEngineImpl(instance()).getMetricsRegistry().collect(collector);
+        for (Entry<MetricDescriptor, CapturingCollector.Capture> entry : collector.captures().entrySet()) {
+            MetricDescriptor descriptor = entry.getKey();
+            if (SQL_PREFIX.equals(descriptor.prefix()) && metric.equals(descriptor.metric())) {
+                return entry.getValue().singleCapturedValue().longValue();
+            }
+        }
+        fail("Metric " + SQL_PREFIX + '.' + metric + " not collected");
+        return 0;
+    }
+}
@@ -129,4 +129,46 @@ public class PlanCacheTest extends PlanCacheTestSupport {
         long timestamp3 = plan.getPlanLastUsed();
         assertTrue(timestamp3 > timestamp2);
     }
+
+    @Test
+    public void testHitAndMissCounts() {
+        PlanCache cache = new PlanCache(10);
+        PlanKey key = createKey("sql");
+
+        assertNull(cache.get(key));
+        assertEquals(0, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+
+        cache.put(key, createPlan(key, PART_MAP_1));
+        assertNotNull(cache.get(key));
+        assertNotNull(cache.get(key));
+        assertEquals(2, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testOverflowEvictsLeastRecentlyUsed() {
+        int size = 5;
+
+        PlanCache cache = new PlanCache(size);
+
+        for (int i = 0; i < size; i++) {
+            PlanKey key = createKey(Integer.toString(i));
+
+            cache.put(key, createPlan(key, PART_MAP_1));
+
+            advanceTime();
+        }
+
+        // Touch the oldest plan, so that the second oldest one becomes the eviction candidate
+        assertNotNull(cache.get(createKey("0")));
+        advanceTime();
+
+        PlanKey overflowKey = createKey(Integer.toString(size));
+        cache.put(overflowKey, createPlan(overflowKey, PART_MAP_1));
+
+        assertEquals(size, cache.size());
+        assertNotNull(cache.get(createKey("0")));
+        assertNull(cache.get(createKey("1")));
+    }
 }
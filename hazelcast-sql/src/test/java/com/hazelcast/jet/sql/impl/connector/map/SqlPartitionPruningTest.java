@@ -0,0 +1,165 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.jet.sql.impl.connector.map;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MapConfig;
+import com.hazelcast.config.PartitioningStrategyConfig;
+import com.hazelcast.jet.core.ProcessorMetaSupplier.ExpectNothingProcessorSupplier;
+import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.core.test.TestProcessorMetaSupplierContext;
+import com.hazelcast.jet.sql.SqlTestSupport;
+import com.hazelcast.map.IMap;
+import com.hazelcast.partition.Partition;
+import com.hazelcast.partition.strategy.StringPartitioningStrategy;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static com.hazelcast.jet.sql.impl.connector.map.LazyDefiningPartitionsPms.readMapPartitionsSupplier;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SqlPartitionPruningTest extends SqlTestSupport {
+
+    private static final String STRATEGY_MAP_PREFIX = "string_strategy_";
+
+    @BeforeClass
+    public static void setUpClass() {
+        Config config = smallInstanceConfig();
+        config.addMapConfig(new MapConfig(STRATEGY_MAP_PREFIX + "*")
+                .setPartitioningStrategyConfig(
+                        new PartitioningStrategyConfig(StringPartitioningStrategy.class.getName())));
+        initialize(3, config);
+    }
+
+    @Test
+    public void test_inList() {
+        String name = createAndFillMap();
+
+        assertRowsAnyOrder("SELECT __key, this FROM " + name + " WHERE __key IN (1, 5, 42, 1000)",
+                asList(new Row(1, "1"), new Row(5, "5"), new Row(42, "42")));
+    }
+
+    @Test
+    public void test_disjunctionOfParameters() {
+        String name = createAndFillMap();
+
+        assertRowsAnyOrder("SELECT __key, this FROM " + name + " WHERE __key = ? OR __key = ?",
+                asList(3, 7),
+                asList(new Row(3, "3"), new Row(7, "7")));
+    }
+
+    @Test
+    public void test_nullParameter() {
+        String name = createAndFillMap();
+
+        assertRowsAnyOrder("SELECT __key, this FROM " + name + " WHERE __key = ? OR __key = ?",
+                asList(null, 7),
+                asList(new Row(7, "7")));
+    }
+
+    @Test
+    public void test_conjunctionWithOtherPredicate() {
+        String name = createAndFillMap();
+
+        assertRowsAnyOrder("SELECT __key, this FROM " + name + " WHERE __key IN (2, 4, 6) AND this <> '4'",
+                asList(new Row(2, "2"), new Row(6, "6")));
+    }
+
+    @Test
+    public void test_disjunctionWithOtherPredicate_notPruned() {
+        String name = createAndFillMap();
+
+        assertRowsAnyOrder("SELECT __key, this FROM " + name + " WHERE __key = 2 OR this = '4'",
+                asList(new Row(2, "2"), new Row(4, "4")));
+    }
+
+    @Test
+    public void test_mapPartitioningStrategy() {
+        String name = STRATEGY_MAP_PREFIX + randomName();
+        createMapping(name, String.class, String.class);
+        IMap<String, String> map = instance().getMap(name);
+        for (int i = 0; i < 100; i++) {
+            map.put(i + "@" + (i % 10), Integer.toString(i));
+        }
+
+        assertRowsAnyOrder("SELECT __key, this FROM " + name + " WHERE __key IN ('11@1', '22@2', '33@4')",
+                asList(new Row("11@1", "11"), new Row("22@2", "22")));
+    }
+
+    @Test
+    public void test_onlyOwnerOfKeyPartitionScans() throws Exception {
+        String name = createAndFillMap();
+        int partitionId = instance().getPartitionService().getPartition(42).getPartitionId();
+        Address owner = instance().getPartitionService().getPartition(42).getOwner().getAddress();
+
+        Map<Address, List<Integer>> partitionsByOwner = new HashMap<>();
+        for (Partition partition : instance().getPartitionService().getPartitions()) {
+            partitionsByOwner.computeIfAbsent(partition.getOwner().getAddress(), a -> new ArrayList<>())
+                             .add(partition.getPartitionId());
+        }
+        Map<Address, int[]> partitionAssignment = new HashMap<>();
+        partitionsByOwner.forEach((address, partitions) ->
+                partitionAssignment.put(address, partitions.stream().mapToInt(i -> i).sorted().toArray()));
+        assertEquals(3, partitionAssignment.size());
+
+        LazyDefiningPartitionsPms pms = (LazyDefiningPartitionsPms) readMapPartitionsSupplier(
+                name, singletonList(ConstantExpression.create(42, QueryDataType.INT)));
+        pms.init(new TestProcessorMetaSupplierContext()
+                .setHazelcastInstance(instance())
+                .setPartitionAssignment(partitionAssignment));
+        Function<? super Address, ? extends ProcessorSupplier> suppliers =
+                pms.get(new ArrayList<>(partitionAssignment.keySet()));
+
+        assertArrayEquals(new int[]{partitionId}, pms.partitionIds());
+        for (Address address : partitionAssignment.keySet()) {
+            ProcessorSupplier supplier = suppliers.apply(address);
+            if (address.equals(owner)) {
+                assertFalse(supplier instanceof ExpectNothingProcessorSupplier);
+            } else {
+                assertInstanceOf(ExpectNothingProcessorSupplier.class, supplier);
+            }
+        }
+    }
+
+    private static String createAndFillMap() {
+        String name = randomName();
+        createMapping(name, Integer.class, String.class);
+        IMap<Integer, String> map = instance().getMap(name);
+        for (int i = 0; i < 100; i++) {
+            map.put(i, Integer.toString(i));
+        }
+        return name;
+    }
+}
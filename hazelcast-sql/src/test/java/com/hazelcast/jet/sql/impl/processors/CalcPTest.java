@@ -0,0 +1,151 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.jet.sql.impl.processors;
+
+import com.hazelcast.function.SupplierEx;
+import com.hazelcast.jet.config.JobConfig;
+import com.hazelcast.jet.core.Processor;
+import com.hazelcast.jet.core.ProcessorSupplier;
+import com.hazelcast.jet.core.test.TestOutbox;
+import com.hazelcast.jet.core.test.TestProcessorContext;
+import com.hazelcast.jet.core.test.TestSupport;
+import com.hazelcast.jet.sql.SqlTestSupport;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.compiler.ExpressionEvaluator;
+import com.hazelcast.sql.impl.expression.math.PlusFunction;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonMode;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonPredicate;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.List;
+
+import static com.hazelcast.jet.TestContextSupport.adaptSupplier;
+import static com.hazelcast.jet.impl.JetServiceBackend.SQL_ARGUMENTS_KEY_NAME;
+import static com.hazelcast.sql.impl.expression.ColumnExpression.create;
+import static com.hazelcast.sql.impl.expression.compiler.ExpressionCompiler.isCompiled;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertTrue;
+
+@Category({QuickTest.class, ParallelJVMTest.class})
+@RunWith(HazelcastSerialClassRunner.class)
+public class CalcPTest extends SqlTestSupport {
+    private static final Expression<?> col0 = create(0, QueryDataType.BIGINT);
+    private static final Expression<?> col1 = create(1, QueryDataType.BIGINT);
+    private static final List<Expression<?>> projection = asList(
+            col1,
+            PlusFunction.create(col0, col1, QueryDataType.BIGINT)
+    );
+
+    @BeforeClass
+    public static void beforeClass() {
+        initialize(1, null);
+    }
+
+    @Test
+    public void when_noPredicate_then_allRowsProjected() {
+        SupplierEx<Processor> supplier = () -> new CalcP(projection, null);
+
+        TestSupport.verifyProcessor(adaptSupplier(ProcessorSupplier.of(supplier)))
+                .hazelcastInstance(instance())
+                .jobConfig(new JobConfig().setArgument(SQL_ARGUMENTS_KEY_NAME, emptyList()))
+                .outputChecker(SqlTestSupport::compareRowLists)
+                .input(asList(
+                        jetRow(1L, 10L),
+                        jetRow(2L, 20L),
+                        jetRow(3L, null)
+                ))
+                .expectOutput(asList(
+                        jetRow(10L, 11L),
+                        jetRow(20L, 22L),
+                        jetRow(null, null)
+                ));
+    }
+
+    @Test
+    public void when_predicate_then_onlySelectedRowsProjected() {
+        Expression<Boolean> predicate = ComparisonPredicate.create(
+                col0,
+                ConstantExpression.create(1L, QueryDataType.BIGINT),
+                ComparisonMode.GREATER_THAN);
+        SupplierEx<Processor> supplier = () -> new CalcP(projection, predicate);
+
+        TestSupport.verifyProcessor(adaptSupplier(ProcessorSupplier.of(supplier)))
+                .hazelcastInstance(instance())
+                .jobConfig(new JobConfig().setArgument(SQL_ARGUMENTS_KEY_NAME, emptyList()))
+                .outputChecker(SqlTestSupport::compareRowLists)
+                .input(asList(
+                        jetRow(1L, 10L),
+                        jetRow(2L, 20L),
+                        jetRow(null, 25L),
+                        jetRow(0L, 30L),
+                        jetRow(3L, 30L)
+                ))
+                .expectOutput(asList(
+                        jetRow(20L, 22L),
+                        jetRow(30L, 33L)
+                ));
+    }
+
+    @Test
+    public void when_watermarkAfterRows_then_emittedAfterRows() {
+        SupplierEx<Processor> supplier = () -> new CalcP(projection, null);
+
+        TestSupport.verifyProcessor(adaptSupplier(ProcessorSupplier.of(supplier)))
+                .hazelcastInstance(instance())
+                .jobConfig(new JobConfig().setArgument(SQL_ARGUMENTS_KEY_NAME, emptyList()))
+                .outputChecker(SqlTestSupport::compareRowLists)
+                .disableSnapshots()
+                .input(asList(
+                        jetRow(1L, 10L),
+                        jetRow(2L, 20L),
+                        wm(1L),
+                        jetRow(3L, 30L)
+                ))
+                .expectOutput(asList(
+                        jetRow(10L, 11L),
+                        jetRow(20L, 22L),
+                        wm(1L),
+                        jetRow(30L, 33L)
+                ));
+    }
+
+    @Test
+    public void when_expressionsSupported_then_compiledEvaluatorsUsed() throws Exception {
+        Expression<Boolean> predicate = ComparisonPredicate.create(
+                col0,
+                ConstantExpression.create(1L, QueryDataType.BIGINT),
+                ComparisonMode.GREATER_THAN);
+        CalcP processor = new CalcP(projection, predicate);
+        processor.init(new TestOutbox(1), new TestProcessorContext()
+                .setHazelcastInstance(instance())
+                .setJobConfig(new JobConfig().setArgument(SQL_ARGUMENTS_KEY_NAME, emptyList())));
+
+        for (ExpressionEvaluator evaluator : processor.projectionEvaluators()) {
+            assertTrue(isCompiled(evaluator));
+        }
+        assertTrue(isCompiled(processor.predicateEvaluator()));
+    }
+}
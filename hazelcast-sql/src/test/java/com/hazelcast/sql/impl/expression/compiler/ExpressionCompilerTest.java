@@ -0,0 +1,182 @@
+/*
+ * Copyright 2023 Hazelcast Inc.
+ *
+ * Licensed under the Hazelcast Community License (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://hazelcast.com/hazelcast-community-license
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.sql.impl.expression.compiler;
+
+import com.hazelcast.sql.impl.QueryException;
+import com.hazelcast.sql.impl.expression.CaseExpression;
+import com.hazelcast.sql.impl.expression.ConstantExpression;
+import com.hazelcast.sql.impl.expression.Expression;
+import com.hazelcast.sql.impl.expression.ExpressionEvalContext;
+import com.hazelcast.sql.impl.expression.math.DivideFunction;
+import com.hazelcast.sql.impl.expression.math.MinusFunction;
+import com.hazelcast.sql.impl.expression.math.MultiplyFunction;
+import com.hazelcast.sql.impl.expression.math.PlusFunction;
+import com.hazelcast.sql.impl.expression.predicate.AndPredicate;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonMode;
+import com.hazelcast.sql.impl.expression.predicate.ComparisonPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNotFalsePredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsNullPredicate;
+import com.hazelcast.sql.impl.expression.predicate.IsTruePredicate;
+import com.hazelcast.sql.impl.expression.predicate.NotPredicate;
+import com.hazelcast.sql.impl.expression.predicate.OrPredicate;
+import com.hazelcast.sql.impl.row.HeapRow;
+import com.hazelcast.sql.impl.row.Row;
+import com.hazelcast.sql.impl.type.QueryDataType;
+import com.hazelcast.sql.impl.type.QueryDataTypeFamily;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static com.hazelcast.sql.impl.expression.ColumnExpression.create;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ExpressionCompilerTest {
+
+    private static final ExpressionEvalContext CONTEXT = mock(ExpressionEvalContext.class);
+
+    private static final Expression<?> INT_COLUMN = create(0, QueryDataType.INT);
+    private static final Expression<?> BIGINT_COLUMN = create(1, QueryDataType.BIGINT);
+    private static final Expression<?> DOUBLE_COLUMN = create(2, QueryDataType.DOUBLE);
+    private static final Expression<?> BOOLEAN_COLUMN = create(3, QueryDataType.BOOLEAN);
+    private static final Expression<?> VARCHAR_COLUMN = create(4, QueryDataType.VARCHAR);
+
+    private static final List<Row> ROWS = Arrays.asList(
+            HeapRow.of(1, 10L, 1.5d, true, "a"),
+            HeapRow.of(-3, 0L, -0.0d, false, null),
+            HeapRow.of(null, null, null, null, null),
+            HeapRow.of(Integer.MAX_VALUE, -7L, Double.NaN, null, "b")
+    );
+
+    @Test
+    public void when_arithmetic_then_sameResultAsInterpreted() {
+        assertCompiledSameAsInterpreted(PlusFunction.create(INT_COLUMN, constant(5), QueryDataType.INT));
+        assertCompiledSameAsInterpreted(MinusFunction.create(BIGINT_COLUMN, INT_COLUMN, QueryDataType.BIGINT));
+        assertCompiledSameAsInterpreted(MultiplyFunction.create(DOUBLE_COLUMN, constant(2.5d), QueryDataType.DOUBLE));
+        assertCompiledSameAsInterpreted(PlusFunction.create(
+                MultiplyFunction.create(INT_COLUMN, constant(3), QueryDataType.INT),
+                BIGINT_COLUMN,
+                QueryDataType.BIGINT));
+    }
+
+    @Test
+    public void when_comparison_then_sameResultAsInterpreted() {
+        for (ComparisonMode mode : ComparisonMode.values()) {
+            assertCompiledSameAsInterpreted(ComparisonPredicate.create(BIGINT_COLUMN, constant(0L), mode));
+            assertCompiledSameAsInterpreted(ComparisonPredicate.create(DOUBLE_COLUMN, constant(0.0d), mode));
+            assertCompiledSameAsInterpreted(ComparisonPredicate.create(BOOLEAN_COLUMN, constant(true), mode));
+        }
+    }
+
+    @Test
+    public void when_logic_then_sameResultAsInterpreted() {
+        Expression<?> positive = ComparisonPredicate.create(INT_COLUMN, constant(0), ComparisonMode.GREATER_THAN);
+        assertCompiledSameAsInterpreted(AndPredicate.create(positive, BOOLEAN_COLUMN));
+        assertCompiledSameAsInterpreted(OrPredicate.create(BOOLEAN_COLUMN, positive, constant((Boolean) null)));
+        assertCompiledSameAsInterpreted(NotPredicate.create(BOOLEAN_COLUMN));
+        assertCompiledSameAsInterpreted(IsTruePredicate.create(BOOLEAN_COLUMN));
+        assertCompiledSameAsInterpreted(IsNotFalsePredicate.create(positive));
+        assertCompiledSameAsInterpreted(IsNullPredicate.create(INT_COLUMN));
+    }
+
+    @Test
+    public void when_case_then_sameResultAsInterpreted() {
+        assertCompiledSameAsInterpreted(CaseExpression.create(new Expression<?>[]{
+                BOOLEAN_COLUMN, BIGINT_COLUMN,
+                IsNullPredicate.create(INT_COLUMN), constant(-1L),
+                ConstantExpression.create(null, QueryDataType.BIGINT)
+        }));
+        assertCompiledSameAsInterpreted(CaseExpression.coalesce(INT_COLUMN, constant(42)));
+    }
+
+    @Test
+    public void when_caseWithNullBranch_then_sameResultAsInterpreted() {
+        Expression<?> nullConstant = ConstantExpression.create(null, QueryDataType.NULL);
+        assertCompiledSameAsInterpreted(CaseExpression.create(new Expression<?>[]{
+                BOOLEAN_COLUMN, nullConstant,
+                BIGINT_COLUMN
+        }));
+        assertCompiledSameAsInterpreted(IsNullPredicate.create(CaseExpression.create(new Expression<?>[]{
+                BOOLEAN_COLUMN, INT_COLUMN,
+                nullConstant
+        })));
+    }
+
+    @Test
+    public void when_unsupportedOperand_then_interpretedInGeneratedCode() {
+        assertCompiledSameAsInterpreted(IsNullPredicate.create(VARCHAR_COLUMN));
+        assertCompiledSameAsInterpreted(ComparisonPredicate.create(
+                DivideFunction.create(BIGINT_COLUMN, constant(2L), QueryDataType.BIGINT),
+                constant(3L),
+                ComparisonMode.LESS_THAN));
+    }
+
+    @Test
+    public void when_unsupportedRoot_then_interpreted() {
+        ExpressionEvaluator evaluator = ExpressionCompiler.compile(VARCHAR_COLUMN);
+
+        assertFalse(ExpressionCompiler.isCompiled(evaluator));
+        assertEquals("a", evaluator.eval(ROWS.get(0), CONTEXT));
+    }
+
+    @Test
+    public void when_overflow_then_fail() {
+        ExpressionEvaluator evaluator = ExpressionCompiler.compile(
+                PlusFunction.create(BIGINT_COLUMN, constant(Long.MAX_VALUE), QueryDataType.BIGINT));
+
+        assertThatThrownBy(() -> evaluator.eval(ROWS.get(0), CONTEXT))
+                .isInstanceOf(QueryException.class)
+                .hasMessageContaining("BIGINT overflow in '+' operator");
+    }
+
+    private static void assertCompiledSameAsInterpreted(Expression<?> expression) {
+        ExpressionEvaluator evaluator = ExpressionCompiler.compile(expression);
+        assertTrue(ExpressionCompiler.isCompiled(evaluator));
+        for (Row row : ROWS) {
+            Object expected = expression.evalTop(row, CONTEXT);
+            assertEquals(expression + " on " + row, expected, evaluator.eval(row, CONTEXT));
+            if (expression.getType().getTypeFamily() == QueryDataTypeFamily.BOOLEAN) {
+                assertEquals(expression + " on " + row, Boolean.TRUE.equals(expected), evaluator.test(row, CONTEXT));
+            }
+        }
+    }
+
+    private static Expression<?> constant(Object value) {
+        QueryDataType type;
+        if (value instanceof Integer) {
+            type = QueryDataType.INT;
+        } else if (value instanceof Long) {
+            type = QueryDataType.BIGINT;
+        } else if (value instanceof Double) {
+            type = QueryDataType.DOUBLE;
+        } else {
+            type = QueryDataType.BOOLEAN;
+        }
+        return ConstantExpression.create(value, type);
+    }
+}
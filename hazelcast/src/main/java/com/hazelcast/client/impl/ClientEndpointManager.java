@@ -29,6 +29,14 @@ import java.util.UUID;
  */
 public interface ClientEndpointManager {
 
+    /**
+     * The label a client adds when it authenticates an additional connection
+     * to a member it is already connected to. Such a connection is bound to the
+     * endpoint of the client's first connection, see
+     * {@link #registerSecondaryConnection(Connection, UUID)}.
+     */
+    String SECONDARY_CONNECTION_LABEL = "hz.client.secondary.connection";
+
     /**
      * Returns the current endpoints.
      *
@@ -89,4 +97,25 @@ public interface ClientEndpointManager {
      */
     void removeEndpoint(ClientEndpoint endpoint);
 
+    /**
+     * Binds an additional connection of a client to the endpoint of the
+     * client's existing connection. {@link #getEndpoint(Connection)} returns
+     * that endpoint for the connection afterwards, but the connection is not
+     * an endpoint of its own: it is not counted, and no client events are
+     * fired for it. It is closed when the endpoint is removed.
+     *
+     * @param connection the additional connection
+     * @param clientUuid the uuid of the client
+     * @return false if the client has no endpoint this connection can be bound to
+     * @throws java.lang.NullPointerException if connection or clientUuid is null.
+     */
+    boolean registerSecondaryConnection(Connection connection, UUID clientUuid);
+
+    /**
+     * Removes a connection bound by {@link #registerSecondaryConnection(Connection, UUID)}.
+     *
+     * @param connection the connection
+     * @return true if the connection was a secondary connection
+     */
+    boolean removeSecondaryConnection(Connection connection);
 }
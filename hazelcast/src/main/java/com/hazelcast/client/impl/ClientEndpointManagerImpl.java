@@ -57,6 +57,9 @@ public class ClientEndpointManagerImpl implements ClientEndpointManager, Dynamic
     @Probe(name = CLIENT_METRIC_ENDPOINT_MANAGER_COUNT, level = MANDATORY)
     private final ConcurrentMap<Connection, ClientEndpoint> endpoints =
             new ConcurrentHashMap<>();
+    // the additional connections of the clients, mapped to the endpoint they are bound to
+    private final ConcurrentMap<Connection, ClientEndpoint> secondaryConnections =
+            new ConcurrentHashMap<>();
 
     @Probe(name = CLIENT_METRIC_ENDPOINT_MANAGER_TOTAL_REGISTRATIONS, level = MANDATORY)
     private final MwCounter totalRegistrations = newMwCounter();
@@ -82,7 +85,8 @@ public class ClientEndpointManagerImpl implements ClientEndpointManager, Dynamic
     public ClientEndpoint getEndpoint(Connection connection) {
         checkNotNull(connection, "connection can't be null");
 
-        return endpoints.get(connection);
+        ClientEndpoint endpoint = endpoints.get(connection);
+        return endpoint != null ? endpoint : secondaryConnections.get(connection);
     }
 
     @Override
@@ -113,6 +117,7 @@ public class ClientEndpointManagerImpl implements ClientEndpointManager, Dynamic
             return;
         }
 
+        closeSecondaryConnections(endpoint);
         logger.info("Destroying " + endpoint);
         try {
             endpoint.destroy();
@@ -128,6 +133,38 @@ public class ClientEndpointManagerImpl implements ClientEndpointManager, Dynamic
         sendClientEvent(event);
     }
 
+    @Override
+    public boolean registerSecondaryConnection(Connection connection, UUID clientUuid) {
+        checkNotNull(connection, "connection can't be null");
+        checkNotNull(clientUuid, "clientUuid can't be null");
+
+        for (ClientEndpoint endpoint : endpoints.values()) {
+            if (clientUuid.equals(endpoint.getUuid()) && endpoint.isAlive()) {
+                secondaryConnections.put(connection, endpoint);
+                // the endpoint could have been removed concurrently
+                if (!endpoints.containsKey(endpoint.getConnection())) {
+                    secondaryConnections.remove(connection);
+                    return false;
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean removeSecondaryConnection(Connection connection) {
+        return secondaryConnections.remove(connection) != null;
+    }
+
+    private void closeSecondaryConnections(ClientEndpoint endpoint) {
+        secondaryConnections.forEach((connection, boundEndpoint) -> {
+            if (boundEndpoint == endpoint && secondaryConnections.remove(connection, endpoint)) {
+                connection.close("Connection of " + endpoint + " closed", null);
+            }
+        });
+    }
+
     private void sendClientEvent(ClientEvent event) {
         final Collection<EventRegistration> regs = eventService.getRegistrations(SERVICE_NAME, SERVICE_NAME);
         UUID uuid = event.getUuid();
@@ -137,6 +174,7 @@ public class ClientEndpointManagerImpl implements ClientEndpointManager, Dynamic
     @Override
     public void clear() {
         endpoints.clear();
+        secondaryConnections.clear();
     }
 
     @Override
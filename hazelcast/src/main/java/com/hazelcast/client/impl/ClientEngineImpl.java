@@ -446,6 +446,10 @@ public class ClientEngineImpl implements ClientEngine, CoreService,
             if (!connection.isClient() || !nodeEngine.isRunning()) {
                 return;
             }
+            if (endpointManager.removeSecondaryConnection(connection)) {
+                // the endpoint stays, it was bound to another connection of the client
+                return;
+            }
             final ClientEndpointImpl endpoint = (ClientEndpointImpl) endpointManager.getEndpoint(connection);
             if (endpoint == null) {
                 logger.finest("connectionRemoved: No endpoint for connection:" + connection);
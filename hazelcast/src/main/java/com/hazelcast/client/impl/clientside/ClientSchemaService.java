@@ -22,18 +22,22 @@ import com.hazelcast.client.impl.protocol.codec.ClientSendAllSchemasCodec;
 import com.hazelcast.client.impl.protocol.codec.ClientSendSchemaCodec;
 import com.hazelcast.client.impl.spi.impl.ClientInvocation;
 import com.hazelcast.cluster.Member;
+import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.impl.compact.Schema;
 import com.hazelcast.internal.serialization.impl.compact.SchemaService;
 import com.hazelcast.logging.ILogger;
+import com.hazelcast.spi.impl.InternalCompletableFuture;
 import com.hazelcast.spi.properties.HazelcastProperties;
 import com.hazelcast.spi.properties.HazelcastProperty;
 
 import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.hazelcast.client.properties.ClientProperty.INVOCATION_RETRY_PAUSE_MILLIS;
 
@@ -42,11 +46,29 @@ public class ClientSchemaService implements SchemaService {
     public static final HazelcastProperty MAX_PUT_RETRY_COUNT =
             new HazelcastProperty("hazelcast.client.schema.max.put.retry.count", 100);
 
+    /**
+     * The directory to store the schemas known to the client in, when the
+     * client shuts down. The stored schemas are loaded when a client starts,
+     * so that it does not fetch them from the cluster one by one. The store
+     * can be shared by the clients on the same machine. If not set, the
+     * schemas are not stored.
+     */
+    public static final HazelcastProperty SCHEMA_STORE_DIRECTORY =
+            new HazelcastProperty("hazelcast.client.schema.store.directory");
+
     private final HazelcastClientInstanceImpl client;
+    // the schemas that are known to be replicated in the cluster
     private final Map<Long, Schema> schemas = new ConcurrentHashMap<>();
+    // the schemas loaded from the store, only used to read data, as they
+    // are not known to be replicated in the cluster
+    private final Map<Long, Schema> storedSchemas = new ConcurrentHashMap<>();
+    // the fetches in progress, so that the threads that need the same
+    // schema at the same time wait for a single request
+    private final ConcurrentMap<Long, InternalCompletableFuture<Schema>> fetches = new ConcurrentHashMap<>();
     private final ILogger logger;
     private final long retryPauseMillis;
     private final int maxPutRetryCount;
+    private final ClientSchemaStore store;
 
     public ClientSchemaService(HazelcastClientInstanceImpl client, ILogger logger) {
         this.client = client;
@@ -54,6 +76,34 @@ public class ClientSchemaService implements SchemaService {
         HazelcastProperties properties = client.getProperties();
         retryPauseMillis = properties.getPositiveMillisOrDefault(INVOCATION_RETRY_PAUSE_MILLIS);
         maxPutRetryCount = properties.getInteger(MAX_PUT_RETRY_COUNT);
+        String storeDirectory = properties.getString(SCHEMA_STORE_DIRECTORY);
+        store = storeDirectory == null ? null : new ClientSchemaStore(storeDirectory, logger);
+    }
+
+    /**
+     * Loads the stored schemas, if the schema store is enabled.
+     */
+    public void start() {
+        if (store == null) {
+            return;
+        }
+        InternalSerializationService serializationService = client.getSerializationService();
+        for (Schema schema : store.load(serializationService)) {
+            storedSchemas.putIfAbsent(schema.getSchemaId(), schema);
+        }
+    }
+
+    /**
+     * Stores the known schemas, if the schema store is enabled and the
+     * client learned a schema that was not stored yet.
+     */
+    public void shutdown() {
+        if (store == null || storedSchemas.keySet().containsAll(schemas.keySet())) {
+            return;
+        }
+        Map<Long, Schema> allSchemas = new HashMap<>(storedSchemas);
+        allSchemas.putAll(schemas);
+        store.store(allSchemas.values(), client.getSerializationService());
     }
 
     @Override
@@ -62,18 +112,30 @@ public class ClientSchemaService implements SchemaService {
         if (schema != null) {
             return schema;
         }
+        schema = storedSchemas.get(schemaId);
+        if (schema != null) {
+            return schema;
+        }
         if (logger.isFinestEnabled()) {
             logger.finest("Could not find schema id  " + schemaId + " locally, will search on the cluster" + schemaId);
         }
-        ClientInvocation invocation = new ClientInvocation(client, ClientFetchSchemaCodec.encodeRequest(schemaId), SERVICE_NAME);
-        ClientMessage message = invocation.invoke().joinInternal();
-        schema = ClientFetchSchemaCodec.decodeResponse(message);
+        InternalCompletableFuture<Schema> future = fetches.computeIfAbsent(schemaId, this::fetch);
+        try {
+            schema = future.joinInternal();
+        } finally {
+            fetches.remove(schemaId, future);
+        }
         if (schema != null) {
             schemas.putIfAbsent(schemaId, schema);
         }
         return schema;
     }
 
+    private InternalCompletableFuture<Schema> fetch(long schemaId) {
+        ClientInvocation invocation = new ClientInvocation(client, ClientFetchSchemaCodec.encodeRequest(schemaId), SERVICE_NAME);
+        return invocation.invoke().thenApply(ClientFetchSchemaCodec::decodeResponse);
+    }
+
     @Override
     public void put(Schema schema) {
         long schemaId = schema.getSchemaId();
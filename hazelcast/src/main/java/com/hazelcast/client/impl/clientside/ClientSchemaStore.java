@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.client.impl.clientside;
+
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.compact.Schema;
+import com.hazelcast.internal.util.Timer;
+import com.hazelcast.logging.ILogger;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static com.hazelcast.internal.nio.IOUtil.closeResource;
+import static com.hazelcast.internal.nio.IOUtil.deleteQuietly;
+import static com.hazelcast.internal.nio.IOUtil.getPath;
+import static com.hazelcast.internal.nio.IOUtil.rename;
+import static java.lang.String.format;
+
+/**
+ * Loads and stores the Compact schemas known to a client into a file, so
+ * that a restarted client does not fetch the schemas of the data it reads
+ * from the cluster one by one.
+ * <p>
+ * The id of a schema is the fingerprint of its contents, which is computed
+ * again when a schema is loaded. Hence, the stored schemas never go stale
+ * and the same file can be shared by the clients of different clusters.
+ * The file is replaced atomically on store, so the last client to store
+ * wins and readers never see a partially written file.
+ */
+final class ClientSchemaStore {
+
+    /**
+     * Magic bytes for the file header.
+     */
+    private static final int MAGIC_BYTES = 0x5C4E3A51;
+
+    /**
+     * Version of the file format.
+     */
+    private static final int FORMAT_VERSION = 1;
+
+    private static final String FILE_NAME = "compact-schemas.store";
+
+    private final ILogger logger;
+    private final File directory;
+    private final File storeFile;
+
+    ClientSchemaStore(String directory, ILogger logger) {
+        this.logger = logger;
+        this.directory = new File(directory);
+        this.storeFile = new File(getPath(directory, FILE_NAME));
+    }
+
+    /**
+     * Loads the stored schemas. Returns an empty collection if there is no
+     * store file or if it cannot be read.
+     */
+    Collection<Schema> load(InternalSerializationService serializationService) {
+        if (!storeFile.exists()) {
+            return Collections.emptyList();
+        }
+        long startedNanos = Timer.nanos();
+        try {
+            byte[] bytes = Files.readAllBytes(storeFile.toPath());
+            BufferObjectDataInput in = serializationService.createObjectDataInput(bytes);
+            if (in.readInt() != MAGIC_BYTES || in.readInt() != FORMAT_VERSION) {
+                logger.warning(format("Found invalid header for the schema store (%s)", storeFile.getAbsolutePath()));
+                return Collections.emptyList();
+            }
+            int count = in.readInt();
+            List<Schema> schemas = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                Schema schema = new Schema();
+                schema.readData(in);
+                schemas.add(schema);
+            }
+            if (logger.isFineEnabled()) {
+                logger.fine(format("Loaded %d schemas from %s in %d ms", count, storeFile.getAbsolutePath(),
+                        Timer.millisElapsed(startedNanos)));
+            }
+            return schemas;
+        } catch (Exception e) {
+            logger.warning(format("Could not load the schema store (%s)", storeFile.getAbsolutePath()), e);
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Replaces the store file with the given schemas.
+     */
+    void store(Collection<Schema> schemas, InternalSerializationService serializationService) {
+        File tmpStoreFile = null;
+        FileOutputStream fos = null;
+        try {
+            BufferObjectDataOutput out = serializationService.createObjectDataOutput();
+            out.writeInt(MAGIC_BYTES);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(schemas.size());
+            for (Schema schema : schemas) {
+                schema.writeData(out);
+            }
+
+            if (!directory.exists() && !directory.mkdirs() && !directory.exists()) {
+                throw new IOException("Could not create the directory " + directory.getAbsolutePath());
+            }
+            // a file of our own, clients sharing the store may be storing concurrently
+            tmpStoreFile = File.createTempFile(FILE_NAME, "~", directory);
+            fos = new FileOutputStream(tmpStoreFile);
+            fos.write(out.toByteArray());
+            fos.getFD().sync();
+            closeResource(fos);
+            rename(tmpStoreFile, storeFile);
+        } catch (Exception e) {
+            logger.warning(format("Could not store the schemas (%s)", storeFile.getAbsolutePath()), e);
+        } finally {
+            closeResource(fos);
+            if (tmpStoreFile != null) {
+                deleteQuietly(tmpStoreFile);
+            }
+        }
+    }
+}
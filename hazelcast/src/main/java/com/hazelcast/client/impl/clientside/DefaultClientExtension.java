@@ -25,6 +25,7 @@ import com.hazelcast.client.impl.connection.tcp.ClientPlainChannelInitializer;
 import com.hazelcast.client.impl.proxy.ClientMapProxy;
 import com.hazelcast.client.impl.spi.ClientProxyFactory;
 import com.hazelcast.client.map.impl.nearcache.NearCachedClientMapProxy;
+import com.hazelcast.client.properties.ClientProperty;
 import com.hazelcast.config.InstanceTrackingConfig;
 import com.hazelcast.config.InstanceTrackingConfig.InstanceMode;
 import com.hazelcast.config.InstanceTrackingConfig.InstanceProductName;
@@ -190,7 +191,8 @@ public class DefaultClientExtension implements ClientExtension {
 
         HazelcastProperties properties = client.getProperties();
         boolean directBuffer = properties.getBoolean(SOCKET_CLIENT_BUFFER_DIRECT);
-        return new ClientPlainChannelInitializer(socketOptions, directBuffer);
+        int compressionThreshold = properties.getInteger(ClientProperty.IO_COMPRESSION_THRESHOLD);
+        return new ClientPlainChannelInitializer(socketOptions, directBuffer, compressionThreshold);
     }
 
     @Override
@@ -372,6 +372,7 @@ public class HazelcastClientInstanceImpl implements HazelcastInstance, Serializa
         try {
             lifecycleService.start();
             startMetrics();
+            schemaService.start();
             invocationService.start();
             ClientContext clientContext = new ClientContext(this);
             userCodeDeploymentService.start();
@@ -818,6 +819,7 @@ public class HazelcastClientInstanceImpl implements HazelcastInstance, Serializa
         clientStatisticsService.shutdown();
         metricsRegistry.shutdown();
         diagnostics.shutdown();
+        schemaService.shutdown();
         serializationService.dispose();
     }
 
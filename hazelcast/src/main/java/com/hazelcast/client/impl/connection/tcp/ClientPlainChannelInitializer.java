@@ -21,6 +21,8 @@ import com.hazelcast.client.impl.protocol.util.ClientMessageDecoder;
 import com.hazelcast.client.impl.protocol.util.ClientMessageEncoder;
 import com.hazelcast.internal.networking.Channel;
 import com.hazelcast.internal.networking.ChannelInitializer;
+import com.hazelcast.internal.networking.compression.CompressionDecoder;
+import com.hazelcast.internal.networking.compression.CompressionEncoder;
 
 import static com.hazelcast.client.config.SocketOptions.KILO_BYTE;
 import static com.hazelcast.internal.networking.ChannelOption.DIRECT_BUF;
@@ -31,6 +33,8 @@ import static com.hazelcast.internal.networking.ChannelOption.SO_REUSEADDR;
 import static com.hazelcast.internal.networking.ChannelOption.SO_SNDBUF;
 import static com.hazelcast.internal.networking.ChannelOption.SO_TIMEOUT;
 import static com.hazelcast.internal.networking.ChannelOption.TCP_NODELAY;
+import static com.hazelcast.internal.nio.Protocols.CLIENT_BINARY;
+import static com.hazelcast.internal.nio.Protocols.CLIENT_BINARY_COMPRESSED;
 
 
 /**
@@ -43,10 +47,21 @@ import static com.hazelcast.internal.networking.ChannelOption.TCP_NODELAY;
 public class ClientPlainChannelInitializer implements ChannelInitializer {
     private final boolean directBuffer;
     private final SocketOptions socketOptions;
+    private final int compressionThreshold;
 
     public ClientPlainChannelInitializer(SocketOptions socketOptions, boolean directBuffer) {
+        this(socketOptions, directBuffer, -1);
+    }
+
+    /**
+     * @param compressionThreshold the minimum size of a block of the byte
+     *                             stream to compress; a negative value
+     *                             disables compression
+     */
+    public ClientPlainChannelInitializer(SocketOptions socketOptions, boolean directBuffer, int compressionThreshold) {
         this.socketOptions = socketOptions;
         this.directBuffer = directBuffer;
+        this.compressionThreshold = compressionThreshold;
     }
 
     @Override
@@ -63,12 +78,21 @@ public class ClientPlainChannelInitializer implements ChannelInitializer {
 
         final TcpClientConnection connection = (TcpClientConnection) channel.attributeMap().get(TcpClientConnection.class);
 
+        boolean compressed = compressionThreshold >= 0;
+
         ClientMessageDecoder decoder = new ClientMessageDecoder(connection, connection::handleClientMessage, null);
+        if (compressed) {
+            // the member compresses everything it sends once it has received the compressed protocol
+            channel.inboundPipeline().addLast(new CompressionDecoder());
+        }
         channel.inboundPipeline().addLast(decoder);
 
         channel.outboundPipeline().addLast(new ClientMessageEncoder());
+        if (compressed) {
+            channel.outboundPipeline().addLast(new CompressionEncoder(compressionThreshold));
+        }
         // before a client sends any data, it first needs to send the protocol.
         // so the protocol encoder is actually the last handler in the outbound pipeline.
-        channel.outboundPipeline().addLast(new ClientProtocolEncoder());
+        channel.outboundPipeline().addLast(new ClientProtocolEncoder(compressed ? CLIENT_BINARY_COMPRESSED : CLIENT_BINARY));
     }
 }
@@ -38,9 +38,24 @@ import static com.hazelcast.internal.util.StringUtil.stringToBytes;
  */
 public class ClientProtocolEncoder extends OutboundHandler<ByteBuffer, ByteBuffer> {
 
+    private final String protocol;
+
+    public ClientProtocolEncoder() {
+        this(CLIENT_BINARY);
+    }
+
+    /**
+     * @param protocol the protocol bytes to send; either {@link
+     *                 com.hazelcast.internal.nio.Protocols#CLIENT_BINARY} or
+     *                 {@link com.hazelcast.internal.nio.Protocols#CLIENT_BINARY_COMPRESSED}
+     */
+    public ClientProtocolEncoder(String protocol) {
+        this.protocol = protocol;
+    }
+
     @Override
     public void handlerAdded() {
-        initDstBuffer(PROTOCOL_LENGTH, stringToBytes(CLIENT_BINARY));
+        initDstBuffer(PROTOCOL_LENGTH, stringToBytes(protocol));
     }
 
     @Override
@@ -84,6 +84,16 @@ public final class HeartbeatManager {
             for (ClientConnection connection : connectionsView) {
                 check(connection, now);
 
+                // Check the other connections to the same member, if they exist
+                if (connection instanceof TcpClientConnection) {
+                    TcpClientConnection[] stripes = ((TcpClientConnection) connection).getStripes();
+                    if (stripes != null) {
+                        for (int i = 1; i < stripes.length; i++) {
+                            check(stripes[i], now);
+                        }
+                    }
+                }
+
                 // Check TPC channels as well, if they exist
                 Channel[] tpcChannels = connection.getTpcChannels();
                 if (tpcChannels != null) {
@@ -79,6 +79,11 @@ public class TcpClientConnection implements ClientConnection {
     private volatile UUID remoteUuid;
     private volatile UUID clusterUuid;
     private volatile Channel[] tpcChannels;
+    // the connections to the same member that the partition bound messages
+    // are spread over, the first one is this connection, see CONNECTIONS_PER_MEMBER
+    private volatile TcpClientConnection[] stripes;
+    // set on the extra connections, that are not registered as active connections
+    private volatile TcpClientConnection stripeOwner;
 
     public TcpClientConnection(HazelcastClientInstanceImpl client, int connectionId, Channel channel) {
         this.client = client;
@@ -112,7 +117,8 @@ public class TcpClientConnection implements ClientConnection {
     @Override
     public boolean write(OutboundFrame frame) {
         Channel[] tpcChannels = this.tpcChannels;
-        if (tpcChannels == null) {
+        TcpClientConnection[] stripes = this.stripes;
+        if (tpcChannels == null && stripes == null) {
             return channel.write(frame);
         }
 
@@ -122,8 +128,11 @@ public class TcpClientConnection implements ClientConnection {
             return channel.write(frame);
         }
 
-        int channelIndex = partitionId % tpcChannels.length;
-        return tpcChannels[channelIndex].write(frame);
+        if (tpcChannels != null) {
+            int channelIndex = partitionId % tpcChannels.length;
+            return tpcChannels[channelIndex].write(frame);
+        }
+        return stripes[partitionId % stripes.length].channel.write(frame);
     }
 
     @Override
@@ -236,9 +245,23 @@ public class TcpClientConnection implements ClientConnection {
             }
         }
 
+        TcpClientConnection[] stripes = this.stripes;
+        if (stripes != null) {
+            closeStripes(stripes, "Owner connection " + this + " closed");
+        }
+
         channel.close();
     }
 
+    static void closeStripes(TcpClientConnection[] stripes, String reason) {
+        // the first one is the owner itself
+        for (int i = 1; i < stripes.length; i++) {
+            if (stripes[i] != null) {
+                stripes[i].close(reason, null);
+            }
+        }
+    }
+
     @Override
     public Throwable getCloseCause() {
         return closeCause;
@@ -339,4 +362,20 @@ public class TcpClientConnection implements ClientConnection {
     public Channel[] getTpcChannels() {
         return tpcChannels;
     }
+
+    public void setStripes(TcpClientConnection[] stripes) {
+        this.stripes = stripes;
+    }
+
+    public TcpClientConnection[] getStripes() {
+        return stripes;
+    }
+
+    public void setStripeOwner(TcpClientConnection stripeOwner) {
+        this.stripeOwner = stripeOwner;
+    }
+
+    public TcpClientConnection getStripeOwner() {
+        return stripeOwner;
+    }
 }
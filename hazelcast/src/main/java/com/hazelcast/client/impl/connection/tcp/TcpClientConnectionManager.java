@@ -26,6 +26,7 @@ import com.hazelcast.client.config.ClientConnectionStrategyConfig.ReconnectMode;
 import com.hazelcast.client.config.ClientNetworkConfig;
 import com.hazelcast.client.config.ConnectionRetryConfig;
 import com.hazelcast.client.config.SocketOptions;
+import com.hazelcast.client.impl.ClientEndpointManager;
 import com.hazelcast.client.impl.clientside.CandidateClusterContext;
 import com.hazelcast.client.impl.clientside.ClientLoggingService;
 import com.hazelcast.client.impl.clientside.ClusterDiscoveryService;
@@ -56,6 +57,7 @@ import com.hazelcast.core.HazelcastException;
 import com.hazelcast.core.LifecycleEvent.LifecycleState;
 import com.hazelcast.function.BiFunctionEx;
 import com.hazelcast.instance.BuildInfoProvider;
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.networking.Channel;
 import com.hazelcast.internal.networking.ChannelErrorHandler;
 import com.hazelcast.internal.networking.ChannelInitializer;
@@ -78,6 +80,7 @@ import com.hazelcast.spi.exception.TargetDisconnectedException;
 import com.hazelcast.spi.properties.HazelcastProperties;
 import com.hazelcast.spi.properties.HazelcastProperty;
 import com.hazelcast.sql.impl.CoreQueryUtils;
+import com.hazelcast.version.MemberVersion;
 
 import javax.annotation.Nonnull;
 import java.io.EOFException;
@@ -109,8 +112,10 @@ import java.util.function.Function;
 import static com.hazelcast.client.config.ClientConnectionStrategyConfig.ReconnectMode.OFF;
 import static com.hazelcast.client.config.ConnectionRetryConfig.DEFAULT_CLUSTER_CONNECT_TIMEOUT_MILLIS;
 import static com.hazelcast.client.config.ConnectionRetryConfig.FAILOVER_CLIENT_DEFAULT_CLUSTER_CONNECT_TIMEOUT_MILLIS;
+import static com.hazelcast.client.impl.ClientEndpointManager.SECONDARY_CONNECTION_LABEL;
 import static com.hazelcast.client.impl.management.ManagementCenterService.MC_CLIENT_MODE_PROP;
 import static com.hazelcast.client.impl.protocol.AuthenticationStatus.NOT_ALLOWED_IN_CLUSTER;
+import static com.hazelcast.client.properties.ClientProperty.CONNECTIONS_PER_MEMBER;
 import static com.hazelcast.client.properties.ClientProperty.HEARTBEAT_TIMEOUT;
 import static com.hazelcast.client.properties.ClientProperty.IO_BALANCER_INTERVAL_SECONDS;
 import static com.hazelcast.client.properties.ClientProperty.IO_INPUT_THREAD_COUNT;
@@ -170,6 +175,8 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
     // accessed only in synchronized block
     private final LinkedList<Integer> outboundPorts = new LinkedList<>();
     private final Set<String> labels;
+    // the labels sent when authenticating the extra connections to a member
+    private final Set<String> secondaryConnectionLabels;
     private final int outboundPortCount;
     private final boolean failoverConfigProvided;
     private final ScheduledExecutorService executor;
@@ -182,6 +189,7 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
     private final LoadBalancer loadBalancer;
     private final boolean isUnisocketClient;
     private final boolean isTpcAwareClient;
+    private final int connectionsPerMember;
     private final boolean skipMemberListDuringReconnection;
     private volatile Credentials currentCredentials;
 
@@ -244,6 +252,9 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
         HazelcastProperties properties = client.getProperties();
         this.loadBalancer = client.getLoadBalancer();
         this.labels = Collections.unmodifiableSet(config.getLabels());
+        Set<String> secondaryConnectionLabels = new HashSet<>(labels);
+        secondaryConnectionLabels.add(SECONDARY_CONNECTION_LABEL);
+        this.secondaryConnectionLabels = Collections.unmodifiableSet(secondaryConnectionLabels);
         this.logger = client.getLoggingService().getLogger(ClientConnectionManager.class);
         this.connectionType = properties.getBoolean(MC_CLIENT_MODE_PROP)
                 ? ConnectionType.MC_JAVA_CLIENT : ConnectionType.JAVA_CLIENT;
@@ -259,6 +270,8 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
         this.shuffleMemberList = properties.getBoolean(SHUFFLE_MEMBER_LIST);
         this.isUnisocketClient = unisocketModeConfigured(config);
         this.isTpcAwareClient = config.getTpcConfig().isEnabled();
+        this.connectionsPerMember = isUnisocketClient || isTpcAwareClient
+                ? 1 : Math.max(1, properties.getInteger(CONNECTIONS_PER_MEMBER));
         this.asyncStart = config.getConnectionStrategyConfig().isAsyncStart();
         this.reconnectMode = config.getConnectionStrategyConfig().getReconnectMode();
         this.connectionProcessListenerRunner = new ClientConnectionProcessListenerRunner(client);
@@ -889,6 +902,13 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
 
     void onConnectionClose(TcpClientConnection connection) {
         client.getInvocationService().onConnectionClose(connection);
+        TcpClientConnection stripeOwner = connection.getStripeOwner();
+        if (stripeOwner != null) {
+            // The invocations sent over the stripe are tracked by its owner,
+            // closing the owner notifies them and reconnects to the member.
+            stripeOwner.close("Connection " + connection + " to the same member closed", connection.getCloseCause());
+            return;
+        }
         Address endpoint = connection.getRemoteAddress();
         UUID memberUuid = connection.getRemoteUuid();
         if (endpoint == null) {
@@ -1020,8 +1040,12 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
     }
 
     private AuthenticationResponse authenticateOnCluster(TcpClientConnection connection) {
+        return authenticateOnCluster(connection, labels);
+    }
+
+    private AuthenticationResponse authenticateOnCluster(TcpClientConnection connection, Set<String> labels) {
         Address memberAddress = connection.getInitAddress();
-        ClientMessage request = encodeAuthenticationRequest(memberAddress);
+        ClientMessage request = encodeAuthenticationRequest(memberAddress, labels);
         ClientInvocationFuture future = new ClientInvocation(client, request, null, connection).invokeUrgent();
         try {
             return AuthenticationResponse.from(future.get(authenticationTimeout, MILLISECONDS));
@@ -1072,6 +1096,9 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
             if (isTpcAwareClient && tpcPorts != null && !tpcPorts.isEmpty()) {
                 connectTpcPorts(connection, tpcPorts, response.getTpcToken());
             }
+            if (connectionsPerMember > 1 && supportsSecondaryConnections(response)) {
+                executor.execute(() -> connectStripes(connection));
+            }
 
             boolean connectionsEmpty = activeConnections.isEmpty();
             activeConnections.put(response.getMemberUuid(), connection);
@@ -1239,7 +1266,7 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
         }
     }
 
-    private ClientMessage encodeAuthenticationRequest(Address toAddress) {
+    private ClientMessage encodeAuthenticationRequest(Address toAddress, Set<String> labels) {
         InternalSerializationService ss = client.getSerializationService();
         String clientVersion = BuildInfoProvider.getBuildInfo().getVersion();
 
@@ -1250,7 +1277,7 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
 
         if (credentials instanceof PasswordCredentials) {
             return encodePasswordCredentialsRequest(clusterName, (PasswordCredentials) credentials,
-                    ss.getVersion(), clientVersion);
+                    ss.getVersion(), clientVersion, labels);
         } else {
             byte[] secretBytes;
             if (credentials instanceof TokenCredentials) {
@@ -1259,14 +1286,15 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
                 secretBytes = ss.toDataWithSchema(credentials).toByteArray();
             }
 
-            return encodeCustomCredentialsRequest(clusterName, secretBytes, ss.getVersion(), clientVersion);
+            return encodeCustomCredentialsRequest(clusterName, secretBytes, ss.getVersion(), clientVersion, labels);
         }
     }
 
     private ClientMessage encodePasswordCredentialsRequest(String clusterName,
                                                            PasswordCredentials credentials,
                                                            byte serializationVersion,
-                                                           String clientVersion) {
+                                                           String clientVersion,
+                                                           Set<String> labels) {
         if (isTpcAwareClient) {
             return ExperimentalAuthenticationCodec.encodeRequest(clusterName, credentials.getName(),
                     credentials.getPassword(), clientUuid, connectionType, serializationVersion,
@@ -1281,7 +1309,8 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
     private ClientMessage encodeCustomCredentialsRequest(String clusterName,
                                                          byte[] secretBytes,
                                                          byte serializationVersion,
-                                                         String clientVersion) {
+                                                         String clientVersion,
+                                                         Set<String> labels) {
         if (isTpcAwareClient) {
             return ExperimentalAuthenticationCustomCodec.encodeRequest(clusterName, secretBytes, clientUuid,
                     connectionType, serializationVersion, clientVersion, client.getName(), labels);
@@ -1353,6 +1382,71 @@ public class TcpClientConnectionManager implements ClientConnectionManager, Memb
         connector.initiate();
     }
 
+    /**
+     * Older members don't know the {@link ClientEndpointManager#SECONDARY_CONNECTION_LABEL}
+     * and would register every extra connection as a client of its own.
+     */
+    private static boolean supportsSecondaryConnections(AuthenticationResponse response) {
+        return MemberVersion.of(response.getServerHazelcastVersion()).asVersion().isGreaterOrEqual(Versions.V5_4);
+    }
+
+    /**
+     * Opens and authenticates the extra connections to the member of the
+     * given connection, and spreads the partition bound invocations over
+     * them once all are ready. On failure, the connection keeps sending
+     * everything itself.
+     */
+    private void connectStripes(TcpClientConnection connection) {
+        TcpClientConnection[] stripes = new TcpClientConnection[connectionsPerMember];
+        stripes[0] = connection;
+        try {
+            for (int i = 1; i < stripes.length; i++) {
+                if (!connection.isAlive()) {
+                    TcpClientConnection.closeStripes(stripes, "Owner connection " + connection + " closed");
+                    return;
+                }
+                TcpClientConnection stripe = createSocketConnection(connection.getInitAddress());
+                stripes[i] = stripe;
+                // the member binds the connection to the endpoint of the first one,
+                // so the client is registered and counted once
+                AuthenticationResponse response = authenticateOnCluster(stripe, secondaryConnectionLabels);
+                if (response.getStatus() != AuthenticationStatus.AUTHENTICATED.getId()) {
+                    throw new IllegalStateException("Authentication failed with status "
+                            + AuthenticationStatus.getById(response.getStatus()));
+                }
+                if (!connection.getRemoteUuid().equals(response.getMemberUuid())) {
+                    throw new IllegalStateException("Connected to member " + response.getMemberUuid()
+                            + " instead of " + connection.getRemoteUuid());
+                }
+                stripe.setRemoteAddress(response.getAddress());
+                stripe.setRemoteUuid(response.getMemberUuid());
+                stripe.setClusterUuid(response.getClusterId());
+            }
+        } catch (Exception e) {
+            logger.warning("Could not open " + connectionsPerMember + " connections to " + connection.getRemoteAddress()
+                    + ", using a single connection", e);
+            TcpClientConnection.closeStripes(stripes, "Failed to open all connections to the member");
+            return;
+        }
+
+        for (int i = 1; i < stripes.length; i++) {
+            stripes[i].setStripeOwner(connection);
+        }
+        connection.setStripes(stripes);
+        for (TcpClientConnection stripe : stripes) {
+            // a stripe that closed before its owner was set, or an owner that
+            // closed before the stripes were set, would not close the others
+            if (!stripe.isAlive()) {
+                connection.close("Connection " + stripe + " to the same member closed", stripe.getCloseCause());
+                TcpClientConnection.closeStripes(stripes, "Owner connection " + connection + " closed");
+                return;
+            }
+        }
+        if (logger.isFineEnabled()) {
+            logger.fine("Opened " + stripes.length + " connections to " + connection.getRemoteAddress());
+        }
+    }
+
     private class ClientChannelErrorHandler implements ChannelErrorHandler {
         @Override
         public void onError(Channel channel, Throwable cause) {
@@ -24,6 +24,15 @@ import static com.hazelcast.client.impl.protocol.ClientMessage.IS_FINAL_FLAG;
 import static com.hazelcast.client.impl.protocol.ClientMessage.SIZE_OF_FRAME_LENGTH_AND_FLAGS;
 import static com.hazelcast.internal.util.JVMUtil.upcast;
 
+/**
+ * Writes the frames of {@link ClientMessage}s to a {@link ByteBuffer},
+ * continuing with a partially written message on the next call.
+ * <p>
+ * One writer is used for all messages of a connection. The frame content
+ * arrays are copied directly into the destination buffer, they aren't
+ * pooled: they belong to the message, which may still be sent again by
+ * a retried invocation after it was written.
+ */
 public class ClientMessageWriter {
 
     private transient ClientMessage.Frame currentFrame;
@@ -36,6 +36,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
+import static com.hazelcast.client.impl.ClientEndpointManager.SECONDARY_CONNECTION_LABEL;
 import static com.hazelcast.client.impl.protocol.AuthenticationStatus.AUTHENTICATED;
 import static com.hazelcast.client.impl.protocol.AuthenticationStatus.CREDENTIALS_FAILED;
 import static com.hazelcast.client.impl.protocol.AuthenticationStatus.NOT_ALLOWED_IN_CLUSTER;
@@ -200,12 +201,20 @@ public abstract class AuthenticationBaseMessageTask<P> extends AbstractMessageTa
         if (clusterId == null) {
             throw new HazelcastInstanceNotActiveException("Hazelcast instance is not ready yet!");
         }
-        if (!clientEngine.bind(endpoint)) {
+        if (isSecondaryConnection()) {
+            // an additional connection of an already connected client, it is bound to the client's endpoint
+            if (!clientEngine.getEndpointManager().registerSecondaryConnection(connection, clientUuid)) {
+                return prepareNotAllowedInCluster();
+            }
+            if (logger.isFineEnabled()) {
+                logger.fine("Received auth from " + connection + ", bound to the endpoint of clientUuid: " + clientUuid);
+            }
+        } else if (!clientEngine.bind(endpoint)) {
             return prepareNotAllowedInCluster();
+        } else {
+            logger.info("Received auth from " + connection + ", successfully authenticated, clientUuid: " + clientUuid
+                    + ", client name: " + clientName + ", client version: " + clientVersion);
         }
-
-        logger.info("Received auth from " + connection + ", successfully authenticated, clientUuid: " + clientUuid
-                + ", client name: " + clientName + ", client version: " + clientVersion);
         final Address thisAddress = clientEngine.getThisAddress();
         UUID uuid = clientEngine.getClusterService().getLocalMember().getUuid();
         byte status = AUTHENTICATED.getId();
@@ -217,6 +226,10 @@ public abstract class AuthenticationBaseMessageTask<P> extends AbstractMessageTa
                 nodeEngine.getTpcServerBootstrap().getClientPorts(), tpcToken);
     }
 
+    private boolean isSecondaryConnection() {
+        return labels != null && labels.contains(SECONDARY_CONNECTION_LABEL);
+    }
+
     private void setConnectionType() {
         connection.setConnectionType(getClientType());
     }
@@ -105,7 +105,7 @@ public class ClientMessageDecoder extends InboundHandlerWithCounters<ByteBuffer,
                     }
                 }
 
-                activeReader = new ClientMessageReader(maxMessageLength);
+                activeReader.reset();
             }
 
             return CLEAN;
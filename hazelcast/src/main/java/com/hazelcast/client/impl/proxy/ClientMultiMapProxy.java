@@ -70,7 +70,9 @@ import javax.annotation.Nullable;
 import java.util.AbstractMap;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -79,6 +81,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 
+import static com.hazelcast.internal.util.Preconditions.checkNotNegative;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
 import static com.hazelcast.internal.util.Preconditions.checkPositive;
 import static com.hazelcast.map.impl.ListenerAdapters.createListenerAdapter;
@@ -208,6 +211,33 @@ public class ClientMultiMapProxy<K, V> extends ClientProxy implements MultiMap<K
         return new UnmodifiableLazyList(MultiMapGetCodec.decodeResponse(response), getSerializationService());
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>
+     * There is no client message for a page of values, so the whole value
+     * collection is fetched and the page is taken from it.
+     */
+    @Nonnull
+    @Override
+    public Collection<V> getPage(@Nonnull K key, int offset, int limit) {
+        checkNotNegative(offset, "offset can't be negative");
+        checkPositive("limit", limit);
+        return CollectionUtil.getPage(get(key), offset, limit);
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * There is no client message for a page of values, so the whole value
+     * collection is fetched at once.
+     */
+    @Nonnull
+    @Override
+    public Iterator<V> valueIterator(@Nonnull K key, int pageSize) {
+        checkPositive("pageSize", pageSize);
+        return Collections.unmodifiableCollection(get(key)).iterator();
+    }
+
     @Override
     public boolean remove(@Nonnull Object key, @Nonnull Object value) {
         checkNotNull(key, NULL_KEY_IS_NOT_ALLOWED);
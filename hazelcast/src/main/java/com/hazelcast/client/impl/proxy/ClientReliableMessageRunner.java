@@ -22,10 +22,10 @@ import com.hazelcast.cluster.Member;
 import com.hazelcast.cluster.impl.MemberImpl;
 import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.logging.ILogger;
-import com.hazelcast.ringbuffer.Ringbuffer;
 import com.hazelcast.topic.ReliableMessageListener;
 import com.hazelcast.topic.impl.reliable.MessageRunner;
 import com.hazelcast.topic.impl.reliable.ReliableTopicMessage;
+import com.hazelcast.topic.impl.reliable.SharedMessageReader;
 import com.hazelcast.version.MemberVersion;
 
 import java.util.UUID;
@@ -42,11 +42,11 @@ import static com.hazelcast.internal.util.ExceptionUtil.peel;
 public class ClientReliableMessageRunner<E> extends MessageRunner<E> {
 
     ClientReliableMessageRunner(UUID id, ReliableMessageListener<E> listener,
-                                Ringbuffer<ReliableTopicMessage> ringbuffer, String topicName,
+                                SharedMessageReader reader, String topicName,
                                 int batchSze, SerializationService serializationService,
                                 Executor executor, ConcurrentMap<UUID, MessageRunner<E>> runnersMap,
                                 ILogger logger) {
-        super(id, listener, ringbuffer, topicName, batchSze, serializationService, executor, runnersMap, logger);
+        super(id, listener, reader, topicName, batchSze, serializationService, executor, runnersMap, logger);
     }
 
     @Override
@@ -37,6 +37,7 @@ import com.hazelcast.topic.TopicOverloadPolicy;
 import com.hazelcast.topic.impl.reliable.MessageRunner;
 import com.hazelcast.topic.impl.reliable.ReliableMessageListenerAdapter;
 import com.hazelcast.topic.impl.reliable.ReliableTopicMessage;
+import com.hazelcast.topic.impl.reliable.SharedMessageReader;
 
 import javax.annotation.Nonnull;
 import java.util.Collection;
@@ -75,6 +76,7 @@ public class ClientReliableTopicProxy<E> extends ClientProxy implements ITopic<E
     private final ILogger logger;
     private final ConcurrentMap<UUID, MessageRunner<E>> runnersMap = new ConcurrentHashMap<UUID, MessageRunner<E>>();
     private final Ringbuffer<ReliableTopicMessage> ringbuffer;
+    private final SharedMessageReader reader;
     private final SerializationService serializationService;
     private final ClientReliableTopicConfig config;
     private final Executor executor;
@@ -84,6 +86,7 @@ public class ClientReliableTopicProxy<E> extends ClientProxy implements ITopic<E
     public ClientReliableTopicProxy(String objectId, ClientContext context, HazelcastClientInstanceImpl client) {
         super(SERVICE_NAME, objectId, context);
         this.ringbuffer = client.getRingbuffer(TOPIC_RB_PREFIX + objectId);
+        this.reader = new SharedMessageReader(ringbuffer);
         this.serializationService = client.getSerializationService();
         this.config = client.getClientConfig().getReliableTopicConfig(objectId);
         this.executor = getExecutor(config);
@@ -170,7 +173,7 @@ public class ClientReliableTopicProxy<E> extends ClientProxy implements ITopic<E
         ReliableMessageListener<E> reliableMessageListener = toReliableMessageListener(listener);
 
         MessageRunner<E> runner = new ClientReliableMessageRunner<>(id, reliableMessageListener,
-                ringbuffer, name, config.getReadBatchSize(),
+                reader, name, config.getReadBatchSize(),
                 serializationService, executor, runnersMap, logger);
         runnersMap.put(id, runner);
         runner.next();
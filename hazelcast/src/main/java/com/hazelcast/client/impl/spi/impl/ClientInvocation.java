@@ -34,6 +34,7 @@ import com.hazelcast.spi.impl.sequence.CallIdSequence;
 import java.io.IOException;
 import java.util.UUID;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLongFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
@@ -86,6 +87,13 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
     private boolean urgent;
     private boolean allowRetryOnRandom = true;
     private volatile boolean invoked;
+    // the window of the partition, if the in-flight invocations are bounded
+    // per partition, see PartitionInvocationWindows
+    volatile PartitionInvocationWindows.Window window;
+    // guarded by the window
+    boolean admitted;
+    // fails the invocation if it waits for its window for too long
+    private volatile ScheduledFuture<?> waitTimeoutFuture;
 
     protected ClientInvocation(HazelcastClientInstanceImpl client,
                                ClientMessage clientMessage,
@@ -146,16 +154,73 @@ public class ClientInvocation extends BaseInvocation implements Runnable {
         return clientMessage;
     }
 
+    int getPartitionId() {
+        return partitionId;
+    }
+
     public void disallowRetryOnRandom() {
         this.allowRetryOnRandom = false;
     }
 
     public ClientInvocationFuture invoke() {
         clientMessage.setCorrelationId(callIdSequence.next());
+        if (partitionId != UNASSIGNED_PARTITION && !invocationService.admit(this)) {
+            // sent when an earlier invocation on the same partition completes
+            scheduleWaitTimeout();
+            return clientInvocationFuture;
+        }
         invokeOnSelection();
         return clientInvocationFuture;
     }
 
+    /**
+     * Sends the invocation that waited for a place in the window of its
+     * partition. Called by the single task sending the admitted invocations
+     * of the partition in order.
+     */
+    void onAdmitted() {
+        ScheduledFuture<?> waitTimeoutFuture = this.waitTimeoutFuture;
+        if (waitTimeoutFuture != null) {
+            waitTimeoutFuture.cancel(false);
+        }
+        if (clientInvocationFuture.isDone()) {
+            // e.g. cancelled while waiting
+            return;
+        }
+        invokeOnSelection();
+    }
+
+    /**
+     * Makes the invocation fail if it doesn't get a place in the window of
+     * its partition within the invocation timeout.
+     */
+    private void scheduleWaitTimeout() {
+        long remainingMillis = invocationTimeoutMillis - (System.currentTimeMillis() - startTimeMillis);
+        try {
+            waitTimeoutFuture = executionService.schedule(this::onWaitTimeout, Math.max(remainingMillis, 0),
+                    TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            if (invocationService.removeWaiting(this)) {
+                completeExceptionally(new HazelcastClientNotActiveException("Client is shutting down", e));
+            }
+        }
+    }
+
+    private void onWaitTimeout() {
+        if (invocationService.removeWaiting(this)) {
+            completeExceptionally(new OperationTimeoutException(this + " timed out after waiting "
+                    + (System.currentTimeMillis() - startTimeMillis) + " ms for a place in the window of partition "
+                    + partitionId + ", the invocation timeout is " + invocationTimeoutMillis + " ms"));
+        }
+    }
+
+    /**
+     * Called when the future of the invocation completes.
+     */
+    void onComplete() {
+        invocationService.release(this);
+    }
+
     /**
      * Urgent messages, unlike normal messages, can go through
      * 1. even if max allowed invocation count is reached
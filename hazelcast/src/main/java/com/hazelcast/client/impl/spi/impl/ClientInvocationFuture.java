@@ -88,6 +88,7 @@ public class ClientInvocationFuture extends AbstractInvocationFuture<ClientMessa
     protected void onComplete() {
         super.onComplete();
         callIdSequence.complete();
+        invocation.onComplete();
     }
 
     @Override
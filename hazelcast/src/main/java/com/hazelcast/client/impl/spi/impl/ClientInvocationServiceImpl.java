@@ -46,12 +46,15 @@ import static com.hazelcast.client.properties.ClientProperty.FAIL_ON_INDETERMINA
 import static com.hazelcast.client.properties.ClientProperty.INVOCATION_RETRY_PAUSE_MILLIS;
 import static com.hazelcast.client.properties.ClientProperty.INVOCATION_TIMEOUT_SECONDS;
 import static com.hazelcast.client.properties.ClientProperty.MAX_CONCURRENT_INVOCATIONS;
+import static com.hazelcast.client.properties.ClientProperty.MAX_CONCURRENT_INVOCATIONS_PER_PARTITION;
 import static com.hazelcast.client.properties.ClientProperty.OPERATION_BACKUP_TIMEOUT_MILLIS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_INVOCATIONS_MAX_CURRENT_INVOCATIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_INVOCATIONS_PENDING_CALLS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_INVOCATIONS_STARTED_INVOCATIONS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_METRIC_INVOCATIONS_WAITING_INVOCATIONS;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.CLIENT_PREFIX_INVOCATIONS;
 import static com.hazelcast.internal.metrics.ProbeLevel.MANDATORY;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 public class ClientInvocationServiceImpl implements ClientInvocationService {
@@ -97,6 +100,7 @@ public class ClientInvocationServiceImpl implements ClientInvocationService {
     private final ClientConnectionManager connectionManager;
     private final ClientPartitionService partitionService;
     private final boolean isUnisocketClient;
+    private final PartitionInvocationWindows partitionWindows;
 
     public ClientInvocationServiceImpl(HazelcastClientInstanceImpl client) {
         this.client = client;
@@ -117,6 +121,11 @@ public class ClientInvocationServiceImpl implements ClientInvocationService {
         this.partitionService = client.getClientPartitionService();
         this.isUnisocketClient = connectionManager.isUnisocketClient();
         this.isBackupAckToClientEnabled = !isUnisocketClient && client.getClientConfig().isBackupAckToClientEnabled();
+        int maxConcurrentInvocationsPerPartition = properties.getInteger(MAX_CONCURRENT_INVOCATIONS_PER_PARTITION);
+        this.partitionWindows = maxConcurrentInvocationsPerPartition == Integer.MAX_VALUE
+                ? null
+                : new PartitionInvocationWindows(checkPositive("maxConcurrentInvocationsPerPartition",
+                maxConcurrentInvocationsPerPartition), partitionService, client.getTaskScheduler());
     }
 
     private long initInvocationRetryPauseMillis() {
@@ -137,6 +146,11 @@ public class ClientInvocationServiceImpl implements ClientInvocationService {
         return callIdSequence.getMaxConcurrentInvocations();
     }
 
+    @Probe(name = CLIENT_METRIC_INVOCATIONS_WAITING_INVOCATIONS, level = MANDATORY)
+    private long waitingInvocations() {
+        return partitionWindows == null ? 0 : partitionWindows.getWaitingCount();
+    }
+
     public long getInvocationTimeoutMillis() {
         return invocationTimeoutMillis;
     }
@@ -257,6 +271,28 @@ public class ClientInvocationServiceImpl implements ClientInvocationService {
         return true;
     }
 
+    /**
+     * @return {@code true} if the given partition bound invocation can be
+     * sent now, see {@link PartitionInvocationWindows#admit(ClientInvocation)}
+     */
+    boolean admit(ClientInvocation invocation) {
+        return partitionWindows == null || partitionWindows.admit(invocation);
+    }
+
+    void release(ClientInvocation invocation) {
+        if (partitionWindows != null) {
+            partitionWindows.release(invocation);
+        }
+    }
+
+    /**
+     * @return {@code true} if the given invocation was waiting for a place
+     * in the window of its partition, see {@link PartitionInvocationWindows#removeWaiting}
+     */
+    boolean removeWaiting(ClientInvocation invocation) {
+        return partitionWindows != null && partitionWindows.removeWaiting(invocation);
+    }
+
     // package-visible for tests
     void registerInvocation(ClientInvocation clientInvocation, ClientConnection connection) {
         ClientMessage clientMessage = clientInvocation.getClientMessage();
@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.client.impl.spi.impl;
+
+import com.hazelcast.client.impl.spi.ClientPartitionService;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounds the number of in-flight invocations per partition.
+ * <p>
+ * An invocation that does not fit into the window of its partition is not
+ * failed, it waits until an earlier invocation on the same partition
+ * completes and then it is sent. So, the futures returned to the callers
+ * are delayed rather than failed, and a caller that keeps pushing
+ * asynchronous invocations proceeds at the rate the partitions sustain.
+ * <p>
+ * The admitted waiting invocations of a partition are sent one after the
+ * other by a single drain task of the window, and a new invocation is not
+ * sent directly while the drain task runs, so the order of the invocations
+ * on a partition is kept. A waiting invocation fails with an {@link
+ * com.hazelcast.core.OperationTimeoutException} if it isn't admitted within
+ * the invocation timeout.
+ * <p>
+ * A call id is taken for an invocation before it is admitted, so the
+ * waiting invocations count towards the
+ * {@link com.hazelcast.client.properties.ClientProperty#MAX_CONCURRENT_INVOCATIONS}.
+ */
+final class PartitionInvocationWindows {
+
+    private final int maxInFlightPerPartition;
+    private final ClientPartitionService partitionService;
+    private final Executor executor;
+    private final AtomicLong waitingCount = new AtomicLong();
+    private volatile Window[] windows = new Window[0];
+
+    PartitionInvocationWindows(int maxInFlightPerPartition, ClientPartitionService partitionService, Executor executor) {
+        this.maxInFlightPerPartition = maxInFlightPerPartition;
+        this.partitionService = partitionService;
+        this.executor = executor;
+    }
+
+    /**
+     * Admits the given invocation if there is space in the window of its
+     * partition, otherwise makes it wait.
+     *
+     * @return {@code true} if the invocation can be sent now, {@code false}
+     * if it will be sent by {@link ClientInvocation#onAdmitted()}
+     */
+    boolean admit(ClientInvocation invocation) {
+        Window window = windowOf(invocation.getPartitionId());
+        synchronized (window) {
+            invocation.window = window;
+            if (window.inFlight < maxInFlightPerPartition) {
+                window.inFlight++;
+                invocation.admitted = true;
+                if (!window.draining) {
+                    return true;
+                }
+                // the admitted invocations before this one aren't sent yet
+                window.admitted.add(invocation);
+                return false;
+            }
+            window.waiting.add(invocation);
+        }
+        waitingCount.incrementAndGet();
+        return false;
+    }
+
+    /**
+     * Releases the place of the given completed invocation in its window,
+     * and admits the next waiting invocation of the partition, if any.
+     */
+    void release(ClientInvocation invocation) {
+        Window window = invocation.window;
+        if (window == null) {
+            return;
+        }
+        boolean startDrain = false;
+        synchronized (window) {
+            if (!invocation.admitted) {
+                // completed while waiting, e.g. cancelled
+                if (window.waiting.remove(invocation)) {
+                    waitingCount.decrementAndGet();
+                }
+                return;
+            }
+            ClientInvocation next = window.waiting.poll();
+            if (next == null) {
+                window.inFlight--;
+                return;
+            }
+            next.admitted = true;
+            window.admitted.add(next);
+            if (!window.draining) {
+                window.draining = true;
+                startDrain = true;
+            }
+        }
+        waitingCount.decrementAndGet();
+        if (startDrain) {
+            try {
+                executor.execute(() -> drain(window));
+            } catch (RejectedExecutionException e) {
+                // the client is shutting down, the invocations fail when sent
+                drain(window);
+            }
+        }
+    }
+
+    /**
+     * Removes the given invocation from the waiting invocations of its
+     * partition.
+     *
+     * @return {@code true} if the invocation was waiting, {@code false} if
+     * it was already admitted or completed
+     */
+    boolean removeWaiting(ClientInvocation invocation) {
+        Window window = invocation.window;
+        if (window == null) {
+            return false;
+        }
+        synchronized (window) {
+            if (invocation.admitted || !window.waiting.remove(invocation)) {
+                return false;
+            }
+        }
+        waitingCount.decrementAndGet();
+        return true;
+    }
+
+    long getWaitingCount() {
+        return waitingCount.get();
+    }
+
+    /**
+     * Sends the admitted invocations of the window in the order they were
+     * admitted.
+     */
+    private static void drain(Window window) {
+        for (; ; ) {
+            ClientInvocation next;
+            synchronized (window) {
+                next = window.admitted.poll();
+                if (next == null) {
+                    window.draining = false;
+                    return;
+                }
+            }
+            next.onAdmitted();
+        }
+    }
+    private Window windowOf(int partitionId) {
+        Window[] windows = this.windows;
+        if (partitionId >= windows.length) {
+            windows = grow(partitionId);
+        }
+        return windows[partitionId];
+    }
+
+    private synchronized Window[] grow(int partitionId) {
+        Window[] windows = this.windows;
+        if (partitionId < windows.length) {
+            return windows;
+        }
+        // the invocations that are in flight keep a reference to their window,
+        // so the existing windows are carried over
+        Window[] newWindows = new Window[Math.max(partitionId + 1, partitionService.getPartitionCount())];
+        System.arraycopy(windows, 0, newWindows, 0, windows.length);
+        for (int i = windows.length; i < newWindows.length; i++) {
+            newWindows[i] = new Window();
+        }
+        this.windows = newWindows;
+        return newWindows;
+    }
+
+    static final class Window {
+        private final ArrayDeque<ClientInvocation> waiting = new ArrayDeque<>();
+        // admitted, but not sent yet by the drain task
+        private final ArrayDeque<ClientInvocation> admitted = new ArrayDeque<>();
+        private int inFlight;
+        private boolean draining;
+    }
+}
@@ -95,6 +95,25 @@ public final class ClientProperty {
     public static final HazelcastProperty MAX_CONCURRENT_INVOCATIONS
             = new HazelcastProperty("hazelcast.client.max.concurrent.invocations", Integer.MAX_VALUE);
 
+    /**
+     * The maximum number of concurrent invocations allowed per partition.
+     * <p>
+     * Unlike {@link #MAX_CONCURRENT_INVOCATIONS}, exceeding it does not fail
+     * the invocation. The invocation waits until an earlier invocation on the
+     * same partition completes, and the future returned to the caller is
+     * delayed accordingly. Invocations on the same partition are sent in
+     * order. An invocation that waits longer than the
+     * {@link #INVOCATION_TIMEOUT_SECONDS} fails with an
+     * {@link com.hazelcast.core.OperationTimeoutException}. The waiting
+     * invocations count towards {@link #MAX_CONCURRENT_INVOCATIONS}.
+     * <p>
+     * By default it is configured as Integer.MaxValue, which disables it.
+     *
+     * @since 5.4
+     */
+    public static final HazelcastProperty MAX_CONCURRENT_INVOCATIONS_PER_PARTITION
+            = new HazelcastProperty("hazelcast.client.max.concurrent.invocations.per.partition", Integer.MAX_VALUE);
+
     /**
      * Control the maximum timeout in millis to wait for an invocation space to be available.
      * <p>
@@ -158,6 +177,37 @@ public final class ClientProperty {
     public static final HazelcastProperty IO_WRITE_THROUGH_ENABLED
             = new HazelcastProperty("hazelcast.client.io.write.through", true);
 
+    /**
+     * Enables compression of the connections to the members and sets the
+     * minimum size in bytes of a block of the byte stream for it to be
+     * compressed. The members compress what they send on such connections
+     * according to their own {@code hazelcast.io.compression.threshold}.
+     * <p>
+     * All members need to support compression; older members reject
+     * compressed connections. A negative value disables compression, which
+     * is the default.
+     *
+     * @since 5.4
+     */
+    public static final HazelcastProperty IO_COMPRESSION_THRESHOLD
+            = new HazelcastProperty("hazelcast.client.io.compression.threshold", -1);
+
+    /**
+     * The number of connections a smart client opens to each member. The
+     * invocations that target a partition are always sent over the same
+     * connection of the member, chosen by the partition id, so that their
+     * order is kept. The other invocations and the listeners use the first
+     * connection. With more than one connection, the load of a client is
+     * spread over multiple IO threads on both the client and the member.
+     * <p>
+     * It is ignored by unisocket clients and TPC aware clients. The default
+     * is 1.
+     *
+     * @since 5.4
+     */
+    public static final HazelcastProperty CONNECTIONS_PER_MEMBER
+            = new HazelcastProperty("hazelcast.client.connections.per.member", 1);
+
     /**
      * Property needed for concurrency detection so that write through and dynamic response handling
      * can be done correctly. This property sets the window the concurrency detection will signalling
@@ -22,6 +22,7 @@ import com.hazelcast.config.QueueStoreConfig;
 import com.hazelcast.core.HazelcastException;
 import com.hazelcast.internal.monitor.impl.LocalQueueStatsImpl;
 import com.hazelcast.internal.nio.ClassLoaderUtil;
+import com.hazelcast.internal.nio.IOUtil;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.SerializationService;
 import com.hazelcast.internal.util.Clock;
@@ -31,6 +32,7 @@ import com.hazelcast.logging.ILogger;
 import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.nio.serialization.impl.Versioned;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.transaction.TransactionException;
 
@@ -42,9 +44,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.ListIterator;
 import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Queue;
@@ -56,6 +56,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import static com.hazelcast.collection.impl.collection.CollectionContainer.ID_PROMOTION_OFFSET;
+import static com.hazelcast.internal.cluster.Versions.V5_4;
 import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
 import static com.hazelcast.internal.util.MapUtil.createConcurrentHashMap;
 import static com.hazelcast.internal.util.MapUtil.createHashMap;
@@ -72,7 +73,7 @@ import static com.hazelcast.internal.util.StringUtil.isNullOrEmpty;
  * </ul>
  */
 @SuppressWarnings("checkstyle:methodcount")
-public class QueueContainer implements IdentifiedDataSerializable {
+public class QueueContainer implements IdentifiedDataSerializable, Versioned {
 
     /**
      * Contains item ID to queue item mappings for current transactions
@@ -302,15 +303,7 @@ public class QueueContainer implements IdentifiedDataSerializable {
         if (isPriorityQueue) {
             getItemQueue().add(txQueueItem);
         } else {
-            ListIterator<QueueItem> iterator = ((List<QueueItem>) getItemQueue()).listIterator();
-            while (iterator.hasNext()) {
-                QueueItem queueItem = iterator.next();
-                if (txQueueItem.itemId < queueItem.itemId) {
-                    iterator.previous();
-                    break;
-                }
-            }
-            iterator.add(txQueueItem);
+            ((QueueItemDeque) getItemQueue()).addOrdered(txQueueItem);
         }
     }
 
@@ -836,15 +829,15 @@ public class QueueContainer implements IdentifiedDataSerializable {
                 throw new HazelcastException(e);
             }
         }
-        Iterator<QueueItem> iterator = getItemQueue().iterator();
-        while (iterator.hasNext()) {
-            QueueItem item = iterator.next();
-            if (map.containsKey(item.getItemId())) {
-                iterator.remove();
-                // for stats
-                age(item, Clock.currentTimeMillis());
+        long now = Clock.currentTimeMillis();
+        getItemQueue().removeIf(item -> {
+            if (!map.containsKey(item.getItemId())) {
+                return false;
             }
-        }
+            // for stats
+            age(item, now);
+            return true;
+        });
         scheduleEvictionIfEmpty();
     }
 
@@ -918,7 +911,7 @@ public class QueueContainer implements IdentifiedDataSerializable {
      */
     public Queue<QueueItem> getItemQueue() {
         if (itemQueue == null) {
-            itemQueue = isPriorityQueue ? createPriorityQueue() : createLinkedList();
+            itemQueue = isPriorityQueue ? createPriorityQueue() : createItemDeque();
             if (!txMap.isEmpty()) {
                 long maxItemId = Long.MIN_VALUE;
                 for (TxQueueItem item : txMap.values()) {
@@ -930,8 +923,8 @@ public class QueueContainer implements IdentifiedDataSerializable {
         return itemQueue;
     }
 
-    private Queue<QueueItem> createLinkedList() {
-        Queue<QueueItem> queue = new LinkedList<>();
+    private Queue<QueueItem> createItemDeque() {
+        QueueItemDeque queue = new QueueItemDeque();
         ConcurrentMap<Long, QueueItem> backupMap = this.backupMap;
         if (MapUtil.isNullOrEmpty(backupMap)) {
             return queue;
@@ -940,7 +933,7 @@ public class QueueContainer implements IdentifiedDataSerializable {
         List<QueueItem> values = new ArrayList<>(backupMap.values());
         Collections.sort(values);
         queue.addAll(values);
-        QueueItem lastItem = ((LinkedList<QueueItem>) queue).peekLast();
+        QueueItem lastItem = queue.peekLast();
         if (lastItem != null) {
             setId(lastItem.itemId + ID_PROMOTION_OFFSET);
         }
@@ -1060,7 +1053,7 @@ public class QueueContainer implements IdentifiedDataSerializable {
         ClassLoader classLoader = nodeEngine.getConfigClassLoader();
 
         // in case we need to create a priority queue
-        // we recreate the queue using the items that are currently a LinkedList
+        // we recreate the queue using the items that are currently in a QueueItemDeque
         // otherwise, no change is needed
         if (itemQueue != null && isPriorityQueue) {
             Queue<QueueItem> copy = createPriorityQueue();
@@ -1160,7 +1153,7 @@ public class QueueContainer implements IdentifiedDataSerializable {
                     if (isPriorityQueue) {
                         getItemQueue().offer(item);
                     } else {
-                        ((LinkedList) getItemQueue()).offerFirst(item);
+                        ((QueueItemDeque) getItemQueue()).offerFirst(item);
                     }
                     cancelEvictionIfExists();
                 }
@@ -1172,8 +1165,17 @@ public class QueueContainer implements IdentifiedDataSerializable {
     public void writeData(ObjectDataOutput out) throws IOException {
         out.writeString(name);
         out.writeInt(getItemQueue().size());
+        boolean compactItems = out.getVersion().isGreaterOrEqual(V5_4);
         for (QueueItem item : getItemQueue()) {
-            out.writeObject(item);
+            if (compactItems) {
+                // items are always read as plain queue items, so the per-item
+                // type header is omitted. The fields are written explicitly
+                // since rolled back transactional items are TxQueueItems.
+                out.writeLong(item.getItemId());
+                IOUtil.writeData(out, item.getSerializedObject());
+            } else {
+                out.writeObject(item);
+            }
         }
         out.writeInt(txMap.size());
         for (TxQueueItem item : txMap.values()) {
@@ -1189,9 +1191,16 @@ public class QueueContainer implements IdentifiedDataSerializable {
         int size = in.readInt();
         // on cluster migration queue data are stored temporary to a default priority queue.
         // those data are copied at a later point
-        itemQueue = new LinkedList<>();
+        itemQueue = new QueueItemDeque();
+        boolean compactItems = in.getVersion().isGreaterOrEqual(V5_4);
         for (int j = 0; j < size; j++) {
-            QueueItem item = in.readObject();
+            QueueItem item;
+            if (compactItems) {
+                item = new QueueItem();
+                item.readData(in);
+            } else {
+                item = in.readObject();
+            }
             item.setContainer(this);
             getItemQueue().offer(item);
             setId(item.getItemId());
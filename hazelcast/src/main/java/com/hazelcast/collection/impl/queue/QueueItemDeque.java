@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.collection.impl.queue;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Predicate;
+
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+
+/**
+ * FIFO storage of the items of a non-priority queue.
+ * <p>
+ * Items are kept in fixed-size array segments, so the queue allocates one
+ * small array per {@value #SEGMENT_SIZE} items instead of a node object
+ * per item, and it releases the segments as soon as they are drained.
+ * Offering to either end and polling from the head are O(1); inserting or
+ * removing in the middle shifts the items after the given position.
+ * <p>
+ * This class is not thread-safe, it is accessed from the partition thread
+ * owning the queue.
+ */
+final class QueueItemDeque extends AbstractQueue<QueueItem> {
+
+    static final int SEGMENT_SHIFT = 10;
+    static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+
+    private final ArrayList<QueueItem[]> segments = new ArrayList<>();
+    /**
+     * Position of the head item within the first segment
+     */
+    private int head;
+    private int size;
+    private int modCount;
+
+    @Override
+    public boolean offer(QueueItem item) {
+        checkNotNull(item, "item can't be null");
+        int position = head + size;
+        if ((position >> SEGMENT_SHIFT) == segments.size()) {
+            segments.add(new QueueItem[SEGMENT_SIZE]);
+        }
+        size++;
+        modCount++;
+        set(size - 1, item);
+        return true;
+    }
+
+    /**
+     * Inserts the item at the head of the queue.
+     */
+    void offerFirst(QueueItem item) {
+        checkNotNull(item, "item can't be null");
+        if (head == 0) {
+            segments.add(0, new QueueItem[SEGMENT_SIZE]);
+            head = SEGMENT_SIZE;
+        }
+        head--;
+        size++;
+        modCount++;
+        segments.get(0)[head] = item;
+    }
+
+    /**
+     * Inserts the item before the first item with a greater item ID, so the
+     * queue stays ordered by item ID when it was ordered before.
+     */
+    void addOrdered(QueueItem item) {
+        int index = size;
+        while (index > 0 && get(index - 1).getItemId() > item.getItemId()) {
+            index--;
+        }
+        add(index, item);
+    }
+
+    @Override
+    public QueueItem poll() {
+        if (size == 0) {
+            return null;
+        }
+        QueueItem[] segment = segments.get(0);
+        QueueItem item = segment[head];
+        segment[head] = null;
+        head++;
+        size--;
+        modCount++;
+        if (size == 0) {
+            releaseSegments();
+        } else if (head == SEGMENT_SIZE) {
+            segments.remove(0);
+            head = 0;
+        }
+        return item;
+    }
+
+    @Override
+    public QueueItem peek() {
+        return size == 0 ? null : get(0);
+    }
+
+    QueueItem peekLast() {
+        return size == 0 ? null : get(size - 1);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public void clear() {
+        releaseSegments();
+        size = 0;
+        modCount++;
+    }
+
+    /**
+     * Removes the matching items in a single pass that moves each retained
+     * item at most once, instead of shifting the tail on every removal.
+     */
+    @Override
+    public boolean removeIf(Predicate<? super QueueItem> filter) {
+        checkNotNull(filter, "filter can't be null");
+        int retained = 0;
+        for (int i = 0; i < size; i++) {
+            QueueItem item = get(i);
+            if (!filter.test(item)) {
+                if (retained != i) {
+                    set(retained, item);
+                }
+                retained++;
+            }
+        }
+        if (retained == size) {
+            return false;
+        }
+        for (int i = retained; i < size; i++) {
+            set(i, null);
+        }
+        size = retained;
+        modCount++;
+        if (size == 0) {
+            releaseSegments();
+        } else {
+            releaseTrailingSegments();
+        }
+        return true;
+    }
+
+    @Override
+    public Iterator<QueueItem> iterator() {
+        return new Itr();
+    }
+
+    QueueItem get(int index) {
+        int position = head + index;
+        return segments.get(position >> SEGMENT_SHIFT)[position & SEGMENT_MASK];
+    }
+
+    private void set(int index, QueueItem item) {
+        int position = head + index;
+        segments.get(position >> SEGMENT_SHIFT)[position & SEGMENT_MASK] = item;
+    }
+
+    /**
+     * Inserts the item at the given index by shifting the following items
+     * towards the tail.
+     */
+    private void add(int index, QueueItem item) {
+        if (index == 0) {
+            offerFirst(item);
+            return;
+        }
+        offer(item);
+        for (int i = size - 1; i > index; i--) {
+            set(i, get(i - 1));
+        }
+        set(index, item);
+    }
+
+    /**
+     * Removes the item at the given index by shifting the following items
+     * towards the head.
+     */
+    private void removeAt(int index) {
+        if (index == 0) {
+            poll();
+            return;
+        }
+        for (int i = index; i < size - 1; i++) {
+            set(i, get(i + 1));
+        }
+        set(size - 1, null);
+        size--;
+        modCount++;
+        releaseTrailingSegments();
+    }
+
+    private void releaseTrailingSegments() {
+        int lastSegment = (head + size - 1) >> SEGMENT_SHIFT;
+        while (segments.size() > lastSegment + 1) {
+            segments.remove(segments.size() - 1);
+        }
+    }
+
+    private void releaseSegments() {
+        segments.clear();
+        head = 0;
+    }
+
+    private final class Itr implements Iterator<QueueItem> {
+
+        private int cursor;
+        private int lastReturned = -1;
+        private int expectedModCount = modCount;
+
+        @Override
+        public boolean hasNext() {
+            return cursor < size;
+        }
+
+        @Override
+        public QueueItem next() {
+            checkForComodification();
+            if (cursor >= size) {
+                throw new NoSuchElementException();
+            }
+            lastReturned = cursor;
+            return get(cursor++);
+        }
+
+        @Override
+        public void remove() {
+            if (lastReturned < 0) {
+                throw new IllegalStateException();
+            }
+            checkForComodification();
+            removeAt(lastReturned);
+            cursor = lastReturned;
+            lastReturned = -1;
+            expectedModCount = modCount;
+        }
+
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.collection.impl.queue;
+
+import com.hazelcast.collection.IQueue;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.partition.PartitionService;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.internal.util.HashUtil.hashToIndex;
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+import static com.hazelcast.internal.util.ShardKeyUtil.distinctPartitionKeys;
+
+/**
+ * A logical queue spread over several {@link IQueue} shards, each living
+ * in a different partition, so offers and polls are served by several
+ * partition threads instead of one.
+ * <p>
+ * Items offered without a key are spread round-robin over the shards and
+ * items offered with a key keep their order relative to the other items
+ * of the same key. Polls visit the shards round-robin as well, starting
+ * at the shard after the one the previous item came from, so a single
+ * producer offering without keys and a single consumer using
+ * {@link #poll()} see the items in FIFO order. With several producers or
+ * consumers, items may overtake each other by at most the number of shards.
+ * <p>
+ * The shards are ordinary queues named {@code name@shardKey}, the queue
+ * configuration is looked up with the shard names and works with both
+ * members and clients. It is not part of the public API.
+ *
+ * @param <E> the type of the items
+ * @since 5.4
+ */
+public final class ShardedQueue<E> {
+
+    private final String name;
+    private final PartitionService partitionService;
+    private final IQueue<E>[] shards;
+    private final AtomicInteger offerCursor = new AtomicInteger();
+    private final AtomicInteger pollCursor = new AtomicInteger();
+
+    @SuppressWarnings("unchecked")
+    public ShardedQueue(@Nonnull HazelcastInstance instance, @Nonnull String name, int shardCount) {
+        checkNotNull(instance, "instance can't be null");
+        checkNotNull(name, "name can't be null");
+        checkPositive("shardCount", shardCount);
+        this.name = name;
+        this.partitionService = instance.getPartitionService();
+        this.shards = new IQueue[shardCount];
+        List<String> shardKeys = distinctPartitionKeys(partitionService, shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = instance.getQueue(name + '@' + shardKeys.get(i));
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    public IQueue<E> getShard(int shardIndex) {
+        return shards[shardIndex];
+    }
+
+    /**
+     * Offers the item to the next shard in round-robin order.
+     *
+     * @see IQueue#offer(Object)
+     */
+    public boolean offer(@Nonnull E item) {
+        return shards[nextIndex(offerCursor)].offer(item);
+    }
+
+    /**
+     * Offers the item to the shard owning the given key. The shard is
+     * picked by the partition of the key, so it is chosen from the
+     * serialized form of the key the same way on all members and clients.
+     *
+     * @see IQueue#offer(Object)
+     */
+    public boolean offer(@Nonnull Object key, @Nonnull E item) {
+        checkNotNull(key, "key can't be null");
+        int partitionId = partitionService.getPartition(key).getPartitionId();
+        return shards[hashToIndex(partitionId, shards.length)].offer(item);
+    }
+
+    /**
+     * Spreads the items round-robin over the shards and adds them with one
+     * batch operation per shard.
+     *
+     * @return {@code true} if the queue changed
+     * @see IQueue#addAll(Collection)
+     */
+    public boolean offerAll(@Nonnull Collection<? extends E> items) {
+        checkNotNull(items, "items can't be null");
+        List<List<E>> batches = new ArrayList<>(shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            batches.add(new ArrayList<>(items.size() / shards.length + 1));
+        }
+        int start = offerCursor.getAndAdd(items.size());
+        int i = 0;
+        for (E item : items) {
+            batches.get(hashToIndex(start + i++, shards.length)).add(item);
+        }
+        boolean changed = false;
+        for (int shard = 0; shard < shards.length; shard++) {
+            if (!batches.get(shard).isEmpty()) {
+                changed |= shards[shard].addAll(batches.get(shard));
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Polls the shards round-robin, starting after the shard the previous
+     * item came from. The cursor only moves when an item is found, so
+     * polling an empty queue does not skew the order of later polls.
+     *
+     * @return the polled item or {@code null} if all the shards are empty
+     * @see IQueue#poll()
+     */
+    public E poll() {
+        int start = hashToIndex(pollCursor.get(), shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            int index = (start + i) % shards.length;
+            E item = shards[index].poll();
+            if (item != null) {
+                pollCursor.set(index + 1);
+                return item;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes up to {@code maxItems} items with one batch operation per
+     * shard. The first pass takes the share of each shard among the next
+     * {@code maxItems} round-robin offers, a second pass fills up from the
+     * non-empty shards. The items are returned grouped by shard and the
+     * poll cursor moves past the removed items.
+     *
+     * @return the removed items, empty if all the shards are empty
+     * @see IQueue#drainTo(Collection, int)
+     */
+    public List<E> pollBatch(int maxItems) {
+        checkPositive("maxItems", maxItems);
+        List<E> items = new ArrayList<>(maxItems);
+        int start = hashToIndex(pollCursor.get(), shards.length);
+        for (int pass = 0; pass < 2 && items.size() < maxItems; pass++) {
+            for (int i = 0; i < shards.length && items.size() < maxItems; i++) {
+                int limit = maxItems - items.size();
+                int share = maxItems / shards.length + (i < maxItems % shards.length ? 1 : 0);
+                shards[(start + i) % shards.length].drainTo(items, pass == 0 ? Math.min(share, limit) : limit);
+            }
+        }
+        if (!items.isEmpty()) {
+            pollCursor.set(start + items.size());
+        }
+        return items;
+    }
+
+    /**
+     * Returns the sum of the sizes of the shards.
+     */
+    public int size() {
+        int size = 0;
+        for (IQueue<E> shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    public boolean isEmpty() {
+        for (IQueue<E> shard : shards) {
+            if (!shard.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Destroys all the shards.
+     */
+    public void destroy() {
+        for (IQueue<E> shard : shards) {
+            shard.destroy();
+        }
+    }
+
+    private int nextIndex(AtomicInteger cursor) {
+        return hashToIndex(cursor.getAndIncrement(), shards.length);
+    }
+}
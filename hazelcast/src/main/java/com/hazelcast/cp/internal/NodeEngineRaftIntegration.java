@@ -63,6 +63,7 @@ import java.util.concurrent.TimeUnit;
 import static com.hazelcast.cp.internal.RaftService.CP_SUBSYSTEM_EXECUTOR;
 import static com.hazelcast.cp.internal.raft.impl.RaftNodeStatus.STEPPED_DOWN;
 import static com.hazelcast.cp.internal.raft.impl.RaftNodeStatus.TERMINATED;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
 
 /**
  * The integration point of the Raft algorithm implementation and
@@ -79,6 +80,21 @@ final class NodeEngineRaftIntegration implements RaftIntegration {
     public static final HazelcastProperty RAFT_LINEARIZABLE_READ_OPTIMIZATION_ENABLED
             = new HazelcastProperty("raft.linearizable.read.optimization.enabled", true);
 
+    /**
+     * !!! ONLY FOR INTERNAL USAGE AND TESTING !!!
+     * Enables / disables serving linearizable reads under a leader lease described in the Raft Dissertation Section 6.4.1.
+     * Relies on bounded clock drift between CP members.
+     */
+    public static final HazelcastProperty RAFT_LEADER_LEASE_READ_ENABLED
+            = new HazelcastProperty("raft.leader.lease.read.enabled", false);
+
+    /**
+     * !!! ONLY FOR INTERNAL USAGE AND TESTING !!!
+     * Maximum number of append requests the Raft leader pipelines to a single follower before waiting for a response.
+     */
+    public static final HazelcastProperty RAFT_APPEND_REQUEST_PIPELINE_DEPTH
+            = new HazelcastProperty("raft.append.request.pipeline.depth", 1);
+
 
     private final NodeEngineImpl nodeEngine;
     private final CPGroupId groupId;
@@ -90,6 +106,8 @@ final class NodeEngineRaftIntegration implements RaftIntegration {
     private final int partitionId;
     private final int threadId;
     private final boolean linearizableReadOptimizationEnabled;
+    private final boolean leaderLeaseReadEnabled;
+    private final int appendRequestPipelineDepth;
 
     NodeEngineRaftIntegration(NodeEngineImpl nodeEngine, CPGroupId groupId, RaftEndpoint localCPMember, int partitionId) {
         this.nodeEngine = nodeEngine;
@@ -104,6 +122,9 @@ final class NodeEngineRaftIntegration implements RaftIntegration {
         this.taskScheduler = nodeEngine.getExecutionService().getGlobalTaskScheduler();
         this.linearizableReadOptimizationEnabled = nodeEngine.getProperties()
                                                              .getBoolean(RAFT_LINEARIZABLE_READ_OPTIMIZATION_ENABLED);
+        this.leaderLeaseReadEnabled = nodeEngine.getProperties().getBoolean(RAFT_LEADER_LEASE_READ_ENABLED);
+        this.appendRequestPipelineDepth = checkPositive(RAFT_APPEND_REQUEST_PIPELINE_DEPTH.getName(),
+                nodeEngine.getProperties().getInteger(RAFT_APPEND_REQUEST_PIPELINE_DEPTH));
     }
 
     @Override
@@ -142,6 +163,16 @@ final class NodeEngineRaftIntegration implements RaftIntegration {
         return linearizableReadOptimizationEnabled;
     }
 
+    @Override
+    public boolean isLeaderLeaseReadEnabled() {
+        return leaderLeaseReadEnabled;
+    }
+
+    @Override
+    public int getAppendRequestPipelineDepth() {
+        return appendRequestPipelineDepth;
+    }
+
     @Override
     public ILogger getLogger(String name) {
         return nodeEngine.getLogger(name);
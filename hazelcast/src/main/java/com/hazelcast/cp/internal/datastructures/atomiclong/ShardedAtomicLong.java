@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cp.internal.datastructures.atomiclong;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.cp.CPSubsystem;
+import com.hazelcast.cp.IAtomicLong;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+
+/**
+ * A CP counter spread over several {@link IAtomicLong} shards, each living
+ * in a different CP group, so increments are committed by several Raft
+ * leaders instead of one. It is meant for counters which are mostly
+ * updated and occasionally read, like statistics or rate limiter counters.
+ * <p>
+ * Each update is applied to a randomly picked shard and is linearizable
+ * on that shard. {@link #sum()} reads all the shards in parallel and adds
+ * up their values, so it reflects every update completed before the call
+ * and none started after it returns. Updates running concurrently with
+ * the call may be reflected only partially, since the shards are not
+ * read at a single point in time.
+ * <p>
+ * The shards are ordinary atomic longs named {@code name@groupName}, and
+ * shard {@code i} lives in the CP group {@code name-shard-i} unless the
+ * group names are given explicitly, so the default groups don't collide
+ * with the groups of other counters or of the application. It works with
+ * both members and clients.
+ * <p>
+ * It is not part of the public API.
+ *
+ * @since 5.4
+ */
+public final class ShardedAtomicLong {
+
+    private static final String DEFAULT_GROUP_NAME_INFIX = "-shard-";
+
+    private final String name;
+    private final IAtomicLong[] shards;
+
+    public ShardedAtomicLong(@Nonnull HazelcastInstance instance, @Nonnull String name, int shardCount) {
+        this(instance, name, defaultGroupNames(name, shardCount));
+    }
+
+    public ShardedAtomicLong(@Nonnull HazelcastInstance instance, @Nonnull String name, @Nonnull String... groupNames) {
+        checkNotNull(instance, "instance can't be null");
+        checkNotNull(name, "name can't be null");
+        checkNotNull(groupNames, "groupNames can't be null");
+        checkPositive("groupNames.length", groupNames.length);
+        this.name = name;
+        this.shards = new IAtomicLong[groupNames.length];
+        CPSubsystem cpSubsystem = instance.getCPSubsystem();
+        for (int i = 0; i < groupNames.length; i++) {
+            checkNotNull(groupNames[i], "group name can't be null");
+            shards[i] = cpSubsystem.getAtomicLong(name + '@' + groupNames[i]);
+        }
+    }
+
+    private static String[] defaultGroupNames(String name, int shardCount) {
+        checkNotNull(name, "name can't be null");
+        checkPositive("shardCount", shardCount);
+        String[] groupNames = new String[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            groupNames[i] = name + DEFAULT_GROUP_NAME_INFIX + i;
+        }
+        return groupNames;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    public IAtomicLong getShard(int shardIndex) {
+        return shards[shardIndex];
+    }
+
+    /**
+     * Adds the given value to a randomly picked shard.
+     *
+     * @see IAtomicLong#addAndGet(long)
+     */
+    public void add(long delta) {
+        nextShard().addAndGet(delta);
+    }
+
+    /**
+     * Increments a randomly picked shard by one.
+     */
+    public void increment() {
+        add(1);
+    }
+
+    /**
+     * Decrements a randomly picked shard by one.
+     */
+    public void decrement() {
+        add(-1);
+    }
+
+    /**
+     * Adds the given value to a randomly picked shard asynchronously.
+     *
+     * @return the value of the updated shard, not the sum of the counter
+     * @see IAtomicLong#addAndGetAsync(long)
+     */
+    public CompletionStage<Long> addAsync(long delta) {
+        return nextShard().addAndGetAsync(delta);
+    }
+
+    /**
+     * Returns the sum of all the shards.
+     *
+     * @see #sumAsync()
+     */
+    public long sum() {
+        try {
+            return sumAsync().toCompletableFuture().join();
+        } catch (CompletionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    /**
+     * Reads all the shards in parallel and completes with the sum of
+     * their values. See the class documentation for the guarantees.
+     */
+    public CompletionStage<Long> sumAsync() {
+        CompletableFuture<Long> sum = CompletableFuture.completedFuture(0L);
+        for (IAtomicLong shard : shards) {
+            sum = sum.thenCombine(shard.getAsync(), Long::sum);
+        }
+        return sum;
+    }
+
+    /**
+     * Destroys all the shards.
+     *
+     * @see IAtomicLong#destroy()
+     */
+    public void destroy() {
+        for (IAtomicLong shard : shards) {
+            shard.destroy();
+        }
+    }
+
+    private IAtomicLong nextShard() {
+        return shards[ThreadLocalRandom.current().nextInt(shards.length)];
+    }
+}
@@ -237,6 +237,24 @@ public interface RaftIntegration {
      */
     boolean isLinearizableReadOptimizationEnabled();
 
+    /**
+     * Returns true if the leader is allowed to serve linearizable queries
+     * locally while it holds a leader lease, instead of performing
+     * a heartbeat round for each batch of queries.
+     * <p>
+     * See Section 6.4.1 of the Raft Dissertation for more information about
+     * the leader lease.
+     */
+    boolean isLeaderLeaseReadEnabled();
+
+    /**
+     * Returns the maximum number of append requests carrying log entries
+     * that the leader keeps in flight to a single follower. When it is
+     * {@code 1}, the leader waits for the response of each append request
+     * before sending the next entries to the follower.
+     */
+    int getAppendRequestPipelineDepth();
+
     /**
      * Returns the CP member instance of the given Raft endpoint
      */
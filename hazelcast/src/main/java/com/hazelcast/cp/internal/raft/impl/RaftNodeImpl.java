@@ -103,6 +103,7 @@ public final class RaftNodeImpl implements RaftNode {
     private static final int LEADER_ELECTION_TIMEOUT_RANGE = 1000;
     private static final long RAFT_NODE_INIT_DELAY_MILLIS = 500;
     private static final float RATIO_TO_KEEP_LOGS_AFTER_SNAPSHOT = 0.1f;
+    private static final int LEADER_LEASE_TIMEOUT_DIVISOR = 2;
 
     private final CPGroupId groupId;
     private final ILogger logger;
@@ -119,10 +120,12 @@ public final class RaftNodeImpl implements RaftNode {
     private final long appendRequestBackoffTimeoutInMillis;
     private final int maxNumberOfLogsToKeepAfterSnapshot;
     private final Runnable appendRequestBackoffResetTask;
+    private final Runnable appendRequestBroadcastTask;
     private final Runnable flushTask;
 
     private long lastAppendEntriesTimestamp;
     private boolean appendRequestBackoffResetTaskScheduled;
+    private boolean appendRequestBroadcastTaskSubmitted;
     private boolean flushTaskSubmitted;
     private volatile RaftNodeStatus status = INITIAL;
 
@@ -149,6 +152,7 @@ public final class RaftNodeImpl implements RaftNode {
         this.state = newRaftState(groupId, localMember, members, logCapacity, stateStore);
         this.logger = getLogger(RaftNode.class);
         this.appendRequestBackoffResetTask = new AppendRequestBackoffResetTask();
+        this.appendRequestBroadcastTask = new AppendRequestBroadcastTask();
         if (stateStore instanceof NopRaftStateStore) {
            this.flushTask = null;
            this.flushTaskSubmitted = true;
@@ -178,6 +182,7 @@ public final class RaftNodeImpl implements RaftNode {
         this.state = restoreRaftState(groupId, restoredState, logCapacity, stateStore);
         this.logger = getLogger(RaftNode.class);
         this.appendRequestBackoffResetTask = new AppendRequestBackoffResetTask();
+        this.appendRequestBroadcastTask = new AppendRequestBroadcastTask();
         if (stateStore instanceof NopRaftStateStore) {
             this.flushTask = null;
             this.flushTaskSubmitted = true;
@@ -596,6 +601,28 @@ public final class RaftNodeImpl implements RaftNode {
         return raftIntegration.isLinearizableReadOptimizationEnabled();
     }
 
+    /**
+     * Returns true if the local Raft node is the leader and holds a valid
+     * leader lease, hence can serve linearizable queries from its local
+     * state without a heartbeat round.
+     * <p>
+     * The lease starts when a heartbeat round acknowledged by the majority
+     * is started. Followers do not grant non-disruptive votes until
+     * the leader election timeout elapses after the last append request,
+     * so no other leader can be elected before the lease expires. The lease
+     * lasts half of the leader election timeout to tolerate clock drift and
+     * is not used while a leadership transfer is in progress. See Section
+     * 6.4.1 of Raft Dissertation.
+     */
+    public boolean hasValidLeaderLease() {
+        if (!raftIntegration.isLeaderLeaseReadEnabled() || state.role() != LEADER
+                || state.leadershipTransferState() != null) {
+            return false;
+        }
+
+        return state.leaderState().isLeaseValid(leaderElectionTimeout / LEADER_LEASE_TIMEOUT_DIVISOR);
+    }
+
     /**
      * Schedules periodic leader failure detection task.
      */
@@ -648,6 +675,27 @@ public final class RaftNodeImpl implements RaftNode {
         updateLastAppendEntriesTimestamp();
     }
 
+    /**
+     * Broadcasts append-entries request to all group members. When append
+     * requests are pipelined, submits a task for it instead, unless it is
+     * already submitted. The task runs after the tasks already waiting in the
+     * Raft node's queue, so that the entries appended by them are sent to the
+     * followers in a single append-entries request rather than each taking
+     * a slot of the pipeline.
+     */
+    public void submitAppendRequestBroadcast() {
+        if (raftIntegration.getAppendRequestPipelineDepth() <= 1) {
+            broadcastAppendRequest();
+            return;
+        }
+        if (appendRequestBroadcastTaskSubmitted) {
+            return;
+        }
+
+        appendRequestBroadcastTaskSubmitted = true;
+        raftIntegration.submit(appendRequestBroadcastTask);
+    }
+
     /**
      * Sends an append-entries request to the follower member.
      * <p>
@@ -658,6 +706,9 @@ public final class RaftNodeImpl implements RaftNode {
      * <p>
      * If leader doesn't know follower's matchIndex (if {@code matchIndex == 0}), then an empty append-entries is sent
      * to save bandwidth until leader learns the matchIndex of the follower.
+     * <p>
+     * Once the matchIndex is known, up to {@link RaftIntegration#getAppendRequestPipelineDepth()} append-entries
+     * requests can be in flight to the follower at a time.
      */
     @SuppressWarnings({"checkstyle:npathcomplexity", "checkstyle:cyclomaticcomplexity", "checkstyle:methodlength"})
     public void sendAppendRequest(RaftEndpoint follower) {
@@ -668,6 +719,14 @@ public final class RaftNodeImpl implements RaftNode {
         RaftLog raftLog = state.log();
         LeaderState leaderState = state.leaderState();
         FollowerState followerState = leaderState.getFollowerState(follower);
+        if (!followerState.isAppendRequestBackoffSet()
+                && followerState.inFlightAppendRequestCount() >= raftIntegration.getAppendRequestPipelineDepth()) {
+            // The pipeline is full. We wait for a response or a back-off timeout
+            // as if a single append request is in flight.
+            followerState.setAppendRequestBackoff();
+            scheduleAppendAckResetTask();
+        }
+
         if (followerState.isAppendRequestBackoffSet()) {
             // The follower still has not sent a response for the last append request.
             // We will send a new append request either when the follower sends a response
@@ -752,12 +811,27 @@ public final class RaftNodeImpl implements RaftNode {
             submitFlushTask();
         }
 
-        if (shouldBackoff) {
+        if (shouldBackoff && !pipelineAppendRequest(followerState, entries)) {
             followerState.setAppendRequestBackoff();
             scheduleAppendAckResetTask();
         }
     }
 
+    /**
+     * Returns true if the append request carrying the given entries is
+     * pipelined, hence another append request can be sent to the follower
+     * before this one is acknowledged. Entries are pipelined only after
+     * the leader learns where its log and the follower's log match.
+     */
+    private boolean pipelineAppendRequest(FollowerState followerState, LogEntry[] entries) {
+        int pipelineDepth = raftIntegration.getAppendRequestPipelineDepth();
+        if (pipelineDepth <= 1 || entries.length == 0 || followerState.matchIndex() == 0) {
+            return false;
+        }
+
+        return followerState.pipelineAppendRequest(entries[entries.length - 1].index()) < pipelineDepth;
+    }
+
     /**
      * Applies committed log entries between {@code lastApplied} and {@code commitIndex}, if there's any available.
      * If new entries are applied, {@link RaftState}'s {@code lastApplied} field is updated.
@@ -1328,6 +1402,10 @@ public final class RaftNodeImpl implements RaftNode {
             runQuery(t.element1, t.element2);
         }
 
+        if (raftIntegration.isLeaderLeaseReadEnabled()) {
+            state.leaderState().extendLease(queryState.queryRoundStartNanos());
+        }
+
         queryState.reset();
         return false;
     }
@@ -1448,7 +1526,8 @@ public final class RaftNodeImpl implements RaftNode {
                     }
                     if (followerState.completeAppendRequestBackoffRound()) {
                         // This follower has not sent a response to the last append request.
-                        // Send another append request
+                        // Send another append request, starting over from the pipelined entries if any
+                        followerState.resetAppendRequestPipeline();
                         sendAppendRequest(entry.getKey());
                     }
                     // Schedule the task again, we still have backoff flag set followers
@@ -1458,6 +1537,24 @@ public final class RaftNodeImpl implements RaftNode {
         }
     }
 
+    /**
+     * Broadcasts append-entries request for the entries appended
+     * since the task is submitted, if the local Raft node is still the leader.
+     */
+    private class AppendRequestBroadcastTask extends RaftNodeStatusAwareTask {
+        AppendRequestBroadcastTask() {
+            super(RaftNodeImpl.this);
+        }
+
+        @Override
+        protected void innerRun() {
+            appendRequestBroadcastTaskSubmitted = false;
+            if (state.role() == LEADER) {
+                broadcastAppendRequest();
+            }
+        }
+    }
+
     private class FlushTask extends RaftNodeStatusAwareTask {
         FlushTask() {
             super(RaftNodeImpl.this);
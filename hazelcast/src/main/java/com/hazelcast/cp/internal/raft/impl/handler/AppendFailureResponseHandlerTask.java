@@ -80,6 +80,27 @@ public class AppendFailureResponseHandlerTask extends AbstractResponseHandlerTas
         LeaderState leaderState = state.leaderState();
         FollowerState followerState = leaderState.getFollowerState(resp.follower());
 
+        if (followerState.inFlightAppendRequestCount() > 0) {
+            if (!followerState.isInFlightAppendRequest(resp.expectedNextIndex())) {
+                // A stale response of a request sent before the pipeline was reset
+                if (logger.isFineEnabled()) {
+                    logger.fine("Ignoring stale " + resp + " for pipelined next index: " + followerState.nextIndex());
+                }
+                return false;
+            }
+
+            // A pipelined append request is rejected because the follower missed some earlier entries.
+            // Send the entries again starting from the first one not known to be replicated.
+            followerState.resetAppendRequestPipeline();
+            followerState.appendRequestAckReceived();
+
+            if (logger.isFineEnabled()) {
+                logger.fine("Reset next index: " + followerState.nextIndex() + " for follower: " + resp.follower());
+            }
+
+            return true;
+        }
+
         long nextIndex = followerState.nextIndex();
         long matchIndex = followerState.matchIndex();
 
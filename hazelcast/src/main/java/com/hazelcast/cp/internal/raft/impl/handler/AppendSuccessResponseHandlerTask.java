@@ -99,12 +99,14 @@ public class AppendSuccessResponseHandlerTask extends AbstractResponseHandlerTas
             // Received a response for the last append request. Resetting the flag...
             followerState.appendRequestAckReceived();
 
-            long newNextIndex = followerLastLogIndex + 1;
             followerState.matchIndex(followerLastLogIndex);
-            followerState.nextIndex(newNextIndex);
+            if (!followerState.completePipelinedAppendRequests(followerLastLogIndex)) {
+                // nextIndex is already advanced past the entries of the pipelined append requests still in flight
+                followerState.nextIndex(followerLastLogIndex + 1);
+            }
 
             if (logger.isFineEnabled()) {
-                logger.fine("Updated match index: " + followerLastLogIndex + " and next index: " + newNextIndex
+                logger.fine("Updated match index: " + followerLastLogIndex + " and next index: " + followerState.nextIndex()
                         + " for follower: " + follower);
             }
 
@@ -129,8 +131,9 @@ public class AppendSuccessResponseHandlerTask extends AbstractResponseHandlerTas
 
     private void trySendAppendRequest(RaftState state) {
         long followerLastLogIndex = resp.lastLogIndex();
-        if (state.log().lastLogOrSnapshotIndex() > followerLastLogIndex || state.commitIndex() == followerLastLogIndex) {
-            // If the follower is still missing some log entries or has not learnt the latest commit index yet,
+        long followerNextIndex = state.leaderState().getFollowerState(resp.follower()).nextIndex();
+        if (state.log().lastLogOrSnapshotIndex() >= followerNextIndex || state.commitIndex() == followerLastLogIndex) {
+            // If some log entries are not sent to the follower yet or it has not learnt the latest commit index yet,
             // then send another append request.
             raftNode.sendAppendRequest(resp.follower());
         }
@@ -18,6 +18,8 @@ package com.hazelcast.cp.internal.raft.impl.state;
 
 import com.hazelcast.internal.util.Clock;
 
+import java.util.ArrayDeque;
+
 import static java.lang.Math.min;
 
 /**
@@ -30,6 +32,8 @@ import static java.lang.Math.min;
  * on server (initialized to 0, increases monotonically)</li>
  * <li>{@code appendRequestBackoff}: a boolean flag indicating that leader is still
  * waiting for a response to the last sent append request</li>
+ * <li>{@code inFlightAppendRequests}: last log indices of the pipelined append
+ * requests that are not acknowledged by the follower yet</li>
  * </ul>
  */
 public class FollowerState {
@@ -46,6 +50,8 @@ public class FollowerState {
 
     private long appendRequestAckTimestamp;
 
+    private final ArrayDeque<Long> inFlightAppendRequests = new ArrayDeque<>();
+
     FollowerState(long matchIndex, long nextIndex) {
         this.matchIndex = matchIndex;
         this.nextIndex = nextIndex;
@@ -133,9 +139,74 @@ public class FollowerState {
         return appendRequestAckTimestamp;
     }
 
+    /**
+     * Registers a pipelined append request that carries log entries up to
+     * the given index and optimistically advances {@code nextIndex} past it,
+     * so that the next append request can be sent without waiting for
+     * the response of this one.
+     *
+     * @return the number of pipelined append requests in flight
+     */
+    public int pipelineAppendRequest(long lastLogIndex) {
+        inFlightAppendRequests.add(lastLogIndex);
+        nextIndex = lastLogIndex + 1;
+        return inFlightAppendRequests.size();
+    }
+
+    /**
+     * Completes the pipelined append requests whose entries are
+     * acknowledged by the given follower log index.
+     *
+     * @return true if there are still pipelined append requests in flight
+     */
+    public boolean completePipelinedAppendRequests(long followerLastLogIndex) {
+        while (!inFlightAppendRequests.isEmpty() && inFlightAppendRequests.peekFirst() <= followerLastLogIndex) {
+            inFlightAppendRequests.pollFirst();
+        }
+        return !inFlightAppendRequests.isEmpty();
+    }
+
+    /**
+     * Returns the number of pipelined append requests in flight.
+     */
+    public int inFlightAppendRequestCount() {
+        return inFlightAppendRequests.size();
+    }
+
+    /**
+     * Returns whether an append request starting at the given log index
+     * can still be in flight, i.e. its entries are neither known to be
+     * replicated on the follower nor beyond the last pipelined entry.
+     * The pipeline is discarded when the follower rejects such a request,
+     * whereas the rejections of the requests sent before the pipeline was
+     * discarded are stale.
+     */
+    public boolean isInFlightAppendRequest(long firstLogIndex) {
+        return !inFlightAppendRequests.isEmpty() && firstLogIndex > matchIndex
+                && firstLogIndex <= inFlightAppendRequests.peekLast();
+    }
+
+    /**
+     * Discards the pipelined append requests in flight and moves
+     * {@code nextIndex} back to the first entry not known to be replicated
+     * on the follower, so that the entries are sent again.
+     *
+     * @return true if there was any pipelined append request in flight
+     */
+    public boolean resetAppendRequestPipeline() {
+        if (inFlightAppendRequests.isEmpty()) {
+            return false;
+        }
+
+        inFlightAppendRequests.clear();
+        nextIndex = matchIndex + 1;
+        return true;
+    }
+
     @Override
     public String toString() {
         return "FollowerState{" + "matchIndex=" + matchIndex + ", nextIndex=" + nextIndex + ", backoffRound=" + backoffRound
-                + ", nextBackoffPower=" + nextBackoffPower + ", appendRequestAckTime=" + appendRequestAckTimestamp + '}';
+                + ", nextBackoffPower=" + nextBackoffPower + ", appendRequestAckTime=" + appendRequestAckTimestamp
+                + ", inFlightAppendRequestCount=" + inFlightAppendRequests.size() + '}';
     }
 }
@@ -24,6 +24,8 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
 /**
  * Mutable state maintained by the leader of the Raft group. Leader keeps
  * a {@link FollowerState} object for each follower.
@@ -35,6 +37,9 @@ public class LeaderState {
     private final Map<RaftEndpoint, FollowerState> followerStates = new HashMap<>();
     private final QueryState queryState = new QueryState();
     private long flushedLogIndex;
+    private boolean leaseAcquired;
+    private long leaseStartNanos;
+    private long leaseRevokeNanos = System.nanoTime();
 
     LeaderState(Collection<RaftEndpoint> remoteMembers, long lastLogIndex) {
         for (RaftEndpoint follower : remoteMembers) {
@@ -104,6 +109,37 @@ public class LeaderState {
         return flushedLogIndex;
     }
 
+    /**
+     * Extends the leader lease to start at the given {@link System#nanoTime()}
+     * value, which must be a point in time before the majority has last heard
+     * from the leader. Start times that are not after the last revocation are
+     * ignored.
+     */
+    public void extendLease(long startNanos) {
+        if (startNanos - leaseRevokeNanos > 0 && (!leaseAcquired || startNanos - leaseStartNanos > 0)) {
+            leaseStartNanos = startNanos;
+            leaseAcquired = true;
+        }
+    }
+
+    /**
+     * Revokes the current leader lease. Acks of the heartbeat rounds
+     * started until now cannot extend the lease anymore.
+     */
+    public void revokeLease() {
+        leaseAcquired = false;
+        leaseRevokeNanos = System.nanoTime();
+    }
+
+    /**
+     * Returns {@code true} if a lease is acquired in the current term and
+     * less than the given duration has passed since it started. Uses the
+     * monotonic clock, so wall clock adjustments cannot extend the lease.
+     */
+    public boolean isLeaseValid(long leaseDurationMillis) {
+        return leaseAcquired && System.nanoTime() - leaseStartNanos < MILLISECONDS.toNanos(leaseDurationMillis);
+    }
+
     /**
      * Returns the earliest append response ack timestamp of the majority nodes
      */
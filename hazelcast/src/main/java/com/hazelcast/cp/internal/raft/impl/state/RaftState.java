@@ -578,6 +578,8 @@ public final class RaftState {
     public boolean initLeadershipTransfer(RaftEndpoint targetEndpoint, InternalCompletableFuture resultFuture) {
         if (leadershipTransferState == null) {
             leadershipTransferState = new LeadershipTransferState(term, targetEndpoint, resultFuture);
+            // followers may grant disruptive votes to the target endpoint from now on
+            revokeLeaderLease();
             return true;
         }
 
@@ -596,6 +598,13 @@ public final class RaftState {
 
         leadershipTransferState.complete(result);
         leadershipTransferState = null;
+        revokeLeaderLease();
+    }
+
+    private void revokeLeaderLease() {
+        if (leaderState != null) {
+            leaderState.revokeLease();
+        }
     }
 
     /**
@@ -128,6 +128,16 @@ public class QueryTask implements Runnable {
         }
 
         long commitIndex = state.commitIndex();
+        if (state.lastApplied() == commitIndex && raftNode.hasValidLeaderLease()) {
+            // No other leader can exist while the lease is valid, so the local state is up to date.
+            if (logger.isFineEnabled()) {
+                logger.fine("Running query under leader lease at commit index: " + commitIndex);
+            }
+
+            raftNode.runQuery(operation, resultFuture);
+            return;
+        }
+
         QueryState queryState = state.leaderState().queryState();
 
         if (logger.isFineEnabled()) {
@@ -97,7 +97,8 @@ public class ReplicateTask implements Runnable {
 
             preApplyRaftGroupCmd(newEntryLogIndex, operation);
 
-            raftNode.broadcastAppendRequest();
+            // when pipelined, entries appended by the replicate tasks queued behind this one are sent together
+            raftNode.submitAppendRequestBroadcast();
         } catch (Throwable t) {
             logger.severe(operation + " could not be replicated to leader: " + raftNode.getLocalMember(), t);
             RaftEndpoint leader = raftNode.getLeader();
@@ -69,6 +69,7 @@ public final class MetricDescriptorConstants {
     public static final String CLIENT_METRIC_INVOCATIONS_PENDING_CALLS = "pendingCalls";
     public static final String CLIENT_METRIC_INVOCATIONS_STARTED_INVOCATIONS = "startedInvocations";
     public static final String CLIENT_METRIC_INVOCATIONS_MAX_CURRENT_INVOCATIONS = "maxCurrentInvocations";
+    public static final String CLIENT_METRIC_INVOCATIONS_WAITING_INVOCATIONS = "waitingInvocations";
     public static final String CLIENT_METRIC_LISTENER_SERVICE_EVENT_QUEUE_SIZE = "eventQueueSize";
     public static final String CLIENT_METRIC_LISTENER_SERVICE_EVENTS_PROCESSED = "eventsProcessed";
     // ===[/CLIENT]=====================================================
@@ -343,6 +344,9 @@ public final class MetricDescriptorConstants {
     public static final String NETWORKING_METRIC_NIO_THREAD_BYTES_TRANSCEIVED = "bytesTransceived";
     public static final String NETWORKING_METRIC_NIO_THREAD_FRAMES_TRANSCEIVED = "framesTransceived";
     public static final String NETWORKING_METRIC_NIO_THREAD_PRIORITY_FRAMES_TRANSCEIVED = "priorityFramesTransceived";
+    public static final String NETWORKING_METRIC_COMPRESSION_UNCOMPRESSED_BYTES = "compressionUncompressedBytes";
+    public static final String NETWORKING_METRIC_COMPRESSION_COMPRESSED_BYTES = "compressionCompressedBytes";
+    public static final String NETWORKING_METRIC_COMPRESSION_TIME_NANOS = "compressionTimeNanos";
     public static final String NETWORKING_METRIC_NIO_THREAD_PROCESS_COUNT = "processCount";
     public static final String NETWORKING_METRIC_NIO_THREAD_TASK_QUEUE_SIZE = "taskQueueSize";
     public static final String NETWORKING_METRIC_NIO_THREAD_EVENT_COUNT = "eventCount";
@@ -521,6 +525,14 @@ public final class MetricDescriptorConstants {
     public static final String RUNTIME_FULL_METRIC_UPTIME = "runtime.uptime";
     // ===[/RUNTIME]====================================================
 
+    // ===[SERIALIZATION]===============================================
+    public static final String SERIALIZATION_BUFFER_POOL_PREFIX = "serialization.bufferPool";
+    public static final String SERIALIZATION_BUFFER_POOL_METRIC_HITS = "hits";
+    public static final String SERIALIZATION_BUFFER_POOL_METRIC_MISSES = "misses";
+    public static final String SERIALIZATION_BUFFER_POOL_METRIC_RETAINED_BYTES = "retainedBytes";
+    public static final String SERIALIZATION_BUFFER_POOL_METRIC_TRIMMED_BYTES = "trimmedBytes";
+    // ===[/SERIALIZATION]==============================================
+
     // ===[SET]=======================================================
     public static final String SET_PREFIX = "set";
     public static final String SET_METRIC_LAST_ACCESS_TIME = "lastAccessTime";
@@ -528,6 +540,17 @@ public final class MetricDescriptorConstants {
     public static final String SET_METRIC_CREATION_TIME = "creationTime";
     // ===[/SET]======================================================
 
+    // ===[SQL]=========================================================
+    public static final String SQL_PREFIX = "sql";
+    public static final String SQL_METRIC_QUERIES_SUBMITTED = "queriesSubmitted";
+    public static final String SQL_METRIC_STREAMING_QUERIES_EXECUTED = "streamingQueriesExecuted";
+    public static final String SQL_METRIC_PLAN_CACHE_SIZE = "planCacheSize";
+    public static final String SQL_METRIC_PLAN_CACHE_HITS = "planCacheHits";
+    public static final String SQL_METRIC_PLAN_CACHE_MISSES = "planCacheMisses";
+    public static final String SQL_METRIC_PLANS_CREATED = "plansCreated";
+    public static final String SQL_METRIC_PLANNING_TIME = "planningTime";
+    // ===[/SQL]========================================================
+
     // ===[TCP]=========================================================
     public static final String TCP_PREFIX = "tcp";
     public static final String TCP_PREFIX_ACCEPTOR = "tcp.acceptor";
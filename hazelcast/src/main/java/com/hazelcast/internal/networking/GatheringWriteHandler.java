@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking;
+
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link OutboundHandler} that is able to hand over a payload that should
+ * be written to the socket directly after its {@link OutboundHandler#dst()},
+ * so that the payload doesn't need to be copied into the dst buffer first.
+ * <p>
+ * The {@link OutboundPipeline} only enables gathering writes when the
+ * handler is the last one in the pipeline; e.g. when TLS is used, the
+ * encrypting handler needs to see every byte and gathering writes are
+ * disabled.
+ *
+ * @see java.nio.channels.GatheringByteChannel
+ */
+public interface GatheringWriteHandler {
+
+    /**
+     * Enables or disables gathering writes. When disabled, the handler
+     * should write everything into its dst buffer and {@link #pendingPayload()}
+     * should return {@code null}.
+     *
+     * @param enabled {@code true} to enable gathering writes
+     */
+    void setGatheringWritesEnabled(boolean enabled);
+
+    /**
+     * Returns the payload that should be written directly after the content
+     * of the dst buffer, or {@code null} if there is none. The pipeline
+     * advances the position of the returned buffer while writing it; as
+     * long as it has remaining bytes, the handler must not write anything
+     * new into its dst buffer.
+     * <p>
+     * The returned buffer may expose only a slice of the payload, so it needs
+     * to be requested again before each write.
+     *
+     * @return the pending payload or {@code null}
+     */
+    ByteBuffer pendingPayload();
+}
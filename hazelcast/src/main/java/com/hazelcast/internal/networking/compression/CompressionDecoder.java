@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking.compression;
+
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.networking.HandlerStatus;
+import com.hazelcast.internal.networking.InboundHandler;
+import com.hazelcast.internal.util.counters.SwCounter;
+
+import java.nio.ByteBuffer;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_COMPRESSION_COMPRESSED_BYTES;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_COMPRESSION_TIME_NANOS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_COMPRESSION_UNCOMPRESSED_BYTES;
+import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
+import static com.hazelcast.internal.metrics.ProbeUnit.NS;
+import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
+import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
+import static com.hazelcast.internal.networking.compression.CompressionEncoder.BLOCK_SIZE;
+import static com.hazelcast.internal.networking.compression.CompressionEncoder.HEADER_SIZE;
+import static com.hazelcast.internal.networking.compression.CompressionEncoder.TYPE_LZ4;
+import static com.hazelcast.internal.networking.compression.CompressionEncoder.TYPE_RAW;
+import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
+import static com.hazelcast.internal.util.JVMUtil.upcast;
+import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
+import static java.lang.Math.min;
+
+/**
+ * An {@link InboundHandler} that decompresses the blocks written by a
+ * {@link CompressionEncoder} and passes the original byte stream to the
+ * next handler.
+ */
+public class CompressionDecoder extends InboundHandler<ByteBuffer, ByteBuffer> {
+
+    private static final int NO_BLOCK = -1;
+
+    @Probe(name = NETWORKING_METRIC_COMPRESSION_UNCOMPRESSED_BYTES, unit = BYTES)
+    private final SwCounter uncompressedBytes = newSwCounter();
+    @Probe(name = NETWORKING_METRIC_COMPRESSION_COMPRESSED_BYTES, unit = BYTES)
+    private final SwCounter compressedBytes = newSwCounter();
+    @Probe(name = NETWORKING_METRIC_COMPRESSION_TIME_NANOS, unit = NS)
+    private final SwCounter decompressionTimeNanos = newSwCounter();
+
+    private byte[] body;
+    private byte[] block;
+    private int blockType = NO_BLOCK;
+    private int bodyLength;
+    private int bodyPosition;
+    private int uncompressedLength;
+    private int blockPosition;
+    private int blockLimit;
+
+    @Override
+    public void handlerAdded() {
+        // allocated here since the handler may be created without being used
+        body = new byte[LZ4Codec.maxCompressedLength(BLOCK_SIZE)];
+        block = new byte[BLOCK_SIZE];
+        initSrcBuffer();
+    }
+
+    @Override
+    public HandlerStatus onRead() {
+        upcast(src).flip();
+        try {
+            for (; ; ) {
+                if (blockPosition < blockLimit) {
+                    int bytesWritable = min(dst.remaining(), blockLimit - blockPosition);
+                    dst.put(block, blockPosition, bytesWritable);
+                    blockPosition += bytesWritable;
+                    if (blockPosition < blockLimit) {
+                        // the next handler needs to consume what has been decoded so far
+                        return DIRTY;
+                    }
+                }
+
+                if (!readBlock()) {
+                    return CLEAN;
+                }
+            }
+        } finally {
+            compactOrClear(src);
+        }
+    }
+
+    /**
+     * Reads the next block from the src buffer and decodes it.
+     *
+     * @return {@code true} if a complete block has been read, {@code false}
+     * if more data is needed.
+     */
+    private boolean readBlock() {
+        if (blockType == NO_BLOCK) {
+            if (src.remaining() < HEADER_SIZE) {
+                return false;
+            }
+            blockType = src.get();
+            bodyLength = src.getInt();
+            uncompressedLength = src.getInt();
+            bodyPosition = 0;
+            checkHeader();
+        }
+
+        // an uncompressed body is read straight into the block
+        byte[] target = blockType == TYPE_RAW ? block : body;
+        int bytesReadable = min(src.remaining(), bodyLength - bodyPosition);
+        src.get(target, bodyPosition, bytesReadable);
+        bodyPosition += bytesReadable;
+        if (bodyPosition < bodyLength) {
+            return false;
+        }
+
+        if (blockType == TYPE_LZ4) {
+            long startNanos = System.nanoTime();
+            int length = LZ4Codec.decompress(body, 0, bodyLength, block, 0, uncompressedLength);
+            decompressionTimeNanos.inc(System.nanoTime() - startNanos);
+            if (length != uncompressedLength) {
+                throw new IllegalStateException("Decompressed " + length + " bytes, expected " + uncompressedLength);
+            }
+        }
+
+        blockPosition = 0;
+        blockLimit = uncompressedLength;
+        blockType = NO_BLOCK;
+
+        compressedBytes.inc(HEADER_SIZE + bodyLength);
+        uncompressedBytes.inc(uncompressedLength);
+        return true;
+    }
+
+    private void checkHeader() {
+        boolean valid = uncompressedLength >= 0
+                && uncompressedLength <= BLOCK_SIZE
+                && bodyLength >= 0
+                && bodyLength <= body.length;
+        if (blockType == TYPE_RAW) {
+            valid &= bodyLength == uncompressedLength;
+        } else if (blockType != TYPE_LZ4) {
+            valid = false;
+        }
+        if (!valid) {
+            throw new IllegalStateException("Malformed compressed block header, type: " + blockType
+                    + ", length: " + bodyLength + ", uncompressed length: " + uncompressedLength);
+        }
+    }
+}
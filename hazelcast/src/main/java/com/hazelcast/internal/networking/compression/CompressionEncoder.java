@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking.compression;
+
+import com.hazelcast.internal.metrics.Probe;
+import com.hazelcast.internal.networking.HandlerStatus;
+import com.hazelcast.internal.networking.OutboundHandler;
+import com.hazelcast.internal.util.counters.SwCounter;
+
+import java.nio.ByteBuffer;
+
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_COMPRESSION_COMPRESSED_BYTES;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_COMPRESSION_TIME_NANOS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.NETWORKING_METRIC_COMPRESSION_UNCOMPRESSED_BYTES;
+import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
+import static com.hazelcast.internal.metrics.ProbeUnit.NS;
+import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
+import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
+import static com.hazelcast.internal.nio.Bits.writeIntB;
+import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
+import static com.hazelcast.internal.util.JVMUtil.upcast;
+import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
+import static java.lang.Math.min;
+
+/**
+ * An {@link OutboundHandler} that compresses the byte stream produced by the
+ * previous handler into blocks.
+ * <p>
+ * Every block starts with a header containing the block type, the length of
+ * the block body and the uncompressed length. Whatever is available in the
+ * src buffer, up to {@link #BLOCK_SIZE} bytes, forms a block; so the block
+ * boundaries are unrelated to the frames written by the previous handler.
+ * Blocks smaller than the threshold, and blocks that don't get smaller by
+ * compressing them, are written uncompressed.
+ *
+ * @see CompressionDecoder
+ */
+public class CompressionEncoder extends OutboundHandler<ByteBuffer, ByteBuffer> {
+
+    /**
+     * The maximum number of uncompressed bytes in a block.
+     */
+    public static final int BLOCK_SIZE = LZ4Codec.MAX_DISTANCE + 1;
+
+    static final byte TYPE_RAW = 0;
+    static final byte TYPE_LZ4 = 1;
+    // type, body length, uncompressed length
+    static final int HEADER_SIZE = 1 + 2 * Integer.BYTES;
+
+    @Probe(name = NETWORKING_METRIC_COMPRESSION_UNCOMPRESSED_BYTES, unit = BYTES)
+    private final SwCounter uncompressedBytes = newSwCounter();
+    @Probe(name = NETWORKING_METRIC_COMPRESSION_COMPRESSED_BYTES, unit = BYTES)
+    private final SwCounter compressedBytes = newSwCounter();
+    @Probe(name = NETWORKING_METRIC_COMPRESSION_TIME_NANOS, unit = NS)
+    private final SwCounter compressionTimeNanos = newSwCounter();
+
+    private final int threshold;
+    private LZ4Codec codec;
+    private byte[] block;
+    private byte[] scratch;
+    private int blockPosition;
+    private int blockLimit;
+
+    /**
+     * @param threshold the minimum size of a block in bytes for it to be
+     *                  compressed; a negative value means no block is
+     *                  compressed, which is used when the remote side
+     *                  asked for compression but it is disabled locally
+     */
+    public CompressionEncoder(int threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void handlerAdded() {
+        // allocated here since the handler may be created without being used
+        codec = new LZ4Codec();
+        block = new byte[HEADER_SIZE + LZ4Codec.maxCompressedLength(BLOCK_SIZE)];
+        initDstBuffer();
+    }
+
+    @Override
+    public HandlerStatus onWrite() {
+        compactOrClear(dst);
+        try {
+            for (; ; ) {
+                if (blockPosition < blockLimit) {
+                    int bytesWritable = min(dst.remaining(), blockLimit - blockPosition);
+                    dst.put(block, blockPosition, bytesWritable);
+                    blockPosition += bytesWritable;
+                    if (blockPosition < blockLimit) {
+                        // the block didn't get written completely, so we are done.
+                        return DIRTY;
+                    }
+                }
+
+                if (!src.hasRemaining()) {
+                    return CLEAN;
+                }
+
+                encodeBlock();
+            }
+        } finally {
+            upcast(dst).flip();
+        }
+    }
+
+    private void encodeBlock() {
+        int length = min(src.remaining(), BLOCK_SIZE);
+        byte type = TYPE_RAW;
+        int bodyLength = length;
+
+        if (threshold >= 0 && length >= threshold) {
+            byte[] in;
+            int inOffset;
+            if (src.hasArray()) {
+                in = src.array();
+                inOffset = src.arrayOffset() + src.position();
+                upcast(src).position(src.position() + length);
+            } else {
+                if (scratch == null) {
+                    scratch = new byte[BLOCK_SIZE];
+                }
+                src.get(scratch, 0, length);
+                in = scratch;
+                inOffset = 0;
+            }
+
+            long startNanos = System.nanoTime();
+            int compressedLength = codec.compress(in, inOffset, length, block, HEADER_SIZE);
+            compressionTimeNanos.inc(System.nanoTime() - startNanos);
+
+            if (compressedLength < length) {
+                type = TYPE_LZ4;
+                bodyLength = compressedLength;
+            } else {
+                // incompressible data is sent as is
+                System.arraycopy(in, inOffset, block, HEADER_SIZE, length);
+            }
+        } else {
+            src.get(block, HEADER_SIZE, length);
+        }
+
+        block[0] = type;
+        writeIntB(block, 1, bodyLength);
+        writeIntB(block, 1 + Integer.BYTES, length);
+        blockPosition = 0;
+        blockLimit = HEADER_SIZE + bodyLength;
+
+        uncompressedBytes.inc(length);
+        compressedBytes.inc(blockLimit);
+    }
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking.compression;
+
+import java.util.Arrays;
+
+import static com.hazelcast.internal.nio.Bits.readIntL;
+
+/**
+ * A pure Java implementation of the LZ4 block format.
+ * <p>
+ * The compressor uses a single hash table probe per position and no
+ * acceleration heuristics; it favors simplicity and predictable CPU usage
+ * over the best possible ratio. The output can be decompressed by any LZ4
+ * block decompressor.
+ *
+ * @see <a href="https://github.com/lz4/lz4/blob/dev/doc/lz4_Block_format.md">LZ4 block format</a>
+ */
+@SuppressWarnings("checkstyle:magicnumber")
+final class LZ4Codec {
+
+    /**
+     * The maximum distance between a match and its reference.
+     */
+    static final int MAX_DISTANCE = (1 << 16) - 1;
+
+    private static final int MIN_MATCH = 4;
+    // the last 5 bytes of a block are always literals
+    private static final int LAST_LITERALS = 5;
+    // the last match must start at least 12 bytes before the end of a block
+    private static final int MF_LIMIT = 12;
+    private static final int MIN_LENGTH = MF_LIMIT + 1;
+    private static final int HASH_LOG = 12;
+    private static final int ML_MASK = 0x0F;
+    private static final int RUN_MASK = 0x0F;
+    private static final int SKIP_TRIGGER = 6;
+
+    private final int[] hashTable = new int[1 << HASH_LOG];
+
+    /**
+     * Returns the maximum size of the compressed form of {@code length}
+     * bytes.
+     */
+    static int maxCompressedLength(int length) {
+        return length + length / 255 + 16;
+    }
+
+    /**
+     * Compresses {@code srcLen} bytes of {@code src} starting at {@code srcOff}
+     * into {@code dst} starting at {@code dstOff}. The {@code dst} needs to have
+     * room for {@link #maxCompressedLength(int)} bytes.
+     *
+     * @return the number of bytes written to {@code dst}
+     */
+    @SuppressWarnings("checkstyle:npathcomplexity")
+    int compress(byte[] src, int srcOff, int srcLen, byte[] dst, int dstOff) {
+        int srcEnd = srcOff + srcLen;
+        int matchLimit = srcEnd - LAST_LITERALS;
+        int mfLimit = srcEnd - MF_LIMIT;
+        int anchor = srcOff;
+        int d = dstOff;
+
+        if (srcLen >= MIN_LENGTH) {
+            Arrays.fill(hashTable, -1);
+            int s = srcOff;
+            int searchCount = 1 << SKIP_TRIGGER;
+            while (s < mfLimit) {
+                int sequence = readIntL(src, s);
+                int h = hash(sequence);
+                int ref = hashTable[h];
+                hashTable[h] = s;
+                if (ref < 0 || s - ref > MAX_DISTANCE || readIntL(src, ref) != sequence) {
+                    // skip faster over incompressible data
+                    s += searchCount++ >>> SKIP_TRIGGER;
+                    continue;
+                }
+                searchCount = 1 << SKIP_TRIGGER;
+
+                // extend the match backwards
+                while (s > anchor && ref > srcOff && src[s - 1] == src[ref - 1]) {
+                    s--;
+                    ref--;
+                }
+
+                int matchEnd = s + MIN_MATCH;
+                int refEnd = ref + MIN_MATCH;
+                while (matchEnd < matchLimit && src[matchEnd] == src[refEnd]) {
+                    matchEnd++;
+                    refEnd++;
+                }
+
+                d = writeSequence(src, anchor, s - anchor, s - ref, matchEnd - s - MIN_MATCH, dst, d);
+                s = matchEnd;
+                anchor = s;
+            }
+        }
+
+        // the remaining bytes are written as the last literals
+        int literalLength = srcEnd - anchor;
+        d = writeLiteralLength(literalLength, dst, d);
+        System.arraycopy(src, anchor, dst, d, literalLength);
+        return d + literalLength - dstOff;
+    }
+
+    /**
+     * Decompresses {@code srcLen} bytes of {@code src} starting at {@code srcOff}
+     * into {@code dst} starting at {@code dstOff}, writing at most {@code dstLen}
+     * bytes.
+     *
+     * @return the number of bytes written to {@code dst}
+     * @throws IllegalArgumentException if the input is not a valid LZ4 block
+     *                                  or doesn't fit into {@code dstLen}
+     */
+    @SuppressWarnings({"checkstyle:npathcomplexity", "checkstyle:cyclomaticcomplexity"})
+    static int decompress(byte[] src, int srcOff, int srcLen, byte[] dst, int dstOff, int dstLen) {
+        int s = srcOff;
+        int srcEnd = srcOff + srcLen;
+        int d = dstOff;
+        int dstEnd = dstOff + dstLen;
+
+        while (s < srcEnd) {
+            int token = src[s++] & 0xFF;
+
+            int literalLength = token >>> 4;
+            if (literalLength == RUN_MASK) {
+                int b;
+                do {
+                    check(s < srcEnd);
+                    b = src[s++] & 0xFF;
+                    literalLength += b;
+                } while (b == 0xFF);
+            }
+            check(literalLength <= srcEnd - s && literalLength <= dstEnd - d);
+            System.arraycopy(src, s, dst, d, literalLength);
+            s += literalLength;
+            d += literalLength;
+
+            if (s == srcEnd) {
+                // the last sequence has no match
+                break;
+            }
+
+            check(srcEnd - s >= 2);
+            int offset = (src[s] & 0xFF) | (src[s + 1] & 0xFF) << 8;
+            s += 2;
+            int ref = d - offset;
+            check(offset > 0 && ref >= dstOff);
+
+            int matchLength = token & ML_MASK;
+            if (matchLength == ML_MASK) {
+                int b;
+                do {
+                    check(s < srcEnd);
+                    b = src[s++] & 0xFF;
+                    matchLength += b;
+                } while (b == 0xFF);
+            }
+            matchLength += MIN_MATCH;
+            check(matchLength <= dstEnd - d);
+
+            if (offset >= matchLength) {
+                System.arraycopy(dst, ref, dst, d, matchLength);
+                d += matchLength;
+            } else {
+                // overlapping copy; e.g. a run of the same byte
+                for (int i = 0; i < matchLength; i++) {
+                    dst[d++] = dst[ref++];
+                }
+            }
+        }
+        return d - dstOff;
+    }
+
+    private static int writeSequence(byte[] src, int literalOff, int literalLength, int offset, int matchLength,
+                                     byte[] dst, int d) {
+        int tokenPos = d;
+        d = writeLiteralLength(literalLength, dst, d);
+        System.arraycopy(src, literalOff, dst, d, literalLength);
+        d += literalLength;
+
+        dst[d++] = (byte) offset;
+        dst[d++] = (byte) (offset >>> 8);
+
+        if (matchLength >= ML_MASK) {
+            dst[tokenPos] |= ML_MASK;
+            d = writeLengthExtension(matchLength - ML_MASK, dst, d);
+        } else {
+            dst[tokenPos] |= (byte) matchLength;
+        }
+        return d;
+    }
+
+    // writes the token with the literal length, followed by the length extension if needed
+    private static int writeLiteralLength(int literalLength, byte[] dst, int d) {
+        if (literalLength >= RUN_MASK) {
+            dst[d++] = (byte) (RUN_MASK << 4);
+            return writeLengthExtension(literalLength - RUN_MASK, dst, d);
+        } else {
+            dst[d++] = (byte) (literalLength << 4);
+            return d;
+        }
+    }
+
+    private static int writeLengthExtension(int length, byte[] dst, int d) {
+        while (length >= 0xFF) {
+            dst[d++] = (byte) 0xFF;
+            length -= 0xFF;
+        }
+        dst[d++] = (byte) length;
+        return d;
+    }
+
+    private static int hash(int sequence) {
+        return (sequence * -1640531535) >>> (32 - HASH_LOG);
+    }
+
+    private static void check(boolean condition) {
+        if (!condition) {
+            throw new IllegalArgumentException("Malformed LZ4 block");
+        }
+    }
+}
@@ -25,6 +25,7 @@ import com.hazelcast.internal.metrics.ProbeLevel;
 import com.hazelcast.internal.networking.Channel;
 import com.hazelcast.internal.networking.ChannelCloseListener;
 import com.hazelcast.internal.networking.ChannelErrorHandler;
+import com.hazelcast.internal.networking.ChannelHandler;
 import com.hazelcast.internal.networking.ChannelInitializer;
 import com.hazelcast.internal.networking.InboundHandler;
 import com.hazelcast.internal.networking.Networking;
@@ -355,20 +356,20 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
     @Override
     public void provideDynamicMetrics(MetricDescriptor descriptor,
                                       MetricsCollectionContext context) {
-        for (Channel channel : channels) {
+        for (NioChannel channel : channels) {
             String pipelineId = channel.localSocketAddress() + "->" + channel.remoteSocketAddress();
 
             MetricDescriptor descriptorIn = descriptor
                     .copy()
                     .withPrefix(TCP_PREFIX_CONNECTION_IN)
                     .withDiscriminator(TCP_DISCRIMINATOR_PIPELINEID, pipelineId);
-            context.collect(descriptorIn, channel.inboundPipeline());
+            collectPipelineMetrics(descriptorIn, context, channel.inboundPipeline);
 
             MetricDescriptor descriptorOut = descriptor
                     .copy()
                     .withPrefix(TCP_PREFIX_CONNECTION_OUT)
                     .withDiscriminator(TCP_DISCRIMINATOR_PIPELINEID, pipelineId);
-            context.collect(descriptorOut, channel.outboundPipeline());
+            collectPipelineMetrics(descriptorOut, context, channel.outboundPipeline);
         }
 
         NioThread[] inputThreads = this.inputThreads;
@@ -407,6 +408,15 @@ public final class NioNetworking implements Networking, DynamicMetricsProvider {
         context.collect(descriptorTcp, this);
     }
 
+    private static void collectPipelineMetrics(MetricDescriptor descriptor, MetricsCollectionContext context,
+                                               NioPipeline pipeline) {
+        context.collect(descriptor, pipeline);
+        // handlers can expose probes as well, e.g. the compression ratio
+        for (ChannelHandler handler : pipeline.handlers()) {
+            context.collect(descriptor, handler);
+        }
+    }
+
     // package private accessors for testing
     boolean isWriteThroughEnabled() {
         return writeThroughEnabled;
@@ -19,6 +19,7 @@ package com.hazelcast.internal.networking.nio;
 import com.hazelcast.internal.metrics.Probe;
 import com.hazelcast.internal.networking.ChannelErrorHandler;
 import com.hazelcast.internal.networking.ChannelHandler;
+import com.hazelcast.internal.networking.GatheringWriteHandler;
 import com.hazelcast.internal.networking.HandlerStatus;
 import com.hazelcast.internal.networking.OutboundFrame;
 import com.hazelcast.internal.networking.OutboundHandler;
@@ -116,6 +117,9 @@ public final class NioOutboundPipeline
 
     private OutboundHandler[] handlers = new OutboundHandler[0];
     private ByteBuffer sendBuffer;
+    // the last handler if it supports gathering writes, otherwise null
+    private GatheringWriteHandler gatheringHandler;
+    private final ByteBuffer[] gatherBuffers = new ByteBuffer[2];
 
     private final AtomicReference<State> scheduled = new AtomicReference<>(State.SCHEDULED);
     @Probe(name = NETWORKING_METRIC_NIO_OUTBOUND_PIPELINE_BYTES_WRITTEN, unit = BYTES, level = DEBUG)
@@ -331,7 +335,7 @@ public final class NioOutboundPipeline
             return;
         }
 
-        if (sendBuffer.remaining() > 0) {
+        if (sendBuffer.remaining() > 0 || hasPendingPayload()) {
             pipelineStatus = DIRTY;
         }
 
@@ -437,11 +441,34 @@ public final class NioOutboundPipeline
 
     private void flushToSocket() throws IOException {
         lastWriteTime = currentTimeMillis();
-        int written = socketChannel.write(sendBuffer);
+        ByteBuffer payload = gatheringHandler == null ? null : gatheringHandler.pendingPayload();
+        long written;
+        if (payload == null || !payload.hasRemaining()) {
+            written = socketChannel.write(sendBuffer);
+        } else {
+            // the payload follows the content of the sendBuffer, so both
+            // are written with a single gathering write without copying.
+            gatherBuffers[0] = sendBuffer;
+            gatherBuffers[1] = payload;
+            try {
+                written = socketChannel.write(gatherBuffers);
+            } finally {
+                gatherBuffers[0] = null;
+                gatherBuffers[1] = null;
+            }
+        }
         bytesWritten.inc(written);
         //System.out.println(channel + " bytes written:" + written);
     }
 
+    private boolean hasPendingPayload() {
+        if (gatheringHandler == null) {
+            return false;
+        }
+        ByteBuffer payload = gatheringHandler.pendingPayload();
+        return payload != null && payload.hasRemaining();
+    }
+
     void drainWriteQueues() {
         writeQueue.clear();
         priorityWriteQueue.clear();
@@ -515,8 +542,18 @@ public final class NioOutboundPipeline
         this.handlers = newHandlers;
         this.sendBuffer = newHandlers.length == 0 ? null : (ByteBuffer) newHandlers[newHandlers.length - 1].dst();
 
+        // only the last handler can do gathering writes since its output
+        // goes straight to the socket.
+        GatheringWriteHandler newGatheringHandler = null;
         OutboundHandler prev = null;
         for (OutboundHandler handler : handlers) {
+            if (handler instanceof GatheringWriteHandler) {
+                boolean last = handler == newHandlers[newHandlers.length - 1];
+                ((GatheringWriteHandler) handler).setGatheringWritesEnabled(last);
+                if (last) {
+                    newGatheringHandler = (GatheringWriteHandler) handler;
+                }
+            }
             if (prev == null) {
                 handler.src(this);
             } else {
@@ -527,6 +564,7 @@ public final class NioOutboundPipeline
             }
             prev = handler;
         }
+        this.gatheringHandler = newGatheringHandler;
     }
 
     // useful for debugging
@@ -58,11 +58,7 @@ public class PacketIOHelper {
                 return false;
             }
 
-            dst.put(VERSION);
-            dst.putChar(packet.getFlags());
-            dst.putInt(packet.getPartitionId());
-            size = packet.totalSize();
-            dst.putInt(size);
+            size = writeHeader(packet, dst);
             headerComplete = true;
         }
 
@@ -74,6 +70,32 @@ public class PacketIOHelper {
         }
     }
 
+    /**
+     * Writes only the header of the packet to the supplied {@code ByteBuffer}. The caller is responsible
+     * for writing the payload ({@link Packet#toByteArray()}) directly after the header, e.g. using a
+     * gathering write. This method doesn't modify the state of this {@link PacketIOHelper}.
+     *
+     * @param dst the destination byte buffer
+     * @return {@code true} if the header got written; {@code false} if there was not enough space.
+     */
+    public boolean writeHeaderTo(Packet packet, ByteBuffer dst) {
+        if (dst.remaining() < HEADER_SIZE) {
+            return false;
+        }
+
+        writeHeader(packet, dst);
+        return true;
+    }
+
+    private static int writeHeader(Packet packet, ByteBuffer dst) {
+        dst.put(VERSION);
+        dst.putChar(packet.getFlags());
+        dst.putInt(packet.getPartitionId());
+        int size = packet.totalSize();
+        dst.putInt(size);
+        return size;
+    }
+
     private boolean writeValue(Packet packet, ByteBuffer dst) {
         if (size > 0) {
             // the number of bytes that can be written to the bb.
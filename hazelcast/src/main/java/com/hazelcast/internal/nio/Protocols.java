@@ -36,6 +36,19 @@ public final class Protocols {
      */
     public static final String CLIENT_BINARY = "CP2";
 
+    /**
+     * Variant of {@link #CLUSTER} sent by a member that wants the byte stream
+     * in both directions of the connection to be compressed. The accepting
+     * member replies with the same protocol bytes.
+     */
+    public static final String CLUSTER_COMPRESSED = "HZZ";
+
+    /**
+     * Variant of {@link #CLIENT_BINARY} sent by a client that wants the byte
+     * stream in both directions of the connection to be compressed.
+     */
+    public static final String CLIENT_BINARY_COMPRESSED = "CPZ";
+
     /**
      * Protocol that is used by REST
      */
@@ -54,6 +67,22 @@ public final class Protocols {
     private Protocols() {
     }
 
+    /**
+     * Returns the compressed variant of the given protocol, or {@code null}
+     * if the protocol has no compressed variant.
+     */
+    public static String compressedVariantOf(String protocol) {
+        if (CLUSTER.equals(protocol)) {
+            return CLUSTER_COMPRESSED;
+        }
+
+        if (CLIENT_BINARY.equals(protocol)) {
+            return CLIENT_BINARY_COMPRESSED;
+        }
+
+        return null;
+    }
+
     public static String toUserFriendlyString(String protocol) {
         if (CLUSTER.equals(protocol)) {
             return "Cluster Protocol";
@@ -21,6 +21,7 @@ import com.hazelcast.internal.nio.BufferObjectDataInput;
 import com.hazelcast.internal.nio.BufferObjectDataOutput;
 import com.hazelcast.internal.nio.Disposable;
 import com.hazelcast.internal.serialization.impl.InternalGenericRecord;
+import com.hazelcast.internal.serialization.impl.compact.CompactFlyweightReader;
 import com.hazelcast.internal.serialization.impl.compact.Schema;
 import com.hazelcast.internal.serialization.impl.portable.PortableContext;
 import com.hazelcast.jet.impl.ExplodeSnapshotP;
@@ -129,6 +130,17 @@ public interface InternalSerializationService extends SerializationService, Disp
      */
     InternalGenericRecord readAsInternalGenericRecord(Data data) throws IOException;
 
+    /**
+     * Creates a reader that reads Compact data as InternalGenericRecord by
+     * re-using the same input and record for every data it is given.
+     * The returned reader is not thread safe and is meant to be confined
+     * to a single thread, like {@link #readAsInternalGenericRecord(Data)},
+     * it will only be used for query purposes.
+     *
+     * @return a new reader for Compact data
+     */
+    CompactFlyweightReader createCompactFlyweightReader();
+
     /**
      * @param data to extract the schema from
      * @return schema of the given Compact Data
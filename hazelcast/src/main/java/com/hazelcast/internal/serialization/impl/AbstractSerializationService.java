@@ -432,6 +432,10 @@ public abstract class AbstractSerializationService implements InternalSerializat
         return inputOutputFactory.getByteOrder();
     }
 
+    public BufferPoolThreadLocal getBufferPoolThreadLocal() {
+        return bufferPoolThreadLocal;
+    }
+
     @Override
     public byte getVersion() {
         return version;
@@ -21,6 +21,7 @@ import com.hazelcast.internal.nio.BufferObjectDataOutput;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.bufferpool.SizeClassedByteArrayPool;
 import com.hazelcast.internal.util.collection.ArrayUtils;
 
 import javax.annotation.Nullable;
@@ -50,6 +51,9 @@ public class ByteArrayObjectDataOutput extends VersionedObjectDataOutput impleme
 
     private final boolean isBigEndian;
 
+    // only set for instances owned by a BufferPool; must be accessed by the owning thread only
+    private SizeClassedByteArrayPool byteArrayPool;
+
     ByteArrayObjectDataOutput(int size, InternalSerializationService service, ByteOrder byteOrder) {
         this(size, -1, service, byteOrder);
     }
@@ -396,13 +400,30 @@ public class ByteArrayObjectDataOutput extends VersionedObjectDataOutput impleme
         if (available() < len) {
             if (buffer != null) {
                 int newCap = Math.max(Math.max(buffer.length << 1, buffer.length + len), firstGrowthSize);
-                buffer = Arrays.copyOf(buffer, newCap);
+                buffer = byteArrayPool == null ? Arrays.copyOf(buffer, newCap) : growFromPool(newCap);
             } else {
                 buffer = new byte[len > initialSize / 2 ? len * 2 : initialSize];
             }
         }
     }
 
+    private byte[] growFromPool(int newCap) {
+        byte[] newBuffer = byteArrayPool.take(newCap);
+        System.arraycopy(buffer, 0, newBuffer, 0, buffer.length);
+        byteArrayPool.offer(buffer);
+        return newBuffer;
+    }
+
+    /**
+     * Makes this output take its grown buffers from the given pool and give
+     * them back to it on {@link #clear()}, instead of allocating and dropping them.
+     *
+     * @param byteArrayPool the pool, or {@code null} to stop pooling
+     */
+    public void setByteArrayPool(SizeClassedByteArrayPool byteArrayPool) {
+        this.byteArrayPool = byteArrayPool;
+    }
+
     @Override
     public void writeObject(Object object) throws IOException {
         service.writeObject(this, object);
@@ -460,7 +481,12 @@ public class ByteArrayObjectDataOutput extends VersionedObjectDataOutput impleme
     public void clear() {
         pos = 0;
         if (buffer != null && buffer.length > initialSize * 8) {
-            buffer = new byte[initialSize * 8];
+            if (byteArrayPool == null) {
+                buffer = new byte[initialSize * 8];
+            } else {
+                byteArrayPool.offer(buffer);
+                buffer = byteArrayPool.takeExact(initialSize * 8);
+            }
         }
         version = UNKNOWN;
         wanProtocolVersion = UNKNOWN;
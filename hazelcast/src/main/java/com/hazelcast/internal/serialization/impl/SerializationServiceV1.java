@@ -20,6 +20,7 @@ import com.hazelcast.core.HazelcastJsonValue;
 import com.hazelcast.internal.nio.BufferObjectDataInput;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.DataType;
+import com.hazelcast.internal.serialization.impl.compact.CompactFlyweightReader;
 import com.hazelcast.internal.serialization.impl.compact.Schema;
 import com.hazelcast.internal.serialization.impl.defaultserializers.ArrayBlockingQueueStreamSerializer;
 import com.hazelcast.internal.serialization.impl.defaultserializers.ArrayDequeStreamSerializer;
@@ -208,6 +209,11 @@ public class SerializationServiceV1 extends AbstractSerializationService {
         throw new IllegalArgumentException("Given type does not support query over data, type id " + data.getType());
     }
 
+    @Override
+    public CompactFlyweightReader createCompactFlyweightReader() {
+        return compactStreamSerializer.createFlyweightReader(createObjectDataInput((byte[]) null));
+    }
+
     @Override
     public Schema extractSchemaFromData(@Nonnull Data data) throws IOException {
         if (!data.isCompact()) {
@@ -20,6 +20,7 @@ import com.hazelcast.internal.nio.BufferObjectDataInput;
 import com.hazelcast.internal.nio.BufferObjectDataOutput;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.ByteArrayObjectDataOutput;
 import com.hazelcast.internal.serialization.impl.HeapData;
 
 import java.util.ArrayDeque;
@@ -28,6 +29,9 @@ import java.util.Queue;
 /**
  * Default {@link BufferPool} implementation.
  * <p>
+ * The pooled {@link ByteArrayObjectDataOutput} instances share a {@link SizeClassedByteArrayPool}, so the
+ * buffers they grow to serialize large values are reused instead of being dropped on every return.
+ * <p>
  * This class is designed to that a subclass can be made. This is done for the Enterprise version.
  */
 public class BufferPoolImpl implements BufferPool {
@@ -38,6 +42,7 @@ public class BufferPoolImpl implements BufferPool {
     // accessible for testing.
     final Queue<BufferObjectDataOutput> outputQueue = new ArrayDeque<>(MAX_POOLED_ITEMS);
     final Queue<BufferObjectDataInput> inputQueue = new ArrayDeque<>(MAX_POOLED_ITEMS);
+    final SizeClassedByteArrayPool byteArrayPool = new SizeClassedByteArrayPool();
 
     public BufferPoolImpl(InternalSerializationService serializationService) {
         this.serializationService = serializationService;
@@ -48,6 +53,9 @@ public class BufferPoolImpl implements BufferPool {
         BufferObjectDataOutput out = outputQueue.poll();
         if (out == null) {
             out = serializationService.createObjectDataOutput();
+            if (out instanceof ByteArrayObjectDataOutput) {
+                ((ByteArrayObjectDataOutput) out).setByteArrayPool(byteArrayPool);
+            }
         }
         return out;
     }
@@ -59,6 +67,7 @@ public class BufferPoolImpl implements BufferPool {
         }
 
         out.clear();
+        byteArrayPool.tick();
 
         tryOffer(outputQueue, out);
     }
@@ -84,6 +93,13 @@ public class BufferPoolImpl implements BufferPool {
         tryOffer(inputQueue, in);
     }
 
+    /**
+     * Returns the pool of byte arrays backing the pooled outputs.
+     */
+    public SizeClassedByteArrayPool getByteArrayPool() {
+        return byteArrayPool;
+    }
+
     private static <C> void tryOffer(Queue<C> queue, C item) {
         if (queue.size() == MAX_POOLED_ITEMS) {
             return;
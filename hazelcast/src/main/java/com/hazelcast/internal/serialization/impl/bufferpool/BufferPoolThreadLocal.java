@@ -16,6 +16,9 @@
 
 package com.hazelcast.internal.serialization.impl.bufferpool;
 
+import com.hazelcast.internal.metrics.DynamicMetricsProvider;
+import com.hazelcast.internal.metrics.MetricDescriptor;
+import com.hazelcast.internal.metrics.MetricsCollectionContext;
 import com.hazelcast.internal.nio.BufferObjectDataOutput;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.util.ConcurrentReferenceHashMap;
@@ -24,6 +27,14 @@ import java.lang.ref.WeakReference;
 import java.util.Map;
 import java.util.function.Supplier;
 
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SERIALIZATION_BUFFER_POOL_METRIC_HITS;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SERIALIZATION_BUFFER_POOL_METRIC_MISSES;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SERIALIZATION_BUFFER_POOL_METRIC_RETAINED_BYTES;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SERIALIZATION_BUFFER_POOL_METRIC_TRIMMED_BYTES;
+import static com.hazelcast.internal.metrics.MetricDescriptorConstants.SERIALIZATION_BUFFER_POOL_PREFIX;
+import static com.hazelcast.internal.metrics.ProbeLevel.INFO;
+import static com.hazelcast.internal.metrics.ProbeUnit.BYTES;
+import static com.hazelcast.internal.metrics.ProbeUnit.COUNT;
 import static com.hazelcast.internal.util.ConcurrentReferenceHashMap.ReferenceType.STRONG;
 import static com.hazelcast.internal.util.ConcurrentReferenceHashMap.ReferenceType.WEAK;
 
@@ -76,8 +87,17 @@ import static com.hazelcast.internal.util.ConcurrentReferenceHashMap.ReferenceTy
  * The Performance of using a ThreadLocal in combination with a WeakReference is almost the same as using a ThreadLocal without
  * WeakReference. There is an extra pointer indirection and some additional pressure on the gc system since it needs to deal with
  * the WeakReferences, but the number of threads is limited.
+ *
+ * <h1>Metrics</h1>
+ * The BufferPoolThreadLocal provides the metrics of the {@link SizeClassedByteArrayPool} instances of all its
+ * BufferPools, summed up over the threads.
  */
-public final class BufferPoolThreadLocal {
+public final class BufferPoolThreadLocal implements DynamicMetricsProvider {
+
+    /**
+     * The period at which {@link #trimIdleByteArrayPools()} is called on a member.
+     */
+    public static final long IDLE_TRIM_PERIOD_SECONDS = 30;
 
     private final ThreadLocal<WeakReference<BufferPool>> threadLocal = new ThreadLocal<>();
     private final InternalSerializationService serializationService;
@@ -113,4 +133,40 @@ public final class BufferPoolThreadLocal {
     public void clear() {
         strongReferences.clear();
     }
+
+    /**
+     * Releases the pooled byte arrays of the threads that haven't serialized anything
+     * large since the previous call, see {@link SizeClassedByteArrayPool#trimIfIdle()}.
+     * Meant to be called periodically.
+     */
+    public void trimIdleByteArrayPools() {
+        for (BufferPool pool : strongReferences.values()) {
+            if (pool instanceof BufferPoolImpl) {
+                ((BufferPoolImpl) pool).getByteArrayPool().trimIfIdle();
+            }
+        }
+    }
+
+    @Override
+    public void provideDynamicMetrics(MetricDescriptor descriptor, MetricsCollectionContext context) {
+        long hits = 0;
+        long misses = 0;
+        long retainedBytes = 0;
+        long trimmedBytes = 0;
+        for (BufferPool pool : strongReferences.values()) {
+            if (pool instanceof BufferPoolImpl) {
+                SizeClassedByteArrayPool byteArrayPool = ((BufferPoolImpl) pool).getByteArrayPool();
+                hits += byteArrayPool.hits.get();
+                misses += byteArrayPool.misses.get();
+                retainedBytes += byteArrayPool.retainedBytes.get();
+                trimmedBytes += byteArrayPool.trimmedBytes.get();
+            }
+        }
+
+        MetricDescriptor poolDescriptor = descriptor.withPrefix(SERIALIZATION_BUFFER_POOL_PREFIX);
+        context.collect(poolDescriptor, SERIALIZATION_BUFFER_POOL_METRIC_HITS, INFO, COUNT, hits);
+        context.collect(poolDescriptor, SERIALIZATION_BUFFER_POOL_METRIC_MISSES, INFO, COUNT, misses);
+        context.collect(poolDescriptor, SERIALIZATION_BUFFER_POOL_METRIC_RETAINED_BYTES, INFO, BYTES, retainedBytes);
+        context.collect(poolDescriptor, SERIALIZATION_BUFFER_POOL_METRIC_TRIMMED_BYTES, INFO, BYTES, trimmedBytes);
+    }
 }
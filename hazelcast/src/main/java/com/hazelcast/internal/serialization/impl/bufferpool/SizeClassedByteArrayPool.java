@@ -0,0 +1,230 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.serialization.impl.bufferpool;
+
+import com.hazelcast.internal.util.counters.MwCounter;
+import com.hazelcast.internal.util.counters.SwCounter;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.hazelcast.internal.util.counters.MwCounter.newMwCounter;
+import static com.hazelcast.internal.util.counters.SwCounter.newSwCounter;
+
+/**
+ * A pool of byte arrays organized in power-of-two size classes, used as the backing
+ * storage of pooled {@link com.hazelcast.internal.nio.BufferObjectDataOutput} instances.
+ * <p>
+ * Without it an output that has grown to serialize a large value drops its buffer on
+ * {@link com.hazelcast.internal.nio.BufferObjectDataOutput#clear()} and has to regrow it
+ * (allocating and copying at each doubling) the next time a large value comes along.
+ * With it, the grown buffers are parked here and handed out again on the next growth,
+ * so a workload mixing small and large values reaches a steady state without allocating.
+ * Arrays smaller than {@link #MIN_ARRAY_LENGTH} are not pooled; they are allocated with
+ * the requested length, just like without the pool.
+ * <p>
+ * Retention is adaptive: the pool counts which classes were taken from in a window of
+ * {@link #TRIM_WINDOW} serializations, and at the end of the window releases one array
+ * from every class that was not used. The pool also never retains more than
+ * {@link #MAX_RETAINED_BYTES} in total. Since a thread that stops serializing never
+ * completes a window, {@link #trimIfIdle()} is called periodically by another thread and
+ * releases all arrays of a pool that hasn't been used since the previous call.
+ * <p>
+ * Just like the {@link BufferPool} it belongs to, this class is not thread-safe, except for
+ * {@link #trimIfIdle()}, which may be called concurrently with the owning thread. The
+ * counters can be read by the metrics system, see {@link BufferPoolThreadLocal}.
+ */
+public final class SizeClassedByteArrayPool {
+
+    static final int MIN_CLASS_SHIFT = 15;
+    static final int MAX_CLASS_SHIFT = 23;
+    static final int CLASS_COUNT = MAX_CLASS_SHIFT - MIN_CLASS_SHIFT + 1;
+    static final int MIN_ARRAY_LENGTH = 1 << MIN_CLASS_SHIFT;
+    static final int MAX_ARRAY_LENGTH = 1 << MAX_CLASS_SHIFT;
+    static final int MAX_ARRAYS_PER_CLASS = 2;
+    static final int TRIM_WINDOW = 1024;
+    static final long MAX_RETAINED_BYTES = MAX_ARRAY_LENGTH;
+
+    final SwCounter hits = newSwCounter();
+    final SwCounter misses = newSwCounter();
+    // also written by the thread calling trimIfIdle
+    final MwCounter retainedBytes = newMwCounter();
+    final MwCounter trimmedBytes = newMwCounter();
+
+    // the slots of class k are at [k * MAX_ARRAYS_PER_CLASS, (k + 1) * MAX_ARRAYS_PER_CLASS)
+    private final AtomicReferenceArray<byte[]> slots = new AtomicReferenceArray<>(CLASS_COUNT * MAX_ARRAYS_PER_CLASS);
+    private final int[] usage = new int[CLASS_COUNT];
+    private int ticks;
+    private volatile boolean used;
+
+    /**
+     * Takes an array with a length of at least {@code minLength}.
+     * <p>
+     * The smallest pooled array that is large enough is returned. If there is none, a
+     * new array with the length of the size class of {@code minLength} is allocated.
+     * Requests smaller than the smallest size class or larger than the largest size class
+     * are always allocated with exactly {@code minLength}.
+     *
+     * @param minLength the minimal length of the array
+     * @return the array, its content is undefined
+     */
+    public byte[] take(int minLength) {
+        return take(minLength, CLASS_COUNT - 1);
+    }
+
+    /**
+     * Takes an array with exactly the length of the size class of {@code minLength}.
+     * Unlike {@link #take(int)}, this never hands out an array of a larger class, so
+     * it can be used to shrink a buffer.
+     *
+     * @param minLength the minimal length of the array
+     * @return the array, its content is undefined
+     */
+    public byte[] takeExact(int minLength) {
+        return take(minLength, classIndex(minLength));
+    }
+
+    private byte[] take(int minLength, int maxIndex) {
+        if (minLength < MIN_ARRAY_LENGTH || minLength > MAX_ARRAY_LENGTH) {
+            return new byte[minLength];
+        }
+
+        markUsed();
+        int index = classIndex(minLength);
+        for (int k = index; k <= maxIndex; k++) {
+            byte[] array = pop(k);
+            if (array != null) {
+                usage[k]++;
+                hits.inc();
+                return array;
+            }
+        }
+
+        usage[index]++;
+        misses.inc();
+        return new byte[classLength(index)];
+    }
+
+    /**
+     * Offers an array to the pool. Arrays that don't match a size class, arrays of a
+     * class that is already full and arrays that would exceed the retention limit are
+     * dropped.
+     *
+     * @param array the array
+     */
+    public void offer(byte[] array) {
+        int length = array.length;
+        if (length < MIN_ARRAY_LENGTH || length > MAX_ARRAY_LENGTH || Integer.bitCount(length) != 1) {
+            return;
+        }
+        if (retainedBytes.get() + length > MAX_RETAINED_BYTES) {
+            return;
+        }
+
+        markUsed();
+        int first = classIndex(length) * MAX_ARRAYS_PER_CLASS;
+        for (int slot = first; slot < first + MAX_ARRAYS_PER_CLASS; slot++) {
+            if (slots.get(slot) == null && slots.compareAndSet(slot, null, array)) {
+                retainedBytes.inc(length);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Signals that a pooled output has been returned. Every {@link #TRIM_WINDOW} ticks,
+     * one array is released from each size class that has not been taken from since the
+     * previous trim.
+     */
+    public void tick() {
+        if (++ticks < TRIM_WINDOW) {
+            return;
+        }
+        ticks = 0;
+
+        for (int k = 0; k < CLASS_COUNT; k++) {
+            if (usage[k] == 0) {
+                byte[] array = pop(k);
+                if (array != null) {
+                    trimmedBytes.inc(array.length);
+                }
+            }
+            usage[k] = 0;
+        }
+    }
+
+    /**
+     * Releases all pooled arrays if the pool has not been taken from or offered to since
+     * the previous call. Can be called by any thread.
+     */
+    public void trimIfIdle() {
+        if (used) {
+            used = false;
+            return;
+        }
+
+        for (int slot = 0; slot < slots.length(); slot++) {
+            byte[] array = slots.getAndSet(slot, null);
+            if (array != null) {
+                retainedBytes.inc(-array.length);
+                trimmedBytes.inc(array.length);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of arrays currently pooled in the size class of the given length.
+     * For testing only.
+     */
+    int pooledCount(int length) {
+        int first = classIndex(length) * MAX_ARRAYS_PER_CLASS;
+        int count = 0;
+        for (int slot = first; slot < first + MAX_ARRAYS_PER_CLASS; slot++) {
+            if (slots.get(slot) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private void markUsed() {
+        if (!used) {
+            used = true;
+        }
+    }
+
+    private byte[] pop(int index) {
+        int first = index * MAX_ARRAYS_PER_CLASS;
+        for (int slot = first + MAX_ARRAYS_PER_CLASS - 1; slot >= first; slot--) {
+            byte[] array = slots.get(slot);
+            if (array != null && slots.compareAndSet(slot, array, null)) {
+                retainedBytes.inc(-array.length);
+                return array;
+            }
+        }
+        return null;
+    }
+
+    static int classIndex(int length) {
+        int shift = Integer.SIZE - Integer.numberOfLeadingZeros(length - 1);
+        return Math.max(shift - MIN_CLASS_SHIFT, 0);
+    }
+
+    static int classLength(int index) {
+        return 1 << (index + MIN_CLASS_SHIFT);
+    }
+}
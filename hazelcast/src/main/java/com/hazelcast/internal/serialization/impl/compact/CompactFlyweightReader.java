@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.serialization.impl.compact;
+
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.internal.serialization.impl.InternalGenericRecord;
+
+import java.io.IOException;
+
+/**
+ * Reads Compact {@link Data} as an {@link InternalGenericRecord} without
+ * allocating a new input and record per call.
+ * <p>
+ * The same input and record are re-pointed on every {@link #reset(Data)},
+ * and the schema of the last read data is cached, so that consecutive reads
+ * of the same type do not even go to the schema service. This is meant for
+ * the query paths that read a few fields from many entries.
+ * <p>
+ * This class is not thread-safe. The record returned from {@link #reset(Data)},
+ * and anything read from it that is backed by the input, like nested
+ * records, are only valid until the next reset.
+ */
+public final class CompactFlyweightReader {
+
+    private final CompactStreamSerializer serializer;
+    private final BufferObjectDataInput in;
+    private Schema schema;
+    private CompactInternalGenericRecord record;
+
+    CompactFlyweightReader(CompactStreamSerializer serializer, BufferObjectDataInput in) {
+        this.serializer = serializer;
+        this.in = in;
+    }
+
+    /**
+     * Re-points the reader at the given Compact data.
+     *
+     * @param data the Compact data to read
+     * @return the record backed by the given data, valid until the next reset
+     * @throws IOException if the header of the data cannot be read
+     */
+    public InternalGenericRecord reset(Data data) throws IOException {
+        in.init(data.toByteArray(), HeapData.DATA_OFFSET);
+        long schemaId = in.readLong();
+        Schema schema = this.schema;
+        if (schema == null || schema.getSchemaId() != schemaId) {
+            schema = serializer.getSchema(schemaId);
+            this.schema = schema;
+        }
+        if (record == null) {
+            record = new CompactInternalGenericRecord(serializer, in, schema, null, false);
+        } else {
+            record.reset(schema);
+        }
+        return record;
+    }
+
+    /**
+     * Releases the reference to the last read data.
+     */
+    public void clear() {
+        in.clear();
+    }
+}
@@ -91,11 +91,12 @@ import static com.hazelcast.nio.serialization.FieldKind.TIMESTAMP_WITH_TIMEZONE;
  */
 public class CompactInternalGenericRecord extends CompactGenericRecord implements InternalGenericRecord {
 
-    private final OffsetReader offsetReader;
-    private final Schema schema;
     private final BufferObjectDataInput in;
-    private final int dataStartPosition;
-    private final int variableOffsetsPosition;
+    // not final, so that the record can be re-pointed, see reset(Schema)
+    private OffsetReader offsetReader;
+    private Schema schema;
+    private int dataStartPosition;
+    private int variableOffsetsPosition;
     private final CompactStreamSerializer serializer;
     private final boolean schemaIncludedInBinary;
     private final @Nullable
@@ -105,9 +106,27 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
                                            @Nullable Class associatedClass, boolean schemaIncludedInBinary) {
         this.in = in;
         this.serializer = serializer;
-        this.schema = schema;
         this.associatedClass = associatedClass;
         this.schemaIncludedInBinary = schemaIncludedInBinary;
+        readHeader(schema);
+    }
+
+    /**
+     * Re-points this record at the Compact object with the given schema that
+     * starts at the current position of the input, after the schema id. The
+     * input must have been re-initialized by the caller.
+     * <p>
+     * Records that were created from this one, like nested records, must not
+     * be used after a reset.
+     *
+     * @see CompactFlyweightReader
+     */
+    void reset(Schema schema) {
+        readHeader(schema);
+    }
+
+    private void readHeader(Schema schema) {
+        this.schema = schema;
         try {
             int finalPosition;
             int numberOfVariableLengthFields = schema.getNumberOfVariableSizeFields();
@@ -209,7 +228,7 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
         }
     }
 
-    private boolean getBoolean(FieldDescriptor fd) {
+    boolean getBoolean(FieldDescriptor fd) {
         try {
             int booleanOffset = fd.getOffset();
             int bitOffset = fd.getBitOffset();
@@ -227,11 +246,7 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
         FieldKind fieldKind = fd.getKind();
         switch (fieldKind) {
             case INT8:
-                try {
-                    return in.readByte(readFixedSizePosition(fd));
-                } catch (IOException e) {
-                    throw illegalStateException(e);
-                }
+                return getInt8(fd);
             case NULLABLE_INT8:
                 return getVariableSizeAsNonNull(fd, ObjectDataInput::readByte, "Int8");
             default:
@@ -239,17 +254,21 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
         }
     }
 
+    byte getInt8(FieldDescriptor fd) {
+        try {
+            return in.readByte(readFixedSizePosition(fd));
+        } catch (IOException e) {
+            throw illegalStateException(e);
+        }
+    }
+
     @Override
     public short getInt16(@Nonnull String fieldName) {
         FieldDescriptor fd = getFieldDescriptor(fieldName);
         FieldKind fieldKind = fd.getKind();
         switch (fieldKind) {
             case INT16:
-                try {
-                    return in.readShort(readFixedSizePosition(fd));
-                } catch (IOException e) {
-                    throw illegalStateException(e);
-                }
+                return getInt16(fd);
             case NULLABLE_INT16:
                 return getVariableSizeAsNonNull(fd, ObjectDataInput::readShort, "Int16");
             default:
@@ -257,17 +276,21 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
         }
     }
 
+    short getInt16(FieldDescriptor fd) {
+        try {
+            return in.readShort(readFixedSizePosition(fd));
+        } catch (IOException e) {
+            throw illegalStateException(e);
+        }
+    }
+
     @Override
     public int getInt32(@Nonnull String fieldName) {
         FieldDescriptor fd = getFieldDescriptor(fieldName);
         FieldKind fieldKind = fd.getKind();
         switch (fieldKind) {
             case INT32:
-                try {
-                    return in.readInt(readFixedSizePosition(fd));
-                } catch (IOException e) {
-                    throw illegalStateException(e);
-                }
+                return getInt32(fd);
             case NULLABLE_INT32:
                 return getVariableSizeAsNonNull(fd, ObjectDataInput::readInt, "Int32");
             default:
@@ -275,17 +298,21 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
         }
     }
 
+    int getInt32(FieldDescriptor fd) {
+        try {
+            return in.readInt(readFixedSizePosition(fd));
+        } catch (IOException e) {
+            throw illegalStateException(e);
+        }
+    }
+
     @Override
     public long getInt64(@Nonnull String fieldName) {
         FieldDescriptor fd = getFieldDescriptor(fieldName);
         FieldKind fieldKind = fd.getKind();
         switch (fieldKind) {
             case INT64:
-                try {
-                    return in.readLong(readFixedSizePosition(fd));
-                } catch (IOException e) {
-                    throw illegalStateException(e);
-                }
+                return getInt64(fd);
             case NULLABLE_INT64:
                 return getVariableSizeAsNonNull(fd, ObjectDataInput::readLong, "Int64");
             default:
@@ -293,17 +320,21 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
         }
     }
 
+    long getInt64(FieldDescriptor fd) {
+        try {
+            return in.readLong(readFixedSizePosition(fd));
+        } catch (IOException e) {
+            throw illegalStateException(e);
+        }
+    }
+
     @Override
     public float getFloat32(@Nonnull String fieldName) {
         FieldDescriptor fd = getFieldDescriptor(fieldName);
         FieldKind fieldKind = fd.getKind();
         switch (fieldKind) {
             case FLOAT32:
-                try {
-                    return in.readFloat(readFixedSizePosition(fd));
-                } catch (IOException e) {
-                    throw illegalStateException(e);
-                }
+                return getFloat32(fd);
             case NULLABLE_FLOAT32:
                 return getVariableSizeAsNonNull(fd, ObjectDataInput::readFloat, "Float32");
             default:
@@ -311,17 +342,21 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
         }
     }
 
+    float getFloat32(FieldDescriptor fd) {
+        try {
+            return in.readFloat(readFixedSizePosition(fd));
+        } catch (IOException e) {
+            throw illegalStateException(e);
+        }
+    }
+
     @Override
     public double getFloat64(@Nonnull String fieldName) {
         FieldDescriptor fd = getFieldDescriptor(fieldName);
         FieldKind fieldKind = fd.getKind();
         switch (fieldKind) {
             case FLOAT64:
-                try {
-                    return in.readDouble(readFixedSizePosition(fd));
-                } catch (IOException e) {
-                    throw illegalStateException(e);
-                }
+                return getFloat64(fd);
             case NULLABLE_FLOAT64:
                 return getVariableSizeAsNonNull(fd, ObjectDataInput::readDouble, "Float64");
             default:
@@ -329,6 +364,14 @@ public class CompactInternalGenericRecord extends CompactGenericRecord implement
         }
     }
 
+    double getFloat64(FieldDescriptor fd) {
+        try {
+            return in.readDouble(readFixedSizePosition(fd));
+        } catch (IOException e) {
+            throw illegalStateException(e);
+        }
+    }
+
     @Override
     public char getChar(@Nonnull String fieldName) {
         throw new UnsupportedOperationException("Compact format does not support reading a char field");
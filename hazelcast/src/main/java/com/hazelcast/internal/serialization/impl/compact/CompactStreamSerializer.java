@@ -214,6 +214,22 @@ public class CompactStreamSerializer implements StreamSerializer<Object> {
         throw new HazelcastSerializationException("The schema can not be found with id " + schemaId);
     }
 
+    Schema getSchema(long schemaId) {
+        Schema schema = schemaService.get(schemaId);
+        if (schema == null) {
+            throw new HazelcastSerializationException("The schema can not be found with id " + schemaId);
+        }
+        return schema;
+    }
+
+    /**
+     * Creates a reader that re-uses the same input and record for all the
+     * Compact data it reads. The returned reader is not thread-safe.
+     */
+    public CompactFlyweightReader createFlyweightReader(BufferObjectDataInput in) {
+        return new CompactFlyweightReader(this, in);
+    }
+
     private CompactSerializableRegistration getOrCreateRegistration(Class clazz) {
         return classToRegistrationMap.computeIfAbsent(clazz, aClass -> {
             CompactSerializer serializer = javaRecordSerializer.isRecord(aClass) ? javaRecordSerializer : reflectiveSerializer;
@@ -116,6 +116,10 @@ public class DefaultCompactWriter implements CompactWriter {
         this.includeSchemaOnBinary = includeSchemaOnBinary;
     }
 
+    Schema getSchema() {
+        return schema;
+    }
+
     /**
      * Returns the byte array representation of the serialized object.
      */
@@ -166,7 +170,14 @@ public class DefaultCompactWriter implements CompactWriter {
 
     @Override
     public void writeBoolean(@Nonnull String fieldName, boolean value) {
-        FieldDescriptor fieldDefinition = checkFieldDefinition(fieldName, BOOLEAN);
+        writeBoolean(checkFieldDefinition(fieldName, BOOLEAN), value);
+    }
+
+    /**
+     * Writes a boolean field whose descriptor has already been resolved from
+     * the schema of this writer, skipping the lookup by name.
+     */
+    void writeBoolean(FieldDescriptor fieldDefinition, boolean value) {
         int offsetInBytes = fieldDefinition.getOffset();
         int offsetInBits = fieldDefinition.getBitOffset();
         int writeOffset = offsetInBytes + dataStartPosition;
@@ -179,9 +190,12 @@ public class DefaultCompactWriter implements CompactWriter {
 
     @Override
     public void writeInt8(@Nonnull String fieldName, byte value) {
-        int position = getFixedSizeFieldPosition(fieldName, INT8);
+        writeInt8(checkFieldDefinition(fieldName, INT8), value);
+    }
+
+    void writeInt8(FieldDescriptor fieldDefinition, byte value) {
         try {
-            out.writeByte(position, value);
+            out.writeByte(fieldDefinition.getOffset() + dataStartPosition, value);
         } catch (IOException e) {
             throw illegalStateException(e);
         }
@@ -189,9 +203,12 @@ public class DefaultCompactWriter implements CompactWriter {
 
     @Override
     public void writeInt16(@Nonnull String fieldName, short value) {
-        int position = getFixedSizeFieldPosition(fieldName, INT16);
+        writeInt16(checkFieldDefinition(fieldName, INT16), value);
+    }
+
+    void writeInt16(FieldDescriptor fieldDefinition, short value) {
         try {
-            out.writeShort(position, value);
+            out.writeShort(fieldDefinition.getOffset() + dataStartPosition, value);
         } catch (IOException e) {
             throw illegalStateException(e);
         }
@@ -199,9 +216,12 @@ public class DefaultCompactWriter implements CompactWriter {
 
     @Override
     public void writeInt32(@Nonnull String fieldName, int value) {
-        int position = getFixedSizeFieldPosition(fieldName, INT32);
+        writeInt32(checkFieldDefinition(fieldName, INT32), value);
+    }
+
+    void writeInt32(FieldDescriptor fieldDefinition, int value) {
         try {
-            out.writeInt(position, value);
+            out.writeInt(fieldDefinition.getOffset() + dataStartPosition, value);
         } catch (IOException e) {
             throw illegalStateException(e);
         }
@@ -209,9 +229,12 @@ public class DefaultCompactWriter implements CompactWriter {
 
     @Override
     public void writeInt64(@Nonnull String fieldName, long value) {
-        int position = getFixedSizeFieldPosition(fieldName, INT64);
+        writeInt64(checkFieldDefinition(fieldName, INT64), value);
+    }
+
+    void writeInt64(FieldDescriptor fieldDefinition, long value) {
         try {
-            out.writeLong(position, value);
+            out.writeLong(fieldDefinition.getOffset() + dataStartPosition, value);
         } catch (IOException e) {
             throw illegalStateException(e);
         }
@@ -219,9 +242,12 @@ public class DefaultCompactWriter implements CompactWriter {
 
     @Override
     public void writeFloat32(@Nonnull String fieldName, float value) {
-        int position = getFixedSizeFieldPosition(fieldName, FLOAT32);
+        writeFloat32(checkFieldDefinition(fieldName, FLOAT32), value);
+    }
+
+    void writeFloat32(FieldDescriptor fieldDefinition, float value) {
         try {
-            out.writeFloat(position, value);
+            out.writeFloat(fieldDefinition.getOffset() + dataStartPosition, value);
         } catch (IOException e) {
             throw illegalStateException(e);
         }
@@ -229,9 +255,12 @@ public class DefaultCompactWriter implements CompactWriter {
 
     @Override
     public void writeFloat64(@Nonnull String fieldName, double value) {
-        int position = getFixedSizeFieldPosition(fieldName, FLOAT64);
+        writeFloat64(checkFieldDefinition(fieldName, FLOAT64), value);
+    }
+
+    void writeFloat64(FieldDescriptor fieldDefinition, double value) {
         try {
-            out.writeDouble(position, value);
+            out.writeDouble(fieldDefinition.getOffset() + dataStartPosition, value);
         } catch (IOException e) {
             throw illegalStateException(e);
         }
@@ -402,11 +431,6 @@ public class DefaultCompactWriter implements CompactWriter {
         fieldOffsets[index] = fieldPosition;
     }
 
-    private int getFixedSizeFieldPosition(@Nonnull String fieldName, @Nonnull FieldKind fieldKind) {
-        FieldDescriptor fieldDefinition = checkFieldDefinition(fieldName, fieldKind);
-        return fieldDefinition.getOffset() + dataStartPosition;
-    }
-
     protected FieldDescriptor checkFieldDefinition(@Nonnull String fieldName, @Nonnull FieldKind kind) {
         FieldDescriptor field = schema.getField(fieldName);
         if (field == null) {
@@ -18,6 +18,7 @@ package com.hazelcast.internal.serialization.impl.compact;
 
 import com.hazelcast.internal.serialization.impl.compact.zeroconfig.ValueReaderWriter;
 import com.hazelcast.internal.serialization.impl.compact.zeroconfig.ValueReaderWriters;
+import com.hazelcast.nio.serialization.FieldKind;
 import com.hazelcast.nio.serialization.HazelcastSerializationException;
 import com.hazelcast.nio.serialization.compact.CompactReader;
 import com.hazelcast.nio.serialization.compact.CompactSerializer;
@@ -63,10 +64,15 @@ import static java.util.stream.Collectors.toList;
  * For any other class as the field type, it will work recursively and try to de/serialize a sub-class.
  * Thus, if any sub-fields does not have an accessible empty constructor, deserialization fails with
  * HazelcastSerializationException.
+ * <p>
+ * The reader-writers created for a class are bound to each schema the class is
+ * written or read with: fields are resolved against the schema once, and the
+ * primitive fields are then read and written at their fixed offsets without any
+ * lookup by name.
  */
 public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
 
-    private final Map<Class, ReaderWriter[]> readerWritersCache = new ConcurrentHashMap<>();
+    private final Map<Class, ClassReaderWriters> readerWritersCache = new ConcurrentHashMap<>();
     private final CompactStreamSerializer compactStreamSerializer;
 
     public ReflectiveCompactSerializer(CompactStreamSerializer compactStreamSerializer) {
@@ -75,12 +81,26 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
 
     @Override
     public void write(@Nonnull CompactWriter writer, @Nonnull T object) {
-        Class<?> clazz = object.getClass();
-        if (writeFast(clazz, writer, object)) {
-            return;
+        ClassReaderWriters readerWriters = getOrCreateReaderWriters(object.getClass());
+        if (writer instanceof DefaultCompactWriter) {
+            DefaultCompactWriter compactWriter = (DefaultCompactWriter) writer;
+            for (SchemaBoundReaderWriter readerWriter : readerWriters.boundTo(compactWriter.getSchema())) {
+                try {
+                    readerWriter.write(compactWriter, object);
+                } catch (Exception e) {
+                    throw new HazelcastSerializationException(e);
+                }
+            }
+        } else {
+            // e.g. the SchemaWriter, which builds the schema the bound reader-writers depend on
+            for (ReaderWriter readerWriter : readerWriters.readerWriters) {
+                try {
+                    readerWriter.write(writer, object);
+                } catch (Exception e) {
+                    throw new HazelcastSerializationException(e);
+                }
+            }
         }
-        createFastReadWriteCaches(clazz);
-        writeFast(clazz, writer, object);
     }
 
     @Nonnull
@@ -95,38 +115,6 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
         throw new IllegalStateException("getCompactClass should not be called for the reflective serializer");
     }
 
-    private boolean writeFast(Class clazz, CompactWriter compactWriter, Object object) {
-        ReaderWriter[] readerWriters = readerWritersCache.get(clazz);
-        if (readerWriters == null) {
-            return false;
-        }
-        for (ReaderWriter readerWriter : readerWriters) {
-            try {
-                readerWriter.write(compactWriter, object);
-            } catch (Exception e) {
-                throw new HazelcastSerializationException(e);
-            }
-        }
-        return true;
-    }
-
-    private boolean readFast(Class clazz, DefaultCompactReader compactReader, Object object) {
-        ReaderWriter[] readerWriters = readerWritersCache.get(clazz);
-        if (readerWriters == null) {
-            return false;
-        }
-
-        Schema schema = compactReader.getSchema();
-        for (ReaderWriter readerWriter : readerWriters) {
-            try {
-                readerWriter.read(compactReader, schema, object);
-            } catch (Exception e) {
-                throw new HazelcastSerializationException(e);
-            }
-        }
-        return true;
-    }
-
     @Nonnull
     @Override
     public T read(@Nonnull CompactReader reader) {
@@ -137,14 +125,25 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
 
         T object;
         object = (T) createObject(associatedClass);
-        if (readFast(associatedClass, compactReader, object)) {
-            return object;
+        ClassReaderWriters readerWriters = getOrCreateReaderWriters(associatedClass);
+        for (SchemaBoundReaderWriter readerWriter : readerWriters.boundTo(compactReader.getSchema())) {
+            try {
+                readerWriter.read(compactReader, object);
+            } catch (Exception e) {
+                throw new HazelcastSerializationException(e);
+            }
         }
-        createFastReadWriteCaches(associatedClass);
-        readFast(associatedClass, compactReader, object);
         return object;
     }
 
+    private ClassReaderWriters getOrCreateReaderWriters(Class clazz) {
+        ClassReaderWriters readerWriters = readerWritersCache.get(clazz);
+        if (readerWriters == null) {
+            readerWriters = createFastReadWriteCaches(clazz);
+        }
+        return readerWriters;
+    }
+
     @Nonnull
     private Object createObject(Class associatedClass) {
         try {
@@ -165,12 +164,13 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
         return fields;
     }
 
-    private void createFastReadWriteCaches(Class clazz) {
+    private ClassReaderWriters createFastReadWriteCaches(Class clazz) {
         // The top level class might not be Compact serializable
         CompactUtil.verifyClassIsCompactSerializable(clazz);
 
         // get inherited fields as well
         List<Field> allFields = getAllFields(new LinkedList<>(), clazz);
+        Field[] fields = allFields.toArray(new Field[0]);
         ReaderWriter[] readerWriters = new ReaderWriter[allFields.size()];
 
         int index = 0;
@@ -305,7 +305,195 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
             index++;
         }
 
-        readerWritersCache.put(clazz, readerWriters);
+        ClassReaderWriters classReaderWriters = new ClassReaderWriters(fields, readerWriters);
+        readerWritersCache.put(clazz, classReaderWriters);
+        return classReaderWriters;
+    }
+
+    /**
+     * Creates the reader-writers of the given fields, specialized for the
+     * given schema.
+     * <p>
+     * Fields of primitive types that are present in the schema with the
+     * matching fixed-size kind are accessed directly at the offset recorded in
+     * their {@link FieldDescriptor}, so the per-field lookups by name in the
+     * schema are done once here rather than on every read and write. All other
+     * fields, including primitive fields that the schema doesn't have or has
+     * with a nullable kind, keep using the generic reader-writers.
+     */
+    private static SchemaBoundReaderWriter[] bind(Field[] fields, ReaderWriter[] readerWriters, Schema schema) {
+        SchemaBoundReaderWriter[] bound = new SchemaBoundReaderWriter[fields.length];
+        for (int k = 0; k < fields.length; k++) {
+            Field field = fields[k];
+            FieldDescriptor fd = schema.getField(field.getName());
+            SchemaBoundReaderWriter readerWriter = fd == null ? null : bindFixedSize(field, fd);
+            bound[k] = readerWriter != null ? readerWriter : new GenericReaderWriterAdapter(readerWriters[k], schema);
+        }
+        return bound;
+    }
+
+    private static SchemaBoundReaderWriter bindFixedSize(Field field, FieldDescriptor fd) {
+        Class<?> type = field.getType();
+        FieldKind kind = fd.getKind();
+        if (Byte.TYPE.equals(type) && kind == INT8) {
+            return new SchemaBoundReaderWriter() {
+                @Override
+                public void read(DefaultCompactReader reader, Object o) throws Exception {
+                    field.setByte(o, reader.getInt8(fd));
+                }
+
+                @Override
+                public void write(DefaultCompactWriter writer, Object o) throws Exception {
+                    writer.writeInt8(fd, field.getByte(o));
+                }
+            };
+        } else if (Character.TYPE.equals(type) && kind == INT16) {
+            return new SchemaBoundReaderWriter() {
+                @Override
+                public void read(DefaultCompactReader reader, Object o) throws Exception {
+                    field.setChar(o, (char) reader.getInt16(fd));
+                }
+
+                @Override
+                public void write(DefaultCompactWriter writer, Object o) throws Exception {
+                    writer.writeInt16(fd, (short) field.getChar(o));
+                }
+            };
+        } else if (Short.TYPE.equals(type) && kind == INT16) {
+            return new SchemaBoundReaderWriter() {
+                @Override
+                public void read(DefaultCompactReader reader, Object o) throws Exception {
+                    field.setShort(o, reader.getInt16(fd));
+                }
+
+                @Override
+                public void write(DefaultCompactWriter writer, Object o) throws Exception {
+                    writer.writeInt16(fd, field.getShort(o));
+                }
+            };
+        } else if (Integer.TYPE.equals(type) && kind == INT32) {
+            return new SchemaBoundReaderWriter() {
+                @Override
+                public void read(DefaultCompactReader reader, Object o) throws Exception {
+                    field.setInt(o, reader.getInt32(fd));
+                }
+
+                @Override
+                public void write(DefaultCompactWriter writer, Object o) throws Exception {
+                    writer.writeInt32(fd, field.getInt(o));
+                }
+            };
+        } else if (Long.TYPE.equals(type) && kind == INT64) {
+            return new SchemaBoundReaderWriter() {
+                @Override
+                public void read(DefaultCompactReader reader, Object o) throws Exception {
+                    field.setLong(o, reader.getInt64(fd));
+                }
+
+                @Override
+                public void write(DefaultCompactWriter writer, Object o) throws Exception {
+                    writer.writeInt64(fd, field.getLong(o));
+                }
+            };
+        } else if (Float.TYPE.equals(type) && kind == FLOAT32) {
+            return new SchemaBoundReaderWriter() {
+                @Override
+                public void read(DefaultCompactReader reader, Object o) throws Exception {
+                    field.setFloat(o, reader.getFloat32(fd));
+                }
+
+                @Override
+                public void write(DefaultCompactWriter writer, Object o) throws Exception {
+                    writer.writeFloat32(fd, field.getFloat(o));
+                }
+            };
+        } else if (Double.TYPE.equals(type) && kind == FLOAT64) {
+            return new SchemaBoundReaderWriter() {
+                @Override
+                public void read(DefaultCompactReader reader, Object o) throws Exception {
+                    field.setDouble(o, reader.getFloat64(fd));
+                }
+
+                @Override
+                public void write(DefaultCompactWriter writer, Object o) throws Exception {
+                    writer.writeFloat64(fd, field.getDouble(o));
+                }
+            };
+        } else if (Boolean.TYPE.equals(type) && kind == BOOLEAN) {
+            return new SchemaBoundReaderWriter() {
+                @Override
+                public void read(DefaultCompactReader reader, Object o) throws Exception {
+                    field.setBoolean(o, reader.getBoolean(fd));
+                }
+
+                @Override
+                public void write(DefaultCompactWriter writer, Object o) throws Exception {
+                    writer.writeBoolean(fd, field.getBoolean(o));
+                }
+            };
+        }
+        return null;
+    }
+
+    /**
+     * The reader-writers of a class: the generic ones, which look the fields
+     * up by name, and the ones bound to the schemas seen so far.
+     */
+    private static final class ClassReaderWriters {
+
+        private final Field[] fields;
+        private final ReaderWriter[] readerWriters;
+        private final Map<Long, SchemaBoundReaderWriters> boundReaderWriters = new ConcurrentHashMap<>();
+        // a class is mostly written and read with a single schema
+        private volatile SchemaBoundReaderWriters lastBound;
+
+        ClassReaderWriters(Field[] fields, ReaderWriter[] readerWriters) {
+            this.fields = fields;
+            this.readerWriters = readerWriters;
+        }
+
+        SchemaBoundReaderWriter[] boundTo(Schema schema) {
+            SchemaBoundReaderWriters bound = lastBound;
+            long schemaId = schema.getSchemaId();
+            if (bound == null || bound.schemaId != schemaId) {
+                bound = boundReaderWriters.computeIfAbsent(schemaId,
+                        id -> new SchemaBoundReaderWriters(id, bind(fields, readerWriters, schema)));
+                lastBound = bound;
+            }
+            return bound.readerWriters;
+        }
+    }
+
+    private static final class SchemaBoundReaderWriters {
+
+        private final long schemaId;
+        private final SchemaBoundReaderWriter[] readerWriters;
+
+        SchemaBoundReaderWriters(long schemaId, SchemaBoundReaderWriter[] readerWriters) {
+            this.schemaId = schemaId;
+            this.readerWriters = readerWriters;
+        }
+    }
+
+    private static final class GenericReaderWriterAdapter implements SchemaBoundReaderWriter {
+
+        private final ReaderWriter readerWriter;
+        private final Schema schema;
+
+        GenericReaderWriterAdapter(ReaderWriter readerWriter, Schema schema) {
+            this.readerWriter = readerWriter;
+            this.schema = schema;
+        }
+
+        @Override
+        public void read(DefaultCompactReader reader, Object o) throws Exception {
+            readerWriter.read(reader, schema, o);
+        }
+
+        @Override
+        public void write(DefaultCompactWriter writer, Object o) throws Exception {
+            readerWriter.write(writer, o);
+        }
     }
 
     private static final class ReaderWriterAdapter implements ReaderWriter {
@@ -335,4 +523,10 @@ public class ReflectiveCompactSerializer<T> implements CompactSerializer<T> {
 
         void write(CompactWriter writer, Object o) throws Exception;
     }
+
+    private interface SchemaBoundReaderWriter {
+        void read(DefaultCompactReader reader, Object o) throws Exception;
+
+        void write(DefaultCompactWriter writer, Object o) throws Exception;
+    }
 }
@@ -20,10 +20,15 @@ import com.hazelcast.client.impl.protocol.util.ClientMessageDecoder;
 import com.hazelcast.client.impl.protocol.util.ClientMessageEncoder;
 import com.hazelcast.config.EndpointConfig;
 import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.internal.networking.InboundHandler;
+import com.hazelcast.internal.networking.OutboundHandler;
+import com.hazelcast.internal.networking.compression.CompressionDecoder;
+import com.hazelcast.internal.networking.compression.CompressionEncoder;
 import com.hazelcast.internal.server.ServerContext;
 import com.hazelcast.internal.server.ServerConnection;
 
 import static com.hazelcast.instance.ProtocolType.CLIENT;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_COMPRESSION_THRESHOLD;
 
 public class ClientChannelInitializer
         extends AbstractChannelInitializer {
@@ -35,10 +40,18 @@ public class ClientChannelInitializer
     @Override
     public void initChannel(Channel channel) {
         ServerConnection connection = (TcpServerConnection) channel.attributeMap().get(ServerConnection.class);
-        SingleProtocolEncoder protocolEncoder = new SingleProtocolEncoder(new ClientMessageEncoder());
+        ClientMessageEncoder encoder = new ClientMessageEncoder();
+        ClientMessageDecoder decoder = new ClientMessageDecoder(connection, serverContext.getClientEngine(),
+                serverContext.properties());
+        // a client asking for compression gets a compressed stream back
+        int compressionThreshold = serverContext.properties().getInteger(IO_COMPRESSION_THRESHOLD);
+        SingleProtocolEncoder protocolEncoder = new SingleProtocolEncoder(
+                new OutboundHandler[]{encoder},
+                new OutboundHandler[]{encoder, new CompressionEncoder(compressionThreshold)});
         SingleProtocolDecoder protocolDecoder = new SingleProtocolDecoder(
                 CLIENT,
-                new ClientMessageDecoder(connection, serverContext.getClientEngine(), serverContext.properties()),
+                new InboundHandler[]{decoder},
+                new InboundHandler[]{new CompressionDecoder(), decoder},
                 protocolEncoder);
 
         channel.outboundPipeline().addLast(protocolEncoder);
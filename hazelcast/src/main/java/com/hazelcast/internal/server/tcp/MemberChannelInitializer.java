@@ -22,9 +22,16 @@ import com.hazelcast.instance.ProtocolType;
 import com.hazelcast.internal.networking.Channel;
 import com.hazelcast.internal.networking.InboundHandler;
 import com.hazelcast.internal.networking.OutboundHandler;
+import com.hazelcast.internal.networking.compression.CompressionDecoder;
+import com.hazelcast.internal.networking.compression.CompressionEncoder;
 import com.hazelcast.internal.server.ServerContext;
 import com.hazelcast.internal.server.ServerConnection;
 
+import static com.hazelcast.internal.nio.Protocols.CLUSTER;
+import static com.hazelcast.internal.nio.Protocols.CLUSTER_COMPRESSED;
+import static com.hazelcast.internal.util.collection.ArrayUtils.append;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_COMPRESSION_THRESHOLD;
+
 public class MemberChannelInitializer
         extends AbstractChannelInitializer {
 
@@ -38,17 +45,31 @@ public class MemberChannelInitializer
         OutboundHandler[] outboundHandlers = serverContext.createOutboundHandlers(EndpointQualifier.MEMBER, connection);
         InboundHandler[] inboundHandlers = serverContext.createInboundHandlers(EndpointQualifier.MEMBER, connection);
 
+        // the side opening the connection decides if it is compressed, the other side
+        // replies with the same protocol bytes and compresses what it sends as well.
+        int compressionThreshold = serverContext.properties().getInteger(IO_COMPRESSION_THRESHOLD);
+        OutboundHandler[] compressedOutboundHandlers = append(outboundHandlers,
+                new OutboundHandler[]{new CompressionEncoder(compressionThreshold)});
+        InboundHandler[] compressedInboundHandlers = append(new InboundHandler[]{new CompressionDecoder()},
+                inboundHandlers);
+
         OutboundHandler outboundHandler;
         SingleProtocolEncoder protocolEncoder;
         if (channel.isClientMode()) {
-            protocolEncoder = new SingleProtocolEncoder(outboundHandlers);
-            outboundHandler = new MemberProtocolEncoder(protocolEncoder);
+            boolean compressed = compressionThreshold >= 0;
+            protocolEncoder = new SingleProtocolEncoder(compressed ? compressedOutboundHandlers : outboundHandlers);
+            outboundHandler = new MemberProtocolEncoder(compressed ? CLUSTER_COMPRESSED : CLUSTER, protocolEncoder);
+            if (!compressed) {
+                compressedInboundHandlers = null;
+            }
         } else {
-            protocolEncoder = new SingleProtocolEncoder(new MemberProtocolEncoder(outboundHandlers));
+            protocolEncoder = new SingleProtocolEncoder(
+                    new OutboundHandler[]{new MemberProtocolEncoder(outboundHandlers)},
+                    new OutboundHandler[]{new MemberProtocolEncoder(CLUSTER_COMPRESSED, compressedOutboundHandlers)});
             outboundHandler = protocolEncoder;
         }
         SingleProtocolDecoder protocolDecoder = new SingleProtocolDecoder(ProtocolType.MEMBER,
-                inboundHandlers, protocolEncoder);
+                inboundHandlers, compressedInboundHandlers, protocolEncoder);
 
         channel.outboundPipeline().addLast(outboundHandler);
         channel.inboundPipeline().addLast(protocolDecoder);
@@ -34,25 +34,37 @@ import static com.hazelcast.internal.util.JVMUtil.upcast;
 import static com.hazelcast.internal.util.StringUtil.stringToBytes;
 
 /**
- * Writes the member protocol header bytes (HZC) to dst buffer and replaces itself by the next {@link OutboundHandler
- * OutboundHandlers}.
+ * Writes the member protocol header bytes (HZC, or HZZ for a compressed connection) to dst buffer and replaces itself
+ * by the next {@link OutboundHandler OutboundHandlers}.
  */
 public class MemberProtocolEncoder extends OutboundHandler<Void, ByteBuffer> {
 
+    private final String protocol;
     private final OutboundHandler[] outboundHandlers;
 
     /**
      * @param next the {@link OutboundHandler} to replace this one in the outbound pipeline
      *             upon match of protocol bytes
      */
-    @SuppressFBWarnings("EI_EXPOSE_REP2")
     public MemberProtocolEncoder(OutboundHandler... next) {
+        this(CLUSTER, next);
+    }
+
+    /**
+     * @param protocol the protocol bytes to write; either {@link com.hazelcast.internal.nio.Protocols#CLUSTER}
+     *                 or {@link com.hazelcast.internal.nio.Protocols#CLUSTER_COMPRESSED}
+     * @param next     the {@link OutboundHandler} to replace this one in the outbound pipeline
+     *                 upon match of protocol bytes
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public MemberProtocolEncoder(String protocol, OutboundHandler... next) {
+        this.protocol = protocol;
         this.outboundHandlers = next;
     }
 
     @Override
     public void handlerAdded() {
-        initDstBuffer(PROTOCOL_LENGTH, stringToBytes(CLUSTER));
+        initDstBuffer(PROTOCOL_LENGTH, stringToBytes(protocol));
     }
 
     @Override
@@ -16,6 +16,7 @@
 
 package com.hazelcast.internal.server.tcp;
 
+import com.hazelcast.internal.networking.GatheringWriteHandler;
 import com.hazelcast.internal.networking.OutboundHandler;
 import com.hazelcast.internal.networking.HandlerStatus;
 import com.hazelcast.internal.nio.Packet;
@@ -28,6 +29,7 @@ import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
 import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
 import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
 import static com.hazelcast.internal.util.JVMUtil.upcast;
+import static java.lang.Math.min;
 
 /**
  * A {@link OutboundHandler} that for member to member communication.
@@ -38,13 +40,40 @@ import static com.hazelcast.internal.util.JVMUtil.upcast;
  * multiple connections. The flyweight contains the actual 'position' state of
  * what has been written.
  *
+ * When gathering writes are enabled by the pipeline and a packet payload is
+ * at least {@code gatheringWriteThreshold} bytes, only the header is written
+ * to the dst buffer and the payload is handed to the pipeline as a
+ * {@link #pendingPayload()}, so the payload isn't copied into the dst buffer.
+ * The payload is handed out in slices no larger than the dst buffer: the JDK
+ * copies a heap buffer into a cached direct buffer of the same size before
+ * writing it, so larger slices would pin that much direct memory per thread.
+ *
  * @see PacketDecoder
  */
-public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer> {
+public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer>
+        implements GatheringWriteHandler {
 
     private final PacketIOHelper packetWriter = new PacketIOHelper();
+    private final int gatheringWriteThreshold;
 
     private Packet packet;
+    private boolean gatheringWritesEnabled;
+    private ByteBuffer pendingPayload;
+    private int pendingPayloadEnd;
+
+    public PacketEncoder() {
+        this(-1);
+    }
+
+    /**
+     * @param gatheringWriteThreshold the minimum payload size in bytes for a
+     *                                packet to be written using a gathering
+     *                                write; a negative value disables
+     *                                gathering writes
+     */
+    public PacketEncoder(int gatheringWriteThreshold) {
+        this.gatheringWriteThreshold = gatheringWriteThreshold;
+    }
 
     @Override
     public void handlerAdded() {
@@ -55,6 +84,16 @@ public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer>
     public HandlerStatus onWrite() {
         compactOrClear(dst);
         try {
+            if (pendingPayload != null) {
+                if (pendingPayload.position() < pendingPayloadEnd) {
+                    // the payload of the previous packet still needs to go out
+                    // and nothing may be written in front of it. The pipeline
+                    // stays dirty as long as the payload has remaining bytes.
+                    return CLEAN;
+                }
+                pendingPayload = null;
+            }
+
             for (; ; ) {
                 if (packet == null) {
                     packet = src.get();
@@ -63,6 +102,10 @@ public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer>
                         // everything is processed, so we are done
                         return CLEAN;
                     }
+
+                    if (isGatherable(packet)) {
+                        return writeHeaderOnly();
+                    }
                 }
 
                 if (packetWriter.writeTo(packet, dst)) {
@@ -77,4 +120,40 @@ public class PacketEncoder extends OutboundHandler<Supplier<Packet>, ByteBuffer>
             upcast(dst).flip();
         }
     }
+
+    private boolean isGatherable(Packet packet) {
+        return gatheringWritesEnabled
+                && gatheringWriteThreshold >= 0
+                && packet.totalSize() >= gatheringWriteThreshold;
+    }
+
+    private HandlerStatus writeHeaderOnly() {
+        if (!packetWriter.writeHeaderTo(packet, dst)) {
+            // no room for the header; on the next call the packet is
+            // written using the regular path.
+            return DIRTY;
+        }
+
+        pendingPayload = ByteBuffer.wrap(packet.toByteArray());
+        pendingPayloadEnd = packet.totalSize();
+        packet = null;
+        // the pipeline flushes the header and the payload before anything
+        // else is written and stays dirty until the payload is fully written;
+        // remaining packets are picked up when it reschedules itself.
+        return CLEAN;
+    }
+
+    @Override
+    public void setGatheringWritesEnabled(boolean enabled) {
+        this.gatheringWritesEnabled = enabled;
+    }
+
+    @Override
+    public ByteBuffer pendingPayload() {
+        if (pendingPayload != null) {
+            // expose at most a dst buffer worth of the payload per write
+            upcast(pendingPayload).limit(min(pendingPayload.position() + dst.capacity(), pendingPayloadEnd));
+        }
+        return pendingPayload;
+    }
 }
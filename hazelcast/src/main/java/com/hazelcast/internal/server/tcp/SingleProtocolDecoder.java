@@ -29,6 +29,7 @@ import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
 import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
 import static com.hazelcast.internal.nio.Protocols.PROTOCOL_LENGTH;
 import static com.hazelcast.internal.nio.Protocols.UNEXPECTED_PROTOCOL;
+import static com.hazelcast.internal.nio.Protocols.compressedVariantOf;
 import static com.hazelcast.internal.util.JVMUtil.upcast;
 import static com.hazelcast.internal.util.StringUtil.bytesToString;
 
@@ -36,6 +37,11 @@ import static com.hazelcast.internal.util.StringUtil.bytesToString;
  * Checks if the correct protocol is received then swaps itself with the next
  * handler in the pipeline.
  * <p>
+ * If handlers for a compressed connection are provided, the compressed variant
+ * of the protocol (see {@link com.hazelcast.internal.nio.Protocols#compressedVariantOf(String)})
+ * is accepted as well, in which case those handlers are used instead.
+ * </p>
+ * <p>
  * See also {@link SingleProtocolEncoder}
  * </p>
  */
@@ -43,6 +49,7 @@ public class SingleProtocolDecoder
         extends InboundHandler<ByteBuffer, Void> {
 
     protected final InboundHandler[] inboundHandlers;
+    protected final InboundHandler[] compressedInboundHandlers;
     protected final ProtocolType supportedProtocol;
     /**
      * This flag is used to ensure that {@link #verifyProtocol(String)} is called only once
@@ -50,6 +57,7 @@ public class SingleProtocolDecoder
      * with new incoming data, although it failed after its first call.
      */
     protected volatile boolean verifyProtocolCalled;
+    protected boolean compressed;
     final SingleProtocolEncoder encoder;
 
     public SingleProtocolDecoder(ProtocolType supportedProtocol, InboundHandler next, SingleProtocolEncoder encoder) {
@@ -73,11 +81,26 @@ public class SingleProtocolDecoder
      *                                          non-matching protocol bytes have
      *                                          been received
      */
-    @SuppressFBWarnings("EI_EXPOSE_REP2")
     public SingleProtocolDecoder(ProtocolType supportedProtocol, InboundHandler[] next,
                                  SingleProtocolEncoder encoder) {
+        this(supportedProtocol, next, null, encoder);
+    }
+
+    /**
+     * Like {@link #SingleProtocolDecoder(ProtocolType, InboundHandler[], SingleProtocolEncoder)},
+     * but also accepts the compressed variant of the protocol.
+     *
+     * @param compressedNext the {@link InboundHandler}s to replace this one
+     *                       upon match of the compressed protocol bytes, or
+     *                       {@code null} if the compressed protocol isn't
+     *                       accepted
+     */
+    @SuppressFBWarnings("EI_EXPOSE_REP2")
+    public SingleProtocolDecoder(ProtocolType supportedProtocol, InboundHandler[] next,
+                                 InboundHandler[] compressedNext, SingleProtocolEncoder encoder) {
         this.supportedProtocol = supportedProtocol;
         this.inboundHandlers = next;
+        this.compressedInboundHandlers = compressedNext;
         this.encoder = encoder;
         this.verifyProtocolCalled = false;
     }
@@ -111,7 +134,7 @@ public class SingleProtocolDecoder
                 }
                 return CLEAN;
             }
-            encoder.signalProtocolVerified();
+            encoder.signalProtocolVerified(compressed);
 
             // Initialize the connection
             initConnection();
@@ -125,13 +148,18 @@ public class SingleProtocolDecoder
 
     protected void setupNextDecoder() {
         // Replace this handler with the next one
-        channel.inboundPipeline().replace(this, inboundHandlers);
+        channel.inboundPipeline().replace(this, compressed ? compressedInboundHandlers : inboundHandlers);
     }
 
     // Verify that received protocol is expected one.
     // If not then signal SingleProtocolEncoder and throw exception.
     protected boolean verifyProtocol(String incomingProtocol) {
         verifyProtocolCalled = true;
+        if (compressedInboundHandlers != null
+                && incomingProtocol.equals(compressedVariantOf(supportedProtocol.getDescriptor()))) {
+            compressed = true;
+            return true;
+        }
         if (!incomingProtocol.equals(supportedProtocol.getDescriptor())) {
             handleUnexpectedProtocol(incomingProtocol);
             encoder.signalWrongProtocol("Unsupported protocol exchange detected, expected protocol: "
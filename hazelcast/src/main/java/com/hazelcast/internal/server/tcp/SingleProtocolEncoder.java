@@ -37,14 +37,18 @@ import static com.hazelcast.internal.util.StringUtil.stringToBytes;
  * are replaced by the next handlers in the pipeline. If it isn't the {@link SingleProtocolEncoder} sends
  * {@link Protocols#UNEXPECTED_PROTOCOL} response and throws a {@link ProtocolException}. Note that in client mode the
  * {@link SingleProtocolEncoder} allows blocking packet writes until the (member-)protocol is confirmed.
+ * If the decoder received the compressed variant of the protocol, the encoder is replaced by the handlers for a
+ * compressed connection, if they were provided.
  */
 public class SingleProtocolEncoder extends OutboundHandler<Void, ByteBuffer> {
     private final OutboundHandler[] outboundHandlers;
+    private final OutboundHandler[] compressedOutboundHandlers;
 
     private boolean clusterProtocolBuffered;
 
     private volatile boolean isDecoderVerifiedProtocol;
     private volatile boolean isDecoderReceivedProtocol;
+    private volatile boolean isDecoderReceivedCompressedProtocol;
     private volatile String exceptionMessage;
 
     public SingleProtocolEncoder(OutboundHandler next) {
@@ -52,7 +56,19 @@ public class SingleProtocolEncoder extends OutboundHandler<Void, ByteBuffer> {
     }
 
     public SingleProtocolEncoder(OutboundHandler[] next) {
+        this(next, null);
+    }
+
+    /**
+     * @param next           the {@link OutboundHandler}s to replace this one
+     *                       once the protocol is verified
+     * @param compressedNext the {@link OutboundHandler}s to replace this one
+     *                       once the compressed variant of the protocol is
+     *                       verified, or {@code null} to use {@code next}
+     */
+    public SingleProtocolEncoder(OutboundHandler[] next, OutboundHandler[] compressedNext) {
         this.outboundHandlers = next;
+        this.compressedOutboundHandlers = compressedNext;
     }
 
     @Override
@@ -100,7 +116,8 @@ public class SingleProtocolEncoder extends OutboundHandler<Void, ByteBuffer> {
 
     // Swap this encoder with the next one
     private void setupNextEncoder() {
-        channel.outboundPipeline().replace(this, outboundHandlers);
+        boolean compressed = isDecoderReceivedCompressedProtocol && compressedOutboundHandlers != null;
+        channel.outboundPipeline().replace(this, compressed ? compressedOutboundHandlers : outboundHandlers);
     }
 
     @Override
@@ -121,7 +138,14 @@ public class SingleProtocolEncoder extends OutboundHandler<Void, ByteBuffer> {
     // Used by SingleProtocolDecoder in order to swap
     // SingleProtocolEncoder with the next encoder in the pipeline
     public void signalProtocolVerified() {
+        signalProtocolVerified(false);
+    }
+
+    // Used by SingleProtocolDecoder in order to swap SingleProtocolEncoder with
+    // the next encoder in the pipeline, for a plain or a compressed connection
+    public void signalProtocolVerified(boolean compressed) {
         // this update order below must stay in reverse order with access order in SingleProtocolEncode#onWrite
+        isDecoderReceivedCompressedProtocol = compressed;
         isDecoderVerifiedProtocol = true;
         isDecoderReceivedProtocol = true;
         // This channel can become null when SingleProtocolEncoder is not active handler of the outbound
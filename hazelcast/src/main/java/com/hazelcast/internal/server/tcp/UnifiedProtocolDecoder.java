@@ -25,6 +25,7 @@ import com.hazelcast.instance.EndpointQualifier;
 import com.hazelcast.internal.networking.ChannelOptions;
 import com.hazelcast.internal.networking.HandlerStatus;
 import com.hazelcast.internal.networking.InboundHandler;
+import com.hazelcast.internal.networking.compression.CompressionDecoder;
 import com.hazelcast.internal.nio.ConnectionType;
 import com.hazelcast.internal.nio.Protocols;
 import com.hazelcast.internal.nio.ascii.MemcacheTextDecoder;
@@ -44,12 +45,15 @@ import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
 import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
 import static com.hazelcast.internal.nio.IOUtil.newByteBuffer;
 import static com.hazelcast.internal.nio.Protocols.CLIENT_BINARY;
+import static com.hazelcast.internal.nio.Protocols.CLIENT_BINARY_COMPRESSED;
 import static com.hazelcast.internal.nio.Protocols.CLUSTER;
+import static com.hazelcast.internal.nio.Protocols.CLUSTER_COMPRESSED;
 import static com.hazelcast.internal.nio.Protocols.PROTOCOL_LENGTH;
 import static com.hazelcast.internal.server.ServerContext.KILO_BYTE;
 import static com.hazelcast.internal.util.JVMUtil.upcast;
 import static com.hazelcast.internal.util.StringUtil.bytesToString;
 import static com.hazelcast.internal.util.StringUtil.stringToBytes;
+import static com.hazelcast.internal.util.collection.ArrayUtils.append;
 import static com.hazelcast.jet.impl.util.Util.CONFIG_CHANGE_TEMPLATE;
 import static com.hazelcast.spi.properties.ClusterProperty.SOCKET_CLIENT_RECEIVE_BUFFER_SIZE;
 import static com.hazelcast.spi.properties.ClusterProperty.SOCKET_RECEIVE_BUFFER_SIZE;
@@ -99,10 +103,10 @@ public class UnifiedProtocolDecoder
                     .level(Level.DEBUG)
                     .addParameter("protocol", protocol)
                     .log();
-            if (CLUSTER.equals(protocol)) {
-                initChannelForCluster();
-            } else if (CLIENT_BINARY.equals(protocol)) {
-                initChannelForClient();
+            if (isCluster(protocol)) {
+                initChannelForCluster(CLUSTER_COMPRESSED.equals(protocol));
+            } else if (isClientBinary(protocol)) {
+                initChannelForClient(CLIENT_BINARY_COMPRESSED.equals(protocol));
             } else if (RestApiTextDecoder.TEXT_PARSERS.isCommandPrefix(protocol)) {
                 RestApiConfig restApiConfig = serverContext.getRestApiConfig();
                 if (!restApiConfig.isEnabledAndNotEmpty()) {
@@ -152,17 +156,29 @@ public class UnifiedProtocolDecoder
         return bytesToString(protocolBytes);
     }
 
-    private void initChannelForCluster() {
+    private static boolean isCluster(String protocol) {
+        return CLUSTER.equals(protocol) || CLUSTER_COMPRESSED.equals(protocol);
+    }
+
+    private static boolean isClientBinary(String protocol) {
+        return CLIENT_BINARY.equals(protocol) || CLIENT_BINARY_COMPRESSED.equals(protocol);
+    }
+
+    private void initChannelForCluster(boolean compressed) {
         protocolEncoder.signalEncoderCanReplace();
         channel.options()
                 .setOption(SO_SNDBUF, props.getInteger(SOCKET_RECEIVE_BUFFER_SIZE) * KILO_BYTE);
 
         ServerConnection connection = (TcpServerConnection) channel.attributeMap().get(ServerConnection.class);
         connection.setConnectionType(ConnectionType.MEMBER);
-        channel.inboundPipeline().replace(this, serverContext.createInboundHandlers(EndpointQualifier.MEMBER, connection));
+        InboundHandler[] handlers = serverContext.createInboundHandlers(EndpointQualifier.MEMBER, connection);
+        if (compressed) {
+            handlers = append(new InboundHandler[]{new CompressionDecoder()}, handlers);
+        }
+        channel.inboundPipeline().replace(this, handlers);
     }
 
-    private void initChannelForClient() {
+    private void initChannelForClient(boolean compressed) {
         protocolEncoder.signalEncoderCanReplace();
         channel.options()
                 .setOption(SO_RCVBUF, clientRcvBuf())
@@ -170,7 +186,12 @@ public class UnifiedProtocolDecoder
                 .setOption(DIRECT_BUF, false);
 
         ServerConnection connection = (TcpServerConnection) channel.attributeMap().get(ServerConnection.class);
-        channel.inboundPipeline().replace(this, new ClientMessageDecoder(connection, serverContext.getClientEngine(), props));
+        InboundHandler decoder = new ClientMessageDecoder(connection, serverContext.getClientEngine(), props);
+        if (compressed) {
+            channel.inboundPipeline().replace(this, new CompressionDecoder(), decoder);
+        } else {
+            channel.inboundPipeline().replace(this, decoder);
+        }
     }
 
     private void initChannelForText(String protocol, boolean restApi) {
@@ -20,6 +20,7 @@ import com.hazelcast.client.impl.protocol.util.ClientMessageEncoder;
 import com.hazelcast.instance.EndpointQualifier;
 import com.hazelcast.internal.networking.HandlerStatus;
 import com.hazelcast.internal.networking.OutboundHandler;
+import com.hazelcast.internal.networking.compression.CompressionEncoder;
 import com.hazelcast.internal.nio.ascii.TextEncoder;
 import com.hazelcast.internal.server.ServerContext;
 import com.hazelcast.internal.server.ServerConnection;
@@ -32,12 +33,16 @@ import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
 import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
 import static com.hazelcast.internal.nio.IOUtil.compactOrClear;
 import static com.hazelcast.internal.nio.Protocols.CLIENT_BINARY;
+import static com.hazelcast.internal.nio.Protocols.CLIENT_BINARY_COMPRESSED;
 import static com.hazelcast.internal.nio.Protocols.CLUSTER;
+import static com.hazelcast.internal.nio.Protocols.CLUSTER_COMPRESSED;
 import static com.hazelcast.internal.nio.Protocols.PROTOCOL_LENGTH;
 import static com.hazelcast.internal.nio.ascii.TextEncoder.TEXT_ENCODER;
 import static com.hazelcast.internal.server.ServerContext.KILO_BYTE;
 import static com.hazelcast.internal.util.JVMUtil.upcast;
 import static com.hazelcast.internal.util.StringUtil.stringToBytes;
+import static com.hazelcast.internal.util.collection.ArrayUtils.append;
+import static com.hazelcast.spi.properties.ClusterProperty.IO_COMPRESSION_THRESHOLD;
 import static com.hazelcast.spi.properties.ClusterProperty.SOCKET_CLIENT_SEND_BUFFER_SIZE;
 import static com.hazelcast.spi.properties.ClusterProperty.SOCKET_SEND_BUFFER_SIZE;
 
@@ -49,12 +54,19 @@ import static com.hazelcast.spi.properties.ClusterProperty.SOCKET_SEND_BUFFER_SI
  * write the cluster protocol immediately. The ProtocolEncoder on the 'server' side
  * of the connection will wait till it has received the protocol and then will only
  * send the protocol if the client side was a member.
+ *
+ * When the 'client' side of a member connection has compression enabled, it
+ * writes the compressed cluster protocol instead and the 'server' side replies
+ * with the same protocol; the byte stream in both directions is then
+ * compressed. The same goes for the compressed client protocol, except that
+ * the member doesn't reply with protocol bytes to a client.
  */
 public class UnifiedProtocolEncoder
         extends OutboundHandler<Void, ByteBuffer> {
 
     private final ServerContext serverContext;
     private final HazelcastProperties props;
+    private final int compressionThreshold;
     private volatile String inboundProtocol;
     private boolean clusterProtocolBuffered;
     private volatile boolean encoderCanReplace;
@@ -62,6 +74,7 @@ public class UnifiedProtocolEncoder
     public UnifiedProtocolEncoder(ServerContext serverContext) {
         this.serverContext = serverContext;
         this.props = serverContext.properties();
+        this.compressionThreshold = props.getInteger(IO_COMPRESSION_THRESHOLD);
     }
 
     @Override
@@ -70,7 +83,7 @@ public class UnifiedProtocolEncoder
 
         if (channel.isClientMode()) {
             // from the clientSide of a connection, we always send the cluster protocol to a fellow member.
-            inboundProtocol = CLUSTER;
+            inboundProtocol = compressionThreshold >= 0 ? CLUSTER_COMPRESSED : CLUSTER;
         }
     }
 
@@ -96,12 +109,12 @@ public class UnifiedProtocolEncoder
                 return CLEAN;
             }
 
-            if (CLUSTER.equals(inboundProtocol)) {
+            if (CLUSTER.equals(inboundProtocol) || CLUSTER_COMPRESSED.equals(inboundProtocol)) {
                 // in case of a member, the cluster protocol needs to be send first before initializing the channel.
 
                 if (!clusterProtocolBuffered) {
                     clusterProtocolBuffered = true;
-                    dst.put(stringToBytes(CLUSTER));
+                    dst.put(stringToBytes(inboundProtocol));
                     // Return false because ProtocolEncoder is not ready yet; but first we need to flush protocol
                     return DIRTY;
                 }
@@ -114,7 +127,7 @@ public class UnifiedProtocolEncoder
                 if (encoderCanReplace) {
                     initChannelForCluster();
                 }
-            } else if (CLIENT_BINARY.equals(inboundProtocol)) {
+            } else if (CLIENT_BINARY.equals(inboundProtocol) || CLIENT_BINARY_COMPRESSED.equals(inboundProtocol)) {
                 // in case of a client, the member will not send the member protocol
                 if (encoderCanReplace) {
                     initChannelForClient();
@@ -150,6 +163,9 @@ public class UnifiedProtocolEncoder
 
         ServerConnection connection = (TcpServerConnection) channel.attributeMap().get(ServerConnection.class);
         OutboundHandler[] handlers = serverContext.createOutboundHandlers(EndpointQualifier.MEMBER, connection);
+        if (CLUSTER_COMPRESSED.equals(inboundProtocol)) {
+            handlers = append(handlers, new OutboundHandler[]{new CompressionEncoder(compressionThreshold)});
+        }
         channel.outboundPipeline().replace(this, handlers);
     }
 
@@ -157,7 +173,11 @@ public class UnifiedProtocolEncoder
         channel.options()
                 .setOption(SO_SNDBUF, clientSndBuf());
 
-        channel.outboundPipeline().replace(this, new ClientMessageEncoder());
+        if (CLIENT_BINARY_COMPRESSED.equals(inboundProtocol)) {
+            channel.outboundPipeline().replace(this, new ClientMessageEncoder(), new CompressionEncoder(compressionThreshold));
+        } else {
+            channel.outboundPipeline().replace(this, new ClientMessageEncoder());
+        }
     }
 
     private void initChannelForText() {
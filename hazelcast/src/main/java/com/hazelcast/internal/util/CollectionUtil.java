@@ -102,6 +102,32 @@ public final class CollectionUtil {
         return item;
     }
 
+    /**
+     * Returns at most {@code limit} items of the collection starting at the
+     * {@code offset}-th item in iteration order.
+     *
+     * @param collection the given collection
+     * @param offset     the number of items to skip
+     * @param limit      the maximum number of items to return
+     * @return the items, empty if the offset is past the last item
+     */
+    public static <T> List<T> getPage(Collection<T> collection, int offset, int limit) {
+        int from = Math.min(offset, collection.size());
+        int to = (int) Math.min((long) from + limit, collection.size());
+        if (collection instanceof List) {
+            return new ArrayList<>(((List<T>) collection).subList(from, to));
+        }
+        List<T> page = new ArrayList<>(to - from);
+        Iterator<T> iterator = collection.iterator();
+        for (int i = 0; i < to; i++) {
+            T item = iterator.next();
+            if (i >= from) {
+                page.add(item);
+            }
+        }
+        return page;
+    }
+
     /**
      * Converts a collection of any type to a collection of {@link Data}.
      *
@@ -0,0 +1,54 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.util;
+
+import com.hazelcast.partition.PartitionService;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Utility methods for data structures which spread one logical structure
+ * over several shards named {@code name@shardKey}.
+ */
+public final class ShardKeyUtil {
+
+    private static final String SHARD_KEY_PREFIX = "shard-";
+
+    private ShardKeyUtil() {
+    }
+
+    /**
+     * Picks {@code shardCount} partition keys which map to distinct
+     * partitions as long as there are more partitions than shards.
+     */
+    public static List<String> distinctPartitionKeys(PartitionService partitionService, int shardCount) {
+        int partitionCount = partitionService.getPartitions().size();
+        List<String> keys = new ArrayList<>(shardCount);
+        Set<Integer> usedPartitions = new HashSet<>();
+        for (int candidate = 0; keys.size() < shardCount; candidate++) {
+            String key = SHARD_KEY_PREFIX + candidate;
+            int partitionId = partitionService.getPartition(key).getPartitionId();
+            if (usedPartitions.add(partitionId) || usedPartitions.size() == partitionCount) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+}
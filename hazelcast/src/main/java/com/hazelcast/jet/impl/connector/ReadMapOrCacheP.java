@@ -33,6 +33,7 @@ import com.hazelcast.cluster.Address;
 import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.function.BiFunctionEx;
 import com.hazelcast.function.FunctionEx;
+import com.hazelcast.internal.cluster.Versions;
 import com.hazelcast.internal.iteration.IterationPointer;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
@@ -60,6 +61,7 @@ import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.HazelcastSerializationException;
 import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
+import com.hazelcast.nio.serialization.impl.Versioned;
 import com.hazelcast.projection.Projection;
 import com.hazelcast.query.Predicate;
 import com.hazelcast.spi.impl.InternalCompletableFuture;
@@ -295,7 +297,7 @@ public final class ReadMapOrCacheP<F extends CompletableFuture, B, R> extends Ab
                     List<Integer> partitionsToScanList = new ArrayList<>();
                     // partitionAssignment is sorted, so we can use binary search
                     for (int pId : partitionsToScan) {
-                        if (Arrays.binarySearch(partitions, pId) > 0) {
+                        if (Arrays.binarySearch(partitions, pId) >= 0) {
                             partitionsToScanList.add(pId);
                         }
                     }
@@ -338,7 +340,7 @@ public final class ReadMapOrCacheP<F extends CompletableFuture, B, R> extends Ab
     }
 
     public static final class LocalProcessorSupplier<F extends CompletableFuture, B, R> implements ProcessorSupplier,
-            IdentifiedDataSerializable {
+            IdentifiedDataSerializable, Versioned {
 
         static final long serialVersionUID = 1L;
 
@@ -346,7 +348,7 @@ public final class ReadMapOrCacheP<F extends CompletableFuture, B, R> extends Ab
 
         private transient HazelcastInstance hzInstance;
         private transient InternalSerializationService serializationService;
-        private transient int[] partitionsToScan;
+        private int[] partitionsToScan;
 
         public LocalProcessorSupplier() {
         }
@@ -390,11 +392,17 @@ public final class ReadMapOrCacheP<F extends CompletableFuture, B, R> extends Ab
         @Override
         public void writeData(ObjectDataOutput out) throws IOException {
             out.writeObject(readerSupplier);
+            if (out.getVersion().isGreaterOrEqual(Versions.V5_4)) {
+                out.writeIntArray(partitionsToScan);
+            }
         }
 
         @Override
         public void readData(ObjectDataInput in) throws IOException {
             readerSupplier = in.readObject();
+            if (in.getVersion().isGreaterOrEqual(Versions.V5_4)) {
+                partitionsToScan = in.readIntArray();
+            }
         }
 
         @Override
@@ -87,6 +87,20 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
     Map<K, A> slidingWindowBackup;
     long nextWinToEmit = Long.MIN_VALUE;
 
+    // State for sliding windows without deductFn, maintained using the "two
+    // stacks" approach. The frames of the current window are split into the
+    // front part, for which we keep suffix aggregates (each entry is the
+    // combination of all frames from its timestamp up to frontTopTs), and the
+    // back part, for which we keep a single running aggregate of frames after
+    // frontTopTs. A window is then the combination of one suffix aggregate and
+    // the back aggregate. When the front part is exhausted, all frames of the
+    // window are moved to it. This way each frame is combined a constant number
+    // of times on average instead of once for every window it belongs to.
+    final Long2ObjectHashMap<Map<K, A>> tsToSuffixAcc = new Long2ObjectHashMap<>();
+    Map<K, A> backAcc;
+    private long frontTopTs = Long.MIN_VALUE;
+    private long backTopTs = Long.MIN_VALUE;
+
     @Nonnull
     private final SlidingWindowPolicy winPolicy;
     @Nonnull
@@ -214,7 +228,7 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
                 winPolicy.frameSize())
             .boxed();
         earlyWinTraverser = traverseStream(earlyWinRange)
-                .flatMap(winEnd -> traverseIterable(computeWindow(winEnd).entrySet())
+                .flatMap(winEnd -> traverseIterable(computeEarlyWindow(winEnd).entrySet())
                         .map(e -> mapToOutputFn.apply(
                                 winEnd - winPolicy.windowSize(),
                                 winEnd,
@@ -409,7 +423,7 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
             return tsToKeyToAcc.getOrDefault(frameTs, emptyMap());
         }
         if (aggrOp.deductFn() == null) {
-            return recomputeWindow(frameTs);
+            return combineWindowFromStacks(frameTs);
         }
         if (slidingWindow == null) {
             slidingWindow = recomputeWindow(frameTs);
@@ -420,22 +434,87 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
         return slidingWindow;
     }
 
+    private Map<K, A> computeEarlyWindow(long frameTs) {
+        if (!winPolicy.isTumbling() && aggrOp.deductFn() == null) {
+            // The frames of an early window can still change, therefore we can't
+            // add them to the stacks used for the final results.
+            return recomputeWindow(frameTs);
+        }
+        return computeWindow(frameTs);
+    }
+
     private Map<K, A> recomputeWindow(long frameTs) {
         Map<K, A> window = new HashMap<>();
         for (long ts = frameTs - winPolicy.windowSize() + winPolicy.frameSize();
              ts <= frameTs;
              ts += winPolicy.frameSize()
         ) {
-            assert combineFn != null : "combineFn == null";
-            for (Entry<K, A> entry : tsToKeyToAcc.getOrDefault(ts, emptyMap()).entrySet()) {
-                combineFn.accept(
-                        window.computeIfAbsent(entry.getKey(), k -> aggrOp.createFn().get()),
-                        entry.getValue());
-            }
+            combineInto(window, tsToKeyToAcc.get(ts));
         }
         return window;
     }
 
+    private Map<K, A> combineWindowFromStacks(long frameTs) {
+        long windowStartTs = frameTs - winPolicy.windowSize() + winPolicy.frameSize();
+        if (backAcc == null || windowStartTs > frontTopTs || frameTs != backTopTs + winPolicy.frameSize()) {
+            flipStacks(windowStartTs);
+        }
+        // add leading-edge frame
+        combineInto(backAcc, tsToKeyToAcc.get(frameTs));
+        backTopTs = frameTs;
+
+        Map<K, A> window = new HashMap<>();
+        combineInto(window, tsToSuffixAcc.get(windowStartTs));
+        combineInto(window, backAcc);
+        return window;
+    }
+
+    /**
+     * Moves all frames from {@code windowStartTs} up to {@code backTopTs}
+     * to the front part, computing the suffix aggregate for each of them.
+     * The back part is left empty.
+     */
+    private void flipStacks(long windowStartTs) {
+        tsToSuffixAcc.clear();
+        // we'll add the leading-edge frame to the back part only after the flip
+        long frameCount = winPolicy.windowSize() / winPolicy.frameSize() - 1;
+        Map<K, A> suffixAcc = null;
+        for (long i = frameCount - 1; i >= 0; i--) {
+            long ts = windowStartTs + i * winPolicy.frameSize();
+            Map<K, A> frame = tsToKeyToAcc.get(ts);
+            if (frame != null) {
+                Map<K, A> newSuffixAcc = new HashMap<>();
+                combineInto(newSuffixAcc, frame);
+                combineInto(newSuffixAcc, suffixAcc);
+                suffixAcc = newSuffixAcc;
+            }
+            if (suffixAcc != null) {
+                tsToSuffixAcc.put(ts, suffixAcc);
+            }
+        }
+        frontTopTs = windowStartTs + (frameCount - 1) * winPolicy.frameSize();
+        backAcc = new HashMap<>();
+    }
+
+    private void resetStacks() {
+        tsToSuffixAcc.clear();
+        backAcc = null;
+        frontTopTs = Long.MIN_VALUE;
+        backTopTs = Long.MIN_VALUE;
+    }
+
+    private void combineInto(Map<K, A> target, @Nullable Map<K, A> source) {
+        if (source == null) {
+            return;
+        }
+        assert combineFn != null : "combineFn == null";
+        for (Entry<K, A> entry : source.entrySet()) {
+            combineFn.accept(
+                    target.computeIfAbsent(entry.getKey(), k -> aggrOp.createFn().get()),
+                    entry.getValue());
+        }
+    }
+
     private void patchSlidingWindow(BiConsumer<? super A, ? super A> patchOp, Map<K, A> patchingFrame) {
         if (patchingFrame == null) {
             return;
@@ -460,6 +539,14 @@ public class SlidingWindowP<K, A, R, OUT> extends AbstractProcessor {
                 patchSlidingWindow(aggrOp.deductFn(), evictedFrame);
             }
         }
+        if (backAcc != null) {
+            tsToSuffixAcc.remove(tsOfFrameToEvict);
+            if (tsToKeyToAcc.isEmpty()) {
+                // No frames left, the next window will rebuild the stacks. This also
+                // covers frames added after a flush for already emitted windows.
+                resetStacks();
+            }
+        }
         assert tsToKeyToAcc.values().stream().mapToInt(Map::size).sum() == totalKeysInFrames.get()
                 : "totalKeysInFrames mismatch, expected=" + tsToKeyToAcc.values().stream().mapToInt(Map::size).sum()
                 + ", actual=" + totalKeysInFrames.get();
@@ -111,6 +111,7 @@ import com.hazelcast.map.impl.operation.PutTransientBackupOperation;
 import com.hazelcast.map.impl.operation.PutTransientOperation;
 import com.hazelcast.map.impl.operation.PutTransientWithExpiryOperation;
 import com.hazelcast.map.impl.operation.PutWithExpiryOperation;
+import com.hazelcast.map.impl.operation.ReadFromReplicaOperation;
 import com.hazelcast.map.impl.operation.RemoveBackupOperation;
 import com.hazelcast.map.impl.operation.RemoveFromLoadAllOperation;
 import com.hazelcast.map.impl.operation.RemoveIfSameOperation;
@@ -324,8 +325,9 @@ public final class MapDataSerializerHook implements DataSerializerHook {
     public static final int INDEX_ITERATION_POINTER = 156;
     public static final int MAP_FETCH_INDEX_OPERATION_RESULT = 157;
     public static final int MAP_CHUNK = 158;
+    public static final int READ_FROM_REPLICA = 159;
 
-    private static final int LEN = MAP_CHUNK + 1;
+    private static final int LEN = READ_FROM_REPLICA + 1;
 
     @Override
     public int getFactoryId() {
@@ -491,6 +493,7 @@ public final class MapDataSerializerHook implements DataSerializerHook {
         constructors[INDEX_ITERATION_POINTER] = arg -> new IndexIterationPointer();
         constructors[MAP_FETCH_INDEX_OPERATION_RESULT] = arg -> new MapFetchIndexOperationResult();
         constructors[MAP_CHUNK] = arg -> new MapChunk();
+        constructors[READ_FROM_REPLICA] = arg -> new ReadFromReplicaOperation();
 
         return new ArrayDataSerializableFactory(constructors);
     }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.internal.partition.impl.InternalPartitionServiceImpl;
+import com.hazelcast.internal.partition.impl.PartitionReplicaManager;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.services.ServiceNamespace;
+import com.hazelcast.map.impl.MapDataSerializerHook;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+
+import java.io.IOException;
+
+import static com.hazelcast.internal.partition.impl.PartitionReplicaManager.REQUIRES_SYNC;
+
+/**
+ * Serves {@code get} and {@code containsKey} from whichever replica of the
+ * partition it is sent to, without going through the primary replica.
+ * <p>
+ * Staleness is bounded by the partition replica versions: a backup replica
+ * which is marked dirty or which waits for a replica sync refuses the read
+ * with {@link StaleReplicaReadException}, so the caller can repeat it on the
+ * primary replica. Callers send it only to sync backups, which acknowledge
+ * every update before the update returns to its caller.
+ *
+ * @since 5.4
+ */
+public class ReadFromReplicaOperation extends ReadonlyKeyBasedMapOperation {
+
+    private boolean containsKey;
+
+    private transient Object response;
+
+    public ReadFromReplicaOperation() {
+    }
+
+    public ReadFromReplicaOperation(String name, Data dataKey, boolean containsKey) {
+        super(name, dataKey);
+        this.containsKey = containsKey;
+    }
+
+    @Override
+    protected void runInternal() {
+        int replicaIndex = getReplicaIndex();
+        if (replicaIndex > 0) {
+            InternalPartitionServiceImpl partitionService =
+                    (InternalPartitionServiceImpl) getNodeEngine().getPartitionService();
+            if (isStaleReplica(partitionService.getReplicaManager(), getPartitionId(), getServiceNamespace(), replicaIndex)) {
+                throw new StaleReplicaReadException("Replica " + replicaIndex + " of partition " + getPartitionId()
+                        + " is not in sync with the primary replica for map " + name);
+            }
+        }
+
+        Data value = recordStore == null ? null : recordStore.readBackupData(dataKey);
+        response = containsKey ? (Object) (value != null) : value;
+    }
+
+    /**
+     * Returns {@code true} if the given backup replica of the partition
+     * may have missed updates of the namespace.
+     */
+    public static boolean isStaleReplica(PartitionReplicaManager replicaManager, int partitionId,
+                                         ServiceNamespace namespace, int replicaIndex) {
+        if (replicaManager.isPartitionReplicaVersionDirty(partitionId, namespace)) {
+            return true;
+        }
+        long[] versions = replicaManager.getPartitionReplicaVersions(partitionId, namespace);
+        return versions[replicaIndex - 1] == REQUIRES_SYNC;
+    }
+
+    @Override
+    public Object getResponse() {
+        return response;
+    }
+
+    @Override
+    public int getClassId() {
+        return MapDataSerializerHook.READ_FROM_REPLICA;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeBoolean(containsKey);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        containsKey = in.readBoolean();
+    }
+}
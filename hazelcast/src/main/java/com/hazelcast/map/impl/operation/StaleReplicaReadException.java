@@ -0,0 +1,34 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map.impl.operation;
+
+import com.hazelcast.core.HazelcastException;
+import com.hazelcast.spi.exception.SilentException;
+
+/**
+ * Thrown by {@link ReadFromReplicaOperation} when the backup replica it runs
+ * on may be behind the primary, so the caller must repeat the read on the
+ * primary replica.
+ *
+ * @since 5.4
+ */
+public class StaleReplicaReadException extends HazelcastException implements SilentException {
+
+    public StaleReplicaReadException(String message) {
+        super(message);
+    }
+}
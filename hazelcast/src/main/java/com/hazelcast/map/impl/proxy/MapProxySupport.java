@@ -36,8 +36,11 @@ import com.hazelcast.internal.monitor.impl.LocalMapStatsImpl;
 import com.hazelcast.internal.nio.ClassLoaderUtil;
 import com.hazelcast.internal.partition.IPartition;
 import com.hazelcast.internal.partition.IPartitionService;
+import com.hazelcast.internal.partition.impl.InternalPartitionServiceImpl;
+import com.hazelcast.internal.partition.impl.PartitionReplicaManager;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.services.ObjectNamespace;
 import com.hazelcast.internal.util.ConcurrencyUtil;
 import com.hazelcast.internal.util.ExceptionUtil;
 import com.hazelcast.internal.util.IterableUtil;
@@ -53,7 +56,6 @@ import com.hazelcast.map.impl.EntryEventFilter;
 import com.hazelcast.map.impl.MapEntries;
 import com.hazelcast.map.impl.MapService;
 import com.hazelcast.map.impl.MapServiceContext;
-import com.hazelcast.map.impl.PartitionContainer;
 import com.hazelcast.map.impl.event.MapEventPublisher;
 import com.hazelcast.map.impl.operation.AddIndexOperation;
 import com.hazelcast.map.impl.operation.AddInterceptorOperationSupplier;
@@ -63,7 +65,9 @@ import com.hazelcast.map.impl.operation.IsKeyLoadFinishedOperation;
 import com.hazelcast.map.impl.operation.IsPartitionLoadedOperationFactory;
 import com.hazelcast.map.impl.operation.MapOperation;
 import com.hazelcast.map.impl.operation.MapOperationProvider;
+import com.hazelcast.map.impl.operation.ReadFromReplicaOperation;
 import com.hazelcast.map.impl.operation.RemoveInterceptorOperationSupplier;
+import com.hazelcast.map.impl.operation.StaleReplicaReadException;
 import com.hazelcast.map.impl.query.Query;
 import com.hazelcast.map.impl.query.QueryEngine;
 import com.hazelcast.map.impl.query.QueryEventFilter;
@@ -110,6 +114,7 @@ import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
@@ -117,8 +122,10 @@ import java.util.function.Function;
 import java.util.function.Supplier;
 
 import static com.hazelcast.core.EntryEventType.CLEAR_ALL;
+import static com.hazelcast.internal.cluster.Versions.V5_4;
 import static com.hazelcast.internal.util.CollectionUtil.asIntegerList;
 import static com.hazelcast.internal.util.ConcurrencyUtil.CALLER_RUNS;
+import static com.hazelcast.internal.util.EmptyStatement.ignore;
 import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
 import static com.hazelcast.internal.util.InvocationUtil.invokeOnStableClusterSerial;
 import static com.hazelcast.internal.util.IterableUtil.nullToEmpty;
@@ -166,6 +173,10 @@ abstract class MapProxySupport<K, V>
      * Retry count when an interceptor registration/de-registration operation fails.
      */
     private static final int MAX_RETRIES = 100;
+    /**
+     * Marks a read which was not served by a backup replica.
+     */
+    private static final Object NOT_READ_FROM_REPLICA = new Object();
 
     /**
      * Defines the batch size for operations of {@link IMap#putAll(Map)} and {@link IMap#setAll(Map)} calls.
@@ -406,30 +417,124 @@ abstract class MapProxySupport<K, V>
     }
 
     protected Object getInternal(Object key) {
-        // TODO: action for read-backup true is not well tested
         Data keyData = toDataWithStrategy(key);
         if (mapConfig.isReadBackupData()) {
-            Object fromBackup = readBackupDataOrNull(keyData);
-            if (fromBackup != null) {
-                return fromBackup;
+            Object fromReplica = readFromReplica(keyData, false);
+            if (fromReplica != NOT_READ_FROM_REPLICA) {
+                return fromReplica;
             }
         }
         MapOperation operation = operationProvider.createGetOperation(name, keyData);
         return invokeOperation(keyData, operation);
     }
 
-    private Data readBackupDataOrNull(Data key) {
-        int partitionId = partitionService.getPartitionId(key);
+    /**
+     * Reads the key from a local replica if this member holds one, otherwise
+     * from a randomly chosen sync replica to spread the reads of hot keys.
+     *
+     * @return the response of the replica or {@link #NOT_READ_FROM_REPLICA}
+     * when the read should go to the primary replica
+     */
+    private Object readFromReplica(Data keyData, boolean containsKey) {
+        int partitionId = partitionService.getPartitionId(keyData);
         IPartition partition = partitionService.getPartition(partitionId, false);
-        if (!partition.isOwnerOrBackup(thisAddress)) {
-            return null;
+        long startTimeNanos = Timer.nanos();
+        Object response;
+        int localReplicaIndex = getLocalReplicaIndex(partition);
+        if (localReplicaIndex >= 0) {
+            Data value = readLocalReplica(keyData, partitionId, localReplicaIndex);
+            if (value == null) {
+                // the local replica may be an async backup which lags behind
+                return NOT_READ_FROM_REPLICA;
+            }
+            response = containsKey ? (Object) true : value;
+        } else {
+            response = readFromRemoteReplica(keyData, containsKey, partition);
+            if (response == NOT_READ_FROM_REPLICA) {
+                return NOT_READ_FROM_REPLICA;
+            }
+        }
+        if (statisticsEnabled && !containsKey) {
+            localMapStats.incrementGetLatencyNanos(Timer.nanosElapsed(startTimeNanos));
+        }
+        return response;
+    }
+
+    /**
+     * Reads the key directly from the record store of the local replica.
+     *
+     * @return the value or {@code null} if the replica doesn't have it or
+     * if it may have missed updates
+     */
+    private Data readLocalReplica(Data keyData, int partitionId, int replicaIndex) {
+        if (replicaIndex > 0) {
+            PartitionReplicaManager replicaManager =
+                    ((InternalPartitionServiceImpl) getNodeEngine().getPartitionService()).getReplicaManager();
+            ObjectNamespace namespace = MapService.getObjectNamespace(name);
+            if (ReadFromReplicaOperation.isStaleReplica(replicaManager, partitionId, namespace, replicaIndex)) {
+                return null;
+            }
+        }
+        RecordStore recordStore = mapServiceContext.getPartitionContainer(partitionId).getExistingRecordStore(name);
+        return recordStore == null ? null : recordStore.readBackupData(keyData);
+    }
+
+    /**
+     * Reads the key from a randomly chosen primary or sync backup replica
+     * held by another member.
+     */
+    private Object readFromRemoteReplica(Data keyData, boolean containsKey, IPartition partition) {
+        int replicaIndex = selectRemoteReplicaIndex(partition);
+        // ReadFromReplicaOperation is known to members since 5.4
+        if (replicaIndex == 0 || !getNodeEngine().getClusterService().getClusterVersion().isGreaterOrEqual(V5_4)) {
+            return NOT_READ_FROM_REPLICA;
+        }
+        try {
+            Object response = invokeOnReplica(keyData, containsKey, partition.getPartitionId(), replicaIndex)
+                    .joinInternal();
+            if (response == null && isMapStoreEnabled()) {
+                // backups do not load missing keys from the map store
+                return NOT_READ_FROM_REPLICA;
+            }
+            return response;
+        } catch (StaleReplicaReadException e) {
+            ignore(e);
+            return NOT_READ_FROM_REPLICA;
         }
-        PartitionContainer partitionContainer = mapServiceContext.getPartitionContainer(partitionId);
-        RecordStore recordStore = partitionContainer.getExistingRecordStore(name);
-        if (recordStore == null) {
-            return null;
+    }
+
+    private InternalCompletableFuture<Object> invokeOnReplica(Data keyData, boolean containsKey,
+                                                              int partitionId, int replicaIndex) {
+        ReadFromReplicaOperation operation = new ReadFromReplicaOperation(name, keyData, containsKey);
+        operation.setThreadId(getThreadId());
+        return operationService.createInvocationBuilder(SERVICE_NAME, operation, partitionId)
+                .setReplicaIndex(replicaIndex)
+                .setResultDeserialized(false)
+                .invoke();
+    }
+
+    /**
+     * Picks one of the primary and sync backup replicas at random. Async
+     * backups are only read when they are local, since they may lag behind
+     * acknowledged updates.
+     */
+    private int selectRemoteReplicaIndex(IPartition partition) {
+        int backupCount = mapConfig.getBackupCount();
+        if (backupCount == 0) {
+            return 0;
         }
-        return recordStore.readBackupData(key);
+        int replicaIndex = ThreadLocalRandom.current().nextInt(backupCount + 1);
+        return partition.getReplicaAddress(replicaIndex) != null ? replicaIndex : 0;
+    }
+
+    private int getLocalReplicaIndex(IPartition partition) {
+        int totalBackupCount = mapConfig.getTotalBackupCount();
+        for (int replicaIndex = 0; replicaIndex <= totalBackupCount; replicaIndex++) {
+            if (thisAddress.equals(partition.getReplicaAddress(replicaIndex))) {
+                return replicaIndex;
+            }
+        }
+        return -1;
     }
 
     protected InternalCompletableFuture<Data> getAsyncInternal(Object key) {
@@ -743,6 +848,13 @@ abstract class MapProxySupport<K, V>
 
     protected boolean containsKeyInternal(Object key) {
         Data keyData = toDataWithStrategy(key);
+        if (mapConfig.isReadBackupData()) {
+            Object fromReplica = readFromReplica(keyData, true);
+            if (fromReplica != NOT_READ_FROM_REPLICA) {
+                incrementOtherOperationsStat();
+                return toObject(fromReplica);
+            }
+        }
         MapOperation containsKeyOperation = operationProvider.createContainsKeyOperation(name, keyData);
 
         try {
@@ -882,6 +994,12 @@ abstract class MapProxySupport<K, V>
         if (dataKeys.isEmpty()) {
             toDataCollectionWithNonNullKeyValidation(keys, dataKeys);
         }
+        if (mapConfig.isReadBackupData()) {
+            dataKeys = readFromLocalBackups(dataKeys, resultingKeyValuePairs);
+            if (dataKeys.isEmpty()) {
+                return;
+            }
+        }
         Collection<Integer> partitions = getPartitionsForKeys(dataKeys);
         Map<Integer, Object> responses;
         try {
@@ -902,6 +1020,27 @@ abstract class MapProxySupport<K, V>
         }
     }
 
+    /**
+     * Reads the keys of the partitions this member holds a backup replica of
+     * from the local replicas and returns the keys which must still be read
+     * from their primary replicas.
+     */
+    private List<Data> readFromLocalBackups(List<Data> dataKeys, List<Object> resultingKeyValuePairs) {
+        List<Data> remainingKeys = new ArrayList<>(dataKeys.size());
+        for (Data dataKey : dataKeys) {
+            int partitionId = partitionService.getPartitionId(dataKey);
+            int replicaIndex = getLocalReplicaIndex(partitionService.getPartition(partitionId, false));
+            Data value = replicaIndex > 0 ? readLocalReplica(dataKey, partitionId, replicaIndex) : null;
+            if (value != null) {
+                resultingKeyValuePairs.add(dataKey);
+                resultingKeyValuePairs.add(value);
+            } else {
+                remainingKeys.add(dataKey);
+            }
+        }
+        return remainingKeys;
+    }
+
     private Collection<Integer> getPartitionsForKeys(Collection<Data> keys) {
         int partitions = partitionService.getPartitionCount();
         // TODO: is there better way to estimate the size?
@@ -20,10 +20,12 @@ import com.hazelcast.config.SplitBrainProtectionConfig;
 import com.hazelcast.core.EntryListener;
 import com.hazelcast.map.IMap;
 import com.hazelcast.map.LocalMapStats;
+import com.hazelcast.spi.annotation.Beta;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -132,6 +134,52 @@ public interface MultiMap<K, V> extends BaseMultiMap<K, V> {
     @Nonnull
     Collection<V> get(@Nonnull K key);
 
+    /**
+     * Returns at most {@code limit} values of the key starting at the
+     * {@code offset}-th value, so that keys with very large value
+     * collections can be read in parts.
+     * <p>
+     * On members, only the requested page is copied and sent. For
+     * {@link com.hazelcast.config.MultiMapConfig.ValueCollectionType#LIST}
+     * values the page is sliced directly, while for
+     * {@link com.hazelcast.config.MultiMapConfig.ValueCollectionType#SET}
+     * values the value collection is iterated up to the offset, so reading
+     * a page costs O(offset + limit) and reading all the values page by
+     * page costs O(n<sup>2</sup>/limit). Clients, and members of clusters
+     * running a version before 5.4, fetch the whole value collection and
+     * return the requested page of it.
+     * <p>
+     * The pages are not a snapshot: values put or removed between two
+     * calls may shift them.
+     * <p>
+     * <b>Warning:</b> This method uses {@code hashCode} and {@code equals} of
+     * the binary form of the {@code key}, not the actual implementations of
+     * {@code hashCode} and {@code equals} defined in the {@code key}'s class.
+     *
+     * @param key    the key whose values are to be returned
+     * @param offset the number of values to skip
+     * @param limit  the maximum number of values to return
+     * @return the page of values, empty if the offset is past the last value
+     * @since 5.4
+     */
+    @Beta
+    @Nonnull
+    Collection<V> getPage(@Nonnull K key, int offset, int limit);
+
+    /**
+     * Returns an iterator over the values of the key which fetches them
+     * lazily with {@link #getPage(Object, int, int)}, one page at a time.
+     * The costs of {@link #getPage(Object, int, int)} apply to each page.
+     *
+     * @param key      the key whose values are to be iterated
+     * @param pageSize the number of values fetched at once
+     * @return the iterator, not supporting removal
+     * @since 5.4
+     */
+    @Beta
+    @Nonnull
+    Iterator<V> valueIterator(@Nonnull K key, int pageSize);
+
     /**
      * Removes the given key value pair from the multimap.
      * <p>
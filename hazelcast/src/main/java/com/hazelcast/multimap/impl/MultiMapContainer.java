@@ -25,10 +25,10 @@ import com.hazelcast.internal.services.ObjectNamespace;
 import com.hazelcast.spi.merge.SplitBrainMergePolicy;
 import com.hazelcast.spi.merge.SplitBrainMergeTypes.MultiMapMergeTypes;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
@@ -122,7 +122,7 @@ public class MultiMapContainer extends MultiMapContainerSupport {
     }
 
     public Collection<MultiMapRecord> values() {
-        Collection<MultiMapRecord> valueCollection = new LinkedList<>();
+        Collection<MultiMapRecord> valueCollection = new ArrayList<>();
         for (MultiMapValue multiMapValue : multiMapValues.values()) {
             valueCollection.addAll(multiMapValue.getCollection(false));
         }
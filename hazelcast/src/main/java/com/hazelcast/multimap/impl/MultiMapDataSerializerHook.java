@@ -29,6 +29,7 @@ import com.hazelcast.multimap.impl.operations.DeleteOperation;
 import com.hazelcast.multimap.impl.operations.EntrySetOperation;
 import com.hazelcast.multimap.impl.operations.EntrySetResponse;
 import com.hazelcast.multimap.impl.operations.GetAllOperation;
+import com.hazelcast.multimap.impl.operations.GetPageOperation;
 import com.hazelcast.multimap.impl.operations.KeySetOperation;
 import com.hazelcast.multimap.impl.operations.MergeBackupOperation;
 import com.hazelcast.multimap.impl.operations.MergeOperation;
@@ -128,6 +129,7 @@ public class MultiMapDataSerializerHook implements DataSerializerHook {
     public static final int PUT_ALL = 53;
     public static final int PUT_ALL_BACKUP = 54;
     public static final int PUT_ALL_PARTITION_AWARE_FACTORY = 55;
+    public static final int GET_PAGE = 56;
 
     public int getFactoryId() {
         return F_ID;
@@ -135,7 +137,7 @@ public class MultiMapDataSerializerHook implements DataSerializerHook {
 
     public DataSerializableFactory createFactory() {
         ConstructorFunction<Integer, IdentifiedDataSerializable>[] constructors
-                = new ConstructorFunction[PUT_ALL_PARTITION_AWARE_FACTORY + 1];
+                = new ConstructorFunction[GET_PAGE + 1];
         constructors[CLEAR_BACKUP] = arg -> new ClearBackupOperation();
         constructors[CLEAR] = arg -> new ClearOperation();
         constructors[CONTAINS_ENTRY] = arg -> new ContainsEntryOperation();
@@ -180,6 +182,7 @@ public class MultiMapDataSerializerHook implements DataSerializerHook {
         constructors[PUT_ALL] = arg -> new PutAllOperation();
         constructors[PUT_ALL_BACKUP] = arg -> new PutAllBackupOperation();
         constructors[PUT_ALL_PARTITION_AWARE_FACTORY] = arg -> new MultiMapPutAllOperationFactory();
+        constructors[GET_PAGE] = arg -> new GetPageOperation();
 
         return new ArrayDataSerializableFactory(constructors);
     }
@@ -37,18 +37,23 @@ import com.hazelcast.splitbrainprotection.SplitBrainProtectionOn;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.EventListener;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
 
+import static com.hazelcast.internal.cluster.Versions.V5_4;
 import static com.hazelcast.internal.util.Preconditions.checkInstanceOf;
+import static com.hazelcast.internal.util.Preconditions.checkNotNegative;
 import static com.hazelcast.internal.util.Preconditions.checkNotNull;
 import static com.hazelcast.internal.util.Preconditions.checkPositive;
 import static com.hazelcast.internal.util.SetUtil.createHashSet;
@@ -148,6 +153,31 @@ public class MultiMapProxyImpl<K, V>
         return result.getObjectCollection(nodeEngine);
     }
 
+    @Nonnull
+    @Override
+    public Collection<V> getPage(@Nonnull K key, int offset, int limit) {
+        checkNotNull(key, NULL_KEY_IS_NOT_ALLOWED);
+        checkNotNegative(offset, "offset can't be negative");
+        checkPositive("limit", limit);
+
+        NodeEngine nodeEngine = getNodeEngine();
+        if (!nodeEngine.getClusterService().getClusterVersion().isGreaterOrEqual(V5_4)) {
+            // GetPageOperation is known to members since 5.4
+            return CollectionUtil.getPage(get(key), offset, limit);
+        }
+        Data dataKey = nodeEngine.toData(key);
+        MultiMapResponse result = getPageInternal(dataKey, offset, limit);
+        return result.getObjectCollection(nodeEngine);
+    }
+
+    @Nonnull
+    @Override
+    public Iterator<V> valueIterator(@Nonnull K key, int pageSize) {
+        checkNotNull(key, NULL_KEY_IS_NOT_ALLOWED);
+        checkPositive("pageSize", pageSize);
+        return new PagingValueIterator(key, pageSize);
+    }
+
     @Override
     public boolean remove(@Nonnull Object key, @Nonnull Object value) {
         checkNotNull(key, NULL_KEY_IS_NOT_ALLOWED);
@@ -398,4 +428,37 @@ public class MultiMapProxyImpl<K, V>
     private void ensureNoSplitBrain(SplitBrainProtectionOn requiredSplitBrainProtectionPermissionType) {
         getService().ensureNoSplitBrain(name, requiredSplitBrainProtectionPermissionType);
     }
+
+    private final class PagingValueIterator implements Iterator<V> {
+
+        private final K key;
+        private final int pageSize;
+        private Iterator<V> page = Collections.emptyIterator();
+        private int offset;
+        private boolean lastPage;
+
+        private PagingValueIterator(K key, int pageSize) {
+            this.key = key;
+            this.pageSize = pageSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!page.hasNext() && !lastPage) {
+                Collection<V> values = getPage(key, offset, pageSize);
+                offset += values.size();
+                lastPage = values.size() < pageSize;
+                page = values.iterator();
+            }
+            return page.hasNext();
+        }
+
+        @Override
+        public V next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            return page.next();
+        }
+    }
 }
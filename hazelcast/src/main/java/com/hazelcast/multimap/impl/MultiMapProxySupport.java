@@ -33,6 +33,7 @@ import com.hazelcast.map.impl.MapEntries;
 import com.hazelcast.multimap.impl.operations.CountOperation;
 import com.hazelcast.multimap.impl.operations.DeleteOperation;
 import com.hazelcast.multimap.impl.operations.GetAllOperation;
+import com.hazelcast.multimap.impl.operations.GetPageOperation;
 import com.hazelcast.multimap.impl.operations.MultiMapOperationFactory;
 import com.hazelcast.multimap.impl.operations.MultiMapOperationFactory.OperationFactoryType;
 import com.hazelcast.multimap.impl.operations.MultiMapPutAllOperationFactory;
@@ -241,6 +242,16 @@ public abstract class MultiMapProxySupport extends AbstractDistributedObject<Mul
         }
     }
 
+    protected MultiMapResponse getPageInternal(Data dataKey, int offset, int limit) {
+        try {
+            GetPageOperation operation = new GetPageOperation(name, dataKey, offset, limit);
+            operation.setThreadId(ThreadUtil.getThreadId());
+            return invoke(operation, dataKey);
+        } catch (Throwable throwable) {
+            throw ExceptionUtil.rethrow(throwable);
+        }
+    }
+
     protected Boolean removeInternal(Data dataKey, Data dataValue) {
         try {
             RemoveOperation operation = new RemoveOperation(name, dataKey, getThreadId(), dataValue);
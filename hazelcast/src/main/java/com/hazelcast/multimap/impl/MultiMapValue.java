@@ -16,12 +16,15 @@
 
 package com.hazelcast.multimap.impl;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
-import java.util.LinkedList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
+import static com.hazelcast.internal.util.SetUtil.createHashSet;
+
 /**
  * The MultiMapValue is the value in a multimap and it contains either a set or a list as collection.
  */
@@ -46,11 +49,35 @@ public class MultiMapValue {
         if (collection instanceof Set) {
             return new HashSet<>(collection);
         } else if (collection instanceof List) {
-            return new LinkedList<>(collection);
+            return new ArrayList<>(collection);
         }
         throw new IllegalArgumentException("No Matching CollectionProxyType!");
     }
 
+    /**
+     * Returns a copy of at most {@code limit} records starting at the
+     * {@code offset}-th record in iteration order. Only the page is copied,
+     * a list is sliced directly while a set is iterated up to the offset,
+     * so a page of a set costs O(offset + limit).
+     */
+    public Collection<MultiMapRecord> getPage(int offset, int limit) {
+        int size = collection.size();
+        int from = Math.min(offset, size);
+        int to = (int) Math.min((long) from + limit, size);
+        if (collection instanceof List) {
+            return new ArrayList<>(((List<MultiMapRecord>) collection).subList(from, to));
+        }
+        Set<MultiMapRecord> page = createHashSet(to - from);
+        Iterator<MultiMapRecord> iterator = collection.iterator();
+        for (int i = 0; i < to; i++) {
+            MultiMapRecord record = iterator.next();
+            if (i >= from) {
+                page.add(record);
+            }
+        }
+        return page;
+    }
+
     public void incrementHit() {
         hits++;
     }
@@ -19,10 +19,10 @@ package com.hazelcast.multimap.impl;
 import com.hazelcast.config.MultiMapConfig;
 import com.hazelcast.internal.util.SetUtil;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
 
@@ -79,7 +79,7 @@ public final class ValueCollectionFactory {
             case SET:
                 return initialCapacity <= 0 ? new HashSet<T>() : SetUtil.<T>createHashSet(initialCapacity);
             case LIST:
-                return new LinkedList<T>();
+                return initialCapacity <= 0 ? new ArrayList<T>() : new ArrayList<T>(initialCapacity);
             default:
                 throw new IllegalArgumentException("[" + collectionType + "] is not a known MultiMapConfig.ValueCollectionType!");
         }
@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.multimap.impl.operations;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.multimap.impl.MultiMapContainer;
+import com.hazelcast.multimap.impl.MultiMapDataSerializerHook;
+import com.hazelcast.multimap.impl.MultiMapRecord;
+import com.hazelcast.multimap.impl.MultiMapValue;
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+
+import java.io.IOException;
+import java.util.Collection;
+
+/**
+ * Returns one page of the values of a key, so keys with very large value
+ * collections can be read without copying and sending the whole collection.
+ * LIST values are sliced directly, SET values are iterated up to the offset,
+ * see {@link MultiMapValue#getPage(int, int)}.
+ *
+ * @since 5.4
+ */
+public class GetPageOperation extends GetAllOperation {
+
+    private int offset;
+    private int limit;
+
+    public GetPageOperation() {
+    }
+
+    public GetPageOperation(String name, Data dataKey, int offset, int limit) {
+        super(name, dataKey);
+        this.offset = offset;
+        this.limit = limit;
+    }
+
+    @Override
+    public void run() throws Exception {
+        MultiMapContainer container = getOrCreateContainer();
+        MultiMapValue multiMapValue = container.getMultiMapValueOrNull(dataKey);
+        Collection<MultiMapRecord> page = null;
+        if (multiMapValue != null) {
+            multiMapValue.incrementHit();
+            page = multiMapValue.getPage(offset, limit);
+        }
+        response = new MultiMapResponse(page, getValueCollectionType(container));
+    }
+
+    @Override
+    public int getClassId() {
+        return MultiMapDataSerializerHook.GET_PAGE;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        super.writeInternal(out);
+        out.writeInt(offset);
+        out.writeInt(limit);
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        super.readInternal(in);
+        offset = in.readInt();
+        limit = in.readInt();
+    }
+
+    @Override
+    protected void toString(StringBuilder sb) {
+        super.toString(sb);
+        sb.append(", offset=").append(offset).append(", limit=").append(limit);
+    }
+}
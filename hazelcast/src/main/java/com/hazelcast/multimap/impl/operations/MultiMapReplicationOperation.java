@@ -29,8 +29,8 @@ import com.hazelcast.nio.serialization.IdentifiedDataSerializable;
 import com.hazelcast.spi.impl.operationservice.Operation;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 
@@ -97,7 +97,7 @@ public class MultiMapReplicationOperation extends Operation implements Identifie
                 if (collectionType.equals(MultiMapConfig.ValueCollectionType.SET.name())) {
                     coll = createHashSet(collSize);
                 } else {
-                    coll = new LinkedList<>();
+                    coll = new ArrayList<>(collSize);
                 }
                 for (int k = 0; k < collSize; k++) {
                     MultiMapRecord record = new MultiMapRecord();
@@ -29,7 +29,8 @@ import com.hazelcast.spi.impl.operationservice.BackupOperation;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
+import java.util.HashSet;
+import java.util.Set;
 
 public class TxnRemoveAllBackupOperation extends AbstractKeyBasedMultiMapOperation implements BackupOperation {
 
@@ -55,16 +56,8 @@ public class TxnRemoveAllBackupOperation extends AbstractKeyBasedMultiMapOperati
         }
         response = true;
         Collection<MultiMapRecord> coll = multiMapValue.getCollection(false);
-        for (Long recordId : recordIds) {
-            Iterator<MultiMapRecord> iterator = coll.iterator();
-            while (iterator.hasNext()) {
-                MultiMapRecord record = iterator.next();
-                if (record.getRecordId() == recordId) {
-                    iterator.remove();
-                    break;
-                }
-            }
-        }
+        Set<Long> recordIdSet = new HashSet<>(recordIds);
+        coll.removeIf(record -> recordIdSet.contains(record.getRecordId()));
         if (coll.isEmpty()) {
             container.delete(dataKey);
         }
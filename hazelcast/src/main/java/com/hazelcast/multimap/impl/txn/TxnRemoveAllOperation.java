@@ -34,8 +34,8 @@ import com.hazelcast.spi.impl.operationservice.MutatingOperation;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Iterator;
-import java.util.LinkedList;
+import java.util.HashSet;
+import java.util.Set;
 
 public class TxnRemoveAllOperation extends AbstractKeyBasedMultiMapOperation implements BackupAwareOperation, MutatingOperation {
 
@@ -69,18 +69,15 @@ public class TxnRemoveAllOperation extends AbstractKeyBasedMultiMapOperation imp
         response = true;
         container.update();
         Collection<MultiMapRecord> coll = multiMapValue.getCollection(false);
-        removed = new LinkedList<MultiMapRecord>();
-        for (Long recordId : recordIds) {
-            Iterator<MultiMapRecord> iter = coll.iterator();
-            while (iter.hasNext()) {
-                MultiMapRecord record = iter.next();
-                if (record.getRecordId() == recordId) {
-                    iter.remove();
-                    removed.add(record);
-                    break;
-                }
+        Set<Long> recordIdSet = new HashSet<>(recordIds);
+        removed = new ArrayList<>(recordIds.size());
+        coll.removeIf(record -> {
+            if (recordIdSet.contains(record.getRecordId())) {
+                removed.add(record);
+                return true;
             }
-        }
+            return false;
+        });
         if (coll.isEmpty()) {
             container.delete(dataKey);
         }
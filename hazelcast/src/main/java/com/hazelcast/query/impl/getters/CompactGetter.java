@@ -20,20 +20,30 @@ import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.impl.GenericRecordQueryReader;
 import com.hazelcast.internal.serialization.impl.InternalGenericRecord;
+import com.hazelcast.internal.serialization.impl.compact.CompactFlyweightReader;
 import com.hazelcast.internal.serialization.impl.compact.CompactGenericRecord;
+import com.hazelcast.nio.serialization.FieldKind;
+
+import static com.hazelcast.internal.serialization.impl.FieldOperations.fieldOperations;
 
 public class CompactGetter extends Getter {
     private final InternalSerializationService serializationService;
+    // reused per thread to read top-level fields of Compact data without allocating
+    // a new input and record per entry
+    private final ThreadLocal<CompactFlyweightReader> flyweightReaders;
 
     public CompactGetter(InternalSerializationService serializationService) {
         super(null);
         this.serializationService = serializationService;
+        this.flyweightReaders = ThreadLocal.withInitial(serializationService::createCompactFlyweightReader);
     }
 
     private Object getValueInternal(Object target, String fieldPath, boolean useLazyDeserialization) throws Exception {
         InternalGenericRecord record;
         if (target instanceof CompactGenericRecord) {
             record = (InternalGenericRecord) target;
+        } else if (isSimpleFieldName(fieldPath)) {
+            return readTopLevelField((Data) target, fieldPath, useLazyDeserialization);
         } else {
             record = serializationService.readAsInternalGenericRecord((Data) target);
         }
@@ -41,6 +51,34 @@ public class CompactGetter extends Getter {
         return reader.read(fieldPath);
     }
 
+    /**
+     * Reads a top-level field through the flyweight reader of the current
+     * thread. Nested records are backed by the reused input, so they cannot
+     * escape from here and such fields are read from a record of their own.
+     */
+    private Object readTopLevelField(Data data, String fieldName, boolean useLazyDeserialization) throws Exception {
+        CompactFlyweightReader flyweightReader = flyweightReaders.get();
+        try {
+            InternalGenericRecord record = flyweightReader.reset(data);
+            if (!record.hasField(fieldName)) {
+                return null;
+            }
+            FieldKind kind = record.getFieldKind(fieldName);
+            if (kind != FieldKind.COMPACT && kind != FieldKind.ARRAY_OF_COMPACT) {
+                return fieldOperations(kind).readAsLeafObjectOnQuery(record, fieldName);
+            }
+        } finally {
+            flyweightReader.clear();
+        }
+        InternalGenericRecord record = serializationService.readAsInternalGenericRecord(data);
+        return new GenericRecordQueryReader(record, useLazyDeserialization).read(fieldName);
+    }
+
+    private static boolean isSimpleFieldName(String fieldPath) {
+        return fieldPath != null && !fieldPath.isEmpty()
+                && fieldPath.indexOf('.') < 0 && fieldPath.indexOf('[') < 0;
+    }
+
     @Override
     public Object getValue(Object target, String fieldPath) throws Exception {
         return getValueInternal(target, fieldPath, false);
@@ -122,8 +122,10 @@ public class ReplicatedMapService implements ManagedService, RemoteService, Even
     private final ReplicatedMapSplitBrainHandlerService splitBrainHandlerService;
     private final LocalReplicatedMapStatsProvider statsProvider;
     private final SplitBrainMergePolicyProvider mergePolicyProvider;
+    private final ReplicationBatcher replicationBatcher;
 
     private ScheduledFuture antiEntropyFuture;
+    private ScheduledFuture replicationBatchFuture;
 
     public ReplicatedMapService(NodeEngine nodeEngine) {
         this.nodeEngine = nodeEngine;
@@ -137,6 +139,7 @@ public class ReplicatedMapService implements ManagedService, RemoteService, Even
         this.splitBrainProtectionService = nodeEngine.getSplitBrainProtectionService();
         this.mergePolicyProvider = nodeEngine.getSplitBrainMergePolicyProvider();
         this.statsProvider = new LocalReplicatedMapStatsProvider(config, partitionContainers);
+        this.replicationBatcher = new ReplicationBatcher(nodeEngine);
     }
 
     @Override
@@ -146,6 +149,11 @@ public class ReplicatedMapService implements ManagedService, RemoteService, Even
         }
         antiEntropyFuture = nodeEngine.getExecutionService().getGlobalTaskScheduler()
                 .scheduleWithRepetition(antiEntropyTask, 0, SYNC_INTERVAL_SECONDS, TimeUnit.SECONDS);
+        if (replicationBatcher.isBatching()) {
+            long intervalMillis = replicationBatcher.getIntervalMillis();
+            replicationBatchFuture = nodeEngine.getExecutionService().getGlobalTaskScheduler()
+                    .scheduleWithRepetition(replicationBatcher, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
 
         boolean dsMetricsEnabled = nodeEngine.getProperties().getBoolean(ClusterProperty.METRICS_DATASTRUCTURES);
         if (dsMetricsEnabled) {
@@ -161,6 +169,7 @@ public class ReplicatedMapService implements ManagedService, RemoteService, Even
                 store.reset();
             }
         }
+        replicationBatcher.reset();
     }
 
     @Override
@@ -173,6 +182,13 @@ public class ReplicatedMapService implements ManagedService, RemoteService, Even
         if (antiEntropyFuture != null) {
             antiEntropyFuture.cancel(true);
         }
+        if (replicationBatchFuture != null) {
+            replicationBatchFuture.cancel(true);
+        }
+    }
+
+    public ReplicationBatcher getReplicationBatcher() {
+        return replicationBatcher;
     }
 
     /**
@@ -0,0 +1,272 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.replicatedmap.impl;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.replicatedmap.impl.operation.ReplicateUpdateBatchOperation;
+import com.hazelcast.replicatedmap.impl.operation.ReplicateUpdateOperation;
+import com.hazelcast.spi.impl.NodeEngine;
+import com.hazelcast.spi.impl.operationservice.Operation;
+import com.hazelcast.spi.properties.ClusterProperty;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.hazelcast.internal.cluster.Versions.V5_4;
+import static com.hazelcast.replicatedmap.impl.ReplicatedMapService.INVOCATION_TRY_COUNT;
+import static com.hazelcast.replicatedmap.impl.ReplicatedMapService.SERVICE_NAME;
+
+/**
+ * Sends the replication updates of the replicated maps owned by this member
+ * to the other members.
+ * <p>
+ * When {@link ClusterProperty#REPLICATED_MAP_REPLICATION_BATCH_INTERVAL_MILLIS}
+ * is set, the updates are buffered per target member and partition and sent
+ * by {@link #run()} once per interval, one {@link ReplicateUpdateBatchOperation}
+ * per partition. The batch runs on the partition thread of the target, so it
+ * is ordered with the other updates of its partition. A newer update of a key
+ * replaces the buffered one, which is safe because a member applies an update
+ * only if its version is newer than the version of its store. Otherwise every
+ * update is sent right away.
+ * <p>
+ * Since a member rejects every update older than the version of its store,
+ * the batches of a member and partition must arrive in order. So a batch is
+ * drained and sent while holding its lock, both by {@link #run()} and when
+ * it gets full, and the batches are sent without retries, which could
+ * reorder them. A lost batch leaves the store of the target behind, which
+ * the anti-entropy task repairs.
+ */
+public class ReplicationBatcher implements Runnable {
+
+    /**
+     * Buffered updates above which a batch is sent before the interval ends.
+     */
+    static final int MAX_BATCH_SIZE = 1000;
+
+    private final NodeEngine nodeEngine;
+    private final long intervalMillis;
+    private final ConcurrentMap<BatchKey, Batch> batches = new ConcurrentHashMap<>();
+
+    public ReplicationBatcher(NodeEngine nodeEngine) {
+        this.nodeEngine = nodeEngine;
+        this.intervalMillis = nodeEngine.getProperties()
+                .getMillis(ClusterProperty.REPLICATED_MAP_REPLICATION_BATCH_INTERVAL_MILLIS);
+    }
+
+    public boolean isBatching() {
+        return intervalMillis > 0;
+    }
+
+    public long getIntervalMillis() {
+        return intervalMillis;
+    }
+
+    /**
+     * Sends the update to the target or buffers it for the next batch.
+     */
+    public void replicate(Address target, ReplicateUpdateOperation update) {
+        if (isBatching() && canSendBatches()) {
+            BatchKey batchKey = new BatchKey(target, update.getPartitionId());
+            batches.computeIfAbsent(batchKey, Batch::new).add(update);
+        } else {
+            send(target, update);
+        }
+    }
+
+    /**
+     * Sends the updates to the target in one operation or buffers them for
+     * the next batch. The updates must be of the same partition and must not
+     * be sent to any other target.
+     */
+    public void replicateAll(Address target, List<ReplicateUpdateOperation> updates) {
+        if (updates.isEmpty()) {
+            return;
+        }
+        if (!canSendBatches()) {
+            for (ReplicateUpdateOperation update : updates) {
+                send(target, update);
+            }
+        } else if (isBatching()) {
+            for (ReplicateUpdateOperation update : updates) {
+                replicate(target, update);
+            }
+        } else {
+            sendBatch(target, updates.get(0).getPartitionId(), updates);
+        }
+    }
+
+    /**
+     * Sends the buffered updates, one batch per target member and partition.
+     */
+    @Override
+    public void run() {
+        for (Map.Entry<BatchKey, Batch> entry : batches.entrySet()) {
+            BatchKey batchKey = entry.getKey();
+            if (!entry.getValue().flush() && nodeEngine.getClusterService().getMember(batchKey.target) == null) {
+                batches.remove(batchKey, entry.getValue());
+            }
+        }
+    }
+
+    /**
+     * Drops the buffered updates. The anti-entropy task brings the other
+     * members up to date.
+     */
+    public void reset() {
+        batches.clear();
+    }
+
+    // for testing
+    int bufferedUpdateCount(Address target) {
+        int count = 0;
+        for (Map.Entry<BatchKey, Batch> entry : batches.entrySet()) {
+            if (entry.getKey().target.equals(target)) {
+                count += entry.getValue().size();
+            }
+        }
+        return count;
+    }
+
+    private boolean canSendBatches() {
+        return nodeEngine.getClusterService().getClusterVersion().isGreaterOrEqual(V5_4);
+    }
+
+    // package-visible for tests
+    void sendBatch(Address target, int partitionId, Collection<ReplicateUpdateOperation> updates) {
+        Operation operation = new ReplicateUpdateBatchOperation(updates)
+                .setPartitionId(partitionId)
+                .setValidateTarget(false);
+        // a retried batch could overtake the batches sent after it
+        nodeEngine.getOperationService()
+                .createInvocationBuilder(SERVICE_NAME, operation, target)
+                .setTryCount(1)
+                .invoke();
+    }
+
+    private void send(Address target, Operation operation) {
+        nodeEngine.getOperationService()
+                .createInvocationBuilder(SERVICE_NAME, operation, target)
+                .setTryCount(INVOCATION_TRY_COUNT)
+                .invoke();
+    }
+
+    private static final class BatchKey {
+
+        private final Address target;
+        private final int partitionId;
+
+        BatchKey(Address target, int partitionId) {
+            this.target = target;
+            this.partitionId = partitionId;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof BatchKey)) {
+                return false;
+            }
+            BatchKey that = (BatchKey) o;
+            return partitionId == that.partitionId && target.equals(that.target);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * target.hashCode() + partitionId;
+        }
+    }
+
+    /**
+     * The buffered updates for one member and partition, in the order they
+     * were made, at most one per key. The updates are sent while holding the
+     * lock of the batch, so the batches are sent in the order they were
+     * drained.
+     */
+    private final class Batch {
+
+        private final BatchKey batchKey;
+        private Map<UpdateKey, ReplicateUpdateOperation> updates = new LinkedHashMap<>();
+
+        Batch(BatchKey batchKey) {
+            this.batchKey = batchKey;
+        }
+
+        synchronized void add(ReplicateUpdateOperation update) {
+            UpdateKey key = new UpdateKey(update.getName(), update.getDataKey());
+            // re-inserting moves the key behind the updates made before this one
+            updates.remove(key);
+            updates.put(key, update);
+            if (updates.size() >= MAX_BATCH_SIZE) {
+                flush();
+            }
+        }
+
+        /**
+         * @return {@code true} if there were updates to send
+         */
+        synchronized boolean flush() {
+            if (updates.isEmpty()) {
+                return false;
+            }
+            Collection<ReplicateUpdateOperation> drained = new ArrayList<>(updates.values());
+            updates = new LinkedHashMap<>();
+            sendBatch(batchKey.target, batchKey.partitionId, drained);
+            return true;
+        }
+
+        synchronized int size() {
+            return updates.size();
+        }
+    }
+
+    private static final class UpdateKey {
+
+        private final String name;
+        private final Data key;
+
+        UpdateKey(String name, Data key) {
+            this.name = name;
+            this.key = key;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof UpdateKey)) {
+                return false;
+            }
+            UpdateKey that = (UpdateKey) o;
+            return name.equals(that.name) && key.equals(that.key);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, key);
+        }
+    }
+}
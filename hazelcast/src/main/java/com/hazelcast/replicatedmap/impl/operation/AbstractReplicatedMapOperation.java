@@ -20,6 +20,8 @@ import com.hazelcast.cluster.memberselector.MemberSelectors;
 import com.hazelcast.cluster.Member;
 import com.hazelcast.cluster.Address;
 import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.replicatedmap.impl.ReplicatedMapService;
+import com.hazelcast.replicatedmap.impl.ReplicationBatcher;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.impl.operationservice.OperationService;
 import com.hazelcast.spi.impl.operationservice.impl.responses.NormalResponse;
@@ -39,10 +41,13 @@ public abstract class AbstractReplicatedMapOperation extends AbstractNamedSerial
     protected transient VersionResponsePair response;
 
     protected void sendReplicationOperation(boolean isRemove) {
-        OperationService operationService = getNodeEngine().getOperationService();
+        ReplicationBatcher batcher = ((ReplicatedMapService) getService()).getReplicationBatcher();
         Collection<Address> members = getMemberAddresses();
         for (Address address : members) {
-            invoke(isRemove, operationService, address, name, key, value, ttl, response);
+            ReplicateUpdateOperation op = new ReplicateUpdateOperation(name, key, value, ttl, response, isRemove,
+                    getCallerAddress());
+            op.setPartitionId(getPartitionId()).setValidateTarget(false);
+            batcher.replicate(address, op);
         }
     }
 
@@ -60,17 +65,6 @@ public abstract class AbstractReplicatedMapOperation extends AbstractNamedSerial
         return addresses;
     }
 
-    private void invoke(boolean isRemove, OperationService operationService, Address address, String name, Data key,
-                        Data value, long ttl, VersionResponsePair response) {
-        Operation op = new ReplicateUpdateOperation(name, key, value, ttl, response, isRemove, getCallerAddress())
-                .setPartitionId(getPartitionId())
-                .setValidateTarget(false);
-        operationService
-                .createInvocationBuilder(getServiceName(), op, address)
-                .setTryCount(INVOCATION_TRY_COUNT)
-                .invoke();
-    }
-
     protected void sendUpdateCallerOperation(boolean isRemove) {
         OperationService operationService = getNodeEngine().getOperationService();
         Operation op = new ReplicateUpdateToCallerOperation(name, getCallId(), key, value, response, ttl, isRemove)
@@ -25,13 +25,14 @@ import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.replicatedmap.impl.ReplicatedMapEventPublishingService;
 import com.hazelcast.replicatedmap.impl.ReplicatedMapService;
+import com.hazelcast.replicatedmap.impl.ReplicationBatcher;
 import com.hazelcast.replicatedmap.impl.record.ReplicatedRecordStore;
 import com.hazelcast.spi.impl.operationservice.MutatingOperation;
-import com.hazelcast.spi.impl.operationservice.Operation;
-import com.hazelcast.spi.impl.operationservice.OperationService;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import static com.hazelcast.cluster.memberselector.MemberSelectors.DATA_MEMBER_SELECTOR;
 
@@ -58,6 +59,9 @@ public class PutAllOperation extends AbstractNamedSerializableOperation implemen
         int partitionId = getPartitionId();
         IPartitionService partitionService = getNodeEngine().getPartitionService();
         ReplicatedMapEventPublishingService eventPublishingService = service.getEventPublishingService();
+        List<Data> keys = new ArrayList<>();
+        List<Data> values = new ArrayList<>();
+        List<VersionResponsePair> responses = new ArrayList<>();
         for (int i = 0; i < entries.size(); i++) {
             Data key = entries.getKey(i);
             Data value = entries.getValue(i);
@@ -67,23 +71,32 @@ public class PutAllOperation extends AbstractNamedSerializableOperation implemen
             Object putResult = store.put(key, value);
             Data oldValue = getNodeEngine().toData(putResult);
             eventPublishingService.fireEntryListenerEvent(key, oldValue, value, name, getCallerAddress());
-            VersionResponsePair response = new VersionResponsePair(putResult, store.getVersion());
-            publishReplicationMessage(key, value, response);
+            keys.add(key);
+            values.add(value);
+            responses.add(new VersionResponsePair(putResult, store.getVersion()));
         }
+        publishReplicationMessages(service.getReplicationBatcher(), keys, values, responses);
     }
 
-    private void publishReplicationMessage(Data key, Data value, VersionResponsePair response) {
-        OperationService operationService = getNodeEngine().getOperationService();
+    /**
+     * Sends the updates of this partition to each member in one operation.
+     */
+    private void publishReplicationMessages(ReplicationBatcher batcher, List<Data> keys, List<Data> values,
+                                            List<VersionResponsePair> responses) {
         Collection<Member> members = getNodeEngine().getClusterService().getMembers(DATA_MEMBER_SELECTOR);
         for (Member member : members) {
             Address address = member.getAddress();
             if (address.equals(getNodeEngine().getThisAddress())) {
                 continue;
             }
-            Operation op = new ReplicateUpdateOperation(name, key, value, 0, response, false, getCallerAddress())
-                    .setPartitionId(getPartitionId())
-                    .setValidateTarget(false);
-            operationService.invokeOnTarget(getServiceName(), op, address);
+            List<ReplicateUpdateOperation> updates = new ArrayList<>(keys.size());
+            for (int i = 0; i < keys.size(); i++) {
+                ReplicateUpdateOperation op = new ReplicateUpdateOperation(name, keys.get(i), values.get(i), 0,
+                        responses.get(i), false, getCallerAddress());
+                op.setPartitionId(getPartitionId()).setValidateTarget(false);
+                updates.add(op);
+            }
+            batcher.replicateAll(address, updates);
         }
     }
 
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.replicatedmap.impl.operation;
+
+import com.hazelcast.nio.ObjectDataInput;
+import com.hazelcast.nio.ObjectDataOutput;
+import com.hazelcast.spi.impl.operationservice.PartitionAwareOperation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+
+import static com.hazelcast.replicatedmap.impl.ReplicatedMapService.SERVICE_NAME;
+
+/**
+ * Carries the replication updates of several keys of one partition,
+ * possibly of several replicated maps, to one member. The updates are
+ * applied in the order of the batch on the thread of the partition, so
+ * they are ordered with the other updates of the partition.
+ */
+public class ReplicateUpdateBatchOperation extends AbstractSerializableOperation implements PartitionAwareOperation {
+
+    private Collection<ReplicateUpdateOperation> updates;
+
+    public ReplicateUpdateBatchOperation() {
+    }
+
+    public ReplicateUpdateBatchOperation(Collection<ReplicateUpdateOperation> updates) {
+        this.updates = updates;
+    }
+
+    @Override
+    public void run() throws Exception {
+        for (ReplicateUpdateOperation update : updates) {
+            update.setPartitionId(getPartitionId())
+                    .setServiceName(SERVICE_NAME)
+                    .setNodeEngine(getNodeEngine())
+                    .setCallerUuid(getCallerUuid());
+            update.run();
+        }
+    }
+
+    @Override
+    public String getServiceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    protected void writeInternal(ObjectDataOutput out) throws IOException {
+        out.writeInt(updates.size());
+        for (ReplicateUpdateOperation update : updates) {
+            out.writeObject(update);
+        }
+    }
+
+    @Override
+    protected void readInternal(ObjectDataInput in) throws IOException {
+        int size = in.readInt();
+        updates = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            updates.add(in.readObject());
+        }
+    }
+
+    @Override
+    public int getClassId() {
+        return ReplicatedMapDataSerializerHook.REPLICATE_UPDATE_BATCH;
+    }
+}
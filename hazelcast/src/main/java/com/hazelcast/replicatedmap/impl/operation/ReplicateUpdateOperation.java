@@ -124,4 +124,8 @@ public class ReplicateUpdateOperation extends AbstractNamedSerializableOperation
     public String getName() {
         return name;
     }
+
+    public Data getDataKey() {
+        return dataKey;
+    }
 }
@@ -0,0 +1,320 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.ringbuffer.impl;
+
+import com.hazelcast.core.HazelcastException;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.impl.HeapData;
+import com.hazelcast.ringbuffer.StaleSequenceException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE;
+import static com.hazelcast.internal.memory.impl.UnsafeUtil.UNSAFE_AVAILABLE;
+import static java.nio.channels.FileChannel.MapMode.READ_WRITE;
+
+/**
+ * A ringbuffer of serialized items which keeps the item bytes in
+ * memory-mapped segment files instead of on the heap.
+ * <p>
+ * Items are appended to the current segment, the heap only holds the
+ * position of each slot's item. The first segment is sized after the
+ * capacity and the following ones double up to the maximum segment size,
+ * so small ringbuffers do not map more than they need. A segment is
+ * unmapped once none of the slots refers to it anymore, so the mapped
+ * memory follows the ringbuffer content. The segment files are deleted as
+ * soon as they are mapped, they are scratch space and not meant to survive
+ * a restart.
+ * <p>
+ * No thread safety is needed since a partition can only be accessed by a
+ * single thread at any given moment.
+ */
+public class MappedRingbuffer implements Ringbuffer<Data> {
+
+    /**
+     * Default maximum size of a segment file
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+    /**
+     * The expected size of a serialized item, used to size the first segment
+     */
+    static final int ESTIMATED_ITEM_SIZE = 64;
+    static final int MIN_SEGMENT_SIZE = 64 << 10;
+
+    private static final long NO_ITEM = -1;
+    private static final int SEGMENT_ID_SHIFT = 32;
+    private static final long OFFSET_MASK = 0xFFFFFFFFL;
+
+    private final File directory;
+    private final int maxSegmentSize;
+    private final int capacity;
+    /**
+     * The position of the item of each slot, the segment ID in the high and
+     * the offset within the segment in the low 32 bits, or {@link #NO_ITEM}.
+     */
+    private final long[] positions;
+    private final Map<Integer, Segment> segments = new HashMap<>();
+    private Segment current;
+    private int nextSegmentId;
+    private int nextSegmentSize;
+    private long tailSequence = -1;
+    private long headSequence = tailSequence + 1;
+
+    public MappedRingbuffer(int capacity, File directory) {
+        this(capacity, directory, DEFAULT_SEGMENT_SIZE);
+    }
+
+    MappedRingbuffer(int capacity, File directory, int maxSegmentSize) {
+        if (!directory.isDirectory() && !directory.mkdirs()) {
+            throw new HazelcastException("Could not create the ringbuffer segment directory " + directory);
+        }
+        this.capacity = capacity;
+        this.directory = directory;
+        this.maxSegmentSize = maxSegmentSize;
+        this.positions = new long[capacity];
+        Arrays.fill(positions, NO_ITEM);
+        resetSegmentSize();
+    }
+
+    @Override
+    public long tailSequence() {
+        return tailSequence;
+    }
+
+    @Override
+    public long peekNextTailSequence() {
+        return tailSequence + 1;
+    }
+
+    @Override
+    public void setTailSequence(long sequence) {
+        this.tailSequence = sequence;
+    }
+
+    @Override
+    public long headSequence() {
+        return headSequence;
+    }
+
+    @Override
+    public void setHeadSequence(long sequence) {
+        this.headSequence = sequence;
+    }
+
+    @Override
+    public long getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public long size() {
+        return tailSequence - headSequence + 1;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public long add(Data item) {
+        tailSequence++;
+
+        if (tailSequence - capacity == headSequence) {
+            headSequence++;
+        }
+
+        set(tailSequence, item);
+        return tailSequence;
+    }
+
+    @Override
+    public Data read(long sequence) {
+        checkReadSequence(sequence);
+        long position = positions[toIndex(sequence)];
+        if (position == NO_ITEM) {
+            return null;
+        }
+        ByteBuffer buffer = segments.get((int) (position >>> SEGMENT_ID_SHIFT)).buffer.duplicate();
+        buffer.position((int) (position & OFFSET_MASK));
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new HeapData(bytes);
+    }
+
+    @Override
+    public void checkBlockableReadSequence(long readSequence) {
+        if (readSequence > tailSequence + 1) {
+            throw new IllegalArgumentException("sequence:" + readSequence
+                    + " is too large. The current tailSequence is:" + tailSequence);
+        }
+        checkNotStale(readSequence);
+    }
+
+    @Override
+    public void checkReadSequence(long sequence) {
+        if (sequence > tailSequence) {
+            throw new IllegalArgumentException("sequence:" + sequence
+                    + " is too large. The current tailSequence is:" + tailSequence);
+        }
+        checkNotStale(sequence);
+    }
+
+    private void checkNotStale(long sequence) {
+        if (sequence < headSequence) {
+            throw new StaleSequenceException("sequence:" + sequence
+                    + " is too small. The current headSequence is:" + headSequence
+                    + " tailSequence is:" + tailSequence, headSequence);
+        }
+    }
+
+    @Override
+    public void set(long seq, Data data) {
+        int index = toIndex(seq);
+        release(positions[index]);
+        positions[index] = data == null ? NO_ITEM : append(data.toByteArray());
+    }
+
+    /**
+     * Clears the ringbuffer and unmaps all its segments.
+     */
+    @Override
+    public void clear() {
+        Arrays.fill(positions, NO_ITEM);
+        for (Segment segment : segments.values()) {
+            unmap(segment);
+        }
+        segments.clear();
+        current = null;
+        resetSegmentSize();
+        tailSequence = -1;
+        headSequence = tailSequence + 1;
+    }
+
+    @Override
+    public Iterator<Data> iterator() {
+        return new ReadOnlyRingbufferIterator<>(this);
+    }
+
+    /**
+     * Returns a copy of the items, at the same slots as they are stored.
+     */
+    @Override
+    public Data[] getItems() {
+        Data[] items = new Data[capacity];
+        for (long seq = Math.max(headSequence, 0); seq <= tailSequence; seq++) {
+            items[toIndex(seq)] = read(seq);
+        }
+        return items;
+    }
+
+    int getSegmentCount() {
+        return segments.size();
+    }
+
+    long getMappedBytes() {
+        long mappedBytes = 0;
+        for (Segment segment : segments.values()) {
+            mappedBytes += segment.buffer.capacity();
+        }
+        return mappedBytes;
+    }
+
+    private int toIndex(long sequence) {
+        return (int) (sequence % capacity);
+    }
+
+    private long append(byte[] bytes) {
+        int length = Integer.BYTES + bytes.length;
+        if (current == null || current.buffer.remaining() < length) {
+            if (current != null && current.itemCount == 0) {
+                unmap(segments.remove(current.id));
+            }
+            current = newSegment(Math.max(nextSegmentSize, length));
+            nextSegmentSize = Math.min(nextSegmentSize * 2, maxSegmentSize);
+        }
+        long position = ((long) current.id << SEGMENT_ID_SHIFT) | current.buffer.position();
+        current.buffer.putInt(bytes.length).put(bytes);
+        current.itemCount++;
+        return position;
+    }
+
+    private void release(long position) {
+        if (position == NO_ITEM) {
+            return;
+        }
+        int segmentId = (int) (position >>> SEGMENT_ID_SHIFT);
+        Segment segment = segments.get(segmentId);
+        if (--segment.itemCount == 0 && segment != current) {
+            unmap(segments.remove(segmentId));
+        }
+    }
+
+    private void resetSegmentSize() {
+        long expectedBytes = (long) capacity * ESTIMATED_ITEM_SIZE;
+        nextSegmentSize = (int) Math.min(maxSegmentSize, Math.max(MIN_SEGMENT_SIZE, expectedBytes));
+    }
+
+    /**
+     * Releases the mapping right away instead of waiting for the buffer to be
+     * garbage collected, which may take long for buffers that got promoted.
+     */
+    private static void unmap(Segment segment) {
+        if (UNSAFE_AVAILABLE) {
+            UNSAFE.invokeCleaner(segment.buffer);
+        }
+    }
+
+    private Segment newSegment(int size) {
+        try {
+            File file = File.createTempFile("ringbuffer-", ".segment", directory);
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw");
+                 FileChannel channel = raf.getChannel()) {
+                Segment segment = new Segment(nextSegmentId++, channel.map(READ_WRITE, 0, size));
+                segments.put(segment.id, segment);
+                return segment;
+            } finally {
+                if (!file.delete()) {
+                    file.deleteOnExit();
+                }
+            }
+        } catch (IOException e) {
+            throw new HazelcastException("Failed to create a ringbuffer segment in " + directory, e);
+        }
+    }
+
+    private static final class Segment {
+        private final int id;
+        private final MappedByteBuffer buffer;
+        private int itemCount;
+
+        private Segment(int id, MappedByteBuffer buffer) {
+            this.id = id;
+            this.buffer = buffer;
+        }
+    }
+}
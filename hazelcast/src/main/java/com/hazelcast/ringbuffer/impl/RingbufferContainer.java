@@ -32,11 +32,13 @@ import com.hazelcast.internal.services.ObjectNamespace;
 import com.hazelcast.spi.impl.operationservice.WaitNotifyKey;
 import com.hazelcast.internal.serialization.SerializationService;
 
+import java.io.File;
 import java.io.IOException;
 
 import static com.hazelcast.config.InMemoryFormat.BINARY;
 import static com.hazelcast.config.InMemoryFormat.OBJECT;
 import static com.hazelcast.config.InMemoryFormat.values;
+import static com.hazelcast.spi.properties.ClusterProperty.RINGBUFFER_MAPPED_STORAGE_DIRECTORY;
 import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
@@ -119,11 +121,10 @@ public class RingbufferContainer<T, E> implements IdentifiedDataSerializable, No
         this(namespace, partitionId);
 
         this.inMemoryFormat = config.getInMemoryFormat();
-        this.ringbuffer = new ArrayRingbuffer<E>(config.getCapacity());
 
         final long ttlMs = SECONDS.toMillis(config.getTimeToLiveSeconds());
         if (ttlMs != TTL_DISABLED) {
-            this.expirationPolicy = new RingbufferExpirationPolicy(ringbuffer.getCapacity(), ttlMs);
+            this.expirationPolicy = new RingbufferExpirationPolicy(config.getCapacity(), ttlMs);
         }
         init(config, nodeEngine);
     }
@@ -141,9 +142,37 @@ public class RingbufferContainer<T, E> implements IdentifiedDataSerializable, No
     public void init(RingbufferConfig config, NodeEngine nodeEngine) {
         this.config = config;
         this.serializationService = nodeEngine.getSerializationService();
+        initRingbuffer(nodeEngine.getProperties().getString(RINGBUFFER_MAPPED_STORAGE_DIRECTORY));
         initRingbufferStore(nodeEngine.getConfigClassLoader());
     }
 
+    /**
+     * Creates the ringbuffer of a new container or, for a replicated one,
+     * moves its items to memory-mapped segments if the ringbuffer is in
+     * {@link InMemoryFormat#BINARY} format and a segment directory is
+     * configured.
+     */
+    @SuppressWarnings("unchecked")
+    private void initRingbuffer(String directory) {
+        boolean mapped = directory != null && inMemoryFormat == BINARY;
+        if (ringbuffer == null) {
+            ringbuffer = mapped
+                    ? (Ringbuffer<E>) new MappedRingbuffer(config.getCapacity(), new File(directory))
+                    : new ArrayRingbuffer<>(config.getCapacity());
+            return;
+        }
+        if (!mapped || ringbuffer instanceof MappedRingbuffer) {
+            return;
+        }
+        MappedRingbuffer mappedRingbuffer = new MappedRingbuffer((int) ringbuffer.getCapacity(), new File(directory));
+        mappedRingbuffer.setTailSequence(ringbuffer.tailSequence());
+        mappedRingbuffer.setHeadSequence(ringbuffer.headSequence());
+        for (long seq = ringbuffer.headSequence(); seq <= ringbuffer.tailSequence(); seq++) {
+            mappedRingbuffer.set(seq, (Data) ringbuffer.read(seq));
+        }
+        ringbuffer = (Ringbuffer<E>) mappedRingbuffer;
+    }
+
     private void initRingbufferStore(ClassLoader configClassLoader) {
         this.store = RingbufferStoreWrapper.create(namespace,
                 config.getRingbufferStoreConfig(),
@@ -689,4 +718,23 @@ public class RingbufferContainer<T, E> implements IdentifiedDataSerializable, No
             expirationPolicy.clear();
         }
     }
+
+    /**
+     * Returns {@code true} if the items are kept in memory-mapped segments
+     * which need to be released with {@link #releaseMappedStorage()}.
+     */
+    public boolean hasMappedStorage() {
+        return ringbuffer instanceof MappedRingbuffer;
+    }
+
+    /**
+     * Unmaps the memory-mapped segments of a destroyed container. Must be
+     * called on the partition thread, after the container was removed from
+     * the service, since reading an unmapped segment crashes the JVM.
+     */
+    public void releaseMappedStorage() {
+        if (ringbuffer instanceof MappedRingbuffer) {
+            ringbuffer.clear();
+        }
+    }
 }
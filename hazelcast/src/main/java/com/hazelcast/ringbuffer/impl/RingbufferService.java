@@ -40,6 +40,7 @@ import com.hazelcast.ringbuffer.impl.operations.MergeOperation;
 import com.hazelcast.ringbuffer.impl.operations.ReplicationOperation;
 import com.hazelcast.spi.impl.NodeEngine;
 import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.spi.impl.PartitionSpecificRunnable;
 import com.hazelcast.spi.impl.merge.AbstractContainerMerger;
 import com.hazelcast.spi.impl.operationservice.Operation;
 import com.hazelcast.spi.merge.RingbufferMergeData;
@@ -152,7 +153,28 @@ public class RingbufferService implements ManagedService, RemoteService, Chunked
         if (partitionContainers == null) {
             return;
         }
-        partitionContainers.remove(namespace);
+        releaseMappedStorage(partitionId, partitionContainers.remove(namespace));
+    }
+
+    /**
+     * Unmaps the segments of a removed container on its partition thread, so
+     * that an operation still running there never reads an unmapped segment.
+     */
+    private void releaseMappedStorage(int partitionId, RingbufferContainer container) {
+        if (container == null || !container.hasMappedStorage()) {
+            return;
+        }
+        nodeEngine.getOperationService().execute(new PartitionSpecificRunnable() {
+            @Override
+            public int getPartitionId() {
+                return partitionId;
+            }
+
+            @Override
+            public void run() {
+                container.releaseMappedStorage();
+            }
+        });
     }
 
     @Override
@@ -297,6 +319,7 @@ public class RingbufferService implements ManagedService, RemoteService, Chunked
             final RingbufferContainer container = entry.getValue();
             if (thresholdReplicaIndex < 0 || container.getConfig().getTotalBackupCount() < thresholdReplicaIndex) {
                 iterator.remove();
+                releaseMappedStorage(partitionId, container);
             }
         }
     }
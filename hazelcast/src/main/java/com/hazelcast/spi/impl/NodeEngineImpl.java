@@ -45,6 +45,8 @@ import com.hazelcast.internal.partition.InternalPartitionService;
 import com.hazelcast.internal.partition.MigrationInfo;
 import com.hazelcast.internal.serialization.Data;
 import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.AbstractSerializationService;
+import com.hazelcast.internal.serialization.impl.bufferpool.BufferPoolThreadLocal;
 import com.hazelcast.internal.serialization.impl.compact.schema.MemberSchemaService;
 import com.hazelcast.internal.services.PostJoinAwareService;
 import com.hazelcast.internal.services.PreJoinAwareService;
@@ -96,11 +98,13 @@ import java.util.function.Consumer;
 import static com.hazelcast.internal.config.MergePolicyValidator.checkMapMergePolicy;
 import static com.hazelcast.internal.metrics.MetricDescriptorConstants.MEMORY_PREFIX;
 import static com.hazelcast.internal.metrics.impl.MetricsConfigHelper.memberMetricsLevel;
+import static com.hazelcast.internal.serialization.impl.bufferpool.BufferPoolThreadLocal.IDLE_TRIM_PERIOD_SECONDS;
 import static com.hazelcast.internal.util.EmptyStatement.ignore;
 import static com.hazelcast.internal.util.ExceptionUtil.rethrow;
 import static com.hazelcast.spi.properties.ClusterProperty.BACKPRESSURE_ENABLED;
 import static com.hazelcast.spi.properties.ClusterProperty.CONCURRENT_WINDOW_MS;
 import static java.lang.System.currentTimeMillis;
+import static java.util.concurrent.TimeUnit.SECONDS;
 
 /**
  * The NodeEngineImpl is the where the construction of the Hazelcast dependencies take place. It can be
@@ -280,6 +284,13 @@ public class NodeEngineImpl implements NodeEngine {
 
         metricsRegistry.registerStaticMetrics(node.getNodeExtension().getMemoryStats(), MEMORY_PREFIX);
         metricsRegistry.provideMetrics(operationService, proxyService, eventService, operationParker);
+        if (serializationService instanceof AbstractSerializationService) {
+            BufferPoolThreadLocal bufferPoolThreadLocal =
+                    ((AbstractSerializationService) serializationService).getBufferPoolThreadLocal();
+            metricsRegistry.registerDynamicMetricsProvider(bufferPoolThreadLocal);
+            executionService.scheduleWithRepetition(bufferPoolThreadLocal::trimIdleByteArrayPools,
+                    IDLE_TRIM_PERIOD_SECONDS, IDLE_TRIM_PERIOD_SECONDS, SECONDS);
+        }
 
         serviceManager.start();
         proxyService.init();
@@ -363,6 +363,44 @@ public final class ClusterProperty {
     public static final HazelcastProperty IO_WRITE_THROUGH_ENABLED
             = new HazelcastProperty("hazelcast.io.write.through", true);
 
+    /**
+     * The minimum payload size in bytes of a member to member packet for it
+     * to be written to the socket using a gathering write. Such packets have
+     * only their header copied into the send buffer; the payload is written
+     * directly from the serialized data. This saves a copy of large payloads,
+     * but costs an extra write system call for small ones.
+     * <p>
+     * Gathering writes are not used when the connection has handlers after
+     * the packet encoder, e.g. with TLS.
+     * <p>
+     * A negative value disables gathering writes, which is the default.
+     *
+     * @since 5.4
+     */
+    public static final HazelcastProperty IO_GATHERING_WRITE_THRESHOLD
+            = new HazelcastProperty("hazelcast.io.gathering.write.threshold", -1);
+
+    /**
+     * Enables compression of the connections a member opens to other members
+     * and sets the minimum size in bytes of a block of the byte stream for it
+     * to be compressed. Smaller blocks, which are typical for small request
+     * and response packets, are sent uncompressed.
+     * <p>
+     * Whether a connection is compressed is decided by the side opening it;
+     * the accepting side always decompresses and uses its own threshold for
+     * what it sends, or sends everything uncompressed if its threshold is
+     * negative. Compression requires all members to support it; older members
+     * reject compressed connections.
+     * <p>
+     * Compression only applies to plain connections; it isn't used for TLS
+     * connections. A negative value disables compression, which is the
+     * default.
+     *
+     * @since 5.4
+     */
+    public static final HazelcastProperty IO_COMPRESSION_THRESHOLD
+            = new HazelcastProperty("hazelcast.io.compression.threshold", -1);
+
     /**
      * Property needed for concurrency detection so that write through can be
      * done correctly.
@@ -1849,6 +1887,18 @@ public final class ClusterProperty {
     public static final HazelcastProperty SQL_CUSTOM_TYPES_ENABLED = new HazelcastProperty(
             "hazelcast.sql.experimental.custom.types.enabled", false);
 
+    /**
+     * Enables experimental compilation of SQL projections and filters to Java
+     * classes instead of interpreting the expression trees. Expressions or
+     * their parts that the compiler doesn't support are still interpreted.
+     * Set to {@code false} to always interpret the expressions.
+     *
+     * @since 5.4
+     */
+    @Beta
+    public static final HazelcastProperty SQL_EXPRESSION_COMPILATION_ENABLED = new HazelcastProperty(
+            "hazelcast.sql.experimental.expression.compilation.enabled", true);
+
     /**
      * When {@code true}, enables monitoring of the runtime environment to detect the intent of shutdown
      * and automate cluster state management decisions.
@@ -1884,6 +1934,42 @@ public final class ClusterProperty {
     public static final HazelcastProperty JAR_UPLOAD_DIR_PATH
             = new HazelcastProperty("hazelcast.cluster.jarupload.dirpath");
 
+    /**
+     * The directory of the memory-mapped segment files of ringbuffers. When
+     * set, ringbuffers with the {@code BINARY} in-memory format keep the item
+     * bytes in memory-mapped segments instead of on the heap, which lets large
+     * ringbuffers and reliable topics hold more items than the heap would.
+     * <p>
+     * The segment files are temporary, their content does not survive a
+     * restart of the member. Ringbuffers with the {@code OBJECT} in-memory
+     * format, like the event journals, are kept on the heap.
+     * <p>
+     * By default it is not set and all ringbuffers are kept on the heap.
+     *
+     * @since 5.4
+     */
+    public static final HazelcastProperty RINGBUFFER_MAPPED_STORAGE_DIRECTORY
+            = new HazelcastProperty("hazelcast.ringbuffer.mapped.storage.directory");
+
+    /**
+     * The interval in milliseconds at which the updates of replicated maps
+     * are sent to the other members. Within one interval only the latest
+     * update of each key is kept and all the updates for one member are sent
+     * in a single operation, which cuts the number of packets of write
+     * bursts from one per update and member to one per interval and member.
+     * <p>
+     * The members which receive the coalesced updates fire entry events only
+     * for the updates they receive, so their listeners may miss intermediate
+     * values of a key. The member which made the update is still updated
+     * before the call returns.
+     * <p>
+     * By default it is {@code 0} and every update is sent right away.
+     *
+     * @since 5.4
+     */
+    public static final HazelcastProperty REPLICATED_MAP_REPLICATION_BATCH_INTERVAL_MILLIS
+            = new HazelcastProperty("hazelcast.replicatedmap.replication.batch.interval.millis", 0, MILLISECONDS);
+
     private ClusterProperty() {
     }
 }
@@ -44,6 +44,7 @@ import java.util.function.BiConsumer;
 public abstract class MessageRunner<E> implements BiConsumer<ReadResultSet<ReliableTopicMessage>, Throwable> {
 
     protected final Ringbuffer<ReliableTopicMessage> ringbuffer;
+    private final SharedMessageReader reader;
     protected final ILogger logger;
     protected final ReliableMessageListener<E> listener;
     protected final String topicName;
@@ -57,7 +58,7 @@ public abstract class MessageRunner<E> implements BiConsumer<ReadResultSet<Relia
 
     public MessageRunner(UUID id,
                          ReliableMessageListener<E> listener,
-                         Ringbuffer<ReliableTopicMessage> ringbuffer,
+                         SharedMessageReader reader,
                          String topicName,
                          int batchSize,
                          SerializationService serializationService,
@@ -66,7 +67,8 @@ public abstract class MessageRunner<E> implements BiConsumer<ReadResultSet<Relia
                          ILogger logger) {
         this.id = id;
         this.listener = listener;
-        this.ringbuffer = ringbuffer;
+        this.reader = reader;
+        this.ringbuffer = reader.getRingbuffer();
         this.topicName = topicName;
         this.serializationService = serializationService;
         this.logger = logger;
@@ -86,8 +88,8 @@ public abstract class MessageRunner<E> implements BiConsumer<ReadResultSet<Relia
         if (cancelled) {
             return;
         }
-        ringbuffer.readManyAsync(sequence, 1, batchSize, null)
-                  .whenCompleteAsync(this, executor);
+        reader.readMany(sequence, batchSize)
+              .whenCompleteAsync(this, executor);
     }
 
     @Override
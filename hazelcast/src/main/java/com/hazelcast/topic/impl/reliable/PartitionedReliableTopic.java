@@ -0,0 +1,349 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.topic.impl.reliable;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.util.UuidUtil;
+import com.hazelcast.partition.PartitionService;
+import com.hazelcast.topic.ITopic;
+import com.hazelcast.topic.Message;
+import com.hazelcast.topic.MessageListener;
+import com.hazelcast.topic.ReliableMessageListener;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static com.hazelcast.internal.util.HashUtil.hashToIndex;
+import static com.hazelcast.internal.util.Preconditions.checkNotNull;
+import static com.hazelcast.internal.util.Preconditions.checkPositive;
+import static com.hazelcast.internal.util.ShardKeyUtil.distinctPartitionKeys;
+
+/**
+ * A logical reliable topic spread over several reliable topic shards.
+ * Each shard is backed by its own ringbuffer in a different partition, so
+ * publishing is not bound to the throughput of a single partition thread.
+ * <p>
+ * Messages published without a key are spread round-robin over the shards
+ * and messages published with a key are always published to the same
+ * shard, so a listener receives the messages of one key in publish order.
+ * There is no order between messages of different shards.
+ * <p>
+ * A listener is registered on every shard and the shards are read
+ * independently, each with its own sequence, so message loss is detected
+ * per shard. The deliveries of all the shards are merged so the listener
+ * is never called concurrently. When one shard terminates the listener,
+ * because of message loss or because {@link ReliableMessageListener#isTerminal(Throwable)}
+ * said so, the listener is removed from all the shards.
+ * <p>
+ * The shards are ordinary reliable topics named {@code name@shardKey}.
+ * It is not part of the public API.
+ *
+ * @param <E> the type of the messages
+ * @since 5.4
+ */
+public final class PartitionedReliableTopic<E> {
+
+    private static final long NO_SEQUENCE = -1;
+
+    private final String name;
+    private final PartitionService partitionService;
+    private final ITopic<E>[] shards;
+    private final AtomicInteger publishCursor = new AtomicInteger();
+    private final ConcurrentMap<UUID, Subscription> subscriptions = new ConcurrentHashMap<>();
+
+    @SuppressWarnings("unchecked")
+    public PartitionedReliableTopic(@Nonnull HazelcastInstance instance, @Nonnull String name, int shardCount) {
+        checkNotNull(instance, "instance can't be null");
+        checkNotNull(name, "name can't be null");
+        checkPositive("shardCount", shardCount);
+        this.name = name;
+        this.partitionService = instance.getPartitionService();
+        this.shards = new ITopic[shardCount];
+        List<String> shardKeys = distinctPartitionKeys(partitionService, shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = instance.getReliableTopic(name + '@' + shardKeys.get(i));
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    public ITopic<E> getShard(int shardIndex) {
+        return shards[shardIndex];
+    }
+
+    /**
+     * Publishes the message to the next shard in round-robin order.
+     *
+     * @see ITopic#publish(Object)
+     */
+    public void publish(@Nonnull E message) {
+        shards[nextIndex()].publish(message);
+    }
+
+    /**
+     * Publishes the message to the shard owning the given key.
+     *
+     * @see ITopic#publish(Object)
+     */
+    public void publish(@Nonnull Object key, @Nonnull E message) {
+        shardOf(key).publish(message);
+    }
+
+    /**
+     * @see ITopic#publishAsync(Object)
+     */
+    public CompletionStage<Void> publishAsync(@Nonnull E message) {
+        return shards[nextIndex()].publishAsync(message);
+    }
+
+    /**
+     * @see ITopic#publishAsync(Object)
+     */
+    public CompletionStage<Void> publishAsync(@Nonnull Object key, @Nonnull E message) {
+        return shardOf(key).publishAsync(message);
+    }
+
+    /**
+     * Spreads the messages round-robin over the shards and publishes them
+     * with one batch operation per shard, the shards in parallel.
+     *
+     * @see ITopic#publishAllAsync(Collection)
+     */
+    public CompletionStage<Void> publishAllAsync(@Nonnull Collection<? extends E> messages) {
+        checkNotNull(messages, "messages can't be null");
+        List<List<E>> batches = new ArrayList<>(shards.length);
+        for (int i = 0; i < shards.length; i++) {
+            batches.add(new ArrayList<>(messages.size() / shards.length + 1));
+        }
+        int start = publishCursor.getAndAdd(messages.size());
+        int i = 0;
+        for (E message : messages) {
+            batches.get(hashToIndex(start + i++, shards.length)).add(message);
+        }
+        List<CompletableFuture<Void>> futures = new ArrayList<>(shards.length);
+        for (int shard = 0; shard < shards.length; shard++) {
+            if (!batches.get(shard).isEmpty()) {
+                futures.add(shards[shard].publishAllAsync(batches.get(shard)).toCompletableFuture());
+            }
+        }
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * @see #publishAllAsync(Collection)
+     * @see ITopic#publishAll(Collection)
+     */
+    public void publishAll(@Nonnull Collection<? extends E> messages) throws ExecutionException, InterruptedException {
+        publishAllAsync(messages).toCompletableFuture().get();
+    }
+
+    /**
+     * Registers the listener on all the shards. A {@link ReliableMessageListener}
+     * decides about loss tolerance and termination, but always starts from
+     * the next published message since its initial sequence can't be
+     * mapped to the sequences of the shards.
+     *
+     * @return the registration id
+     */
+    public UUID addMessageListener(@Nonnull MessageListener<E> listener) {
+        checkNotNull(listener, "listener can't be null");
+        UUID id = UuidUtil.newUnsecureUUID();
+        Subscription subscription = new Subscription(id, listener);
+        subscriptions.put(id, subscription);
+        for (int i = 0; i < shards.length; i++) {
+            subscription.registrations.set(i, shards[i].addMessageListener(new ShardListener(subscription, i)));
+        }
+        if (subscription.cancelled) {
+            // a shard terminated the listener before it was registered on all the shards
+            unregister(subscription);
+        }
+        return id;
+    }
+
+    /**
+     * Removes the listener from all the shards.
+     *
+     * @return {@code true} if the listener was registered
+     */
+    public boolean removeMessageListener(@Nonnull UUID registrationId) {
+        checkNotNull(registrationId, "registrationId can't be null");
+        Subscription subscription = subscriptions.remove(registrationId);
+        if (subscription == null) {
+            return false;
+        }
+        subscription.cancelled = true;
+        unregister(subscription);
+        return true;
+    }
+
+    private void unregister(Subscription subscription) {
+        for (int i = 0; i < shards.length; i++) {
+            UUID registration = subscription.registrations.get(i);
+            if (registration != null) {
+                shards[i].removeMessageListener(registration);
+            }
+        }
+    }
+
+    /**
+     * Returns the sequence of the last message delivered to the listener
+     * per shard, {@code -1} for the shards which did not deliver yet.
+     *
+     * @return the sequences indexed by shard or {@code null} if the
+     * listener is not registered
+     */
+    public long[] getShardSequences(@Nonnull UUID registrationId) {
+        Subscription subscription = subscriptions.get(registrationId);
+        if (subscription == null) {
+            return null;
+        }
+        long[] sequences = new long[shards.length];
+        for (int i = 0; i < sequences.length; i++) {
+            sequences[i] = subscription.sequences.get(i);
+        }
+        return sequences;
+    }
+
+    /**
+     * Destroys all the shards.
+     */
+    public void destroy() {
+        subscriptions.clear();
+        for (ITopic<E> shard : shards) {
+            shard.destroy();
+        }
+    }
+
+    /**
+     * Picks the shard by the partition of the key, so it is chosen from the
+     * serialized form of the key the same way on all members and clients.
+     */
+    private ITopic<E> shardOf(Object key) {
+        checkNotNull(key, "key can't be null");
+        int partitionId = partitionService.getPartition(key).getPartitionId();
+        return shards[hashToIndex(partitionId, shards.length)];
+    }
+
+    private int nextIndex() {
+        return hashToIndex(publishCursor.getAndIncrement(), shards.length);
+    }
+
+    private final class Subscription {
+
+        private final UUID id;
+        private final MessageListener<E> listener;
+        private final AtomicReferenceArray<UUID> registrations = new AtomicReferenceArray<>(shards.length);
+        private final AtomicLongArray sequences = new AtomicLongArray(shards.length);
+        private volatile boolean cancelled;
+
+        private Subscription(UUID id, MessageListener<E> listener) {
+            this.id = id;
+            this.listener = listener;
+            for (int i = 0; i < shards.length; i++) {
+                sequences.set(i, NO_SEQUENCE);
+            }
+        }
+
+        private synchronized void deliver(Message<E> message) {
+            if (!cancelled) {
+                listener.onMessage(new Message<>(name, message.getMessageObject(), message.getPublishTime(),
+                        message.getPublishingMember()));
+            }
+        }
+
+        private boolean isLossTolerant() {
+            return listener instanceof ReliableMessageListener
+                    && ((ReliableMessageListener<E>) listener).isLossTolerant();
+        }
+
+        private boolean isTerminal(Throwable failure) {
+            return listener instanceof ReliableMessageListener
+                    && ((ReliableMessageListener<E>) listener).isTerminal(failure);
+        }
+    }
+
+    /**
+     * The listener registered on one shard. The runner of the shard tracks
+     * the sequence of the shard, this listener only records it and turns a
+     * termination of the shard into a removal from all the shards.
+     */
+    private final class ShardListener implements ReliableMessageListener<E> {
+
+        private final Subscription subscription;
+        private final int shardIndex;
+
+        private ShardListener(Subscription subscription, int shardIndex) {
+            this.subscription = subscription;
+            this.shardIndex = shardIndex;
+        }
+
+        @Override
+        public long retrieveInitialSequence() {
+            return NO_SEQUENCE;
+        }
+
+        @Override
+        public void storeSequence(long sequence) {
+            subscription.sequences.set(shardIndex, sequence);
+        }
+
+        @Override
+        public boolean isLossTolerant() {
+            // only called after the runner of the shard detected a loss
+            return keepRunning(subscription.isLossTolerant());
+        }
+
+        @Override
+        public boolean isTerminal(Throwable failure) {
+            return !keepRunning(!subscription.isTerminal(failure));
+        }
+
+        @Override
+        public void onMessage(Message<E> message) {
+            subscription.deliver(message);
+        }
+
+        private boolean keepRunning(boolean keepRunning) {
+            if (!keepRunning) {
+                removeMessageListener(subscription.id);
+            }
+            return keepRunning;
+        }
+
+        @Override
+        public String toString() {
+            return subscription.listener + "@shard-" + shardIndex;
+        }
+    }
+}
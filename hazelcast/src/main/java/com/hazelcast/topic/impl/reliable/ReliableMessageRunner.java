@@ -34,7 +34,7 @@ public class ReliableMessageRunner<E> extends MessageRunner<E> {
                           SerializationService serializationService,
                           Executor executor, ILogger logger, ClusterService clusterService,
                           ReliableTopicProxy<E> proxy) {
-        super(id, listener, proxy.ringbuffer, proxy.getName(), proxy.topicConfig.getReadBatchSize(),
+        super(id, listener, proxy.reader, proxy.getName(), proxy.topicConfig.getReadBatchSize(),
                 serializationService, executor, proxy.runnersMap, logger);
         this.clusterService = clusterService;
         this.proxy = proxy;
@@ -71,6 +71,7 @@ public class ReliableTopicProxy<E> extends AbstractDistributedObject<ReliableTop
     private static final String NULL_LISTENER_IS_NOT_ALLOWED = "Null listener is not allowed!";
 
     final Ringbuffer<ReliableTopicMessage> ringbuffer;
+    final SharedMessageReader reader;
     final Executor executor;
     final ConcurrentMap<UUID, MessageRunner<E>> runnersMap
             = new ConcurrentHashMap<UUID, MessageRunner<E>>();
@@ -95,6 +96,7 @@ public class ReliableTopicProxy<E> extends AbstractDistributedObject<ReliableTop
         this.topicConfig = topicConfig;
         this.nodeEngine = nodeEngine;
         this.ringbuffer = nodeEngine.getHazelcastInstance().getRingbuffer(TOPIC_RB_PREFIX + name);
+        this.reader = new SharedMessageReader(ringbuffer);
         this.executor = initExecutor(nodeEngine, topicConfig);
         this.thisAddress = nodeEngine.getThisAddress();
         this.overloadPolicy = topicConfig.getTopicOverloadPolicy();
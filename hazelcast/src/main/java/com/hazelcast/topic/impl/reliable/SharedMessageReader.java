@@ -0,0 +1,84 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.topic.impl.reliable;
+
+import com.hazelcast.ringbuffer.ReadResultSet;
+import com.hazelcast.ringbuffer.Ringbuffer;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Reads the ringbuffer of a reliable topic on behalf of all the
+ * {@link MessageRunner}s of one topic proxy.
+ * <p>
+ * Runners which are caught up wait at the same sequence, so instead of
+ * each of them sending its own blocking {@code readMany} to the partition
+ * owning the ringbuffer, the first one sends it and the others share its
+ * result. Runners which are behind still read at their own sequence.
+ */
+public final class SharedMessageReader {
+
+    private final Ringbuffer<ReliableTopicMessage> ringbuffer;
+    private final ConcurrentMap<Long, CompletableFuture<ReadResultSet<ReliableTopicMessage>>> reads
+            = new ConcurrentHashMap<>();
+
+    public SharedMessageReader(Ringbuffer<ReliableTopicMessage> ringbuffer) {
+        this.ringbuffer = ringbuffer;
+    }
+
+    public Ringbuffer<ReliableTopicMessage> getRingbuffer() {
+        return ringbuffer;
+    }
+
+    /**
+     * Reads at least one and at most {@code maxCount} messages starting at
+     * {@code startSequence}, joining the read already in flight for the
+     * same sequence if there is one.
+     *
+     * @see Ringbuffer#readManyAsync(long, int, int, com.hazelcast.core.IFunction)
+     */
+    public CompletionStage<ReadResultSet<ReliableTopicMessage>> readMany(long startSequence, int maxCount) {
+        CompletableFuture<ReadResultSet<ReliableTopicMessage>> read = new CompletableFuture<>();
+        CompletableFuture<ReadResultSet<ReliableTopicMessage>> inFlight = reads.putIfAbsent(startSequence, read);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        try {
+            ringbuffer.readManyAsync(startSequence, 1, maxCount, null).whenComplete((result, throwable) -> {
+                reads.remove(startSequence, read);
+                if (throwable == null) {
+                    read.complete(result);
+                } else {
+                    read.completeExceptionally(throwable);
+                }
+            });
+        } catch (RuntimeException e) {
+            reads.remove(startSequence, read);
+            read.completeExceptionally(e);
+            throw e;
+        }
+        return read;
+    }
+
+    // for testing
+    int inFlightReadCount() {
+        return reads.size();
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.client;
+
+import com.hazelcast.client.config.ClientConfig;
+import com.hazelcast.client.impl.ClientEngineImpl;
+import com.hazelcast.client.impl.connection.ClientConnection;
+import com.hazelcast.client.impl.connection.tcp.TcpClientConnection;
+import com.hazelcast.client.properties.ClientProperty;
+import com.hazelcast.client.test.ClientTestSupport;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.Hazelcast;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.map.IMap;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.SlowTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.hazelcast.client.impl.clientside.ClientTestUtil.getHazelcastClientInstanceImpl;
+import static com.hazelcast.test.Accessors.getClientEngineImpl;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+// uses the real network, as the mocked client connections are not backed by channels
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(SlowTest.class)
+public class ClientConnectionsPerMemberTest extends ClientTestSupport {
+
+    private final String clusterName = randomString();
+
+    @After
+    public void cleanup() {
+        HazelcastClient.shutdownAll();
+        Hazelcast.shutdownAll();
+    }
+
+    @Test
+    public void testInvocations_whenMultipleConnectionsPerMember() {
+        HazelcastInstance member = newMember();
+        HazelcastInstance client = newClient(3);
+        ClientEngineImpl clientEngine = getClientEngineImpl(member);
+
+        assertTrueEventually(() -> assertNotNull(getConnection(client).getStripes()));
+        // the extra connections are bound to the endpoint of the first one
+        assertEquals(1, clientEngine.getClientEndpointCount());
+        assertEquals(1, member.getClientService().getConnectedClients().size());
+
+        IMap<Integer, Integer> map = client.getMap(randomMapName());
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertEquals(i, (int) map.get(i));
+        }
+        assertEquals(1000, map.size());
+    }
+
+    @Test
+    public void testOwnerIsClosed_whenStripeIsClosed() {
+        HazelcastInstance member = newMember();
+        HazelcastInstance client = newClient(2);
+
+        assertTrueEventually(() -> assertNotNull(getConnection(client).getStripes()));
+        TcpClientConnection owner = getConnection(client);
+        owner.getStripes()[1].close("test", null);
+
+        assertTrueEventually(() -> assertFalse(owner.isAlive()));
+        // the client reconnects and opens the connections again
+        assertTrueEventually(() -> {
+            TcpClientConnection connection = getConnection(client);
+            assertNotNull(connection);
+            assertNotNull(connection.getStripes());
+        });
+        client.getMap(randomMapName()).put(1, 1);
+        assertTrueEventually(() -> assertEquals(1, getClientEngineImpl(member).getClientEndpointCount()));
+    }
+
+    @Test
+    public void testClientEventsFiredOnce_whenMultipleConnectionsPerMember() {
+        HazelcastInstance member = newMember();
+        AtomicInteger connected = new AtomicInteger();
+        AtomicInteger disconnected = new AtomicInteger();
+        member.getClientService().addClientListener(new ClientListener() {
+            @Override
+            public void clientConnected(Client client) {
+                connected.incrementAndGet();
+            }
+
+            @Override
+            public void clientDisconnected(Client client) {
+                disconnected.incrementAndGet();
+            }
+        });
+
+        HazelcastInstance client = newClient(3);
+        assertTrueEventually(() -> assertNotNull(getConnection(client).getStripes()));
+        client.getMap(randomMapName()).put(1, 1);
+        client.shutdown();
+
+        assertTrueEventually(() -> assertEquals(1, disconnected.get()));
+        assertEquals(1, connected.get());
+        assertEquals(0, getClientEngineImpl(member).getClientEndpointCount());
+    }
+
+    @Test
+    public void testSingleConnection_byDefault() {
+        newMember();
+        HazelcastInstance client = newClient(1);
+
+        client.getMap(randomMapName()).put(1, 1);
+
+        assertNull(getConnection(client).getStripes());
+    }
+
+    private HazelcastInstance newMember() {
+        Config config = new Config();
+        config.setClusterName(clusterName);
+        return Hazelcast.newHazelcastInstance(config);
+    }
+
+    private HazelcastInstance newClient(int connectionsPerMember) {
+        ClientConfig config = new ClientConfig();
+        config.setClusterName(clusterName);
+        config.setProperty(ClientProperty.CONNECTIONS_PER_MEMBER.getName(), String.valueOf(connectionsPerMember));
+        return HazelcastClient.newHazelcastClient(config);
+    }
+
+    private static TcpClientConnection getConnection(HazelcastInstance client) {
+        for (ClientConnection connection : getHazelcastClientInstanceImpl(client).getConnectionManager().getActiveConnections()) {
+            return (TcpClientConnection) connection;
+        }
+        return null;
+    }
+}
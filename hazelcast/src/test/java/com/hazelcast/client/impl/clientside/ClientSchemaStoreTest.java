@@ -0,0 +1,106 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.client.impl.clientside;
+
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.internal.serialization.impl.compact.FieldDescriptor;
+import com.hazelcast.internal.serialization.impl.compact.Schema;
+import com.hazelcast.logging.ILogger;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+
+import static com.hazelcast.nio.serialization.FieldKind.INT32;
+import static com.hazelcast.nio.serialization.FieldKind.STRING;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ClientSchemaStoreTest {
+
+    @Rule
+    public TemporaryFolder tempFolder = new TemporaryFolder();
+
+    private final InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+    private final ILogger logger = mock(ILogger.class);
+
+    private File directory;
+    private ClientSchemaStore store;
+
+    @Before
+    public void setUp() throws Exception {
+        directory = new File(tempFolder.getRoot(), "schemas");
+        store = new ClientSchemaStore(directory.getAbsolutePath(), logger);
+    }
+
+    @Test
+    public void testLoad_whenNothingStored() {
+        assertTrue(store.load(serializationService).isEmpty());
+    }
+
+    @Test
+    public void testStoreAndLoad() {
+        Schema employee = new Schema("employee", Arrays.asList(
+                new FieldDescriptor("age", INT32),
+                new FieldDescriptor("name", STRING)));
+        Schema empty = new Schema("empty", Collections.emptyList());
+
+        store.store(Arrays.asList(employee, empty), serializationService);
+        Collection<Schema> loaded = new ClientSchemaStore(directory.getAbsolutePath(), logger).load(serializationService);
+
+        assertEquals(new HashSet<>(Arrays.asList(employee, empty)), new HashSet<>(loaded));
+    }
+
+    @Test
+    public void testStore_replacesStoredSchemas() {
+        Schema first = new Schema("first", Collections.singletonList(new FieldDescriptor("a", INT32)));
+        Schema second = new Schema("second", Collections.singletonList(new FieldDescriptor("b", INT32)));
+
+        store.store(Collections.singletonList(first), serializationService);
+        store.store(Collections.singletonList(second), serializationService);
+
+        assertEquals(Collections.singletonList(second), store.load(serializationService));
+        assertEquals(1, directory.list().length);
+    }
+
+    @Test
+    public void testLoad_whenFileIsInvalid() throws Exception {
+        store.store(Collections.singletonList(new Schema("empty", Collections.emptyList())), serializationService);
+        File[] files = directory.listFiles();
+        assertEquals(1, files.length);
+        Files.write(files[0].toPath(), new byte[]{1, 2, 3, 4, 5, 6, 7, 8});
+
+        assertTrue(store.load(serializationService).isEmpty());
+    }
+}
@@ -31,6 +31,7 @@ import java.util.Random;
 
 import static com.hazelcast.internal.util.JVMUtil.upcast;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -198,6 +199,54 @@ public class ClientMessageReaderTest {
         assertFalse(iterator.hasNext());
     }
 
+    @Test
+    public void testReadEmptyFrames() {
+        ClientMessage.Frame frame = createFrameWithRandomBytes(10);
+
+        ClientMessage message = ClientMessage.createForEncode();
+        message.add(frame);
+        message.add(ClientMessage.BEGIN_FRAME.copy());
+        message.add(ClientMessage.NULL_FRAME.copy());
+        message.add(ClientMessage.END_FRAME.copy());
+
+        ByteBuffer buffer = writeToBuffer(message);
+
+        ClientMessageReader reader = new ClientMessageReader(-1);
+        assertTrue(reader.readFrom(buffer, true));
+
+        ClientMessage.ForwardFrameIterator iterator = reader.getClientMessage().frameIterator();
+        assertArrayEquals(frame.content, iterator.next().content);
+        assertTrue(iterator.next().isBeginFrame());
+        assertTrue(iterator.next().isNullFrame());
+        ClientMessage.Frame endFrame = iterator.next();
+        assertTrue(endFrame.isEndFrame());
+        assertEquals(0, endFrame.content.length);
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void testReadConsecutiveMessagesWithReset() {
+        ClientMessage.Frame frame1 = createFrameWithRandomBytes(100);
+        ClientMessage.Frame frame2 = createFrameWithRandomBytes(100);
+
+        ClientMessage message1 = ClientMessage.createForEncode();
+        message1.add(frame1);
+        ClientMessage message2 = ClientMessage.createForEncode();
+        message2.add(frame2);
+
+        ByteBuffer buffer1 = writeToBuffer(message1);
+        ByteBuffer buffer2 = writeToBuffer(message2);
+
+        // each of the messages fits into the limit, but not both of them
+        ClientMessageReader reader = new ClientMessageReader(150);
+        assertTrue(reader.readFrom(buffer1, false));
+        assertArrayEquals(frame1.content, reader.getClientMessage().getStartFrame().content);
+
+        reader.reset();
+        assertTrue(reader.readFrom(buffer2, false));
+        assertArrayEquals(frame2.content, reader.getClientMessage().getStartFrame().content);
+    }
+
     private ClientMessage.Frame createFrameWithRandomBytes(int contentLength) {
         byte[] content = new byte[contentLength];
         random.nextBytes(content);
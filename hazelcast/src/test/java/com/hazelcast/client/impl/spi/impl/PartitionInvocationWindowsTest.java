@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.client.impl.spi.impl;
+
+import com.hazelcast.client.impl.spi.ClientPartitionService;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PartitionInvocationWindowsTest {
+
+    private final List<Runnable> tasks = new ArrayList<>();
+    private PartitionInvocationWindows windows;
+
+    @Before
+    public void setUp() {
+        ClientPartitionService partitionService = mock(ClientPartitionService.class);
+        when(partitionService.getPartitionCount()).thenReturn(271);
+        windows = new PartitionInvocationWindows(2, partitionService, Runnable::run);
+    }
+
+    @Test
+    public void testAdmit_whenWindowIsFull_thenInvocationWaits() {
+        assertTrue(windows.admit(invocation(1)));
+        assertTrue(windows.admit(invocation(1)));
+
+        ClientInvocation waiting = invocation(1);
+        assertFalse(windows.admit(waiting));
+        assertEquals(1, windows.getWaitingCount());
+
+        // other partitions have their own windows
+        assertTrue(windows.admit(invocation(2)));
+        assertTrue(windows.admit(invocation(270)));
+        verify(waiting, never()).onAdmitted();
+    }
+
+    @Test
+    public void testRelease_admitsWaitingInvocationsInOrder() {
+        ClientInvocation first = invocation(5);
+        ClientInvocation second = invocation(5);
+        windows.admit(first);
+        windows.admit(second);
+        ClientInvocation third = invocation(5);
+        ClientInvocation fourth = invocation(5);
+        windows.admit(third);
+        windows.admit(fourth);
+
+        windows.release(first);
+        windows.release(second);
+
+        InOrder inOrder = inOrder(third, fourth);
+        inOrder.verify(third).onAdmitted();
+        inOrder.verify(fourth).onAdmitted();
+        assertEquals(0, windows.getWaitingCount());
+
+        // the window is full with the admitted ones
+        assertFalse(windows.admit(invocation(5)));
+    }
+
+    @Test
+    public void testRelease_whenWaitingInvocationCompletes_thenItIsNotAdmitted() {
+        ClientInvocation first = invocation(0);
+        windows.admit(first);
+        windows.admit(invocation(0));
+        ClientInvocation cancelled = invocation(0);
+        ClientInvocation waiting = invocation(0);
+        windows.admit(cancelled);
+        windows.admit(waiting);
+
+        windows.release(cancelled);
+        windows.release(first);
+
+        verify(cancelled, never()).onAdmitted();
+        verify(waiting).onAdmitted();
+        assertEquals(0, windows.getWaitingCount());
+    }
+
+    @Test
+    public void testRelease_sendsAdmittedInvocationsFromSingleTaskInOrder() {
+        ClientPartitionService partitionService = mock(ClientPartitionService.class);
+        when(partitionService.getPartitionCount()).thenReturn(271);
+        windows = new PartitionInvocationWindows(2, partitionService, tasks::add);
+        ClientInvocation first = invocation(7);
+        ClientInvocation second = invocation(7);
+        windows.admit(first);
+        windows.admit(second);
+        ClientInvocation third = invocation(7);
+        ClientInvocation fourth = invocation(7);
+        windows.admit(third);
+        windows.admit(fourth);
+
+        windows.release(first);
+        windows.release(second);
+        windows.release(third);
+        // the admitted ones aren't sent yet, so a new one must not overtake them
+        ClientInvocation fifth = invocation(7);
+        assertFalse(windows.admit(fifth));
+
+        assertEquals(1, tasks.size());
+        tasks.get(0).run();
+        InOrder inOrder = inOrder(third, fourth, fifth);
+        inOrder.verify(third).onAdmitted();
+        inOrder.verify(fourth).onAdmitted();
+        inOrder.verify(fifth).onAdmitted();
+
+        // the drain task finished, so the next one is sent directly
+        windows.release(fourth);
+        assertTrue(windows.admit(invocation(7)));
+    }
+
+    @Test
+    public void testRemoveWaiting() {
+        ClientInvocation first = invocation(9);
+        windows.admit(first);
+        windows.admit(invocation(9));
+        ClientInvocation waiting = invocation(9);
+        windows.admit(waiting);
+
+        assertFalse(windows.removeWaiting(first));
+        assertTrue(windows.removeWaiting(waiting));
+        assertEquals(0, windows.getWaitingCount());
+
+        windows.release(waiting);
+        windows.release(first);
+        verify(waiting, never()).onAdmitted();
+        assertTrue(windows.admit(invocation(9)));
+    }
+
+    @Test
+    public void testRelease_whenNothingWaits_thenSpaceIsFreed() {
+        ClientInvocation first = invocation(3);
+        windows.admit(first);
+        windows.admit(invocation(3));
+
+        windows.release(first);
+
+        assertTrue(windows.admit(invocation(3)));
+    }
+
+    private static ClientInvocation invocation(int partitionId) {
+        ClientInvocation invocation = mock(ClientInvocation.class);
+        when(invocation.getPartitionId()).thenReturn(partitionId);
+        return invocation;
+    }
+}
@@ -306,6 +306,25 @@ public class ClientMultiMapTest {
         assertEquals(expected, resultSet);
     }
 
+    @Test
+    public void testGetPage() {
+        MultiMap<String, Integer> mm = client.getMultiMap(randomString());
+        Set<Integer> expected = new TreeSet<>();
+        for (int i = 0; i < 25; i++) {
+            mm.put("key", i);
+            expected.add(i);
+        }
+
+        Set<Integer> values = new TreeSet<>();
+        for (int offset = 0; offset < 30; offset += 10) {
+            Collection<Integer> page = mm.getPage("key", offset, 10);
+            assertTrue(page.size() <= 10);
+            values.addAll(page);
+        }
+        assertEquals(expected, values);
+        assertTrue(mm.getPage("NOT_THERE", 0, 10).isEmpty());
+    }
+
     @Test
     public void testRemove_whenKeyNotExist() {
         final MultiMap mm = client.getMultiMap(randomString());
@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.collection.impl.queue;
+
+import com.hazelcast.collection.impl.txnqueue.TxQueueItem;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hazelcast.internal.cluster.Versions.V5_4;
+import static com.hazelcast.internal.util.UuidUtil.newUnsecureUUID;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static com.hazelcast.test.Accessors.getSerializationService;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class QueueContainerSerializationTest extends HazelcastTestSupport {
+
+    @Test
+    public void testRoundTrip_withRolledBackTxItemInQueue() throws IOException {
+        HazelcastInstance instance = createHazelcastInstance();
+        InternalSerializationService ss = getSerializationService(instance);
+        QueueService service = getNodeEngineImpl(instance).getService(QueueService.SERVICE_NAME);
+        QueueContainer container = service.getOrCreateContainer(randomName(), false);
+        for (int i = 0; i < 3; i++) {
+            container.offer(ss.toData("item" + i));
+        }
+        QueueItem polled = container.txnPollReserve(-1, newUnsecureUUID());
+        container.txnRollbackPoll(polled.getItemId(), false);
+        assertInstanceOf(TxQueueItem.class, container.getItemQueue().peek());
+
+        BufferObjectDataOutput out = ss.createObjectDataOutput();
+        out.setVersion(V5_4);
+        container.writeData(out);
+        byte[] bytes = out.toByteArray();
+        BufferObjectDataInput in = ss.createObjectDataInput(bytes);
+        in.setVersion(V5_4);
+        QueueContainer copy = new QueueContainer();
+        copy.readData(in);
+
+        assertEquals(bytes.length, in.position());
+        assertEquals(items(ss, container), items(ss, copy));
+    }
+
+    private static List<String> items(InternalSerializationService ss, QueueContainer container) {
+        List<String> items = new ArrayList<>();
+        for (QueueItem item : container.getItemQueue()) {
+            items.add(item.getItemId() + ":" + ss.toObject(item.getSerializedObject()));
+        }
+        return items;
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.collection.impl.queue;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static com.hazelcast.collection.impl.queue.QueueItemDeque.SEGMENT_SIZE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class QueueItemDequeTest {
+
+    private final QueueItemDeque deque = new QueueItemDeque();
+
+    @Test
+    public void testOfferPoll_acrossSegments() {
+        int count = 3 * SEGMENT_SIZE + 7;
+        for (int i = 0; i < count; i++) {
+            deque.offer(item(i));
+        }
+        assertEquals(count, deque.size());
+        assertEquals(count - 1, deque.peekLast().getItemId());
+        for (int i = 0; i < count; i++) {
+            assertEquals(i, deque.poll().getItemId());
+        }
+        assertTrue(deque.isEmpty());
+        assertNull(deque.poll());
+        assertNull(deque.peek());
+    }
+
+    @Test
+    public void testOfferFirst() {
+        deque.offer(item(2));
+        for (int i = 1; i >= 0; i--) {
+            deque.offerFirst(item(i));
+        }
+        for (int i = 0; i < SEGMENT_SIZE; i++) {
+            deque.offerFirst(item(-i - 1));
+        }
+        assertEquals(-SEGMENT_SIZE, deque.peek().getItemId());
+        assertEquals(2, deque.peekLast().getItemId());
+        assertItemIds(-SEGMENT_SIZE, 2);
+    }
+
+    @Test
+    public void testAddOrdered() {
+        for (int i = 0; i < 2 * SEGMENT_SIZE; i += 2) {
+            deque.offer(item(i));
+        }
+        for (int i = 2 * SEGMENT_SIZE - 1; i > 0; i -= 2) {
+            deque.addOrdered(item(i));
+        }
+        deque.addOrdered(item(-1));
+        deque.addOrdered(item(2 * SEGMENT_SIZE));
+        assertItemIds(-1, 2 * SEGMENT_SIZE);
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        int count = 2 * SEGMENT_SIZE + 1;
+        for (int i = 0; i < count; i++) {
+            deque.offer(item(i));
+        }
+        Iterator<QueueItem> iterator = deque.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().getItemId() % 2 == 0) {
+                iterator.remove();
+            }
+        }
+        List<Long> expected = new ArrayList<>();
+        for (long i = 1; i < count; i += 2) {
+            expected.add(i);
+        }
+        assertEquals(expected, itemIds());
+    }
+
+    @Test
+    public void testRemoveIf_acrossSegments() {
+        int count = 3 * SEGMENT_SIZE + 5;
+        for (int i = 0; i < count; i++) {
+            deque.offer(item(i));
+        }
+        assertTrue(deque.removeIf(item -> item.getItemId() % 3 != 0));
+        List<Long> expected = new ArrayList<>();
+        for (long i = 0; i < count; i += 3) {
+            expected.add(i);
+        }
+        assertEquals(expected, itemIds());
+        assertEquals(expected.size(), deque.size());
+
+        deque.offer(item(count));
+        assertEquals(count, deque.peekLast().getItemId());
+        assertFalse(deque.removeIf(item -> item.getItemId() < 0));
+        assertTrue(deque.removeIf(item -> true));
+        assertTrue(deque.isEmpty());
+        assertNull(deque.peekLast());
+    }
+
+    @Test
+    public void testClear() {
+        for (int i = 0; i < SEGMENT_SIZE + 1; i++) {
+            deque.offer(item(i));
+        }
+        deque.clear();
+        assertTrue(deque.isEmpty());
+        deque.offer(item(42));
+        assertEquals(42, deque.poll().getItemId());
+    }
+
+    private void assertItemIds(long fromInclusive, long toInclusive) {
+        List<Long> expected = new ArrayList<>();
+        for (long i = fromInclusive; i <= toInclusive; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, itemIds());
+    }
+
+    private List<Long> itemIds() {
+        List<Long> itemIds = new ArrayList<>();
+        for (QueueItem item : deque) {
+            itemIds.add(item.getItemId());
+        }
+        return itemIds;
+    }
+
+    private static QueueItem item(long itemId) {
+        return new QueueItem(null, itemId, null);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.collection.impl.queue;
+
+import com.hazelcast.collection.IQueue;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ShardedQueueTest extends HazelcastTestSupport {
+
+    private static final int SHARD_COUNT = 4;
+
+    private HazelcastInstance[] instances;
+    private HazelcastInstance instance;
+    private ShardedQueue<Integer> queue;
+
+    @Before
+    public void setUp() {
+        instances = createHazelcastInstanceFactory(2).newInstances();
+        instance = instances[0];
+        queue = new ShardedQueue<>(instance, randomName(), SHARD_COUNT);
+    }
+
+    @Test
+    public void testShards_inDistinctPartitions() {
+        Set<Integer> partitionIds = new HashSet<>();
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            partitionIds.add(instance.getPartitionService().getPartition(queue.getShard(i).getPartitionKey()).getPartitionId());
+        }
+        assertEquals(SHARD_COUNT, partitionIds.size());
+    }
+
+    @Test
+    public void testOfferPoll_keepsFifoOrder_forSingleProducerAndConsumer() {
+        for (int i = 0; i < 100; i++) {
+            assertTrue(queue.offer(i));
+        }
+        assertEquals(100, queue.size());
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            assertEquals(100 / SHARD_COUNT, queue.getShard(shard).size());
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, (int) queue.poll());
+        }
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testPoll_onEmptyQueue_keepsFifoOrder() {
+        for (int i = 0; i < 10; i++) {
+            queue.offer(i);
+            // the extra polls find the queue empty and must not move the cursor
+            assertEquals(i, (int) queue.poll());
+            assertNull(queue.poll());
+            assertNull(queue.poll());
+        }
+        for (int i = 10; i < 20; i++) {
+            queue.offer(i);
+        }
+        for (int i = 10; i < 20; i++) {
+            assertEquals(i, (int) queue.poll());
+        }
+    }
+
+    @Test
+    public void testPollBatch_thenPoll_keepsFifoOrder() {
+        for (int i = 0; i < 10; i++) {
+            queue.offer(i);
+        }
+        List<Integer> batch = queue.pollBatch(SHARD_COUNT + 1);
+        assertEquals(new HashSet<>(asList(0, 1, 2, 3, 4)), new HashSet<>(batch));
+        for (int i = SHARD_COUNT + 1; i < 10; i++) {
+            assertEquals(i, (int) queue.poll());
+        }
+    }
+
+    @Test
+    public void testOfferWithKey_keepsOrderPerKey() {
+        for (int i = 0; i < 20; i++) {
+            queue.offer("key", i);
+        }
+        List<Integer> items = queue.pollBatch(100);
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, items);
+    }
+
+    @Test
+    public void testOfferWithKey_fromDifferentMembers_goesToSameShard() {
+        ShardedQueue<Integer> otherQueue = new ShardedQueue<>(instances[1], queue.getName(), SHARD_COUNT);
+        for (int key = 0; key < 10; key++) {
+            queue.offer(key, key);
+            otherQueue.offer(key, key);
+        }
+        for (int shard = 0; shard < SHARD_COUNT; shard++) {
+            List<Integer> items = new ArrayList<>();
+            queue.getShard(shard).drainTo(items);
+            for (Integer item : items) {
+                // both copies of each item are in the same shard
+                assertEquals(2, items.stream().filter(item::equals).count());
+            }
+        }
+    }
+
+    @Test
+    public void testOfferAllPollBatch() {
+        List<Integer> items = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            items.add(i);
+        }
+        assertTrue(queue.offerAll(items));
+        assertEquals(1000, queue.size());
+
+        List<Integer> polled = new ArrayList<>();
+        List<Integer> batch;
+        while (!(batch = queue.pollBatch(64)).isEmpty()) {
+            assertTrue(batch.size() <= 64);
+            polled.addAll(batch);
+        }
+        assertEquals(new HashSet<>(items), new HashSet<>(polled));
+        assertEquals(items.size(), polled.size());
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cp.internal.datastructures.atomiclong;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.cp.CPGroupId;
+import com.hazelcast.cp.IAtomicLong;
+import com.hazelcast.cp.internal.HazelcastRaftTestSupport;
+import com.hazelcast.cp.internal.datastructures.atomiclong.proxy.AtomicLongProxy;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ShardedAtomicLongTest extends HazelcastRaftTestSupport {
+
+    private static final int SHARD_COUNT = 3;
+
+    private HazelcastInstance[] instances;
+
+    @Before
+    public void setup() {
+        instances = newInstances(3, 3, 1);
+    }
+
+    @Test
+    public void testIncrements_spreadOverAllShards() {
+        ShardedAtomicLong counter = new ShardedAtomicLong(instances[0], randomName(), SHARD_COUNT);
+
+        for (int i = 0; i < 100; i++) {
+            counter.increment();
+        }
+
+        long total = 0;
+        Set<CPGroupId> groupIds = new HashSet<>();
+        for (int i = 0; i < counter.getShardCount(); i++) {
+            IAtomicLong shard = counter.getShard(i);
+            groupIds.add(((AtomicLongProxy) shard).getGroupId());
+            long value = shard.get();
+            assertTrue("shard " + i + " got no increments", value > 0);
+            total += value;
+        }
+        assertEquals(100, total);
+        assertEquals(SHARD_COUNT, groupIds.size());
+    }
+
+    @Test
+    public void testShards_inGroupsNamedAfterCounter() {
+        String name = randomName();
+        ShardedAtomicLong counter = new ShardedAtomicLong(instances[0], name, SHARD_COUNT);
+
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            assertEquals(name + "-shard-" + i, ((AtomicLongProxy) counter.getShard(i)).getGroupId().getName());
+        }
+    }
+
+    @Test
+    public void testShards_withExplicitGroupNames() {
+        ShardedAtomicLong counter = new ShardedAtomicLong(instances[0], randomName(), "group1", "group2");
+
+        assertEquals(2, counter.getShardCount());
+        assertEquals("group1", ((AtomicLongProxy) counter.getShard(0)).getGroupId().getName());
+        assertEquals("group2", ((AtomicLongProxy) counter.getShard(1)).getGroupId().getName());
+    }
+
+    @Test
+    public void testSum_whenEmpty() {
+        ShardedAtomicLong counter = new ShardedAtomicLong(instances[0], randomName(), SHARD_COUNT);
+
+        assertEquals(0, counter.sum());
+    }
+
+    @Test
+    public void testAddAndDecrement() {
+        ShardedAtomicLong counter = new ShardedAtomicLong(instances[0], randomName(), SHARD_COUNT);
+
+        counter.add(10);
+        counter.increment();
+        counter.decrement();
+        counter.decrement();
+
+        assertEquals(9, counter.sum());
+    }
+
+    @Test
+    public void testAddAsync() {
+        ShardedAtomicLong counter = new ShardedAtomicLong(instances[0], randomName(), SHARD_COUNT);
+
+        CompletableFuture<?>[] futures = new CompletableFuture[100];
+        for (int i = 0; i < futures.length; i++) {
+            futures[i] = counter.addAsync(2).toCompletableFuture();
+        }
+        CompletableFuture.allOf(futures).join();
+
+        assertEquals(200, counter.sumAsync().toCompletableFuture().join().longValue());
+    }
+
+    @Test
+    public void testConcurrentIncrements_fromAllMembers() throws Exception {
+        String name = randomName();
+        int incrementCount = 100;
+        Future[] futures = new Future[instances.length];
+        for (int i = 0; i < instances.length; i++) {
+            ShardedAtomicLong counter = new ShardedAtomicLong(instances[i], name, SHARD_COUNT);
+            futures[i] = spawn(() -> {
+                for (int j = 0; j < incrementCount; j++) {
+                    counter.increment();
+                }
+            });
+        }
+        for (Future future : futures) {
+            future.get();
+        }
+
+        ShardedAtomicLong counter = new ShardedAtomicLong(instances[0], name, SHARD_COUNT);
+        assertEquals(instances.length * incrementCount, counter.sum());
+    }
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cp.internal.raft.impl;
+
+import com.hazelcast.config.cp.RaftAlgorithmConfig;
+import com.hazelcast.cp.internal.raft.impl.dataservice.ApplyRaftRunnable;
+import com.hazelcast.cp.internal.raft.impl.dataservice.QueryRaftRunnable;
+import com.hazelcast.cp.internal.raft.impl.dto.AppendRequest;
+import com.hazelcast.cp.internal.raft.impl.dto.TriggerLeaderElection;
+import com.hazelcast.cp.internal.raft.impl.testing.LocalRaftGroup;
+import com.hazelcast.cp.internal.raft.impl.testing.LocalRaftGroup.LocalRaftGroupBuilder;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.cp.internal.raft.QueryPolicy.LINEARIZABLE;
+import static com.hazelcast.cp.internal.raft.impl.RaftUtil.getLeaderQueryRound;
+import static com.hazelcast.cp.internal.raft.impl.RaftUtil.isLeaderLeaseAcquired;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class LeaderLeaseQueryTest extends HazelcastTestSupport {
+
+    private static final int LEADER_ELECTION_TIMEOUT_MILLIS = 5000;
+
+    private LocalRaftGroup group;
+
+    @After
+    public void destroy() {
+        if (group != null) {
+            group.destroy();
+        }
+    }
+
+    @Test(timeout = 300_000)
+    public void when_leaderHoldsLease_then_queryRunsWithoutHeartbeatRound() throws Exception {
+        group = newGroup(true);
+        group.start();
+
+        RaftNodeImpl leader = group.waitUntilLeaderElected();
+        leader.replicate(new ApplyRaftRunnable("value1")).get();
+
+        assertEquals("value1", leader.query(new QueryRaftRunnable(), LINEARIZABLE).get());
+        long queryRound = getLeaderQueryRound(leader);
+
+        RaftNodeImpl[] followers = group.getNodesExcept(leader.getLocalMember());
+        for (RaftNodeImpl follower : followers) {
+            group.dropMessagesToMember(leader.getLocalMember(), follower.getLocalMember(), AppendRequest.class);
+        }
+
+        assertEquals("value1", leader.query(new QueryRaftRunnable(), LINEARIZABLE).get());
+        assertEquals(queryRound, getLeaderQueryRound(leader));
+    }
+
+    @Test(timeout = 300_000)
+    public void when_leaderLeaseExpires_then_queryStartsHeartbeatRound() throws Exception {
+        group = newGroup(true);
+        group.start();
+
+        RaftNodeImpl leader = group.waitUntilLeaderElected();
+        leader.replicate(new ApplyRaftRunnable("value1")).get();
+
+        assertEquals("value1", leader.query(new QueryRaftRunnable(), LINEARIZABLE).get());
+        long queryRound = getLeaderQueryRound(leader);
+
+        sleepMillis(LEADER_ELECTION_TIMEOUT_MILLIS);
+
+        assertEquals("value1", leader.query(new QueryRaftRunnable(), LINEARIZABLE).get());
+        assertTrue(getLeaderQueryRound(leader) > queryRound);
+    }
+
+    @Test(timeout = 300_000)
+    public void when_leadershipTransferStarts_then_leaseIsRevoked() throws Exception {
+        group = newGroup(true);
+        group.start();
+
+        RaftNodeImpl leader = group.waitUntilLeaderElected();
+        leader.replicate(new ApplyRaftRunnable("value1")).get();
+
+        assertEquals("value1", leader.query(new QueryRaftRunnable(), LINEARIZABLE).get());
+        assertTrue(isLeaderLeaseAcquired(leader));
+
+        RaftNodeImpl follower = group.getNodesExcept(leader.getLocalMember())[0];
+        // keeps the transfer in progress
+        group.dropMessagesToMember(leader.getLocalMember(), follower.getLocalMember(), TriggerLeaderElection.class);
+        leader.transferLeadership(follower.getLocalMember());
+
+        assertTrueEventually(() -> assertFalse(isLeaderLeaseAcquired(leader)));
+    }
+
+    @Test(timeout = 300_000)
+    public void when_leaderLeaseReadIsDisabled_then_eachQueryStartsHeartbeatRound() throws Exception {
+        group = newGroup(false);
+        group.start();
+
+        RaftNodeImpl leader = group.waitUntilLeaderElected();
+        leader.replicate(new ApplyRaftRunnable("value1")).get();
+
+        assertEquals("value1", leader.query(new QueryRaftRunnable(), LINEARIZABLE).get());
+        long queryRound = getLeaderQueryRound(leader);
+
+        assertEquals("value1", leader.query(new QueryRaftRunnable(), LINEARIZABLE).get());
+        assertEquals(queryRound + 1, getLeaderQueryRound(leader));
+    }
+
+    private LocalRaftGroup newGroup(boolean leaderLeaseReadEnabled) {
+        RaftAlgorithmConfig config = new RaftAlgorithmConfig().setLeaderElectionTimeoutInMillis(LEADER_ELECTION_TIMEOUT_MILLIS);
+        LocalRaftGroup raftGroup = new LocalRaftGroupBuilder(3, config).setAppendNopEntryOnLeaderElection(true).build();
+        for (int i = 0; i < raftGroup.size(); i++) {
+            raftGroup.getIntegration(i).setLeaderLeaseReadEnabled(leaderLeaseReadEnabled);
+        }
+        return raftGroup;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cp.internal.raft.impl;
+
+import com.hazelcast.config.cp.RaftAlgorithmConfig;
+import com.hazelcast.cp.internal.raft.impl.dataservice.ApplyRaftRunnable;
+import com.hazelcast.cp.internal.raft.impl.dataservice.RaftDataService;
+import com.hazelcast.cp.internal.raft.impl.dto.AppendRequest;
+import com.hazelcast.cp.internal.raft.impl.testing.LocalRaftGroup;
+import com.hazelcast.cp.internal.raft.impl.testing.LocalRaftGroup.LocalRaftGroupBuilder;
+import com.hazelcast.spi.impl.InternalCompletableFuture;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.hazelcast.cp.internal.raft.impl.RaftUtil.getCommitIndex;
+import static com.hazelcast.cp.internal.raft.impl.RaftUtil.getLastApplied;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PipelinedReplicationTest extends HazelcastTestSupport {
+
+    private static final int PIPELINE_DEPTH = 4;
+    private static final int APPEND_REQUEST_MAX_ENTRY_COUNT = 10;
+    private static final int ENTRY_COUNT = 500;
+
+    private LocalRaftGroup group;
+
+    @After
+    public void destroy() {
+        if (group != null) {
+            group.destroy();
+        }
+    }
+
+    @Test(timeout = 300_000)
+    public void when_entriesAreReplicatedWithPipelining_then_allFollowersApplyThemInOrder() throws Exception {
+        group = newGroup();
+        group.start();
+
+        RaftNodeImpl leader = group.waitUntilLeaderElected();
+        List<InternalCompletableFuture> futures = new ArrayList<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            futures.add(leader.replicate(new ApplyRaftRunnable("val" + i)));
+        }
+        for (InternalCompletableFuture future : futures) {
+            future.get();
+        }
+
+        assertAllNodesApplied(leader, ENTRY_COUNT);
+    }
+
+    @Test(timeout = 300_000)
+    public void when_pipelinedAppendRequestsAreLost_then_followerCatchesUp() throws Exception {
+        group = newGroup();
+        group.start();
+
+        RaftNodeImpl leader = group.waitUntilLeaderElected();
+        leader.replicate(new ApplyRaftRunnable("val")).get();
+
+        RaftNodeImpl follower = group.getAnyFollowerNode();
+        group.dropMessagesToMember(leader.getLocalMember(), follower.getLocalMember(), AppendRequest.class);
+
+        List<InternalCompletableFuture> futures = new ArrayList<>();
+        for (int i = 0; i < ENTRY_COUNT; i++) {
+            futures.add(leader.replicate(new ApplyRaftRunnable("val" + i)));
+        }
+        for (InternalCompletableFuture future : futures) {
+            future.get();
+        }
+
+        group.allowMessagesToMember(leader.getLocalMember(), follower.getLocalMember(), AppendRequest.class);
+
+        assertAllNodesApplied(leader, ENTRY_COUNT + 1);
+    }
+
+    private void assertAllNodesApplied(RaftNodeImpl leader, int entryCount) {
+        long commitIndex = getCommitIndex(leader);
+        assertTrueEventually(() -> {
+            for (RaftNodeImpl node : group.getNodes()) {
+                assertEquals(commitIndex, getCommitIndex(node));
+                assertEquals(commitIndex, getLastApplied(node));
+                RaftDataService service = group.getService(node);
+                assertEquals(entryCount, service.size());
+            }
+        });
+    }
+
+    private LocalRaftGroup newGroup() {
+        RaftAlgorithmConfig config = new RaftAlgorithmConfig()
+                .setAppendRequestMaxEntryCount(APPEND_REQUEST_MAX_ENTRY_COUNT)
+                .setUncommittedEntryCountToRejectNewAppends(ENTRY_COUNT * 2);
+        LocalRaftGroup raftGroup = new LocalRaftGroupBuilder(3, config).build();
+        for (int i = 0; i < raftGroup.size(); i++) {
+            raftGroup.getIntegration(i).setAppendRequestPipelineDepth(PIPELINE_DEPTH);
+        }
+        return raftGroup;
+    }
+}
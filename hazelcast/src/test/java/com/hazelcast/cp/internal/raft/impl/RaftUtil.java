@@ -96,6 +96,16 @@ public class RaftUtil {
         return readRaftState(leader, task);
     }
 
+    public static boolean isLeaderLeaseAcquired(RaftNodeImpl leader) {
+        Callable<Boolean> task = () -> {
+            LeaderState leaderState = leader.state().leaderState();
+            assertNotNull(leader.getLocalMember() + " has no leader state!", leaderState);
+            return leaderState.isLeaseValid(Long.MAX_VALUE);
+        };
+
+        return readRaftState(leader, task);
+    }
+
     public static RaftNodeStatus getStatus(RaftNodeImpl node) {
         Callable<RaftNodeStatus> task = node::getStatus;
 
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.cp.internal.raft.impl.state;
+
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class FollowerStateTest {
+
+    private FollowerState state;
+
+    @Before
+    public void setUp() {
+        state = new FollowerState(10, 11);
+    }
+
+    @Test
+    public void test_pipelineAppendRequest_advancesNextIndex() {
+        assertEquals(1, state.pipelineAppendRequest(15));
+        assertEquals(2, state.pipelineAppendRequest(20));
+
+        assertEquals(21, state.nextIndex());
+        assertEquals(10, state.matchIndex());
+        assertEquals(2, state.inFlightAppendRequestCount());
+    }
+
+    @Test
+    public void test_completePipelinedAppendRequests_removesAcknowledgedRequests() {
+        state.pipelineAppendRequest(15);
+        state.pipelineAppendRequest(20);
+
+        assertTrue(state.completePipelinedAppendRequests(15));
+        assertEquals(1, state.inFlightAppendRequestCount());
+
+        assertFalse(state.completePipelinedAppendRequests(20));
+        assertEquals(0, state.inFlightAppendRequestCount());
+    }
+
+    @Test
+    public void test_completePipelinedAppendRequests_whenPartiallyAcknowledged() {
+        state.pipelineAppendRequest(15);
+
+        assertTrue(state.completePipelinedAppendRequests(13));
+        assertEquals(1, state.inFlightAppendRequestCount());
+    }
+
+    @Test
+    public void test_resetAppendRequestPipeline_rewindsNextIndex() {
+        state.pipelineAppendRequest(15);
+        state.pipelineAppendRequest(20);
+
+        assertTrue(state.resetAppendRequestPipeline());
+
+        assertEquals(11, state.nextIndex());
+        assertEquals(0, state.inFlightAppendRequestCount());
+    }
+
+    @Test
+    public void test_resetAppendRequestPipeline_whenNothingInFlight() {
+        state.nextIndex(30);
+
+        assertFalse(state.resetAppendRequestPipeline());
+
+        assertEquals(30, state.nextIndex());
+    }
+
+    @Test
+    public void test_isInFlightAppendRequest() {
+        assertFalse(state.isInFlightAppendRequest(11));
+
+        state.pipelineAppendRequest(15);
+        state.pipelineAppendRequest(20);
+
+        assertTrue(state.isInFlightAppendRequest(11));
+        assertTrue(state.isInFlightAppendRequest(16));
+        assertFalse(state.isInFlightAppendRequest(10));
+        assertFalse(state.isInFlightAppendRequest(21));
+
+        state.matchIndex(15);
+        assertFalse(state.isInFlightAppendRequest(11));
+    }
+}
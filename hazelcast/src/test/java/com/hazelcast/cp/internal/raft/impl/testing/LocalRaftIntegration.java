@@ -75,6 +75,8 @@ public class LocalRaftIntegration implements RaftIntegration {
     private final Set<EndpointDropEntry> endpointDropRules = Collections.newSetFromMap(new ConcurrentHashMap<>());
     private final Map<RaftEndpoint, Function<Object, Object>> alterRPCRules = new ConcurrentHashMap<>();
     private final Set<Class> dropAllRules = Collections.newSetFromMap(new ConcurrentHashMap<>());
+    private volatile boolean leaderLeaseReadEnabled;
+    private volatile int appendRequestPipelineDepth = 1;
 
     LocalRaftIntegration(TestRaftEndpoint localEndpoint, CPGroupId groupId, SnapshotAwareService service,
                          boolean appendNopEntryOnLeaderElection) {
@@ -144,6 +146,24 @@ public class LocalRaftIntegration implements RaftIntegration {
         return true;
     }
 
+    @Override
+    public boolean isLeaderLeaseReadEnabled() {
+        return leaderLeaseReadEnabled;
+    }
+
+    public void setLeaderLeaseReadEnabled(boolean leaderLeaseReadEnabled) {
+        this.leaderLeaseReadEnabled = leaderLeaseReadEnabled;
+    }
+
+    @Override
+    public int getAppendRequestPipelineDepth() {
+        return appendRequestPipelineDepth;
+    }
+
+    public void setAppendRequestPipelineDepth(int appendRequestPipelineDepth) {
+        this.appendRequestPipelineDepth = appendRequestPipelineDepth;
+    }
+
     @Override
     public ILogger getLogger(String name) {
         return loggingService.getLogger(name);
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking.compression;
+
+import com.hazelcast.internal.networking.Channel;
+import com.hazelcast.internal.networking.ChannelOptions;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Random;
+
+import static com.hazelcast.internal.networking.ChannelOption.DIRECT_BUF;
+import static com.hazelcast.internal.networking.ChannelOption.SO_RCVBUF;
+import static com.hazelcast.internal.networking.ChannelOption.SO_SNDBUF;
+import static com.hazelcast.internal.networking.compression.CompressionEncoder.HEADER_SIZE;
+import static com.hazelcast.internal.networking.compression.CompressionEncoder.TYPE_LZ4;
+import static com.hazelcast.internal.networking.compression.CompressionEncoder.TYPE_RAW;
+import static com.hazelcast.internal.util.JVMUtil.upcast;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CompressionHandlersTest {
+
+    private static final int BUFFER_SIZE = 8 * 1024;
+
+    private Channel channel;
+
+    @Before
+    public void setup() {
+        ChannelOptions options = mock(ChannelOptions.class);
+        when(options.getOption(SO_SNDBUF)).thenReturn(BUFFER_SIZE);
+        when(options.getOption(SO_RCVBUF)).thenReturn(BUFFER_SIZE);
+        when(options.getOption(DIRECT_BUF)).thenReturn(false);
+        channel = mock(Channel.class);
+        when(channel.options()).thenReturn(options);
+    }
+
+    @Test
+    public void whenBlockBelowThreshold_thenWrittenUncompressed() {
+        CompressionEncoder encoder = newEncoder(1000, new byte[100]);
+
+        encoder.onWrite();
+
+        ByteBuffer dst = encoder.dst();
+        assertEquals(HEADER_SIZE + 100, dst.remaining());
+        assertEquals(TYPE_RAW, dst.get(0));
+    }
+
+    @Test
+    public void whenBlockAboveThreshold_thenWrittenCompressed() {
+        CompressionEncoder encoder = newEncoder(0, new byte[1000]);
+
+        encoder.onWrite();
+
+        ByteBuffer dst = encoder.dst();
+        assertTrue(dst.remaining() < 100);
+        assertEquals(TYPE_LZ4, dst.get(0));
+    }
+
+    @Test
+    public void whenIncompressible_thenWrittenUncompressed() {
+        byte[] bytes = new byte[1000];
+        new Random().nextBytes(bytes);
+        CompressionEncoder encoder = newEncoder(0, bytes);
+
+        encoder.onWrite();
+
+        ByteBuffer dst = encoder.dst();
+        assertEquals(HEADER_SIZE + 1000, dst.remaining());
+        assertEquals(TYPE_RAW, dst.get(0));
+    }
+
+    @Test
+    public void whenCompressed_thenRoundTrips() {
+        assertRoundTrip(0);
+    }
+
+    @Test
+    public void whenCompressionDisabled_thenRoundTrips() {
+        assertRoundTrip(-1);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void whenMalformedHeader_thenFails() {
+        CompressionDecoder decoder = newDecoder();
+        ByteBuffer src = decoder.src();
+        src.put((byte) 5).putInt(10).putInt(10);
+
+        decoder.onRead();
+    }
+
+    private void assertRoundTrip(int threshold) {
+        // more than a few blocks and much more than the buffers
+        StringBuilder sb = new StringBuilder();
+        Random random = new Random();
+        for (int i = 0; sb.length() < 4 * CompressionEncoder.BLOCK_SIZE; i++) {
+            sb.append("{\"id\":").append(i).append(",\"value\":").append(random.nextInt(1000)).append('}');
+        }
+        byte[] bytes = sb.toString().getBytes();
+
+        CompressionEncoder encoder = newEncoder(threshold, bytes);
+        CompressionDecoder decoder = newDecoder();
+        ByteBuffer decoded = ByteBuffer.allocate(BUFFER_SIZE);
+        decoder.dst(decoded);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long transferred = 0;
+        while (out.size() < bytes.length) {
+            encoder.onWrite();
+
+            // the encoder dst is in reading mode, the decoder src in writing mode
+            ByteBuffer encoded = encoder.dst();
+            int length = Math.min(encoded.remaining(), decoder.src().remaining());
+            for (int i = 0; i < length; i++) {
+                decoder.src().put(encoded.get());
+            }
+            transferred += length;
+
+            decoder.onRead();
+
+            upcast(decoded).flip();
+            while (decoded.hasRemaining()) {
+                out.write(decoded.get());
+            }
+            upcast(decoded).clear();
+        }
+
+        assertArrayEquals(bytes, out.toByteArray());
+        if (threshold >= 0) {
+            assertTrue("transferred: " + transferred, transferred < bytes.length / 2);
+        }
+    }
+
+    private CompressionEncoder newEncoder(int threshold, byte[] bytes) {
+        CompressionEncoder encoder = new CompressionEncoder(threshold);
+        encoder.setChannel(channel).handlerAdded();
+        encoder.src(ByteBuffer.wrap(bytes));
+        return encoder;
+    }
+
+    private CompressionDecoder newDecoder() {
+        CompressionDecoder decoder = new CompressionDecoder();
+        decoder.setChannel(channel).handlerAdded();
+        return decoder;
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.internal.networking.compression;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class LZ4CodecTest {
+
+    private final LZ4Codec codec = new LZ4Codec();
+    private final Random random = new Random();
+
+    @Test
+    public void testEmpty() {
+        assertRoundTrip(new byte[0]);
+    }
+
+    @Test
+    public void testShorterThanMinimumMatch() {
+        assertRoundTrip(new byte[]{1, 2, 3, 1, 2, 3, 1, 2, 3, 1, 2});
+    }
+
+    @Test
+    public void testRandom() {
+        byte[] bytes = new byte[CompressionEncoder.BLOCK_SIZE];
+        random.nextBytes(bytes);
+        assertRoundTrip(bytes);
+    }
+
+    @Test
+    public void testRepeatingByte() {
+        byte[] bytes = new byte[CompressionEncoder.BLOCK_SIZE];
+        Arrays.fill(bytes, (byte) 42);
+        int compressedLength = assertRoundTrip(bytes);
+        assertTrue("compressedLength: " + compressedLength, compressedLength < bytes.length / 100);
+    }
+
+    @Test
+    public void testText() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; sb.length() < 50_000; i++) {
+            sb.append("{\"id\":").append(i).append(",\"name\":\"name-").append(random.nextInt(100)).append("\"}");
+        }
+        byte[] bytes = sb.toString().getBytes();
+        int compressedLength = assertRoundTrip(bytes);
+        assertTrue("compressedLength: " + compressedLength, compressedLength < bytes.length / 2);
+    }
+
+    @Test
+    public void testOffsetsInArrays() {
+        byte[] bytes = new byte[1000];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) (i % 13);
+        }
+        byte[] compressed = new byte[10 + LZ4Codec.maxCompressedLength(900)];
+        int compressedLength = codec.compress(bytes, 100, 900, compressed, 10);
+
+        byte[] decompressed = new byte[950];
+        int length = LZ4Codec.decompress(compressed, 10, compressedLength, decompressed, 50, 900);
+
+        assertEquals(900, length);
+        assertArrayEquals(Arrays.copyOfRange(bytes, 100, 1000), Arrays.copyOfRange(decompressed, 50, 950));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecompress_whenDestinationTooSmall() {
+        byte[] bytes = new byte[1000];
+        byte[] compressed = new byte[LZ4Codec.maxCompressedLength(bytes.length)];
+        int compressedLength = codec.compress(bytes, 0, bytes.length, compressed, 0);
+
+        LZ4Codec.decompress(compressed, 0, compressedLength, new byte[999], 0, 999);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDecompress_whenOffsetOutOfRange() {
+        // a literal of one byte followed by a match with offset 2
+        byte[] compressed = {0x10, 1, 2, 0};
+
+        LZ4Codec.decompress(compressed, 0, compressed.length, new byte[100], 0, 100);
+    }
+
+    private int assertRoundTrip(byte[] bytes) {
+        byte[] compressed = new byte[LZ4Codec.maxCompressedLength(bytes.length)];
+        int compressedLength = codec.compress(bytes, 0, bytes.length, compressed, 0);
+
+        byte[] decompressed = new byte[bytes.length];
+        int length = LZ4Codec.decompress(compressed, 0, compressedLength, decompressed, 0, bytes.length);
+
+        assertEquals(bytes.length, length);
+        assertArrayEquals(bytes, decompressed);
+        return compressedLength;
+    }
+}
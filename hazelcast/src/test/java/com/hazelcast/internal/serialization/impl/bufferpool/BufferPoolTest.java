@@ -33,6 +33,8 @@ import org.junit.Test;
 import org.junit.experimental.categories.Category;
 import org.junit.runner.RunWith;
 
+import java.io.IOException;
+
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertSame;
@@ -112,6 +114,20 @@ public class BufferPoolTest extends HazelcastTestSupport {
         assertEquals(Version.UNKNOWN, found2.getVersion());
     }
 
+    @Test
+    public void returnOutputBuffer_whenGrown_thenBufferReusedByNextLargeWrite() throws IOException {
+        BufferObjectDataOutput out = bufferPool.takeOutputBuffer();
+        out.write(new byte[1 << 20]);
+        bufferPool.returnOutputBuffer(out);
+        long misses = bufferPool.byteArrayPool.misses.get();
+
+        out = bufferPool.takeOutputBuffer();
+        out.write(new byte[1 << 20]);
+
+        assertEquals(misses, bufferPool.byteArrayPool.misses.get());
+        assertEquals(1 << 20, out.position());
+    }
+
     // ======================= in ==========================================
 
     @Test
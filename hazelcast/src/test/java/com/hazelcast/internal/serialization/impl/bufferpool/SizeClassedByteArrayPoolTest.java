@@ -0,0 +1,175 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.internal.serialization.impl.bufferpool;
+
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.internal.serialization.impl.bufferpool.SizeClassedByteArrayPool.MAX_ARRAYS_PER_CLASS;
+import static com.hazelcast.internal.serialization.impl.bufferpool.SizeClassedByteArrayPool.MAX_ARRAY_LENGTH;
+import static com.hazelcast.internal.serialization.impl.bufferpool.SizeClassedByteArrayPool.MAX_RETAINED_BYTES;
+import static com.hazelcast.internal.serialization.impl.bufferpool.SizeClassedByteArrayPool.MIN_ARRAY_LENGTH;
+import static com.hazelcast.internal.serialization.impl.bufferpool.SizeClassedByteArrayPool.TRIM_WINDOW;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SizeClassedByteArrayPoolTest {
+
+    private final SizeClassedByteArrayPool pool = new SizeClassedByteArrayPool();
+
+    @Test
+    public void take_whenEmpty_thenAllocatesClassLength() {
+        byte[] array = pool.take(MIN_ARRAY_LENGTH + 1);
+
+        assertEquals(2 * MIN_ARRAY_LENGTH, array.length);
+        assertEquals(1, pool.misses.get());
+        assertEquals(0, pool.hits.get());
+    }
+
+    @Test
+    public void take_whenSmallerThanMinClass_thenAllocatesExactLength() {
+        assertEquals(10, pool.take(10).length);
+        assertEquals(10, pool.takeExact(10).length);
+        assertEquals(0, pool.misses.get());
+    }
+
+    @Test
+    public void take_whenLargerThanMaxClass_thenNotClassSized() {
+        byte[] array = pool.take(MAX_ARRAY_LENGTH + 1);
+
+        assertEquals(MAX_ARRAY_LENGTH + 1, array.length);
+        pool.offer(array);
+        assertEquals(0, pool.retainedBytes.get());
+    }
+
+    @Test
+    public void take_whenOffered_thenReused() {
+        byte[] array = pool.take(4 * MIN_ARRAY_LENGTH);
+        pool.offer(array);
+
+        assertEquals(4 * MIN_ARRAY_LENGTH, pool.retainedBytes.get());
+        assertSame(array, pool.take(4 * MIN_ARRAY_LENGTH));
+        assertEquals(1, pool.hits.get());
+        assertEquals(0, pool.retainedBytes.get());
+    }
+
+    @Test
+    public void take_whenOnlyLargerClassPooled_thenLargerArrayReturned() {
+        byte[] array = pool.take(4 * MIN_ARRAY_LENGTH);
+        pool.offer(array);
+
+        assertSame(array, pool.take(MIN_ARRAY_LENGTH));
+    }
+
+    @Test
+    public void takeExact_whenOnlyLargerClassPooled_thenAllocates() {
+        byte[] array = pool.take(4 * MIN_ARRAY_LENGTH);
+        pool.offer(array);
+
+        byte[] found = pool.takeExact(MIN_ARRAY_LENGTH);
+
+        assertNotSame(array, found);
+        assertEquals(MIN_ARRAY_LENGTH, found.length);
+        assertEquals(1, pool.pooledCount(4 * MIN_ARRAY_LENGTH));
+    }
+
+    @Test
+    public void offer_whenNotClassSized_thenDropped() {
+        pool.offer(new byte[MIN_ARRAY_LENGTH + 1]);
+        pool.offer(new byte[MIN_ARRAY_LENGTH / 2]);
+
+        assertEquals(0, pool.retainedBytes.get());
+    }
+
+    @Test
+    public void offer_whenClassFull_thenDropped() {
+        for (int k = 0; k < MAX_ARRAYS_PER_CLASS + 1; k++) {
+            pool.offer(new byte[MIN_ARRAY_LENGTH]);
+        }
+
+        assertEquals(MAX_ARRAYS_PER_CLASS, pool.pooledCount(MIN_ARRAY_LENGTH));
+    }
+
+    @Test
+    public void offer_whenRetentionLimitReached_thenDropped() {
+        pool.offer(new byte[MAX_ARRAY_LENGTH]);
+        pool.offer(new byte[MAX_ARRAY_LENGTH / 2]);
+
+        assertEquals(MAX_RETAINED_BYTES, pool.retainedBytes.get());
+        assertEquals(0, pool.pooledCount(MAX_ARRAY_LENGTH / 2));
+    }
+
+    @Test
+    public void tick_whenClassUnused_thenTrimmed() {
+        pool.offer(new byte[MIN_ARRAY_LENGTH]);
+        pool.offer(new byte[MIN_ARRAY_LENGTH]);
+
+        for (int k = 0; k < TRIM_WINDOW; k++) {
+            pool.tick();
+        }
+
+        assertEquals(1, pool.pooledCount(MIN_ARRAY_LENGTH));
+        assertEquals(MIN_ARRAY_LENGTH, pool.trimmedBytes.get());
+        assertEquals(MIN_ARRAY_LENGTH, pool.retainedBytes.get());
+    }
+
+    @Test
+    public void tick_whenClassUsed_thenNotTrimmed() {
+        pool.offer(new byte[MIN_ARRAY_LENGTH]);
+        pool.offer(new byte[MIN_ARRAY_LENGTH]);
+
+        for (int k = 0; k < TRIM_WINDOW; k++) {
+            pool.offer(pool.take(MIN_ARRAY_LENGTH));
+            pool.tick();
+        }
+
+        assertEquals(2, pool.pooledCount(MIN_ARRAY_LENGTH));
+        assertEquals(0, pool.trimmedBytes.get());
+    }
+
+    @Test
+    public void trimIfIdle_whenUsedSincePreviousCall_thenNotTrimmed() {
+        pool.offer(new byte[MIN_ARRAY_LENGTH]);
+
+        pool.trimIfIdle();
+
+        assertEquals(1, pool.pooledCount(MIN_ARRAY_LENGTH));
+        assertEquals(MIN_ARRAY_LENGTH, pool.retainedBytes.get());
+    }
+
+    @Test
+    public void trimIfIdle_whenIdleSincePreviousCall_thenAllReleased() {
+        pool.offer(new byte[MIN_ARRAY_LENGTH]);
+        pool.offer(new byte[4 * MIN_ARRAY_LENGTH]);
+        pool.trimIfIdle();
+
+        pool.trimIfIdle();
+
+        assertEquals(0, pool.pooledCount(MIN_ARRAY_LENGTH));
+        assertEquals(0, pool.pooledCount(4 * MIN_ARRAY_LENGTH));
+        assertEquals(0, pool.retainedBytes.get());
+        assertEquals(5L * MIN_ARRAY_LENGTH, pool.trimmedBytes.get());
+    }
+}
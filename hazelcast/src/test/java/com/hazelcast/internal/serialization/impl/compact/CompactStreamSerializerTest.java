@@ -86,6 +86,28 @@ public class CompactStreamSerializerTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void testReflectiveSerializer_whenReadWithAlternatingSchemas() {
+        SerializationService serializationService = createSerializationService();
+        EmployeeDTO expected = new EmployeeDTO(30, 102310312);
+        Data data = serializationService.toData(expected);
+
+        // a schema without some of the fields, and with a nullable kind for a primitive field
+        GenericRecord record = compact(EmployeeDTO.class.getName())
+                .setInt32("age", 25)
+                .setNullableInt64("id", 42L)
+                .build();
+        Data evolvedData = serializationService.toData(record);
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(expected, serializationService.toObject(data));
+
+            EmployeeDTO evolved = serializationService.toObject(evolvedData);
+            assertEquals(25, evolved.getAge());
+            assertEquals(42L, evolved.getId());
+        }
+    }
+
     @Test
     public void testAllTypes() {
         CompactSerializationConfig compactSerializationConfig = new CompactSerializationConfig();
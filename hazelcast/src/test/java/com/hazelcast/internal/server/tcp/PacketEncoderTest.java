@@ -39,6 +39,9 @@ import static com.hazelcast.internal.networking.HandlerStatus.CLEAN;
 import static com.hazelcast.internal.networking.HandlerStatus.DIRTY;
 import static com.hazelcast.internal.util.JVMUtil.upcast;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 @RunWith(HazelcastParallelClassRunner.class)
 @Category({QuickTest.class, ParallelJVMTest.class})
@@ -91,6 +94,94 @@ public class PacketEncoderTest extends HazelcastTestSupport {
         assertEquals(DIRTY, result);
     }
 
+    @Test
+    public void whenGatheringWritesEnabled_thenOnlyHeaderCopied() {
+        final Packet packet = new Packet(serializationService.toBytes(new byte[2000]));
+        ByteBuffer dst = ByteBuffer.allocate(1000);
+        upcast(dst).flip();
+
+        PacketSupplier src = new PacketSupplier();
+        src.queue.add(packet);
+
+        encoder = new PacketEncoder(100);
+        encoder.setGatheringWritesEnabled(true);
+        encoder.dst(dst);
+        encoder.src(src);
+
+        assertEquals(CLEAN, encoder.onWrite());
+
+        // the payload is not copied, but exposed in slices no larger than dst
+        ByteBuffer written = ByteBuffer.allocate(dst.remaining() + packet.totalSize());
+        written.put(dst);
+        int slices = 0;
+        for (ByteBuffer payload = encoder.pendingPayload(); payload.hasRemaining(); payload = encoder.pendingPayload()) {
+            assertSame(packet.toByteArray(), payload.array());
+            assertTrue(payload.remaining() <= dst.capacity());
+            written.put(payload);
+            slices++;
+        }
+        assertEquals(3, slices);
+
+        // the header and the payload together form the packet
+        upcast(written).flip();
+        assertEquals(packet, new PacketIOHelper().readFrom(written));
+
+        // once the payload has been written, the encoder is done
+        assertEquals(CLEAN, encoder.onWrite());
+        assertNull(encoder.pendingPayload());
+    }
+
+    @Test
+    public void whenGatheringWritesEnabled_andPayloadPending_thenNothingWritten() {
+        final Packet packet1 = new Packet(serializationService.toBytes(new byte[2000]));
+        final Packet packet2 = new Packet(serializationService.toBytes("foobar"));
+        ByteBuffer dst = ByteBuffer.allocate(1000);
+        upcast(dst).flip();
+
+        PacketSupplier src = new PacketSupplier();
+        src.queue.add(packet1);
+        src.queue.add(packet2);
+
+        encoder = new PacketEncoder(100);
+        encoder.setGatheringWritesEnabled(true);
+        encoder.dst(dst);
+        encoder.src(src);
+
+        assertEquals(CLEAN, encoder.onWrite());
+        // pretend the header and a first slice of the payload got flushed
+        upcast(dst).position(dst.limit());
+        ByteBuffer payload = encoder.pendingPayload();
+        upcast(payload).position(payload.limit());
+
+        assertEquals(CLEAN, encoder.onWrite());
+        assertEquals(0, dst.remaining());
+
+        // flush the rest of the payload; the next packet is below the threshold and copied
+        for (payload = encoder.pendingPayload(); payload.hasRemaining(); payload = encoder.pendingPayload()) {
+            upcast(payload).position(payload.limit());
+        }
+        assertEquals(CLEAN, encoder.onWrite());
+        assertEquals(packet2, new PacketIOHelper().readFrom(dst));
+    }
+
+    @Test
+    public void whenGatheringWritesDisabled_thenPayloadCopied() {
+        final Packet packet = new Packet(serializationService.toBytes(new byte[200]));
+        ByteBuffer dst = ByteBuffer.allocate(1000);
+        upcast(dst).flip();
+
+        PacketSupplier src = new PacketSupplier();
+        src.queue.add(packet);
+
+        encoder = new PacketEncoder(100);
+        encoder.dst(dst);
+        encoder.src(src);
+
+        assertEquals(CLEAN, encoder.onWrite());
+        assertNull(encoder.pendingPayload());
+        assertEquals(packet, new PacketIOHelper().readFrom(dst));
+    }
+
     static class PacketSupplier implements Supplier<Packet> {
         Queue<Packet> queue = new LinkedBlockingQueue<Packet>();
 
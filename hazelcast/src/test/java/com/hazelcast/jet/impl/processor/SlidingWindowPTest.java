@@ -124,6 +124,8 @@ public class SlidingWindowPTest {
                 lastSuppliedProcessor.tsToKeyToAcc.isEmpty());
         assertTrue("slidingWindow is not empty: " + lastSuppliedProcessor.slidingWindow,
                 lastSuppliedProcessor.slidingWindow == null || lastSuppliedProcessor.slidingWindow.isEmpty());
+        assertTrue("tsToSuffixAcc is not empty: " + lastSuppliedProcessor.tsToSuffixAcc,
+                lastSuppliedProcessor.tsToSuffixAcc.isEmpty());
     }
 
     @Test
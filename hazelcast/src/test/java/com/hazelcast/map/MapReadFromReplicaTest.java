@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.map;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.partition.impl.InternalPartitionServiceImpl;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.map.impl.operation.ReadFromReplicaOperation;
+import com.hazelcast.map.impl.operation.StaleReplicaReadException;
+import com.hazelcast.spi.impl.InternalCompletableFuture;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.TestHazelcastInstanceFactory;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static com.hazelcast.map.impl.MapService.SERVICE_NAME;
+import static com.hazelcast.map.impl.MapService.getObjectNamespace;
+import static com.hazelcast.test.Accessors.getAddress;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static com.hazelcast.test.Accessors.getOperationService;
+import static com.hazelcast.test.Accessors.getPartitionService;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MapReadFromReplicaTest extends HazelcastTestSupport {
+
+    private static final int KEY_COUNT = 100;
+
+    private String mapName;
+    private HazelcastInstance[] instances;
+
+    @Before
+    public void setUp() {
+        mapName = randomMapName();
+        Config config = getConfig();
+        config.getMapConfig(mapName)
+                .setBackupCount(1)
+                .setReadBackupData(true);
+        TestHazelcastInstanceFactory factory = createHazelcastInstanceFactory(3);
+        instances = factory.newInstances(config);
+        for (int i = 0; i < KEY_COUNT; i++) {
+            instances[0].getMap(mapName).put(i, "value" + i);
+        }
+    }
+
+    @Test
+    public void testGet_fromAllMembers() {
+        for (HazelcastInstance instance : instances) {
+            IMap<Integer, String> map = instance.getMap(mapName);
+            for (int i = 0; i < KEY_COUNT; i++) {
+                assertEquals("value" + i, map.get(i));
+            }
+            assertNull(map.get(KEY_COUNT));
+        }
+    }
+
+    @Test
+    public void testContainsKey_fromAllMembers() {
+        for (HazelcastInstance instance : instances) {
+            IMap<Integer, String> map = instance.getMap(mapName);
+            for (int i = 0; i < KEY_COUNT; i++) {
+                assertTrue(map.containsKey(i));
+            }
+            assertFalse(map.containsKey(KEY_COUNT));
+        }
+    }
+
+    @Test
+    public void testGetAll_fromAllMembers() {
+        Set<Integer> keys = new HashSet<>();
+        for (int i = 0; i <= KEY_COUNT; i++) {
+            keys.add(i);
+        }
+        for (HazelcastInstance instance : instances) {
+            Map<Integer, String> entries = instance.<Integer, String>getMap(mapName).getAll(keys);
+            assertEquals(KEY_COUNT, entries.size());
+            for (int i = 0; i < KEY_COUNT; i++) {
+                assertEquals("value" + i, entries.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testReadFromStaleBackupReplica_isRefused() {
+        HazelcastInstance instance = instances[0];
+        Data key = getNodeEngineImpl(instance).toData(generateKeyOwnedBy(instances[1]));
+        int partitionId = getPartitionService(instance).getPartitionId(key);
+        Address backupAddress = getPartitionService(instance).getPartition(partitionId).getReplicaAddress(1);
+        HazelcastInstance backup = getInstance(backupAddress);
+        InternalPartitionServiceImpl backupPartitionService = (InternalPartitionServiceImpl) getPartitionService(backup);
+        backupPartitionService.getReplicaManager()
+                .markPartitionReplicaAsSyncRequired(partitionId, getObjectNamespace(mapName), 1);
+
+        InternalCompletableFuture<Object> future = getOperationService(instance)
+                .createInvocationBuilder(SERVICE_NAME, new ReadFromReplicaOperation(mapName, key, false), partitionId)
+                .setReplicaIndex(1)
+                .invoke();
+        try {
+            future.joinInternal();
+            fail("Read from a replica waiting for sync should be refused");
+        } catch (StaleReplicaReadException expected) {
+            ignore(expected);
+        }
+    }
+
+    private HazelcastInstance getInstance(Address address) {
+        for (HazelcastInstance instance : instances) {
+            if (getAddress(instance).equals(address)) {
+                return instance;
+            }
+        }
+        throw new AssertionError("No instance with address " + address);
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.multimap;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.MultiMapConfig.ValueCollectionType;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MultiMapPagingTest extends HazelcastTestSupport {
+
+    @Test
+    public void testGetPage_withListBackedValueCollection() {
+        MultiMap<String, Integer> multiMap = createMultiMap(ValueCollectionType.LIST, 25);
+
+        assertEquals(List.of(0, 1, 2, 3, 4, 5, 6, 7, 8, 9), new ArrayList<>(multiMap.getPage("key", 0, 10)));
+        assertEquals(List.of(20, 21, 22, 23, 24), new ArrayList<>(multiMap.getPage("key", 20, 10)));
+        assertTrue(multiMap.getPage("key", 25, 10).isEmpty());
+        assertTrue(multiMap.getPage("missing", 0, 10).isEmpty());
+    }
+
+    @Test
+    public void testGetPage_withSetBackedValueCollection_coversAllValues() {
+        MultiMap<String, Integer> multiMap = createMultiMap(ValueCollectionType.SET, 25);
+
+        Set<Integer> values = new HashSet<>();
+        for (int offset = 0; offset < 30; offset += 10) {
+            values.addAll(multiMap.getPage("key", offset, 10));
+        }
+        assertEquals(new HashSet<>(multiMap.get("key")), values);
+        assertEquals(25, values.size());
+    }
+
+    @Test
+    public void testValueIterator() {
+        MultiMap<String, Integer> multiMap = createMultiMap(ValueCollectionType.LIST, 25);
+
+        List<Integer> values = new ArrayList<>();
+        Iterator<Integer> iterator = multiMap.valueIterator("key", 5);
+        while (iterator.hasNext()) {
+            values.add(iterator.next());
+        }
+        assertEquals(new ArrayList<>(multiMap.get("key")), values);
+        assertFalse(multiMap.valueIterator("missing", 5).hasNext());
+    }
+
+    private MultiMap<String, Integer> createMultiMap(ValueCollectionType collectionType, int valueCount) {
+        String name = randomMapName();
+        Config config = new Config();
+        config.getMultiMapConfig(name).setValueCollectionType(collectionType);
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(2).newInstances(config);
+        MultiMap<String, Integer> multiMap = instances[0].getMultiMap(name);
+        for (int i = 0; i < valueCount; i++) {
+            multiMap.put("key", i);
+        }
+        return multiMap;
+    }
+}
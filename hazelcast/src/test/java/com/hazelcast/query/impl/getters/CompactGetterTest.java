@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.hazelcast.query.impl.getters;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import example.serialization.EmployeeDTO;
+import example.serialization.MainDTO;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import static com.hazelcast.internal.serialization.impl.compact.CompactTestUtil.createMainDTO;
+import static com.hazelcast.internal.serialization.impl.compact.CompactTestUtil.createSerializationService;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class CompactGetterTest {
+
+    private final InternalSerializationService ss = (InternalSerializationService) createSerializationService();
+    private final CompactGetter getter = new CompactGetter(ss);
+
+    @Test
+    public void getValue_whenDataOfDifferentSchemasAlternate() throws Exception {
+        MainDTO main = createMainDTO();
+        EmployeeDTO employee = new EmployeeDTO(30, 102310312);
+        Data mainData = ss.toData(main);
+        Data employeeData = ss.toData(employee);
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(main.i, getter.getValue(mainData, "i"));
+            assertEquals(main.str, getter.getValue(mainData, "str"));
+            assertEquals(employee.getAge(), getter.getValue(employeeData, "age"));
+            assertEquals(employee.getId(), getter.getValue(employeeData, "id"));
+        }
+    }
+
+    @Test
+    public void getValue_whenFieldDoesNotExist() throws Exception {
+        Data data = ss.toData(createMainDTO());
+
+        assertNull(getter.getValue(data, "notExisting"));
+    }
+
+    @Test
+    public void getValue_whenNestedCompactField() throws Exception {
+        MainDTO main = createMainDTO();
+        Data data = ss.toData(main);
+
+        assertEquals(main.p, getter.getValue(data, "p"));
+        assertEquals(main.p.localDates[0], getter.getValue(data, "p.localDates[0]"));
+        assertEquals(main.i, getter.getValue(data, "i"));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void getValue() throws Exception {
+        getter.getValue(ss.toData(createMainDTO()));
+    }
+
+    @Test
+    public void isCacheable() {
+        assertFalse("Compact getter shouldn't be cacheable!", getter.isCacheable());
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.replicatedmap;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ReplicatedMapBatchedReplicationTest extends ReplicatedMapAbstractTest {
+
+    @Test
+    public void testPut_coalescedUpdatesReachAllMembers() {
+        HazelcastInstance[] instances = newInstances();
+        String name = randomMapName();
+        ReplicatedMap<Integer, Integer> map = instances[0].getReplicatedMap(name);
+
+        for (int round = 0; round < 5; round++) {
+            for (int key = 0; key < 500; key++) {
+                map.put(key, round);
+            }
+        }
+
+        assertTrueEventually(() -> {
+            for (HazelcastInstance instance : instances) {
+                ReplicatedMap<Integer, Integer> replica = instance.getReplicatedMap(name);
+                assertEquals(500, replica.size());
+                for (int key = 0; key < 500; key++) {
+                    assertEquals(4, (int) replica.get(key));
+                }
+            }
+        });
+    }
+
+    @Test
+    public void testPutAllAndRemove_reachAllMembers() {
+        HazelcastInstance[] instances = newInstances();
+        String name = randomMapName();
+        ReplicatedMap<Integer, Integer> map = instances[0].getReplicatedMap(name);
+
+        Map<Integer, Integer> entries = new HashMap<>();
+        for (int key = 0; key < 500; key++) {
+            entries.put(key, key);
+        }
+        map.putAll(entries);
+        map.remove(0);
+
+        assertTrueEventually(() -> {
+            for (HazelcastInstance instance : instances) {
+                ReplicatedMap<Integer, Integer> replica = instance.getReplicatedMap(name);
+                assertEquals(499, replica.size());
+                assertFalse(replica.containsKey(0));
+                assertEquals(499, (int) replica.get(499));
+            }
+        });
+    }
+
+    private HazelcastInstance[] newInstances() {
+        Config config = new Config();
+        config.setProperty(ClusterProperty.REPLICATED_MAP_REPLICATION_BATCH_INTERVAL_MILLIS.getName(), "50");
+        return createHazelcastInstanceFactory(3).newInstances(config);
+    }
+}
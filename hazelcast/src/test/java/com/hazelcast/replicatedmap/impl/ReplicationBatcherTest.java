@@ -0,0 +1,126 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.replicatedmap.impl;
+
+import com.hazelcast.cluster.Address;
+import com.hazelcast.config.Config;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.replicatedmap.impl.operation.ReplicateUpdateOperation;
+import com.hazelcast.replicatedmap.impl.operation.VersionResponsePair;
+import com.hazelcast.replicatedmap.ReplicatedMap;
+import com.hazelcast.spi.properties.ClusterProperty;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static com.hazelcast.replicatedmap.impl.ReplicationBatcher.MAX_BATCH_SIZE;
+import static com.hazelcast.test.Accessors.getAddress;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static java.util.Arrays.asList;
+import static org.junit.Assert.assertEquals;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class ReplicationBatcherTest extends HazelcastTestSupport {
+
+    @Test
+    public void testUpdates_bufferedOncePerKeyUntilFlushed() {
+        Config config = smallInstanceConfig()
+                .setProperty(ClusterProperty.REPLICATED_MAP_REPLICATION_BATCH_INTERVAL_MILLIS.getName(), "3600000");
+        HazelcastInstance[] instances = createHazelcastInstanceFactory(2).newInstances(config);
+        HazelcastInstance owner = instances[0];
+        HazelcastInstance replica = instances[1];
+        String name = randomMapName();
+        String key1 = generateKeyOwnedBy(owner);
+        String key2 = generateKeyOwnedBy(owner);
+        ReplicatedMap<String, Integer> map = owner.getReplicatedMap(name);
+
+        for (int i = 0; i < 10; i++) {
+            map.put(key1, i);
+            map.put(key2, i);
+        }
+
+        ReplicatedMapService service = getNodeEngineImpl(owner).getService(ReplicatedMapService.SERVICE_NAME);
+        ReplicationBatcher batcher = service.getReplicationBatcher();
+        Address target = getAddress(replica);
+        assertEquals(2, batcher.bufferedUpdateCount(target));
+
+        batcher.run();
+
+        assertEquals(0, batcher.bufferedUpdateCount(target));
+        ReplicatedMap<String, Integer> replicaMap = replica.getReplicatedMap(name);
+        assertTrueEventually(() -> {
+            assertEquals(9, (int) replicaMap.get(key1));
+            assertEquals(9, (int) replicaMap.get(key2));
+        });
+    }
+
+    @Test
+    public void testBatches_sentInOrder_whenFullBatchFlushedDuringPeriodicFlush() {
+        Config config = smallInstanceConfig()
+                .setProperty(ClusterProperty.REPLICATED_MAP_REPLICATION_BATCH_INTERVAL_MILLIS.getName(), "3600000");
+        HazelcastInstance instance = createHazelcastInstance(config);
+        SerializationService serializationService = getNodeEngineImpl(instance).getSerializationService();
+        Address member = getAddress(instance);
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch proceed = new CountDownLatch(1);
+        List<Integer> sentBatchSizes = new CopyOnWriteArrayList<>();
+        ReplicationBatcher batcher = new ReplicationBatcher(getNodeEngineImpl(instance)) {
+            @Override
+            void sendBatch(Address target, int partitionId, Collection<ReplicateUpdateOperation> updates) {
+                sentBatchSizes.add(updates.size());
+                sending.countDown();
+                assertOpenEventually(proceed);
+            }
+        };
+
+        batcher.replicate(member, update(serializationService, 0));
+        Thread periodicFlush = new Thread(batcher);
+        periodicFlush.start();
+        assertOpenEventually(sending);
+
+        // fills up the batch while the periodic flush is still sending
+        Thread writer = new Thread(() -> {
+            for (int i = 1; i <= MAX_BATCH_SIZE; i++) {
+                batcher.replicate(member, update(serializationService, i));
+            }
+        });
+        writer.start();
+        sleepMillis(500);
+        proceed.countDown();
+        assertJoinable(periodicFlush, writer);
+
+        assertEquals(asList(1, MAX_BATCH_SIZE), sentBatchSizes);
+    }
+
+    private static ReplicateUpdateOperation update(SerializationService serializationService, int key) {
+        ReplicateUpdateOperation update = new ReplicateUpdateOperation("map", serializationService.toData(key),
+                serializationService.toData(key), 0, new VersionResponsePair(null, key), false, null);
+        update.setPartitionId(0);
+        return update;
+    }
+}
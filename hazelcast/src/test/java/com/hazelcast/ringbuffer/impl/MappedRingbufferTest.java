@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.ringbuffer.impl;
+
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import com.hazelcast.ringbuffer.StaleSequenceException;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class MappedRingbufferTest {
+
+    private static final int CAPACITY = 16;
+    private static final int SEGMENT_SIZE = 256;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final InternalSerializationService serializationService = new DefaultSerializationServiceBuilder().build();
+    private MappedRingbuffer ringbuffer;
+
+    @Before
+    public void setUp() throws IOException {
+        ringbuffer = new MappedRingbuffer(CAPACITY, folder.newFolder(), SEGMENT_SIZE);
+    }
+
+    @Test
+    public void testAddRead() {
+        for (int i = 0; i < CAPACITY; i++) {
+            assertEquals(i, ringbuffer.add(toData(i)));
+        }
+        assertEquals(CAPACITY, ringbuffer.size());
+        for (int i = 0; i < CAPACITY; i++) {
+            assertEquals("item-" + i, toObject(ringbuffer.read(i)));
+        }
+    }
+
+    @Test
+    public void testOverwrite_releasesSegments() {
+        for (int i = 0; i < 100 * CAPACITY; i++) {
+            ringbuffer.add(toData(i));
+        }
+        assertEquals(100 * CAPACITY - CAPACITY, ringbuffer.headSequence());
+        for (long seq = ringbuffer.headSequence(); seq <= ringbuffer.tailSequence(); seq++) {
+            assertEquals("item-" + seq, toObject(ringbuffer.read(seq)));
+        }
+        // the live items never need more than one segment per item plus the current one
+        assertTrue(ringbuffer.getSegmentCount() <= CAPACITY + 1);
+    }
+
+    @Test
+    public void testLargeItem_getsOwnSegment() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 10 * SEGMENT_SIZE; i++) {
+            sb.append('x');
+        }
+        long seq = ringbuffer.add(serializationService.toData(sb.toString()));
+        assertEquals(sb.toString(), toObject(ringbuffer.read(seq)));
+    }
+
+    @Test
+    public void testSetNull() {
+        long seq = ringbuffer.add(toData(1));
+        ringbuffer.set(seq, null);
+        assertNull(ringbuffer.read(seq));
+        assertEquals(1, ringbuffer.getSegmentCount());
+    }
+
+    @Test
+    public void testGetItems() {
+        for (int i = 0; i < CAPACITY + 3; i++) {
+            ringbuffer.add(toData(i));
+        }
+        Data[] items = ringbuffer.getItems();
+        assertEquals(CAPACITY, items.length);
+        for (long seq = ringbuffer.headSequence(); seq <= ringbuffer.tailSequence(); seq++) {
+            assertEquals("item-" + seq, toObject(items[(int) (seq % CAPACITY)]));
+        }
+    }
+
+    @Test
+    public void testClear() {
+        for (int i = 0; i < CAPACITY; i++) {
+            ringbuffer.add(toData(i));
+        }
+        ringbuffer.clear();
+        assertEquals(0, ringbuffer.size());
+        assertEquals(0, ringbuffer.getSegmentCount());
+        assertEquals(0, ringbuffer.add(toData(0)));
+        assertEquals("item-0", toObject(ringbuffer.read(0)));
+    }
+
+    @Test(expected = StaleSequenceException.class)
+    public void testReadStaleSequenceThrowsException() {
+        for (int i = 0; i < CAPACITY + 1; i++) {
+            ringbuffer.add(toData(i));
+        }
+        ringbuffer.read(0);
+    }
+
+    private Data toData(int i) {
+        return serializationService.toData("item-" + i);
+    }
+
+    private Object toObject(Data data) {
+        return serializationService.toObject(data);
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.ringbuffer.impl;
+
+import com.hazelcast.config.Config;
+import com.hazelcast.config.RingbufferConfig;
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.internal.nio.BufferObjectDataInput;
+import com.hazelcast.internal.nio.BufferObjectDataOutput;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.InternalSerializationService;
+import com.hazelcast.internal.services.ObjectNamespace;
+import com.hazelcast.spi.impl.NodeEngineImpl;
+import com.hazelcast.test.HazelcastSerialClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+
+import java.io.IOException;
+
+import static com.hazelcast.config.InMemoryFormat.BINARY;
+import static com.hazelcast.config.InMemoryFormat.OBJECT;
+import static com.hazelcast.ringbuffer.impl.MappedRingbuffer.MIN_SEGMENT_SIZE;
+import static com.hazelcast.spi.properties.ClusterProperty.RINGBUFFER_MAPPED_STORAGE_DIRECTORY;
+import static com.hazelcast.test.Accessors.getNodeEngineImpl;
+import static com.hazelcast.test.Accessors.getSerializationService;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastSerialClassRunner.class)
+@Category(QuickTest.class)
+public class RingbufferContainerMappedStorageTest extends HazelcastTestSupport {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private InternalSerializationService serializationService;
+    private NodeEngineImpl nodeEngine;
+    private RingbufferService service;
+
+    @Before
+    public void setup() throws IOException {
+        Config config = smallInstanceConfig()
+                .setProperty(RINGBUFFER_MAPPED_STORAGE_DIRECTORY.getName(), folder.newFolder().getAbsolutePath());
+        HazelcastInstance hz = createHazelcastInstance(config);
+        nodeEngine = getNodeEngineImpl(hz);
+        serializationService = getSerializationService(hz);
+        service = nodeEngine.getService(RingbufferService.SERVICE_NAME);
+    }
+
+    @Test
+    public void construction_sizesFirstSegmentAfterCapacity() {
+        RingbufferContainer<Data, Data> container = getRingbufferContainer(newConfig(100, 0));
+        assertTrue(container.hasMappedStorage());
+
+        container.add(toData(0));
+        MappedRingbuffer ringbuffer = (MappedRingbuffer) container.getRingbuffer();
+        assertEquals(1, ringbuffer.getSegmentCount());
+        assertEquals(MIN_SEGMENT_SIZE, ringbuffer.getMappedBytes());
+    }
+
+    @Test
+    public void replication_movesItemsToMappedStorage() throws IOException {
+        RingbufferConfig config = newConfig(10, 100);
+        RingbufferContainer<Data, Data> container = getRingbufferContainer(config);
+        for (int i = 0; i < 15; i++) {
+            container.add(toData(i));
+        }
+
+        BufferObjectDataOutput out = serializationService.createObjectDataOutput();
+        container.writeData(out);
+        BufferObjectDataInput in = serializationService.createObjectDataInput(out.toByteArray());
+        RingbufferContainer<Data, Data> replica = new RingbufferContainer<>(container.getNamespace(), 0);
+        replica.readData(in);
+        service.addRingbuffer(0, replica, config);
+
+        assertTrue(replica.hasMappedStorage());
+        assertEquals(container.headSequence(), replica.headSequence());
+        assertEquals(container.tailSequence(), replica.tailSequence());
+        for (long seq = container.headSequence(); seq <= container.tailSequence(); seq++) {
+            assertEquals(container.readAsData(seq), replica.readAsData(seq));
+            assertTrue(replica.getExpirationPolicy().getExpirationAt(seq) > 0);
+        }
+    }
+
+    @Test
+    public void ttl_expiresItemsInMappedStorage() {
+        RingbufferContainer<Data, Data> container = getRingbufferContainer(newConfig(10, 100));
+        for (int i = 0; i < 10; i++) {
+            container.add(toData(i));
+        }
+        for (long seq = 0; seq < 5; seq++) {
+            container.getExpirationPolicy().setExpirationAt(seq, 0);
+        }
+
+        container.cleanup();
+
+        assertEquals(5, container.headSequence());
+        assertEquals(5, container.size());
+        assertTrue(container.isStaleSequence(4));
+        assertEquals(toData(5), container.readAsData(5));
+    }
+
+    @Test
+    public void destroy_unmapsSegments() {
+        RingbufferConfig config = newConfig(10, 0);
+        int partitionId = service.getRingbufferPartitionId(config.getName());
+        ObjectNamespace namespace = RingbufferService.getRingbufferNamespace(config.getName());
+        RingbufferContainer<Data, Data> container = service.getOrCreateContainer(partitionId, namespace, config);
+        container.add(toData(0));
+        MappedRingbuffer ringbuffer = (MappedRingbuffer) container.getRingbuffer();
+        assertEquals(1, ringbuffer.getSegmentCount());
+
+        service.destroyDistributedObject(config.getName(), true);
+
+        assertNull(service.getContainerOrNull(partitionId, namespace));
+        assertTrueEventually(() -> assertEquals(0, ringbuffer.getSegmentCount()));
+    }
+
+    @Test
+    public void objectFormat_staysOnHeap() {
+        RingbufferContainer<Data, Data> container = getRingbufferContainer(newConfig(10, 0).setInMemoryFormat(OBJECT));
+        assertFalse(container.hasMappedStorage());
+    }
+
+    private RingbufferConfig newConfig(int capacity, int ttlSeconds) {
+        return new RingbufferConfig(randomName())
+                .setCapacity(capacity)
+                .setTimeToLiveSeconds(ttlSeconds)
+                .setInMemoryFormat(BINARY);
+    }
+
+    private Data toData(int i) {
+        return serializationService.toData("item-" + i);
+    }
+
+    private <K, V> RingbufferContainer<K, V> getRingbufferContainer(RingbufferConfig config) {
+        // partitionId is irrelevant for this test
+        return new RingbufferContainer<K, V>(RingbufferService.getRingbufferNamespace(config.getName()), config, nodeEngine, 0);
+    }
+}
@@ -24,6 +24,7 @@ import com.hazelcast.internal.serialization.DataType;
 import com.hazelcast.internal.serialization.InternalSerializationService;
 import com.hazelcast.internal.serialization.impl.HeapData;
 import com.hazelcast.internal.serialization.impl.InternalGenericRecord;
+import com.hazelcast.internal.serialization.impl.compact.CompactFlyweightReader;
 import com.hazelcast.internal.serialization.impl.compact.CompactGenericRecord;
 import com.hazelcast.internal.serialization.impl.compact.Schema;
 import com.hazelcast.internal.serialization.impl.portable.PortableContext;
@@ -204,6 +205,11 @@ public class SamplingSerializationService implements InternalSerializationServic
         return delegate.readAsInternalGenericRecord(data);
     }
 
+    @Override
+    public CompactFlyweightReader createCompactFlyweightReader() {
+        return delegate.createCompactFlyweightReader();
+    }
+
     @Override
     public Schema extractSchemaFromData(@Nonnull Data data) throws IOException {
         return delegate.extractSchemaFromData(data);
@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.topic.impl.reliable;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.HazelcastTestSupport;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import com.hazelcast.topic.Message;
+import com.hazelcast.topic.MessageListener;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class PartitionedReliableTopicTest extends HazelcastTestSupport {
+
+    private static final int SHARD_COUNT = 4;
+
+    private PartitionedReliableTopic<Integer> topic;
+
+    @Before
+    public void setUp() {
+        HazelcastInstance instance = createHazelcastInstanceFactory(2).newInstances()[0];
+        topic = new PartitionedReliableTopic<>(instance, randomName(), SHARD_COUNT);
+    }
+
+    @Test
+    public void testPublish_deliversAllMessages_underLogicalName() {
+        CollectingListener listener = new CollectingListener();
+        topic.addMessageListener(listener);
+
+        for (int i = 0; i < 100; i++) {
+            topic.publish(i);
+        }
+
+        assertTrueEventually(() -> assertEquals(100, listener.messages.size()));
+        assertEquals(range(100), new HashSet<>(listener.messages));
+        assertEquals(topic.getName(), listener.topicName);
+        assertFalse(listener.concurrentCall.get());
+    }
+
+    @Test
+    public void testPublishWithKey_keepsOrderPerKey() {
+        CollectingListener listener = new CollectingListener();
+        topic.addMessageListener(listener);
+
+        for (int i = 0; i < 50; i++) {
+            topic.publish("key", i);
+        }
+
+        assertTrueEventually(() -> assertEquals(50, listener.messages.size()));
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            expected.add(i);
+        }
+        assertEquals(expected, listener.messages);
+    }
+
+    @Test
+    public void testPublishAll() throws Exception {
+        CollectingListener listener = new CollectingListener();
+        topic.addMessageListener(listener);
+
+        List<Integer> messages = new ArrayList<>(range(1000));
+        topic.publishAll(messages);
+
+        assertTrueEventually(() -> assertEquals(1000, listener.messages.size()));
+        assertEquals(range(1000), new HashSet<>(listener.messages));
+        assertFalse(listener.concurrentCall.get());
+    }
+
+    @Test
+    public void testShardSequences_trackedPerShard() {
+        CollectingListener listener = new CollectingListener();
+        UUID id = topic.addMessageListener(listener);
+
+        for (int i = 0; i < 2 * SHARD_COUNT; i++) {
+            topic.publish(i);
+        }
+
+        assertTrueEventually(() -> {
+            long[] sequences = topic.getShardSequences(id);
+            for (int shard = 0; shard < SHARD_COUNT; shard++) {
+                assertEquals(1, sequences[shard]);
+            }
+        });
+    }
+
+    @Test
+    public void testRemoveMessageListener() {
+        CollectingListener listener = new CollectingListener();
+        UUID id = topic.addMessageListener(listener);
+
+        assertTrue(topic.removeMessageListener(id));
+        assertFalse(topic.removeMessageListener(id));
+        assertNull(topic.getShardSequences(id));
+
+        topic.publish(1);
+        assertTrueAllTheTime(() -> assertTrue(listener.messages.isEmpty()), 1);
+    }
+
+    private static HashSet<Integer> range(int count) {
+        HashSet<Integer> range = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            range.add(i);
+        }
+        return range;
+    }
+
+    private static class CollectingListener implements MessageListener<Integer> {
+
+        private final List<Integer> messages = new CopyOnWriteArrayList<>();
+        private final AtomicInteger active = new AtomicInteger();
+        private final AtomicBoolean concurrentCall = new AtomicBoolean();
+        private volatile String topicName;
+
+        @Override
+        public void onMessage(Message<Integer> message) {
+            if (active.incrementAndGet() > 1) {
+                concurrentCall.set(true);
+            }
+            topicName = message.getSource().toString();
+            messages.add(message.getMessageObject());
+            active.decrementAndGet();
+        }
+    }
+}
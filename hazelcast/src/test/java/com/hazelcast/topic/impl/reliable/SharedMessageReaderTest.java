@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2008-2023, Hazelcast, Inc. All Rights Reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.hazelcast.topic.impl.reliable;
+
+import com.hazelcast.ringbuffer.ReadResultSet;
+import com.hazelcast.ringbuffer.Ringbuffer;
+import com.hazelcast.test.HazelcastParallelClassRunner;
+import com.hazelcast.test.annotation.ParallelJVMTest;
+import com.hazelcast.test.annotation.QuickTest;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.runner.RunWith;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(HazelcastParallelClassRunner.class)
+@Category({QuickTest.class, ParallelJVMTest.class})
+public class SharedMessageReaderTest {
+
+    private Ringbuffer<ReliableTopicMessage> ringbuffer;
+    private SharedMessageReader reader;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        ringbuffer = mock(Ringbuffer.class);
+        reader = new SharedMessageReader(ringbuffer);
+    }
+
+    @Test
+    public void readsAtSameSequence_shareOneRingbufferRead() {
+        CompletableFuture<ReadResultSet<ReliableTopicMessage>> read = new CompletableFuture<>();
+        when(ringbuffer.readManyAsync(10, 1, 5, null)).thenReturn(read);
+
+        CompletionStage<ReadResultSet<ReliableTopicMessage>> first = reader.readMany(10, 5);
+        CompletionStage<ReadResultSet<ReliableTopicMessage>> second = reader.readMany(10, 5);
+
+        assertSame(first, second);
+        verify(ringbuffer, times(1)).readManyAsync(10, 1, 5, null);
+
+        @SuppressWarnings("unchecked")
+        ReadResultSet<ReliableTopicMessage> result = mock(ReadResultSet.class);
+        read.complete(result);
+        assertSame(result, first.toCompletableFuture().join());
+        assertEquals(0, reader.inFlightReadCount());
+    }
+
+    @Test
+    public void readsAtDifferentSequences_areNotShared() {
+        when(ringbuffer.readManyAsync(anyLong(), eq(1), eq(5), isNull())).thenReturn(new CompletableFuture<>());
+
+        reader.readMany(10, 5);
+        reader.readMany(11, 5);
+
+        verify(ringbuffer).readManyAsync(10, 1, 5, null);
+        verify(ringbuffer).readManyAsync(11, 1, 5, null);
+        assertEquals(2, reader.inFlightReadCount());
+    }
+
+    @Test
+    public void readAfterCompletion_goesToRingbufferAgain() {
+        CompletableFuture<ReadResultSet<ReliableTopicMessage>> failed = new CompletableFuture<>();
+        failed.completeExceptionally(new IllegalStateException());
+        when(ringbuffer.readManyAsync(10, 1, 5, null)).thenReturn(failed);
+
+        CompletionStage<ReadResultSet<ReliableTopicMessage>> first = reader.readMany(10, 5);
+        assertTrue(first.toCompletableFuture().isCompletedExceptionally());
+
+        reader.readMany(10, 5);
+        verify(ringbuffer, times(2)).readManyAsync(10, 1, 5, null);
+        assertEquals(0, reader.inFlightReadCount());
+    }
+}